@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the data used by the benchmarks. All data is created from a fixed seed, so that runs
+ * of the same benchmark are comparable.
+ */
+final class BenchmarkData {
+
+  /**
+   * Seed of the random generators.
+   */
+  static final long SEED = 42L;
+
+  /**
+   * Number of values processed by each benchmark invocation.
+   */
+  static final int BATCH_SIZE = 1024;
+
+  /**
+   * Property keys of the properties created by {@link #createProperties(Random)}.
+   */
+  static final List<String> PROPERTY_KEYS = Arrays.asList("name", "age", "score", "weight",
+    "active", "birthday", "created", "price", "tags");
+
+  /**
+   * Words used for string values.
+   */
+  private static final String[] WORDS = {"Alice", "Bob", "Carol", "Dave", "Eve", "Leipzig",
+    "Dresden", "Graph Analytics", "Databases", "Person", "University"};
+
+  /**
+   * No instances.
+   */
+  private BenchmarkData() {
+  }
+
+  /**
+   * Creates a property value of the given type.
+   *
+   * @param type type name, one of {@code boolean}, {@code int}, {@code long}, {@code double},
+   *             {@code string}, {@code bigdecimal}, {@code date}, {@code datetime}, {@code id}
+   *             and {@code list}
+   * @param random random generator
+   * @return property value
+   */
+  static PropertyValue createValue(String type, Random random) {
+    switch (type) {
+    case "boolean":
+      return PropertyValue.create(random.nextBoolean());
+    case "int":
+      return PropertyValue.create(random.nextInt(100));
+    case "long":
+      return PropertyValue.create(random.nextLong());
+    case "double":
+      return PropertyValue.create(random.nextDouble() * 100);
+    case "string":
+      return PropertyValue.create(WORDS[random.nextInt(WORDS.length)] + random.nextInt(1000));
+    case "bigdecimal":
+      return PropertyValue.create(BigDecimal.valueOf(random.nextInt(100000), 2));
+    case "date":
+      return PropertyValue.create(LocalDate.ofEpochDay(random.nextInt(20000)));
+    case "datetime":
+      return PropertyValue.create(LocalDateTime.of(LocalDate.ofEpochDay(random.nextInt(20000)),
+        LocalTime.ofSecondOfDay(random.nextInt(86400))));
+    case "id":
+      return PropertyValue.create(GradoopId.get());
+    case "list":
+      List<PropertyValue> list = new ArrayList<>();
+      for (int i = random.nextInt(5); i >= 0; i--) {
+        list.add(createValue("string", random));
+      }
+      return PropertyValue.create(list);
+    default:
+      throw new IllegalArgumentException("Unknown type " + type);
+    }
+  }
+
+  /**
+   * Creates properties of a typical vertex, i.e. some strings, numbers, temporal values and a
+   * list. Each property is missing with a probability of 20 percent.
+   *
+   * @param random random generator
+   * @return properties
+   */
+  static Properties createProperties(Random random) {
+    String[] types = {"string", "int", "long", "double", "boolean", "date", "datetime",
+      "bigdecimal", "list"};
+    Properties properties = Properties.createWithCapacity(types.length);
+    for (int i = 0; i < types.length; i++) {
+      if (random.nextInt(5) > 0) {
+        properties.set(PROPERTY_KEYS.get(i), createValue(types[i], random));
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * Creates a set of new ids.
+   *
+   * @param size number of ids
+   * @return ids
+   */
+  static GradoopId[] createIds(int size) {
+    GradoopId[] ids = new GradoopId[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = GradoopId.get();
+    }
+    return ids;
+  }
+}
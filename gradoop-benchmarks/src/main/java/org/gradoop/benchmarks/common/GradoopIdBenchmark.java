@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serialization, hashing and comparison of {@link GradoopId}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(BenchmarkData.BATCH_SIZE)
+public class GradoopIdBenchmark {
+
+  /**
+   * Ids to process.
+   */
+  private GradoopId[] ids;
+
+  /**
+   * Copies of {@link #ids}.
+   */
+  private GradoopId[] copies;
+
+  /**
+   * Serialized {@link #ids}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Creates the ids.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    ids = BenchmarkData.createIds(BenchmarkData.BATCH_SIZE);
+    copies = new GradoopId[ids.length];
+    output = new DataOutputSerializer(ids.length * GradoopId.ID_SIZE);
+    for (int i = 0; i < ids.length; i++) {
+      copies[i] = ids[i].copy();
+      ids[i].write(output);
+    }
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Writes the ids to a Flink output view.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void write(Blackhole blackhole) throws IOException {
+    output.clear();
+    for (GradoopId id : ids) {
+      id.write(output);
+    }
+    blackhole.consume(output.length());
+  }
+
+  /**
+   * Reads the ids from a Flink input view, reusing a single instance.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void read(Blackhole blackhole) throws IOException {
+    input.setBuffer(serialized);
+    GradoopId id = new GradoopId();
+    for (int i = 0; i < ids.length; i++) {
+      id.read(input);
+      blackhole.consume(id);
+    }
+  }
+
+  /**
+   * Computes the hash codes of the ids.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void hashCodes(Blackhole blackhole) {
+    for (GradoopId id : ids) {
+      blackhole.consume(id.hashCode());
+    }
+  }
+
+  /**
+   * Compares the ids to equal copies.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void equalsCopy(Blackhole blackhole) {
+    for (int i = 0; i < ids.length; i++) {
+      blackhole.consume(ids[i].equals(copies[i]));
+    }
+  }
+
+  /**
+   * Compares neighbouring ids.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void compareTo(Blackhole blackhole) {
+    for (int i = 1; i < ids.length; i++) {
+      blackhole.consume(ids[i - 1].compareTo(ids[i]));
+    }
+  }
+}
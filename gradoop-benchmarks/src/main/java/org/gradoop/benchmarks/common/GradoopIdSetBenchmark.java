@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the set operations of {@link GradoopIdSet}s, e.g. graph ids of elements. The sets
+ * {@link #first} and {@link #second} overlap in half of their ids.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdSetBenchmark {
+
+  /**
+   * Number of ids per set.
+   */
+  @Param({"1", "4", "64"})
+  private int size;
+
+  /**
+   * Ids of the first set in insertion order.
+   */
+  private GradoopId[] ids;
+
+  /**
+   * First set.
+   */
+  private GradoopIdSet first;
+
+  /**
+   * Second set.
+   */
+  private GradoopIdSet second;
+
+  /**
+   * Set not overlapping with {@link #first}.
+   */
+  private GradoopIdSet disjoint;
+
+  /**
+   * Copy of {@link #first}.
+   */
+  private GradoopIdSet firstCopy;
+
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Creates the sets.
+   */
+  @Setup
+  public void setup() {
+    ids = BenchmarkData.createIds(size);
+    GradoopId[] others = BenchmarkData.createIds(size);
+    first = GradoopIdSet.fromExisting(ids);
+    second = GradoopIdSet.fromExisting(Arrays.copyOf(ids, size / 2));
+    second.addAll(Arrays.asList(others).subList(0, size - size / 2));
+    disjoint = GradoopIdSet.fromExisting(others);
+    firstCopy = GradoopIdSet.fromExisting(first);
+
+    output = new DataOutputSerializer(Integer.BYTES + size * GradoopId.ID_SIZE);
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Creates a set by adding single ids.
+   *
+   * @return set
+   */
+  @Benchmark
+  public GradoopIdSet add() {
+    GradoopIdSet set = new GradoopIdSet();
+    for (GradoopId id : ids) {
+      set.add(id);
+    }
+    return set;
+  }
+
+  /**
+   * Creates the union of two sets.
+   *
+   * @return union
+   */
+  @Benchmark
+  public GradoopIdSet union() {
+    GradoopIdSet union = GradoopIdSet.fromExisting(first);
+    union.addAll(second);
+    return union;
+  }
+
+  /**
+   * Checks if the set contains each of its ids.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void contains(Blackhole blackhole) {
+    for (GradoopId id : ids) {
+      blackhole.consume(first.contains(id));
+    }
+  }
+
+  /**
+   * Checks if two sets overlap, once for overlapping and once for disjoint sets.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void containsAny(Blackhole blackhole) {
+    blackhole.consume(first.containsAny(second));
+    blackhole.consume(first.containsAny(disjoint));
+  }
+
+  /**
+   * Checks if a set contains another set.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void containsAll(Blackhole blackhole) {
+    blackhole.consume(first.containsAll(second));
+  }
+
+  /**
+   * Writes and reads a set, i.e. the graph ids of an element.
+   *
+   * @return read set
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public GradoopIdSet writeAndRead() throws IOException {
+    output.clear();
+    first.write(output);
+    input.setBuffer(output.getSharedBuffer(), 0, output.length());
+    GradoopIdSet result = new GradoopIdSet();
+    result.read(input);
+    return result;
+  }
+
+  /**
+   * Compares two equal sets.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean equalsCopy() {
+    return first.equals(firstCopy);
+  }
+}
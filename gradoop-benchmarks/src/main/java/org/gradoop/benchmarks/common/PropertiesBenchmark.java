@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of {@link Properties} of typical vertices, with and without a
+ * {@link PropertyKeyDictionary}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(BenchmarkData.BATCH_SIZE)
+public class PropertiesBenchmark {
+
+  /**
+   * True, if the property keys are encoded using a dictionary.
+   */
+  @Param({"false", "true"})
+  private boolean useDictionary;
+
+  /**
+   * Properties to process.
+   */
+  private Properties[] properties;
+
+  /**
+   * Dictionary of the property keys or {@code null}.
+   */
+  private PropertyKeyDictionary dictionary;
+
+  /**
+   * Serialized {@link #properties}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Creates the properties.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    Random random = new Random(BenchmarkData.SEED);
+    dictionary = useDictionary ? new PropertyKeyDictionary(BenchmarkData.PROPERTY_KEYS) : null;
+    properties = new Properties[BenchmarkData.BATCH_SIZE];
+    output = new DataOutputSerializer(BenchmarkData.BATCH_SIZE * 128);
+    for (int i = 0; i < properties.length; i++) {
+      properties[i] = BenchmarkData.createProperties(random);
+      properties[i].write(output, dictionary);
+    }
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Writes the properties to a Flink output view.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void write(Blackhole blackhole) throws IOException {
+    output.clear();
+    for (Properties current : properties) {
+      current.write(output, dictionary);
+    }
+    blackhole.consume(output.length());
+  }
+
+  /**
+   * Reads all properties from a Flink input view.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void read(Blackhole blackhole) throws IOException {
+    input.setBuffer(serialized);
+    for (int i = 0; i < properties.length; i++) {
+      Properties current = new Properties();
+      current.read(input, dictionary);
+      blackhole.consume(current);
+    }
+  }
+
+  /**
+   * Reads the properties lazily and accesses a single value, e.g. as done by a filter.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void readLazilyAndGet(Blackhole blackhole) throws IOException {
+    input.setBuffer(serialized);
+    for (int i = 0; i < properties.length; i++) {
+      Properties current = new Properties();
+      current.readLazily(input, dictionary);
+      blackhole.consume(current.get("age"));
+    }
+  }
+
+  /**
+   * Reads the properties lazily and writes them again, e.g. as done when shuffling elements.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void readLazilyAndWrite(Blackhole blackhole) throws IOException {
+    input.setBuffer(serialized);
+    output.clear();
+    for (int i = 0; i < properties.length; i++) {
+      Properties current = new Properties();
+      current.readLazily(input, dictionary);
+      current.write(output, dictionary);
+    }
+    blackhole.consume(output.length());
+  }
+
+  /**
+   * Computes the hash codes of the properties.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void hashCodes(Blackhole blackhole) {
+    for (Properties current : properties) {
+      blackhole.consume(current.hashCode());
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serialization, hashing and comparison of {@link PropertyValue}s of a single type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(BenchmarkData.BATCH_SIZE)
+public class PropertyValueBenchmark {
+
+  /**
+   * Type of the benchmarked values, see {@link BenchmarkData#createValue(String, Random)}.
+   */
+  @Param({"boolean", "int", "long", "double", "string", "bigdecimal", "date", "datetime", "id",
+    "list"})
+  private String type;
+
+  /**
+   * Values to process.
+   */
+  private PropertyValue[] values;
+
+  /**
+   * Copies of {@link #values}.
+   */
+  private PropertyValue[] copies;
+
+  /**
+   * Serialized {@link #values}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Reused output buffer.
+   */
+  private DataOutputSerializer output;
+
+  /**
+   * Reused input buffer.
+   */
+  private DataInputDeserializer input;
+
+  /**
+   * Creates the values.
+   *
+   * @throws IOException on failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    Random random = new Random(BenchmarkData.SEED);
+    values = new PropertyValue[BenchmarkData.BATCH_SIZE];
+    copies = new PropertyValue[BenchmarkData.BATCH_SIZE];
+    output = new DataOutputSerializer(BenchmarkData.BATCH_SIZE * 16);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = BenchmarkData.createValue(type, random);
+      copies[i] = values[i].copy();
+      values[i].write(output);
+    }
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Writes the values to a Flink output view.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void write(Blackhole blackhole) throws IOException {
+    output.clear();
+    for (PropertyValue value : values) {
+      value.write(output);
+    }
+    blackhole.consume(output.length());
+  }
+
+  /**
+   * Reads the values from a Flink input view, reusing a single instance.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void read(Blackhole blackhole) throws IOException {
+    input.setBuffer(serialized);
+    PropertyValue value = new PropertyValue();
+    for (int i = 0; i < values.length; i++) {
+      value.read(input);
+      blackhole.consume(value);
+    }
+  }
+
+  /**
+   * Computes the hash codes of newly read values, i.e. without cached hash codes.
+   *
+   * @param blackhole consumes the result
+   * @throws IOException on failure
+   */
+  @Benchmark
+  public void readAndHash(Blackhole blackhole) throws IOException {
+    input.setBuffer(serialized);
+    for (int i = 0; i < values.length; i++) {
+      PropertyValue value = new PropertyValue();
+      value.read(input);
+      blackhole.consume(value.hashCode());
+    }
+  }
+
+  /**
+   * Compares the values to equal copies.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void equalsCopy(Blackhole blackhole) {
+    for (int i = 0; i < values.length; i++) {
+      blackhole.consume(values[i].equals(copies[i]));
+    }
+  }
+
+  /**
+   * Compares neighbouring values. Lists are not comparable, the benchmark does nothing for them.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void compareTo(Blackhole blackhole) {
+    if ("list".equals(type)) {
+      return;
+    }
+    for (int i = 1; i < values.length; i++) {
+      blackhole.consume(values[i - 1].compareTo(values[i]));
+    }
+  }
+}
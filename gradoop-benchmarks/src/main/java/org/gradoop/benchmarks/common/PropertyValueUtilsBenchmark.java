@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmarks.common;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the arithmetic of {@link PropertyValueUtils.Numeric} as used by aggregations, on
+ * values of the same type and on mixed numerical types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(BenchmarkData.BATCH_SIZE)
+public class PropertyValueUtilsBenchmark {
+
+  /**
+   * Types of the values, a comma separated list of types that are used alternately.
+   */
+  @Param({"int", "long", "double", "bigdecimal", "int,long,double"})
+  private String types;
+
+  /**
+   * Values to aggregate.
+   */
+  private PropertyValue[] values;
+
+  /**
+   * Creates the values.
+   */
+  @Setup
+  public void setup() {
+    Random random = new Random(BenchmarkData.SEED);
+    String[] typeNames = types.split(",");
+    values = new PropertyValue[BenchmarkData.BATCH_SIZE];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = BenchmarkData.createValue(typeNames[i % typeNames.length], random);
+    }
+  }
+
+  /**
+   * Sums up all values.
+   *
+   * @return sum
+   */
+  @Benchmark
+  public PropertyValue sum() {
+    PropertyValue sum = values[0];
+    for (int i = 1; i < values.length; i++) {
+      sum = PropertyValueUtils.Numeric.add(sum, values[i]);
+    }
+    return sum;
+  }
+
+  /**
+   * Multiplies neighbouring values.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void multiply(Blackhole blackhole) {
+    for (int i = 1; i < values.length; i++) {
+      blackhole.consume(PropertyValueUtils.Numeric.multiply(values[i - 1], values[i]));
+    }
+  }
+
+  /**
+   * Computes the minimum and maximum of all values.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void minAndMax(Blackhole blackhole) {
+    PropertyValue min = values[0];
+    PropertyValue max = values[0];
+    for (int i = 1; i < values.length; i++) {
+      min = PropertyValueUtils.Numeric.min(min, values[i]);
+      max = PropertyValueUtils.Numeric.max(max, values[i]);
+    }
+    blackhole.consume(min);
+    blackhole.consume(max);
+  }
+
+  /**
+   * Compares neighbouring values.
+   *
+   * @param blackhole consumes the result
+   */
+  @Benchmark
+  public void compare(Blackhole blackhole) {
+    for (int i = 1; i < values.length; i++) {
+      blackhole.consume(PropertyValueUtils.Numeric.compare(values[i - 1], values[i]));
+    }
+  }
+}
@@ -28,7 +28,6 @@ import java.net.SocketException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,6 +38,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * This implementation reuses much of the code of BSON's ObjectId
  * (org.bson.types.ObjectId) to guarantee uniqueness. Much of the code is copied directly or
  * has only small changes.
+ * <p>
+ * The 12 bytes of the id are stored in a {@code long} and an {@code int} field. The binary
+ * representation is the big-endian encoding of both fields, i.e. equality and the byte-wise
+ * order of ids correspond to comparing the fields as unsigned values.
  *
  * @see Identifiable
  * <p>
@@ -90,9 +93,16 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
 
   /**
-   * Internal byte representation
+   * Bytes 0 to 7 of the binary representation: timestamp, machine identifier and the high
+   * order byte of the process identifier.
    */
-  private byte[] bytes;
+  private long high;
+
+  /**
+   * Bytes 8 to 11 of the binary representation: low order byte of the process identifier and
+   * counter.
+   */
+  private int low;
 
   static {
     MACHINE_IDENTIFIER = createMachineIdentifier();
@@ -103,16 +113,17 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * Required default constructor for instantiation by serialization logic.
    */
   public GradoopId() {
-    bytes = new byte[ID_SIZE];
   }
 
   /**
-   * Creates a GradoopId from a given byte representation
+   * Creates a GradoopId from its internal representation.
    *
-   * @param bytes the GradoopId represented by the byte array
+   * @param high bytes 0 to 7 of the id
+   * @param low bytes 8 to 11 of the id
    */
-  private GradoopId(byte[] bytes) {
-    this.bytes = bytes;
+  private GradoopId(long high, int low) {
+    this.high = high;
+    this.low = low;
   }
 
   /**
@@ -156,25 +167,10 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         " and 16777215 (it must fit in three bytes).");
     }
 
-    ByteBuffer buffer = ByteBuffer.allocate(12);
-
-    buffer.put((byte) (timestamp >> 24));
-    buffer.put((byte) (timestamp >> 16));
-    buffer.put((byte) (timestamp >> 8));
-    buffer.put((byte) timestamp);
-
-    buffer.put((byte) (machineIdentifier >> 16));
-    buffer.put((byte) (machineIdentifier >> 8));
-    buffer.put((byte) machineIdentifier);
-
-    buffer.put((byte) (processIdentifier >> 8));
-    buffer.put((byte) processIdentifier);
-
-    buffer.put((byte) (counter >> 16));
-    buffer.put((byte) (counter >> 8));
-    buffer.put((byte) counter);
-
-    this.bytes = buffer.array();
+    this.high = ((long) timestamp << 32) |
+      ((long) (machineIdentifier & LOW_ORDER_THREE_BYTES) << 8) |
+      ((processIdentifier >> 8) & 0xff);
+    this.low = ((processIdentifier & 0xff) << 24) | (counter & LOW_ORDER_THREE_BYTES);
   }
 
   /**
@@ -267,11 +263,33 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
         "invalid hexadecimal representation of a GradoopId: [" + string + "]");
     }
 
-    byte[] b = new byte[12];
-    for (int i = 0; i < b.length; i++) {
-      b[i] = (byte) Integer.parseInt(string.substring(i * 2, i * 2 + 2), 16);
+    return fromCharSequence(string, 0);
+  }
+
+  /**
+   * Returns the Gradoop ID represented by the 24 hexadecimal characters of a character sequence
+   * starting at the given offset. In contrast to {@link #fromString(String)}, the characters are
+   * decoded without creating intermediate strings.
+   *
+   * @param chars character sequence containing the hexadecimal GradoopId representation
+   * @param offset offset of the representation in the sequence
+   * @return GradoopId
+   * @throws IllegalArgumentException if the characters do not represent a GradoopId
+   */
+  public static GradoopId fromCharSequence(CharSequence chars, int offset) {
+    if (offset < 0 || chars.length() - offset < 24) {
+      throw new IllegalArgumentException(
+        "invalid hexadecimal representation of a GradoopId: [" + chars + "]");
+    }
+    long high = 0L;
+    for (int i = offset; i < offset + 16; i++) {
+      high = (high << 4) | hexValue(chars, i);
     }
-    return new GradoopId(b);
+    int low = 0;
+    for (int i = offset + 16; i < offset + 24; i++) {
+      low = (low << 4) | hexValue(chars, i);
+    }
+    return new GradoopId(high, low);
   }
 
   /**
@@ -318,7 +336,18 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return Gradoop ID
    */
   public static GradoopId fromByteArray(byte[] bytes) {
-    return new GradoopId(bytes);
+    return fromByteArray(bytes, 0);
+  }
+
+  /**
+   * Returns the Gradoop ID represented by {@link #ID_SIZE} bytes of an array
+   *
+   * @param bytes array containing the byte representation
+   * @param offset offset of the byte representation in the array
+   * @return Gradoop ID
+   */
+  public static GradoopId fromByteArray(byte[] bytes, int offset) {
+    return new GradoopId(makeLong(bytes, offset), makeInt(bytes, offset + Long.BYTES));
   }
 
   /**
@@ -327,9 +356,23 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return Byte representation
    */
   public byte[] toByteArray() {
+    byte[] bytes = new byte[ID_SIZE];
+    toByteArray(bytes, 0);
     return bytes;
   }
 
+  /**
+   * Writes the byte representation of a GradoopId into the given array.
+   *
+   * @param target array to write to
+   * @param offset offset of the byte representation in the array
+   */
+  public void toByteArray(byte[] target, int offset) {
+    for (int i = 0; i < ID_SIZE; i++) {
+      target[offset + i] = getByte(i);
+    }
+  }
+
   /**
    * Checks if the specified object is equal to the current id.
    *
@@ -345,14 +388,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
       return false;
     }
 
-    byte[] firstBytes = this.bytes;
-    byte[] secondBytes = ((GradoopId) o).bytes;
-    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
-      if (firstBytes[i] != secondBytes[i]) {
-        return false;
-      }
-    }
-    return true;
+    GradoopId other = (GradoopId) o;
+    return this.high == other.high && this.low == other.low;
   }
 
   /**
@@ -380,13 +417,22 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    */
   @Override
   public int compareTo(GradoopId other) {
+    int comparison = Long.compareUnsigned(this.high, other.high);
+    return comparison != 0 ? comparison : Integer.compareUnsigned(this.low, other.low);
+  }
 
-    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
-      if (this.bytes[i] != other.bytes[i]) {
-        return ((this.bytes[i] & 0xff) < (other.bytes[i] & 0xff)) ? -1 : 1;
-      }
-    }
-    return 0;
+  /**
+   * Compares this id to the id represented by {@link #ID_SIZE} bytes of an array.
+   *
+   * @param bytes array containing the byte representation of the other id
+   * @param offset offset of the byte representation in the array
+   * @return a negative integer, zero, or a positive integer as this id is less than, equal to,
+   * or greater than the other id
+   */
+  int compareTo(byte[] bytes, int offset) {
+    int comparison = Long.compareUnsigned(this.high, makeLong(bytes, offset));
+    return comparison != 0 ? comparison :
+      Integer.compareUnsigned(this.low, makeInt(bytes, offset + Long.BYTES));
   }
 
   /**
@@ -400,7 +446,8 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   public String toString() {
     char[] chars = new char[24];
     int i = 0;
-    for (byte b : bytes) {
+    for (int index = 0; index < ID_SIZE; index++) {
+      byte b = getByte(index);
       chars[i++] = HEX_CHARS[b >> 4 & 0xF];
       chars[i++] = HEX_CHARS[b & 0xF];
     }
@@ -418,17 +465,26 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyNormalizedKey(MemorySegment target, int offset, int len) {
-    target.put(offset, bytes, 0, len);
+    if (len == ID_SIZE) {
+      target.putLongBigEndian(offset, high);
+      target.putIntBigEndian(offset + Long.BYTES, low);
+    } else {
+      for (int i = 0; i < len; i++) {
+        target.put(offset + i, i < ID_SIZE ? getByte(i) : 0);
+      }
+    }
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    out.write(bytes);
+    out.writeLong(high);
+    out.writeInt(low);
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
-    in.readFully(bytes);
+    high = in.readLong();
+    low = in.readInt();
   }
 
   //------------------------------------------------------------------------------------------------
@@ -442,12 +498,13 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
 
   @Override
   public void copyTo(GradoopId target) {
-    System.arraycopy(bytes, 0, target.bytes, 0, ID_SIZE);
+    target.high = high;
+    target.low = low;
   }
 
   @Override
   public GradoopId copy() {
-    return new GradoopId(Arrays.copyOf(bytes, ID_SIZE));
+    return new GradoopId(high, low);
   }
 
   @Override
@@ -465,7 +522,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the timestamp
    */
   private int getTimeStamp() {
-    return makeInt(bytes[0], bytes[1], bytes[2], bytes[3]);
+    return (int) (high >>> 32);
   }
 
   /**
@@ -474,7 +531,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the machine identifier
    */
   private int getMachineIdentifier() {
-    return makeInt((byte) 0, bytes[4], bytes[5], bytes[6]);
+    return (int) (high >>> 8) & LOW_ORDER_THREE_BYTES;
   }
 
   /**
@@ -483,7 +540,7 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the process identifier
    */
   private short getProcessIdentifier() {
-    return (short) makeInt((byte) 0, (byte) 0, bytes[7], bytes[8]);
+    return (short) (((high & 0xff) << 8) | (low >>> 24));
   }
 
   /**
@@ -492,7 +549,18 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
    * @return the counter
    */
   private int getCounter() {
-    return makeInt((byte) 0, bytes[9], bytes[10], bytes[11]);
+    return low & LOW_ORDER_THREE_BYTES;
+  }
+
+  /**
+   * Returns a byte of the binary representation of the id.
+   *
+   * @param index index of the byte
+   * @return the byte
+   */
+  private byte getByte(int index) {
+    return index < Long.BYTES ? (byte) (high >> (8 * (Long.BYTES - 1 - index))) :
+      (byte) (low >> (8 * (ID_SIZE - 1 - index)));
   }
 
 
@@ -513,6 +581,29 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
     return comparison == 0 ? first : (comparison < 0 ? first : second);
   }
 
+  /**
+   * Returns the value of a hexadecimal character.
+   *
+   * @param chars character sequence
+   * @param index index of the character
+   * @return value between 0 and 15
+   * @throws IllegalArgumentException if the character is not hexadecimal
+   */
+  private static int hexValue(CharSequence chars, int index) {
+    char c = chars.charAt(index);
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    throw new IllegalArgumentException(
+      "invalid hexadecimal representation of a GradoopId: [" + chars + "]");
+  }
+
   /**
    * Returns a primitive int represented by the given 4 bytes.
    *
@@ -525,4 +616,26 @@ public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<Grad
   private static int makeInt(final byte b3, final byte b2, final byte b1, final byte b0) {
     return (b3 << 24) | ((b2 & 0xff) << 16) | ((b1 & 0xff) << 8) | ((b0 & 0xff));
   }
+
+  /**
+   * Returns a primitive int represented by 4 bytes of an array in big-endian order.
+   *
+   * @param bytes byte array
+   * @param offset offset of the int in the array
+   * @return int value
+   */
+  private static int makeInt(byte[] bytes, int offset) {
+    return makeInt(bytes[offset], bytes[offset + 1], bytes[offset + 2], bytes[offset + 3]);
+  }
+
+  /**
+   * Returns a primitive long represented by 8 bytes of an array in big-endian order.
+   *
+   * @param bytes byte array
+   * @param offset offset of the long in the array
+   * @return long value
+   */
+  private static long makeLong(byte[] bytes, int offset) {
+    return ((long) makeInt(bytes, offset) << 32) | (makeInt(bytes, offset + 4) & 0xffffffffL);
+  }
 }
@@ -23,13 +23,19 @@ import java.io.IOException;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * Represents a set of {@link GradoopId} instances, ignoring any duplicates.
  *
+ * The ids are stored in their binary representation in a single byte array sorted by
+ * {@link GradoopId#compareTo(GradoopId)}. Lookups use binary search, operations on two sets merge
+ * the sorted arrays. The serialized form is the number of ids followed by their bytes, which is
+ * written and read in a single block.
+ *
  * Note that by implementing {@link java.util.List} Flink uses the Kryo serializer for
  * (de-)serializing the list.
  *
@@ -37,65 +43,38 @@ import java.util.Set;
  */
 public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
   /**
-   * Contains the set of gradoop ids.
+   * Backing array of an empty set.
    */
-  private Set<GradoopId> ids;
-
-  /**
-   * Required default constructor for instantiation by serialization logic.
-   */
-  public GradoopIdSet() {
-    this.ids = new HashSet<>();
-  }
+  private static final byte[] EMPTY = new byte[0];
 
   /**
-   * Initializes the set with the given byte array.
-   *
-   * @param bytes bytes representing multiple gradoop ids
+   * Contains the sorted binary representations of the gradoop ids. The array may be larger than
+   * needed to store {@link #size} ids.
    */
-  private GradoopIdSet(byte[] bytes) {
-    this.ids = readIds(bytes);
-  }
+  private byte[] bytes;
 
   /**
-   * Initializes the set with the given ids.
-   *
-   * @param ids a collection of {@link GradoopId}s
+   * Number of ids in the set.
    */
-  private GradoopIdSet(Collection<GradoopId> ids) {
-    this.ids = new HashSet<>(ids);
-  }
+  private int size;
 
   /**
-   * Since we will need to do operations on individual ids we need
-   * to reconstruct the {@link GradoopId} instances.
-   * @param bytes serialized sequence of {@link GradoopId}s
-   * @return a set representation
+   * Required default constructor for instantiation by serialization logic.
    */
-  private Set<GradoopId> readIds(byte[] bytes) {
-    ids = new HashSet<>();
-    for (int i = 0; i < bytes.length / GradoopId.ID_SIZE; i++) {
-      byte[] idBytes = new byte[GradoopId.ID_SIZE];
-      System.arraycopy(bytes, i * GradoopId.ID_SIZE, idBytes, 0, GradoopId.ID_SIZE);
-      ids.add(GradoopId.fromByteArray(idBytes));
-    }
-    return ids;
+  public GradoopIdSet() {
+    this.bytes = EMPTY;
   }
 
   /**
-   * Serialize all ids into a byte array.
-   * @param ids sequence of {@link GradoopId}s
-   * @return a binary representation
+   * Initializes the set with the given byte array.
+   *
+   * @param bytes bytes representing multiple gradoop ids, used as backing array
+   * @param size number of ids in the byte array
    */
-  private byte[] writeIds(Set<GradoopId> ids) {
-    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
-
-    int i = 0;
-    for (GradoopId id : ids) {
-      System.arraycopy(id.toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
-      i++;
-    }
-    return bytes;
+  private GradoopIdSet(byte[] bytes, int size) {
+    this.bytes = bytes;
+    this.size = size;
+    normalize();
   }
 
   /**
@@ -114,8 +93,21 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids given ids
    * @return gradoop id set
    */
-  public static GradoopIdSet fromExisting(Collection<GradoopId> ids) {
-    return new GradoopIdSet(ids);
+  public static GradoopIdSet fromExisting(Collection<? extends GradoopId> ids) {
+    if (ids instanceof GradoopIdSet) {
+      GradoopIdSet other = (GradoopIdSet) ids;
+      GradoopIdSet set = new GradoopIdSet();
+      set.bytes = other.toByteArray();
+      set.size = other.size;
+      return set;
+    }
+    byte[] bytes = new byte[ids.size() * GradoopId.ID_SIZE];
+    int offset = 0;
+    for (GradoopId id : ids) {
+      id.toByteArray(bytes, offset);
+      offset += GradoopId.ID_SIZE;
+    }
+    return new GradoopIdSet(bytes, ids.size());
   }
 
   /**
@@ -125,7 +117,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return gradoop id set
    */
   public static GradoopIdSet fromByteArray(byte[] bytes) {
-    return new GradoopIdSet(bytes);
+    return new GradoopIdSet(Arrays.copyOf(bytes, bytes.length), bytes.length / GradoopId.ID_SIZE);
   }
 
   /**
@@ -135,7 +127,24 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean add(GradoopId id) {
-    return this.ids.add(id);
+    int index = indexOf(id);
+    if (index >= 0) {
+      return false;
+    }
+    index = -(index + 1);
+    int offset = index * GradoopId.ID_SIZE;
+    int end = size * GradoopId.ID_SIZE;
+    if (end + GradoopId.ID_SIZE > bytes.length) {
+      byte[] grown = new byte[Math.max(end + GradoopId.ID_SIZE, bytes.length + (bytes.length >> 1))];
+      System.arraycopy(bytes, 0, grown, 0, offset);
+      System.arraycopy(bytes, offset, grown, offset + GradoopId.ID_SIZE, end - offset);
+      bytes = grown;
+    } else {
+      System.arraycopy(bytes, offset, bytes, offset + GradoopId.ID_SIZE, end - offset);
+    }
+    id.toByteArray(bytes, offset);
+    size++;
+    return true;
   }
 
   /**
@@ -144,7 +153,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @param ids the ids to add
    */
   public void addAll(GradoopIdSet ids) {
-    this.ids.addAll(ids.ids);
+    merge(ids);
   }
 
   /**
@@ -154,7 +163,32 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean addAll(Collection<? extends GradoopId> ids) {
-    return this.ids.addAll(ids);
+    if (ids instanceof GradoopIdSet) {
+      return merge((GradoopIdSet) ids);
+    }
+    if (ids.size() == 1) {
+      return add(ids.iterator().next());
+    }
+    return merge(fromExisting(ids));
+  }
+
+  /**
+   * Removes the given gradoop id from the set.
+   *
+   * @param identifier the id to remove
+   * @return true, iff the id was contained in the set
+   */
+  @Override
+  public boolean remove(Object identifier) {
+    if (!(identifier instanceof GradoopId)) {
+      return false;
+    }
+    int index = indexOf((GradoopId) identifier);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
   }
 
   /**
@@ -165,7 +199,8 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean contains(Object identifier) {
-    return this.ids.contains(identifier);
+    return identifier instanceof GradoopId &&
+      indexOf((GradoopId) identifier) >= 0;
   }
 
   /**
@@ -175,13 +210,22 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff all specified ids are contained in the set
    */
   public boolean containsAll(GradoopIdSet other) {
-    if (other.size() > this.size()) {
+    if (other.size > this.size) {
       return false;
     }
-    for (GradoopId id : other) {
-      if (!this.contains(id)) {
+    int i = 0;
+    int j = 0;
+    while (j < other.size) {
+      if (this.size - i < other.size - j) {
         return false;
       }
+      int comparison = compare(this.bytes, i, other.bytes, j);
+      if (comparison == 0) {
+        j++;
+      } else if (comparison > 0) {
+        return false;
+      }
+      i++;
     }
     return true;
   }
@@ -194,6 +238,9 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    */
   @Override
   public boolean containsAll(Collection<?> other) {
+    if (other instanceof GradoopIdSet) {
+      return containsAll((GradoopIdSet) other);
+    }
     if (other instanceof Set && other.size() > this.size()) {
       return false;
     }
@@ -212,21 +259,16 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(GradoopIdSet other) {
-    // Algorithm: the sizes of both lists might be vastly different
-    // to prevent the case of iterating multiple times over large collections
-    // we make sure to always iterate over the smaller one
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other.ids;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other.ids;
-      contains = this.ids;
-    }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    int i = 0;
+    int j = 0;
+    while (i < this.size && j < other.size) {
+      int comparison = compare(this.bytes, i, other.bytes, j);
+      if (comparison == 0) {
         return true;
+      } else if (comparison < 0) {
+        i++;
+      } else {
+        j++;
       }
     }
     return false;
@@ -239,17 +281,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff any of the specified ids is contained in the set
    */
   public boolean containsAny(Set<GradoopId> other) {
-    Set<GradoopId> iterate = this.ids;
-    Set<GradoopId> contains = other;
-    int thisSize = this.size();
-    int otherSize = other.size();
-    if (thisSize > otherSize) {
-      iterate = other;
-      contains = this.ids;
+    if (other instanceof GradoopIdSet) {
+      return containsAny((GradoopIdSet) other);
     }
-
-    for (GradoopId id : iterate) {
-      if (contains.contains(id)) {
+    for (GradoopId id : other) {
+      if (contains(id)) {
         return true;
       }
     }
@@ -262,19 +298,62 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return true, iff the set contains no elements
    */
   public boolean isEmpty() {
-    return ids.isEmpty();
+    return size == 0;
   }
 
   @Override
   public Iterator<GradoopId> iterator() {
-    return ids.iterator();
+    return new Iterator<GradoopId>() {
+      /**
+       * Index of the next id.
+       */
+      private int next;
+      /**
+       * Expected size of the set, used to detect concurrent modifications.
+       */
+      private int expectedSize = size;
+      /**
+       * Whether the last returned id can be removed.
+       */
+      private boolean canRemove;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public GradoopId next() {
+        if (expectedSize != size) {
+          throw new ConcurrentModificationException();
+        }
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        int offset = next * GradoopId.ID_SIZE;
+        next++;
+        canRemove = true;
+        return GradoopId.fromByteArray(bytes, offset);
+      }
+
+      @Override
+      public void remove() {
+        if (!canRemove) {
+          throw new IllegalStateException();
+        }
+        next--;
+        removeAt(next);
+        expectedSize = size;
+        canRemove = false;
+      }
+    };
   }
 
   /**
    * Clears the set.
    */
   public void clear() {
-    ids.clear();
+    size = 0;
   }
 
   /**
@@ -283,7 +362,7 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return number of elements in the set
    */
   public int size() {
-    return ids.size();
+    return size;
   }
 
   /**
@@ -292,25 +371,41 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
    * @return byte array representation
    */
   public byte[] toByteArray() {
-    return writeIds(ids);
+    return Arrays.copyOf(bytes, size * GradoopId.ID_SIZE);
   }
 
   @Override
   public void write(DataOutputView out) throws IOException {
-    if (isEmpty()) {
-      out.writeInt(0);
-    } else {
-      out.writeInt(size());
-      out.write(writeIds(ids));
+    out.writeInt(size);
+    if (size > 0) {
+      out.write(bytes, 0, size * GradoopId.ID_SIZE);
     }
   }
 
   @Override
   public void read(DataInputView in) throws IOException {
     int n = in.readInt();
-    byte[] bytes = new byte[n * GradoopId.ID_SIZE];
-    in.readFully(bytes);
-    this.ids = readIds(bytes);
+    int length = n * GradoopId.ID_SIZE;
+    if (length > bytes.length) {
+      bytes = new byte[length];
+    }
+    in.readFully(bytes, 0, length);
+    size = n;
+    normalize();
+  }
+
+  /**
+   * Copies a set written by {@link #write(DataOutputView)} from the input view to the output
+   * view without deserializing it.
+   *
+   * @param in input view
+   * @param out output view
+   * @throws IOException on failure
+   */
+  public static void copySerialized(DataInputView in, DataOutputView out) throws IOException {
+    int n = in.readInt();
+    out.writeInt(n);
+    out.write(in, n * GradoopId.ID_SIZE);
   }
 
   @Override
@@ -320,11 +415,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
     if (!equal && o instanceof GradoopIdSet) {
       GradoopIdSet that = (GradoopIdSet) o;
       // same number of ids
-      equal = this.size() == that.size();
+      equal = this.size == that.size;
 
-      if (equal) {
-        // same ids
-        equal = this.ids.equals(that.ids);
+      // same ids
+      for (int i = 0; equal && i < size * GradoopId.ID_SIZE; i++) {
+        equal = this.bytes[i] == that.bytes[i];
       }
     }
 
@@ -333,7 +428,11 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
 
   @Override
   public int hashCode() {
-    return ids.hashCode();
+    int hashCode = 0;
+    for (GradoopId id : this) {
+      hashCode += id.hashCode();
+    }
+    return hashCode;
   }
 
   @Override
@@ -355,4 +454,124 @@ public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
       sb.append(',').append(' ');
     }
   }
+
+  /**
+   * Adds all ids of the given set by merging both sorted arrays.
+   *
+   * @param other the ids to add
+   * @return true, iff the set changed
+   */
+  private boolean merge(GradoopIdSet other) {
+    if (other.size == 0 || containsAll(other)) {
+      return false;
+    }
+    byte[] merged = new byte[(size + other.size) * GradoopId.ID_SIZE];
+    int i = 0;
+    int j = 0;
+    int n = 0;
+    while (i < size || j < other.size) {
+      int comparison = i == size ? 1 : (j == other.size ? -1 :
+        compare(bytes, i, other.bytes, j));
+      if (comparison <= 0) {
+        System.arraycopy(bytes, i * GradoopId.ID_SIZE, merged, n * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        i++;
+        if (comparison == 0) {
+          j++;
+        }
+      } else {
+        System.arraycopy(other.bytes, j * GradoopId.ID_SIZE, merged, n * GradoopId.ID_SIZE,
+          GradoopId.ID_SIZE);
+        j++;
+      }
+      n++;
+    }
+    bytes = merged;
+    size = n;
+    return true;
+  }
+
+  /**
+   * Removes the id at the given index.
+   *
+   * @param index index of the id
+   */
+  private void removeAt(int index) {
+    int offset = index * GradoopId.ID_SIZE;
+    System.arraycopy(bytes, offset + GradoopId.ID_SIZE, bytes, offset,
+      (size - index - 1) * GradoopId.ID_SIZE);
+    size--;
+  }
+
+  /**
+   * Searches the given id using binary search.
+   *
+   * @param id the id to look for
+   * @return index of the id, if it is contained in the set, otherwise
+   * {@code (-(insertion point) - 1)}
+   */
+  private int indexOf(GradoopId id) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = id.compareTo(bytes, mid * GradoopId.ID_SIZE);
+      if (comparison > 0) {
+        low = mid + 1;
+      } else if (comparison < 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Sorts the ids and removes duplicates, if the backing array is not sorted already. Arrays
+   * written by this class are always sorted.
+   */
+  private void normalize() {
+    for (int i = 1; i < size; i++) {
+      if (compare(bytes, i - 1, bytes, i) >= 0) {
+        GradoopId[] ids = new GradoopId[size];
+        for (int j = 0; j < size; j++) {
+          ids[j] = GradoopId.fromByteArray(bytes, j * GradoopId.ID_SIZE);
+        }
+        Arrays.sort(ids);
+        int n = 0;
+        for (int j = 0; j < ids.length; j++) {
+          if (j == 0 || !ids[j].equals(ids[j - 1])) {
+            ids[j].toByteArray(bytes, n * GradoopId.ID_SIZE);
+            n++;
+          }
+        }
+        size = n;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Compares two ids byte-wise like {@link GradoopId#compareTo(GradoopId)}.
+   *
+   * @param first array containing the first id
+   * @param firstIndex index of the first id
+   * @param second array containing the second id
+   * @param secondIndex index of the second id
+   * @return a negative integer, zero, or a positive integer as the first id is less than, equal
+   * to, or greater than the second id
+   */
+  private static int compare(byte[] first, int firstIndex, byte[] second, int secondIndex) {
+    int firstOffset = firstIndex * GradoopId.ID_SIZE;
+    int secondOffset = secondIndex * GradoopId.ID_SIZE;
+    for (int i = 0; i < GradoopId.ID_SIZE; i++) {
+      int a = first[firstOffset + i] & 0xff;
+      int b = second[secondOffset + i] & 0xff;
+      if (a != b) {
+        return a < b ? -1 : 1;
+      }
+    }
+    return 0;
+  }
 }
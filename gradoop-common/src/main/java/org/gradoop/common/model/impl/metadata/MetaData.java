@@ -29,6 +29,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 /**
  * Describes the data stored in the vertex and edge CSV files.
@@ -164,6 +167,22 @@ public class MetaData {
     return edgeMetaData.getOrDefault(label, new ArrayList<>());
   }
 
+  /**
+   * Returns the property keys of all graph, vertex and edge labels in the meta data, e.g. to
+   * create a {@link org.gradoop.common.model.impl.properties.PropertyKeyDictionary}.
+   *
+   * @return sorted property keys
+   */
+  public SortedSet<String> getPropertyKeys() {
+    SortedSet<String> keys = new TreeSet<>();
+    Stream.of(graphMetaData, vertexMetaData, edgeMetaData)
+      .flatMap(metaData -> metaData.values().stream())
+      .flatMap(List::stream)
+      .map(PropertyMetaData::getKey)
+      .forEach(keys::add);
+    return keys;
+  }
+
 
   /**
    * Returns the type string for the specified property value.
@@ -15,14 +15,17 @@
  */
 package org.gradoop.common.model.impl.pojo;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.typeutils.EPGMElementTypeInfoFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 
 /**
  * POJO Implementation of an EPGM edge.
  */
+@TypeInfo(EPGMElementTypeInfoFactory.class)
 public class EPGMEdge extends EPGMGraphElement implements Edge {
 
   /**
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+/**
+ * Serializer for {@link EPGMEdge} POJOs. The id fields are the edge id, the source id and the
+ * target id (in this order).
+ */
+public class EPGMEdgeSerializer extends EPGMGraphElementSerializer<EPGMEdge> {
+
+  /**
+   * Index of the edge id field.
+   */
+  public static final int ID = 0;
+
+  /**
+   * Index of the source id field.
+   */
+  public static final int SOURCE_ID = 1;
+
+  /**
+   * Index of the target id field.
+   */
+  public static final int TARGET_ID = 2;
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new serializer writing the property keys as strings.
+   */
+  public EPGMEdgeSerializer() {
+    this(null);
+  }
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param keyDictionary dictionary used to encode the property keys, may be {@code null}
+   */
+  public EPGMEdgeSerializer(PropertyKeyDictionary keyDictionary) {
+    super(keyDictionary);
+  }
+
+  @Override
+  protected EPGMEdgeSerializer createSerializer(PropertyKeyDictionary dictionary) {
+    return new EPGMEdgeSerializer(dictionary);
+  }
+
+  @Override
+  public int getIdFieldCount() {
+    return 3;
+  }
+
+  @Override
+  public GradoopId getIdField(EPGMEdge element, int index) {
+    switch (index) {
+    case ID:
+      return element.getId();
+    case SOURCE_ID:
+      return element.getSourceId();
+    case TARGET_ID:
+      return element.getTargetId();
+    default:
+      throw new IndexOutOfBoundsException("No id field with index " + index);
+    }
+  }
+
+  @Override
+  protected void setIdField(EPGMEdge element, int index, GradoopId id) {
+    switch (index) {
+    case ID:
+      element.setId(id);
+      break;
+    case SOURCE_ID:
+      element.setSourceId(id);
+      break;
+    case TARGET_ID:
+      element.setTargetId(id);
+      break;
+    default:
+      throw new IndexOutOfBoundsException("No id field with index " + index);
+    }
+  }
+
+  @Override
+  public EPGMEdge createInstance() {
+    return new EPGMEdge();
+  }
+}
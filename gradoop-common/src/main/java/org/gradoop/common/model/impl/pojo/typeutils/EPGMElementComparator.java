@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.CompositeTypeComparator;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.java.typeutils.runtime.TupleComparatorBase;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Comparator for EPGM elements using one or more fields as key.
+ * <p>
+ * If only {@link GradoopId} fields (e.g. id, source id, target id) are used as key, serialized
+ * records are compared by their raw id bytes, which are written at a fixed offset by the
+ * {@link EPGMElementSerializer}, and the concatenated ids of the key fields are used as
+ * normalized key. Otherwise serialized records are deserialized for comparison.
+ * <p>
+ * The comparator is a composite comparator, i.e. comparators of enclosing types (e.g. tuples
+ * with an element field used as key) use the comparators of the single key fields.
+ *
+ * @param <T> element type
+ */
+public class EPGMElementComparator<T extends EPGMElement> extends CompositeTypeComparator<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Serializer used to access the id fields.
+   */
+  private final EPGMElementSerializer<T> serializer;
+
+  /**
+   * Indices of the id fields used as key.
+   */
+  private final int[] keyFields;
+
+  /**
+   * Comparators for the single key fields.
+   */
+  private final TypeComparator[] fieldComparators;
+
+  /**
+   * Sort order of the single key fields.
+   */
+  private final boolean[] ascending;
+
+  /**
+   * True, if all key fields are id fields.
+   */
+  private final boolean idKeysOnly;
+
+  /**
+   * Number of bytes of a serialized record that contain all key fields, only used if all key
+   * fields are id fields.
+   */
+  private final int keyPrefixLength;
+
+  /**
+   * Reference element.
+   */
+  private transient T reference;
+
+  /**
+   * Buffer used to read the key fields of the first serialized record.
+   */
+  private transient byte[] firstBuffer;
+
+  /**
+   * Buffer used to read the key fields of the second serialized record.
+   */
+  private transient byte[] secondBuffer;
+
+  /**
+   * Element used to deserialize the first record.
+   */
+  private transient T firstElement;
+
+  /**
+   * Element used to deserialize the second record.
+   */
+  private transient T secondElement;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param serializer serializer of the element type
+   * @param keyFields indices of the fields used as key
+   * @param fieldComparators comparators of the fields used as key
+   */
+  public EPGMElementComparator(EPGMElementSerializer<T> serializer, int[] keyFields,
+    TypeComparator[] fieldComparators) {
+    this.serializer = serializer;
+    this.keyFields = Arrays.copyOf(keyFields, keyFields.length);
+    this.fieldComparators = Arrays.copyOf(fieldComparators, fieldComparators.length);
+    this.ascending = new boolean[keyFields.length];
+    int maxKeyField = 0;
+    for (int i = 0; i < keyFields.length; i++) {
+      ascending[i] = !fieldComparators[i].invertNormalizedKey();
+      maxKeyField = Math.max(maxKeyField, keyFields[i]);
+    }
+    this.idKeysOnly = maxKeyField < serializer.getIdFieldCount();
+    this.keyPrefixLength = EPGMElementSerializer.ID_FIELDS_OFFSET +
+      (maxKeyField + 1) * GradoopId.ID_SIZE;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int hash(T record) {
+    // equal to the hash code of a tuple or POJO with the same key fields
+    int code = 0;
+    for (int i = 0; i < keyFields.length; i++) {
+      code *= TupleComparatorBase.HASH_SALT[i & 0x1F];
+      code += fieldComparators[i].hash(serializer.getField(record, keyFields[i]));
+    }
+    return code;
+  }
+
+  @Override
+  public void setReference(T toCompare) {
+    this.reference = toCompare;
+  }
+
+  @Override
+  public boolean equalToReference(T candidate) {
+    return compare(candidate, reference) == 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int compareToReference(TypeComparator<T> referencedComparator) {
+    return compare(((EPGMElementComparator<T>) referencedComparator).reference, reference);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int compare(T first, T second) {
+    for (int i = 0; i < keyFields.length; i++) {
+      int comparison = fieldComparators[i].compare(serializer.getField(first, keyFields[i]),
+        serializer.getField(second, keyFields[i]));
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    if (!idKeysOnly) {
+      firstElement = serializer.deserialize(firstElement, firstSource);
+      secondElement = serializer.deserialize(secondElement, secondSource);
+      return compare(firstElement, secondElement);
+    }
+    if (firstBuffer == null) {
+      firstBuffer = new byte[keyPrefixLength];
+      secondBuffer = new byte[keyPrefixLength];
+    }
+    firstSource.readFully(firstBuffer);
+    secondSource.readFully(secondBuffer);
+
+    for (int i = 0; i < keyFields.length; i++) {
+      int offset = EPGMElementSerializer.ID_FIELDS_OFFSET + keyFields[i] * GradoopId.ID_SIZE;
+      for (int j = offset; j < offset + GradoopId.ID_SIZE; j++) {
+        if (firstBuffer[j] != secondBuffer[j]) {
+          int comparison = (firstBuffer[j] & 0xff) < (secondBuffer[j] & 0xff) ? -1 : 1;
+          return ascending[i] ? comparison : -comparison;
+        }
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    if (!idKeysOnly) {
+      return false;
+    }
+    // a normalized key can only be inverted as a whole
+    for (boolean order : ascending) {
+      if (order != ascending[0]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return keyFields.length * GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < getNormalizeKeyLen();
+  }
+
+  @Override
+  public void putNormalizedKey(T record, MemorySegment target, int offset, int numBytes) {
+    for (int i = 0; i < keyFields.length && numBytes > 0; i++) {
+      int length = Math.min(GradoopId.ID_SIZE, numBytes);
+      serializer.getIdField(record, keyFields[i]).copyNormalizedKey(target, offset, length);
+      offset += length;
+      numBytes -= length;
+    }
+    for (; numBytes > 0; numBytes--) {
+      target.put(offset++, (byte) 0);
+    }
+  }
+
+  @Override
+  public void writeWithKeyNormalization(T record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public T readWithKeyDenormalization(T reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending[0];
+  }
+
+  @Override
+  public TypeComparator<T> duplicate() {
+    TypeComparator[] comparators = new TypeComparator[fieldComparators.length];
+    for (int i = 0; i < comparators.length; i++) {
+      comparators[i] = fieldComparators[i].duplicate();
+    }
+    return new EPGMElementComparator<>(serializer, keyFields, comparators);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int extractKeys(Object record, Object[] target, int index) {
+    for (int i = 0; i < keyFields.length; i++) {
+      target[index + i] = serializer.getField((T) record, keyFields[i]);
+    }
+    return keyFields.length;
+  }
+
+  @Override
+  public void getFlatComparator(List<TypeComparator> flatComparators) {
+    Collections.addAll(flatComparators, fieldComparators);
+  }
+
+  @Override
+  public String toString() {
+    return "EPGMElementComparator{keyFields=" + Arrays.toString(keyFields) +
+      ", ascending=" + Arrays.toString(ascending) + '}';
+  }
+}
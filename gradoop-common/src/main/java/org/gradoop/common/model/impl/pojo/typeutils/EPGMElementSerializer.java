@@ -0,0 +1,431 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.StringValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Base class of the serializers for EPGM element POJOs.
+ * <p>
+ * An element is written as one compact binary record:
+ * <pre>
+ * byte 0              : flags marking {@code null} fields
+ * byte 1 - 12 * n     : the n identifier fields of the element (e.g. id, source id, target id)
+ * byte 12 * n + 1 ... : additional fields (e.g. graph ids), label and properties
+ * </pre>
+ * A {@code null} element is written as a single flags byte.
+ * <p>
+ * Because the identifiers are written first and have a fixed size, a
+ * {@link EPGMElementComparator} can compare two serialized records without deserializing them.
+ * <p>
+ * The fields of an element are indexed in the order they are written: the id fields first,
+ * followed by label, properties and the additional fields of the element type.
+ * <p>
+ * If a {@link PropertyKeyDictionary} is set, the property keys are encoded using the dictionary.
+ * If lazy properties are enabled, properties are deserialized using
+ * {@link Properties#readLazily(DataInputView, PropertyKeyDictionary)}, which does not change the
+ * serialized form.
+ *
+ * @param <T> element type
+ */
+public abstract class EPGMElementSerializer<T extends EPGMElement> extends TypeSerializer<T> {
+
+  /**
+   * Offset of the first id field in a serialized record.
+   */
+  public static final int ID_FIELDS_OFFSET = 1;
+
+  /**
+   * Flag marking a {@code null} properties field.
+   */
+  protected static final byte FLAG_NULL_PROPERTIES = 0x01;
+
+  /**
+   * Flag marking a {@code null} graph id set.
+   */
+  protected static final byte FLAG_NULL_GRAPH_IDS = 0x02;
+
+  /**
+   * Flag marking a {@code null} element.
+   */
+  private static final byte FLAG_NULL_RECORD = (byte) 0x80;
+
+  /**
+   * Offset of the flags marking {@code null} id fields. The id field with index {@code i} is
+   * marked by the bit {@code 1 << (i + NULL_ID_FLAG_OFFSET)}.
+   */
+  private static final int NULL_ID_FLAG_OFFSET = 2;
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Dictionary used to encode the property keys, {@code null} if the keys are written as strings.
+   */
+  private final PropertyKeyDictionary keyDictionary;
+
+  /**
+   * True, if properties are decoded on demand.
+   */
+  private boolean lazyProperties;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param keyDictionary dictionary used to encode the property keys, may be {@code null}
+   */
+  protected EPGMElementSerializer(PropertyKeyDictionary keyDictionary) {
+    this.keyDictionary = keyDictionary;
+  }
+
+  /**
+   * Returns the dictionary used to encode the property keys.
+   *
+   * @return property key dictionary or {@code null} if the keys are written as strings
+   */
+  public PropertyKeyDictionary getKeyDictionary() {
+    return keyDictionary;
+  }
+
+  /**
+   * Checks if properties are decoded on demand.
+   *
+   * @return true, if properties are deserialized lazily
+   */
+  public boolean isLazyProperties() {
+    return lazyProperties;
+  }
+
+  /**
+   * Creates a serializer of the same type using the given property key dictionary.
+   *
+   * @param dictionary dictionary used to encode the property keys, may be {@code null}
+   * @return new serializer
+   */
+  public EPGMElementSerializer<T> withKeyDictionary(PropertyKeyDictionary dictionary) {
+    EPGMElementSerializer<T> serializer = createSerializer(dictionary);
+    serializer.lazyProperties = lazyProperties;
+    return serializer;
+  }
+
+  /**
+   * Creates a serializer of the same type which deserializes properties lazily or eagerly.
+   *
+   * @param lazy true, if properties should be decoded on demand
+   * @return new serializer
+   */
+  public EPGMElementSerializer<T> withLazyProperties(boolean lazy) {
+    EPGMElementSerializer<T> serializer = createSerializer(keyDictionary);
+    serializer.lazyProperties = lazy;
+    return serializer;
+  }
+
+  /**
+   * Creates a new serializer of the same type with default settings and the given property key
+   * dictionary.
+   *
+   * @param dictionary dictionary used to encode the property keys, may be {@code null}
+   * @return new serializer
+   */
+  protected abstract EPGMElementSerializer<T> createSerializer(PropertyKeyDictionary dictionary);
+
+  /**
+   * Returns the number of {@link GradoopId} fields of the element type. These fields are
+   * written in front of all other fields of the element.
+   *
+   * @return number of id fields
+   */
+  public abstract int getIdFieldCount();
+
+  /**
+   * Returns the {@link GradoopId} field at the given index.
+   *
+   * @param element element
+   * @param index field index
+   * @return the id stored in the field
+   */
+  public abstract GradoopId getIdField(T element, int index);
+
+  /**
+   * Sets the {@link GradoopId} field at the given index.
+   *
+   * @param element element
+   * @param index field index
+   * @param id the id to store in the field
+   */
+  protected abstract void setIdField(T element, int index, GradoopId id);
+
+  /**
+   * Returns the total number of fields of the element type.
+   *
+   * @return number of fields
+   */
+  public int getFieldCount() {
+    return getIdFieldCount() + 2 + getAdditionalFieldCount();
+  }
+
+  /**
+   * Returns the field at the given index. The id fields are followed by label, properties and
+   * the additional fields.
+   *
+   * @param element element
+   * @param index field index
+   * @return the value of the field
+   */
+  public Object getField(T element, int index) {
+    int idFieldCount = getIdFieldCount();
+    if (index < idFieldCount) {
+      return getIdField(element, index);
+    } else if (index == idFieldCount) {
+      return element.getLabel();
+    } else if (index == idFieldCount + 1) {
+      return element.getProperties();
+    } else {
+      return getAdditionalField(element, index - idFieldCount - 2);
+    }
+  }
+
+  /**
+   * Returns the number of fields that are not common to all EPGM elements.
+   *
+   * @return number of additional fields
+   */
+  protected int getAdditionalFieldCount() {
+    return 0;
+  }
+
+  /**
+   * Returns the additional field at the given index.
+   *
+   * @param element element
+   * @param index index of the additional field
+   * @return the value of the field
+   */
+  protected Object getAdditionalField(T element, int index) {
+    throw new IndexOutOfBoundsException("No additional field with index " + index);
+  }
+
+  /**
+   * Returns the flags of the additional fields written by
+   * {@link #serializeAdditionalFields(EPGMElement, DataOutputView)}.
+   *
+   * @param element element
+   * @return flags marking {@code null} additional fields
+   */
+  protected byte getAdditionalFieldFlags(T element) {
+    return 0;
+  }
+
+  /**
+   * Writes the fields that are not common to all EPGM elements.
+   *
+   * @param element element
+   * @param target output view
+   * @throws IOException on failure
+   */
+  protected void serializeAdditionalFields(T element, DataOutputView target) throws IOException {
+  }
+
+  /**
+   * Reads the fields written by {@link #serializeAdditionalFields(EPGMElement, DataOutputView)}.
+   *
+   * @param element element to read into
+   * @param flags flags marking {@code null} fields
+   * @param source input view
+   * @throws IOException on failure
+   */
+  protected void deserializeAdditionalFields(T element, byte flags, DataInputView source)
+    throws IOException {
+  }
+
+  /**
+   * Copies the fields written by {@link #serializeAdditionalFields(EPGMElement, DataOutputView)}
+   * from the input view to the output view without deserializing them.
+   *
+   * @param flags flags marking {@code null} fields
+   * @param source input view
+   * @param target output view
+   * @throws IOException on failure
+   */
+  protected void copySerializedAdditionalFields(byte flags, DataInputView source,
+    DataOutputView target) throws IOException {
+  }
+
+  /**
+   * Copies the fields that are not common to all EPGM elements.
+   *
+   * @param from element to copy from
+   * @param to element to copy to
+   */
+  protected void copyAdditionalFields(T from, T to) {
+  }
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public TypeSerializer<T> duplicate() {
+    return this;
+  }
+
+  @Override
+  public T copy(T from) {
+    return from == null ? null : copy(from, createInstance());
+  }
+
+  @Override
+  public T copy(T from, T reuse) {
+    if (from == null) {
+      return null;
+    }
+    for (int i = 0; i < getIdFieldCount(); i++) {
+      GradoopId id = getIdField(from, i);
+      setIdField(reuse, i, id == null ? null : id.copy());
+    }
+    reuse.setLabel(from.getLabel());
+    Properties properties = from.getProperties();
+    reuse.setProperties(properties == null ? null : properties.copy());
+    copyAdditionalFields(from, reuse);
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(T record, DataOutputView target) throws IOException {
+    if (record == null) {
+      target.writeByte(FLAG_NULL_RECORD);
+      return;
+    }
+    Properties properties = record.getProperties();
+    byte flags = getAdditionalFieldFlags(record);
+    if (properties == null) {
+      flags |= FLAG_NULL_PROPERTIES;
+    }
+    for (int i = 0; i < getIdFieldCount(); i++) {
+      if (getIdField(record, i) == null) {
+        flags |= 1 << (i + NULL_ID_FLAG_OFFSET);
+      }
+    }
+    target.writeByte(flags);
+
+    for (int i = 0; i < getIdFieldCount(); i++) {
+      GradoopId id = getIdField(record, i);
+      (id == null ? GradoopId.NULL_VALUE : id).write(target);
+    }
+    serializeAdditionalFields(record, target);
+    StringValue.writeString(record.getLabel(), target);
+    if (properties != null) {
+      properties.write(target, keyDictionary);
+    }
+  }
+
+  @Override
+  public T deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public T deserialize(T reuse, DataInputView source) throws IOException {
+    byte flags = source.readByte();
+    if (flags == FLAG_NULL_RECORD) {
+      return null;
+    }
+    T element = reuse == null ? createInstance() : reuse;
+    for (int i = 0; i < getIdFieldCount(); i++) {
+      GradoopId id = new GradoopId();
+      id.read(source);
+      setIdField(element, i, (flags & (1 << (i + NULL_ID_FLAG_OFFSET))) != 0 ? null : id);
+    }
+    deserializeAdditionalFields(element, flags, source);
+    element.setLabel(StringValue.readString(source));
+    if ((flags & FLAG_NULL_PROPERTIES) != 0) {
+      element.setProperties(null);
+    } else {
+      Properties properties = element.getProperties();
+      if (properties == null) {
+        properties = Properties.create();
+        element.setProperties(properties);
+      }
+      if (lazyProperties) {
+        properties.readLazily(source, keyDictionary);
+      } else {
+        properties.read(source, keyDictionary);
+      }
+    }
+    return element;
+  }
+
+  /**
+   * Copies a serialized record field by field without deserializing the element.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    byte flags = source.readByte();
+    target.writeByte(flags);
+    if (flags == FLAG_NULL_RECORD) {
+      return;
+    }
+    target.write(source, getIdFieldCount() * GradoopId.ID_SIZE);
+    copySerializedAdditionalFields(flags, source, target);
+    StringValue.copyString(source, target);
+    if ((flags & FLAG_NULL_PROPERTIES) == 0) {
+      Properties.copySerialized(source, target, keyDictionary);
+    }
+  }
+
+  @Override
+  public TypeSerializerSnapshot<T> snapshotConfiguration() {
+    return new EPGMElementSerializerSnapshot<>(this);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj != null && obj.getClass() == getClass() &&
+      Objects.equals(keyDictionary, ((EPGMElementSerializer<?>) obj).keyDictionary) &&
+      lazyProperties == ((EPGMElementSerializer<?>) obj).lazyProperties;
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj != null && obj.getClass() == getClass();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), keyDictionary, lazyProperties);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSchemaCompatibility;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.util.InstantiationUtil;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Serializer configuration snapshot of an {@link EPGMElementSerializer}. Stores the serializer
+ * class, the property key dictionary and whether properties are deserialized lazily.
+ *
+ * @param <T> element type
+ */
+public final class EPGMElementSerializerSnapshot<T extends EPGMElement>
+  implements TypeSerializerSnapshot<T> {
+
+  /**
+   * Current version of the snapshot format.
+   */
+  private static final int VERSION = 2;
+
+  /**
+   * Class of the serializer.
+   */
+  private Class<? extends EPGMElementSerializer> serializerClass;
+
+  /**
+   * Property key dictionary of the serializer, may be {@code null}.
+   */
+  private PropertyKeyDictionary keyDictionary;
+
+  /**
+   * True, if the serializer deserializes properties lazily.
+   */
+  private boolean lazyProperties;
+
+  /**
+   * Creates a new snapshot, used when reading a snapshot.
+   */
+  public EPGMElementSerializerSnapshot() {
+  }
+
+  /**
+   * Creates a snapshot of the given serializer.
+   *
+   * @param serializer serializer
+   */
+  EPGMElementSerializerSnapshot(EPGMElementSerializer<T> serializer) {
+    this.serializerClass = serializer.getClass();
+    this.keyDictionary = serializer.getKeyDictionary();
+    this.lazyProperties = serializer.isLazyProperties();
+  }
+
+  @Override
+  public int getCurrentVersion() {
+    return VERSION;
+  }
+
+  @Override
+  public void writeSnapshot(DataOutputView out) throws IOException {
+    out.writeUTF(serializerClass.getName());
+    out.writeBoolean(keyDictionary != null);
+    if (keyDictionary != null) {
+      keyDictionary.write(out);
+    }
+    out.writeBoolean(lazyProperties);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void readSnapshot(int readVersion, DataInputView in, ClassLoader userCodeClassLoader)
+    throws IOException {
+    String className = in.readUTF();
+    try {
+      serializerClass = (Class<? extends EPGMElementSerializer>)
+        Class.forName(className, false, userCodeClassLoader);
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Could not find serializer class " + className, e);
+    }
+    keyDictionary = in.readBoolean() ? PropertyKeyDictionary.read(in) : null;
+    // version 1 did not support lazy properties
+    lazyProperties = readVersion > 1 && in.readBoolean();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public TypeSerializer<T> restoreSerializer() {
+    return InstantiationUtil.instantiate(serializerClass).withKeyDictionary(keyDictionary)
+      .withLazyProperties(lazyProperties);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Lazy deserialization of properties does not affect the serialized form and is therefore
+   * ignored.
+   */
+  @Override
+  public TypeSerializerSchemaCompatibility<T> resolveSchemaCompatibility(
+    TypeSerializer<T> newSerializer) {
+    if (newSerializer.getClass() == serializerClass && Objects.equals(keyDictionary,
+      ((EPGMElementSerializer<T>) newSerializer).getKeyDictionary())) {
+      return TypeSerializerSchemaCompatibility.compatibleAsIs();
+    }
+    return TypeSerializerSchemaCompatibility.incompatible();
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.CompositeType;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Type information for EPGM element POJOs.
+ * <p>
+ * All fields of an element are exposed as fields of this composite type, which allows to use
+ * them in field expression keys and semantic annotations. The fields are ordered as defined by
+ * the {@link EPGMElementSerializer}, i.e. the {@link GradoopId} fields (e.g. {@code id},
+ * {@code sourceId} and {@code targetId}) come first.
+ * <p>
+ * If a {@link PropertyKeyDictionary} is registered at the {@link ExecutionConfig}, the created
+ * serializers encode the property keys using the dictionary. If lazy deserialization is enabled
+ * by {@link Properties#enableLazyDeserialization(ExecutionConfig)}, the created serializers
+ * decode properties on demand.
+ *
+ * @param <T> element type
+ */
+public class EPGMElementTypeInfo<T extends EPGMElement> extends CompositeType<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Wildcard field expression selecting all fields.
+   */
+  private static final String SELECT_ALL = "*";
+
+  /**
+   * Scala wildcard field expression selecting all fields.
+   */
+  private static final String SELECT_ALL_SCALA = "_";
+
+  /**
+   * Serializer for the element type.
+   */
+  private final EPGMElementSerializer<T> serializer;
+
+  /**
+   * Names of the fields in the order used by the serializer.
+   */
+  private final String[] fieldNames;
+
+  /**
+   * Types of the fields in the order used by the serializer.
+   */
+  private final TypeInformation<?>[] fieldTypes;
+
+  /**
+   * Creates new type information for an EPGM element type.
+   *
+   * @param typeClass element class
+   * @param serializer serializer for the element type
+   * @param fieldNames names of the fields in the order used by the serializer
+   * @param fieldTypes types of the fields in the order used by the serializer
+   */
+  public EPGMElementTypeInfo(Class<T> typeClass, EPGMElementSerializer<T> serializer,
+    String[] fieldNames, TypeInformation<?>[] fieldTypes) {
+    super(typeClass);
+    if (fieldNames.length != serializer.getFieldCount() ||
+      fieldTypes.length != serializer.getFieldCount()) {
+      throw new IllegalArgumentException("Expected " + serializer.getFieldCount() +
+        " fields, got " + fieldNames.length + " names and " + fieldTypes.length + " types");
+    }
+    this.serializer = serializer;
+    this.fieldNames = Arrays.copyOf(fieldNames, fieldNames.length);
+    this.fieldTypes = Arrays.copyOf(fieldTypes, fieldTypes.length);
+  }
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return fieldNames.length;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return fieldNames.length;
+  }
+
+  @Override
+  public TypeSerializer<T> createSerializer(ExecutionConfig config) {
+    PropertyKeyDictionary dictionary = PropertyKeyDictionary.fromConfig(config);
+    boolean lazyProperties = Properties.isLazyDeserializationEnabled(config);
+    if (dictionary == null && !lazyProperties) {
+      return serializer.duplicate();
+    }
+    return serializer.withKeyDictionary(dictionary).withLazyProperties(lazyProperties);
+  }
+
+  @Override
+  public void getFlatFields(String fieldExpression, int offset,
+    List<FlatFieldDescriptor> result) {
+    String expression = fieldExpression.trim();
+    if (expression.equals(SELECT_ALL) || expression.equals(SELECT_ALL_SCALA)) {
+      for (int i = 0; i < fieldTypes.length; i++) {
+        result.add(new FlatFieldDescriptor(offset + i, fieldTypes[i]));
+      }
+    } else {
+      int index = getFieldIndexOrFail(expression);
+      result.add(new FlatFieldDescriptor(offset + index, fieldTypes[index]));
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <X> TypeInformation<X> getTypeAt(String fieldExpression) {
+    return (TypeInformation<X>) fieldTypes[getFieldIndexOrFail(fieldExpression.trim())];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <X> TypeInformation<X> getTypeAt(int pos) {
+    if (pos < 0 || pos >= fieldNames.length) {
+      throw new IndexOutOfBoundsException("No field at position " + pos);
+    }
+    return (TypeInformation<X>) fieldTypes[pos];
+  }
+
+  @Override
+  protected TypeComparatorBuilder<T> createTypeComparatorBuilder() {
+    return new EPGMElementComparatorBuilder();
+  }
+
+  @Override
+  public String[] getFieldNames() {
+    return Arrays.copyOf(fieldNames, fieldNames.length);
+  }
+
+  @Override
+  public int getFieldIndex(String fieldName) {
+    for (int i = 0; i < fieldNames.length; i++) {
+      if (fieldNames[i].equals(fieldName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof EPGMElementTypeInfo)) {
+      return false;
+    }
+    EPGMElementTypeInfo<?> other = (EPGMElementTypeInfo<?>) obj;
+    return other.canEqual(this) && getTypeClass() == other.getTypeClass() &&
+      serializer.equals(other.serializer) && Arrays.equals(fieldNames, other.fieldNames) &&
+      Arrays.equals(fieldTypes, other.fieldTypes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getTypeClass(), serializer, Arrays.hashCode(fieldNames),
+      Arrays.hashCode(fieldTypes));
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof EPGMElementTypeInfo;
+  }
+
+  @Override
+  public String toString() {
+    return getTypeClass().getSimpleName() + "<" + String.join(", ", fieldNames) + ">";
+  }
+
+  /**
+   * Returns the index of the field with the given name.
+   *
+   * @param fieldName field name
+   * @return field index
+   * @throws InvalidFieldReferenceException if there is no field with the given name
+   */
+  private int getFieldIndexOrFail(String fieldName) {
+    int index = getFieldIndex(fieldName);
+    if (index < 0) {
+      throw new InvalidFieldReferenceException("Invalid field expression \"" + fieldName +
+        "\" for " + this + ". Expected one of " + Arrays.toString(fieldNames) + ".");
+    }
+    return index;
+  }
+
+  /**
+   * Collects the key fields and creates an {@link EPGMElementComparator}.
+   */
+  private class EPGMElementComparatorBuilder implements TypeComparatorBuilder<T> {
+
+    /**
+     * Indices of the key fields.
+     */
+    private final List<Integer> keyFields = new ArrayList<>();
+
+    /**
+     * Comparators of the key fields.
+     */
+    private final List<TypeComparator<?>> fieldComparators = new ArrayList<>();
+
+    @Override
+    public void initializeTypeComparatorBuilder(int size) {
+      keyFields.clear();
+      fieldComparators.clear();
+    }
+
+    @Override
+    public void addComparatorField(int fieldId, TypeComparator<?> comparator) {
+      keyFields.add(fieldId);
+      fieldComparators.add(comparator);
+    }
+
+    @Override
+    public TypeComparator<T> createTypeComparator(ExecutionConfig config) {
+      return new EPGMElementComparator<>((EPGMElementSerializer<T>) createSerializer(config),
+        keyFields.stream().mapToInt(Integer::intValue).toArray(),
+        fieldComparators.toArray(new TypeComparator[0]));
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.functions.InvalidTypesException;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.PojoField;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractionUtils;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.pojo.EPGMGraphElement;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the type information of the EPGM element POJOs. Registered on the POJO classes using
+ * the {@link org.apache.flink.api.common.typeinfo.TypeInfo} annotation.
+ * <p>
+ * Subclasses of the POJOs may declare additional fields which are unknown to the
+ * {@link EPGMElementSerializer}. As the annotation is inherited by them, the factory analyses
+ * subclasses the way Flink analyses POJOs and only falls back to a generic type if a subclass
+ * does not fulfill the POJO rules.
+ *
+ * @param <T> element type
+ */
+public class EPGMElementTypeInfoFactory<T extends EPGMElement> extends TypeInfoFactory<T> {
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public TypeInformation<T> createTypeInfo(Type type,
+    Map<String, TypeInformation<?>> genericParameters) {
+    Class<?> typeClass = TypeExtractionUtils.typeToClass(type);
+    TypeInformation<?> typeInfo;
+    if (typeClass == EPGMVertex.class) {
+      typeInfo = create(EPGMVertex.class, new EPGMVertexSerializer(), "id");
+    } else if (typeClass == EPGMEdge.class) {
+      typeInfo = create(EPGMEdge.class, new EPGMEdgeSerializer(), "id", "sourceId", "targetId");
+    } else if (typeClass == EPGMGraphHead.class) {
+      typeInfo = create(EPGMGraphHead.class, new EPGMGraphHeadSerializer(), "id");
+    } else {
+      typeInfo = createPojoTypeInfo(typeClass);
+    }
+    return (TypeInformation<T>) typeInfo;
+  }
+
+  /**
+   * Analyses a subclass of an element POJO. The annotation on the super class prevents the
+   * {@link TypeExtractor} from doing this, as it would call this factory again.
+   *
+   * @param typeClass element subclass
+   * @param <E> element type
+   * @return POJO type information or generic type information if the class is no valid POJO
+   */
+  private static <E> TypeInformation<E> createPojoTypeInfo(Class<E> typeClass) {
+    if (!Modifier.isPublic(typeClass.getModifiers()) ||
+      Modifier.isAbstract(typeClass.getModifiers()) || !hasDefaultConstructor(typeClass)) {
+      return new GenericTypeInfo<>(typeClass);
+    }
+    List<PojoField> fields = new ArrayList<>();
+    for (Field field : TypeExtractor.getAllDeclaredFields(typeClass, false)) {
+      if (!Modifier.isPublic(field.getModifiers()) && !hasAccessors(typeClass, field)) {
+        return new GenericTypeInfo<>(typeClass);
+      }
+      try {
+        fields.add(new PojoField(field, TypeExtractor.createTypeInfo(field.getGenericType())));
+      } catch (InvalidTypesException e) {
+        return new GenericTypeInfo<>(typeClass);
+      }
+    }
+    return new PojoTypeInfo<>(typeClass, fields);
+  }
+
+  /**
+   * Checks if the class has a public constructor without parameters.
+   *
+   * @param typeClass class to check
+   * @return true, if the class can be instantiated by the POJO serializer
+   */
+  private static boolean hasDefaultConstructor(Class<?> typeClass) {
+    try {
+      return Modifier.isPublic(typeClass.getConstructor().getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Checks if a non-public field has a getter and a setter following the POJO naming rules.
+   *
+   * @param typeClass class declaring or inheriting the field
+   * @param field field to check
+   * @return true, if the field is accessible by the POJO serializer
+   */
+  private static boolean hasAccessors(Class<?> typeClass, Field field) {
+    String name = field.getName().toLowerCase();
+    boolean hasGetter = false;
+    boolean hasSetter = false;
+    for (Method method : typeClass.getMethods()) {
+      String methodName = method.getName().toLowerCase();
+      if ((methodName.equals("get" + name) || methodName.equals("is" + name)) &&
+        method.getParameterCount() == 0 &&
+        method.getGenericReturnType().equals(field.getGenericType())) {
+        hasGetter = true;
+      } else if (methodName.equals("set" + name) && method.getParameterCount() == 1 &&
+        method.getGenericParameterTypes()[0].equals(field.getGenericType()) &&
+        method.getReturnType() == void.class) {
+        hasSetter = true;
+      }
+    }
+    return hasGetter && hasSetter;
+  }
+
+  /**
+   * Creates the type information of an element type. The given id fields are followed by the
+   * label, the properties and, for graph elements, the graph ids.
+   *
+   * @param typeClass element class
+   * @param serializer serializer of the element type
+   * @param idFieldNames names of the id fields in the order used by the serializer
+   * @param <E> element type
+   * @return type information of the element type
+   */
+  private static <E extends EPGMElement> EPGMElementTypeInfo<E> create(Class<E> typeClass,
+    EPGMElementSerializer<E> serializer, String... idFieldNames) {
+    List<String> names = new ArrayList<>(Arrays.asList(idFieldNames));
+    List<TypeInformation<?>> types = new ArrayList<>();
+    for (int i = 0; i < idFieldNames.length; i++) {
+      types.add(new ValueTypeInfo<>(GradoopId.class));
+    }
+    names.add("label");
+    types.add(BasicTypeInfo.STRING_TYPE_INFO);
+    names.add("properties");
+    types.add(new ValueTypeInfo<>(Properties.class));
+    if (EPGMGraphElement.class.isAssignableFrom(typeClass)) {
+      names.add("graphIds");
+      types.add(new ValueTypeInfo<>(GradoopIdSet.class));
+    }
+    return new EPGMElementTypeInfo<>(typeClass, serializer, names.toArray(new String[0]),
+      types.toArray(new TypeInformation<?>[0]));
+  }
+}
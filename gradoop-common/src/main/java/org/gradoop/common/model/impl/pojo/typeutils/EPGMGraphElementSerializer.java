@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMGraphElement;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+import java.io.IOException;
+
+/**
+ * Base class of the serializers for EPGM graph element POJOs. Additionally writes the graph ids
+ * of the element.
+ *
+ * @param <T> graph element type
+ */
+public abstract class EPGMGraphElementSerializer<T extends EPGMGraphElement>
+  extends EPGMElementSerializer<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param keyDictionary dictionary used to encode the property keys, may be {@code null}
+   */
+  protected EPGMGraphElementSerializer(PropertyKeyDictionary keyDictionary) {
+    super(keyDictionary);
+  }
+
+  @Override
+  protected int getAdditionalFieldCount() {
+    return 1;
+  }
+
+  @Override
+  protected Object getAdditionalField(T element, int index) {
+    if (index != 0) {
+      throw new IndexOutOfBoundsException("No additional field with index " + index);
+    }
+    return element.getGraphIds();
+  }
+
+  @Override
+  protected byte getAdditionalFieldFlags(T element) {
+    return element.getGraphIds() == null ? FLAG_NULL_GRAPH_IDS : 0;
+  }
+
+  @Override
+  protected void serializeAdditionalFields(T element, DataOutputView target) throws IOException {
+    GradoopIdSet graphIds = element.getGraphIds();
+    if (graphIds != null) {
+      graphIds.write(target);
+    }
+  }
+
+  @Override
+  protected void deserializeAdditionalFields(T element, byte flags, DataInputView source)
+    throws IOException {
+    if ((flags & FLAG_NULL_GRAPH_IDS) != 0) {
+      element.setGraphIds(null);
+    } else {
+      GradoopIdSet graphIds = element.getGraphIds();
+      if (graphIds == null) {
+        graphIds = new GradoopIdSet();
+        element.setGraphIds(graphIds);
+      }
+      graphIds.read(source);
+    }
+  }
+
+  @Override
+  protected void copySerializedAdditionalFields(byte flags, DataInputView source,
+    DataOutputView target) throws IOException {
+    if ((flags & FLAG_NULL_GRAPH_IDS) == 0) {
+      GradoopIdSet.copySerialized(source, target);
+    }
+  }
+
+  @Override
+  protected void copyAdditionalFields(T from, T to) {
+    GradoopIdSet graphIds = from.getGraphIds();
+    to.setGraphIds(graphIds == null ? null : GradoopIdSet.fromExisting(graphIds));
+  }
+}
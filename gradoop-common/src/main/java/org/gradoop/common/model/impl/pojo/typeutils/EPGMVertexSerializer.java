@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+
+/**
+ * Serializer for {@link EPGMVertex} POJOs. The only id field is the vertex id.
+ */
+public class EPGMVertexSerializer extends EPGMGraphElementSerializer<EPGMVertex> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new serializer writing the property keys as strings.
+   */
+  public EPGMVertexSerializer() {
+    this(null);
+  }
+
+  /**
+   * Creates a new serializer.
+   *
+   * @param keyDictionary dictionary used to encode the property keys, may be {@code null}
+   */
+  public EPGMVertexSerializer(PropertyKeyDictionary keyDictionary) {
+    super(keyDictionary);
+  }
+
+  @Override
+  protected EPGMVertexSerializer createSerializer(PropertyKeyDictionary dictionary) {
+    return new EPGMVertexSerializer(dictionary);
+  }
+
+  @Override
+  public int getIdFieldCount() {
+    return 1;
+  }
+
+  @Override
+  public GradoopId getIdField(EPGMVertex element, int index) {
+    return element.getId();
+  }
+
+  @Override
+  protected void setIdField(EPGMVertex element, int index, GradoopId id) {
+    element.setId(id);
+  }
+
+  @Override
+  public EPGMVertex createInstance() {
+    return new EPGMVertex();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.apache.flink.configuration.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores settings of the property serialization as global job parameters of an
+ * {@link ExecutionConfig}, where they are accessible when serializers are created.
+ */
+final class JobParameters {
+
+  /**
+   * No instances.
+   */
+  private JobParameters() {
+  }
+
+  /**
+   * Sets a global job parameter of the given configuration.
+   *
+   * @param config execution config of the job
+   * @param key parameter name
+   * @param value parameter value
+   * @throws IllegalStateException if the configuration holds unsupported global job parameters
+   */
+  static void set(ExecutionConfig config, String key, String value) {
+    ExecutionConfig.GlobalJobParameters parameters = config.getGlobalJobParameters();
+    if (parameters instanceof Configuration) {
+      ((Configuration) parameters).setString(key, value);
+    } else if (parameters == null || parameters instanceof ParameterTool ||
+      parameters.getClass() == ExecutionConfig.GlobalJobParameters.class) {
+      Map<String, String> map = parameters == null ? new HashMap<>() :
+        new HashMap<>(parameters.toMap());
+      map.put(key, value);
+      config.setGlobalJobParameters(ParameterTool.fromMap(map));
+    } else {
+      throw new IllegalStateException("Can not set " + key + " at global job parameters of type " +
+        parameters.getClass().getName());
+    }
+  }
+
+  /**
+   * Returns a global job parameter of the given configuration.
+   *
+   * @param config execution config of the job, may be {@code null}
+   * @param key parameter name
+   * @return parameter value or {@code null} if the parameter is not set
+   */
+  static String get(ExecutionConfig config, String key) {
+    if (config == null) {
+      return null;
+    }
+    ExecutionConfig.GlobalJobParameters parameters = config.getGlobalJobParameters();
+    return parameters == null ? null : parameters.toMap().get(key);
+  }
+}
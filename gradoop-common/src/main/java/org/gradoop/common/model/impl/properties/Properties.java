@@ -15,7 +15,10 @@
  */
 package org.gradoop.common.model.impl.properties;
 
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.core.memory.DataInputDeserializer;
 import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
 import org.gradoop.common.model.impl.pojo.EPGMElement;
@@ -31,19 +34,66 @@ import java.util.stream.Collectors;
 
 /**
  * Represents the properties of an {@link EPGMElement}.
+ * <p>
+ * Properties read by {@link #readLazily(DataInputView, PropertyKeyDictionary)} keep their
+ * serialized form and decode single values on {@link #get(String)}. As in eager mode, the returned
+ * values are the ones held by the properties and may be modified by the caller, so values returned
+ * by {@link #get(String)} are written back into the serialized form when the properties are
+ * written. Iterating, comparing and removing decode the remaining values. As long as the
+ * properties were not modified by {@link #set(String, PropertyValue)}, {@link #remove(String)} or
+ * {@link #clear()}, the values that were never returned are written by copying their serialized
+ * form.
  */
 public class Properties implements Iterable<Property>, Value, Serializable {
 
+  /**
+   * Name of the global job parameter enabling the lazy deserialization of properties.
+   */
+  public static final String LAZY_DESERIALIZATION_KEY = "gradoop.properties.lazy";
+
   /**
    * Default capacity for new property lists.
    */
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Initial size of the buffer used to store serialized properties.
+   */
+  private static final int SERIALIZED_BUFFER_SIZE = 64;
+
+  /**
+   * Internal representation, contains the values decoded or set so far if {@link #serialized} is
+   * set. Decoded values take precedence over their serialized form.
    */
   private Map<String, PropertyValue> properties;
 
+  /**
+   * Serialized properties that are not decoded yet, {@code null} if all properties are decoded.
+   */
+  private byte[] serialized;
+
+  /**
+   * Number of bytes of the serialized properties.
+   */
+  private int serializedLength;
+
+  /**
+   * Number of serialized properties.
+   */
+  private int serializedCount;
+
+  /**
+   * Dictionary used to encode the keys of the serialized properties, {@code null} if the keys
+   * are written as strings.
+   */
+  private PropertyKeyDictionary serializedDictionary;
+
+  /**
+   * True, if properties were set or removed since they were read lazily, i.e. the serialized form
+   * is outdated.
+   */
+  private boolean dirty;
+
   /**
    * Default constructor
    */
@@ -103,12 +153,35 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     return properties;
   }
 
+  /**
+   * Enables the lazy deserialization of properties for all EPGM elements serialized by jobs
+   * using the given configuration.
+   *
+   * @param config execution config of the job
+   * @throws IllegalStateException if the configuration holds unsupported global job parameters
+   */
+  public static void enableLazyDeserialization(ExecutionConfig config) {
+    JobParameters.set(config, LAZY_DESERIALIZATION_KEY, Boolean.TRUE.toString());
+  }
+
+  /**
+   * Checks if the lazy deserialization of properties is enabled for the given configuration.
+   *
+   * @param config execution config of the job, may be {@code null}
+   * @return true, if properties should be read by
+   * {@link #readLazily(DataInputView, PropertyKeyDictionary)}
+   */
+  public static boolean isLazyDeserializationEnabled(ExecutionConfig config) {
+    return Boolean.parseBoolean(JobParameters.get(config, LAZY_DESERIALIZATION_KEY));
+  }
+
   /**
    * Returns property keys in insertion order.
    *
    * @return property keys
    */
   public Iterable<String> getKeys() {
+    decodeAll();
     return properties.keySet();
   }
 
@@ -119,19 +192,34 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return true, if there is a property with the given key
    */
   public boolean containsKey(String key) {
-    return get(key) != null;
+    Objects.requireNonNull(key);
+    if (properties.containsKey(key)) {
+      return true;
+    }
+    if (serialized == null) {
+      return false;
+    }
+    try {
+      return seekSerialized(key) != null;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while deserializing properties.", e);
+    }
   }
 
   /**
    * Returns the value to the given key of {@code null} if the value does not
-   * exist.
+   * exist. Modifying the returned value modifies the properties.
    *
    * @param key property key
    * @return property value or {@code null} if key does not exist
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    PropertyValue value = properties.get(key);
+    if (value == null && serialized != null) {
+      value = decode(key);
+    }
+    return value;
   }
 
   /**
@@ -154,6 +242,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
+    dirty = true;
     properties.put(key, value);
   }
 
@@ -185,6 +274,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
+    dirty = true;
+    decodeAll();
     return properties.remove(key);
   }
 
@@ -204,6 +295,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
+    this.dirty = true;
+    this.serialized = null;
     this.properties.clear();
   }
 
@@ -213,7 +306,11 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    // set values may add keys to the serialized properties
+    if (dirty) {
+      decodeAll();
+    }
+    return serialized != null ? serializedCount : properties.size();
   }
 
   /**
@@ -243,6 +340,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     }
 
     Properties that = (Properties) o;
+    this.decodeAll();
+    that.decodeAll();
 
     return Objects.equals(properties, that.properties);
   }
@@ -255,6 +354,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   @Override
   public int hashCode() {
+    decodeAll();
     return properties != null ? properties.hashCode() : 0;
   }
 
@@ -269,13 +369,41 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return List of properties
    */
   public List<Property> toList() {
+    decodeAll();
     return  properties.entrySet().stream()
             .map(e -> Property.create(e.getKey(), e.getValue()))
             .collect(Collectors.toList());
   }
 
+  /**
+   * Creates a deep copy of the properties. Properties that were not modified since they were read
+   * lazily share the serialized form with the copy, only the values decoded so far are copied.
+   *
+   * @return copy
+   */
+  public Properties copy() {
+    Properties copy;
+    if (serialized != null && !dirty) {
+      copy = new Properties(properties.size());
+      copy.serialized = serialized;
+      copy.serializedLength = serializedLength;
+      copy.serializedCount = serializedCount;
+      copy.serializedDictionary = serializedDictionary;
+    } else {
+      decodeAll();
+      copy = new Properties(properties.size());
+    }
+    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+      copy.properties.put(entry.getKey(), entry.getValue().copy());
+    }
+    return copy;
+  }
+
   @Override
   public void write(DataOutputView outputView) throws IOException {
+    if (writeSerialized(outputView, null)) {
+      return;
+    }
     outputView.writeInt(properties.size());
 
     for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
@@ -286,6 +414,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
   @Override
   public void read(DataInputView inputView) throws IOException {
+    serialized = null;
+    dirty = false;
     int propertyCount = inputView.readInt();
     this.properties = new HashMap<>(propertyCount);
 
@@ -300,6 +430,242 @@ public class Properties implements Iterable<Property>, Value, Serializable {
     }
   }
 
+  /**
+   * Writes the properties encoding the keys with the given dictionary. Compared to
+   * {@link #write(DataOutputView)}, the number of properties and the ids of the keys are written
+   * with a variable length encoding.
+   *
+   * @param outputView output view
+   * @param dictionary property key dictionary or {@code null} to write the keys as strings
+   * @throws IOException on failure
+   */
+  public void write(DataOutputView outputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    if (dictionary == null) {
+      write(outputView);
+      return;
+    }
+    if (writeSerialized(outputView, dictionary)) {
+      return;
+    }
+    PropertyKeyDictionary.writeVarInt(properties.size(), outputView);
+
+    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
+      dictionary.writeKey(entry.getKey(), outputView);
+      entry.getValue().write(outputView);
+    }
+  }
+
+  /**
+   * Reads properties written by {@link #write(DataOutputView, PropertyKeyDictionary)}.
+   *
+   * @param inputView input view
+   * @param dictionary property key dictionary or {@code null} if the keys were written as strings
+   * @throws IOException on failure
+   */
+  public void read(DataInputView inputView, PropertyKeyDictionary dictionary) throws IOException {
+    if (dictionary == null) {
+      read(inputView);
+      return;
+    }
+    serialized = null;
+    dirty = false;
+    int propertyCount = PropertyKeyDictionary.readVarInt(inputView);
+    this.properties = new HashMap<>(propertyCount);
+
+    String key;
+    PropertyValue value;
+
+    for (int i = 0; i < propertyCount; i++) {
+      key = dictionary.readKey(inputView);
+      value = new PropertyValue();
+      value.read(inputView);
+      properties.put(key, value);
+    }
+  }
+
+  /**
+   * Reads properties written by {@link #write(DataOutputView, PropertyKeyDictionary)} without
+   * decoding them. The serialized form is kept and single values are decoded when they are
+   * accessed.
+   *
+   * @param inputView input view
+   * @param dictionary property key dictionary or {@code null} if the keys were written as strings
+   * @throws IOException on failure
+   */
+  public void readLazily(DataInputView inputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    DataOutputSerializer buffer = new DataOutputSerializer(SERIALIZED_BUFFER_SIZE);
+    int propertyCount = copySerialized(inputView, buffer, dictionary);
+
+    this.properties = new HashMap<>();
+    this.serialized = buffer.getSharedBuffer();
+    this.serializedLength = buffer.length();
+    this.serializedCount = propertyCount;
+    this.serializedDictionary = dictionary;
+    this.dirty = false;
+  }
+
+  /**
+   * Copies properties written by {@link #write(DataOutputView, PropertyKeyDictionary)} from the
+   * input view to the output view without decoding them.
+   *
+   * @param inputView input view
+   * @param outputView output view
+   * @param dictionary property key dictionary or {@code null} if the keys were written as strings
+   * @return number of copied properties
+   * @throws IOException on failure
+   */
+  public static int copySerialized(DataInputView inputView, DataOutputView outputView,
+    PropertyKeyDictionary dictionary) throws IOException {
+    int propertyCount;
+    if (dictionary == null) {
+      propertyCount = inputView.readInt();
+      outputView.writeInt(propertyCount);
+    } else {
+      propertyCount = PropertyKeyDictionary.readVarInt(inputView);
+      PropertyKeyDictionary.writeVarInt(propertyCount, outputView);
+    }
+
+    for (int i = 0; i < propertyCount; i++) {
+      if (dictionary == null) {
+        PropertyKeyDictionary.copyUTF(inputView, outputView);
+      } else {
+        PropertyKeyDictionary.copyKey(inputView, outputView);
+      }
+      PropertyValue.copySerialized(inputView, outputView);
+    }
+    return propertyCount;
+  }
+
+  /**
+   * Writes the serialized form of properties that are not decoded completely. Values that were
+   * decoded may have been modified by the caller of {@link #get(String)} and are written from
+   * the decoded value, all other values are copied.
+   *
+   * @param outputView output view
+   * @param dictionary property key dictionary used to write the properties
+   * @return true, if the serialized form was written, false if the properties have to be
+   * written from the decoded values
+   * @throws IOException on failure
+   */
+  private boolean writeSerialized(DataOutputView outputView, PropertyKeyDictionary dictionary)
+    throws IOException {
+    if (serialized == null) {
+      return false;
+    }
+    if (dirty || !Objects.equals(dictionary, serializedDictionary)) {
+      decodeAll();
+      return false;
+    }
+    if (properties.isEmpty()) {
+      outputView.write(serialized, 0, serializedLength);
+      return true;
+    }
+    DataInputDeserializer input = new DataInputDeserializer(serialized, 0, serializedLength);
+    if (dictionary == null) {
+      outputView.writeInt(input.readInt());
+    } else {
+      PropertyKeyDictionary.writeVarInt(PropertyKeyDictionary.readVarInt(input), outputView);
+    }
+    for (int i = 0; i < serializedCount; i++) {
+      String key;
+      if (dictionary == null) {
+        key = input.readUTF();
+        outputView.writeUTF(key);
+      } else {
+        key = dictionary.readKey(input);
+        dictionary.writeKey(key, outputView);
+      }
+      PropertyValue value = properties.get(key);
+      if (value == null) {
+        PropertyValue.copySerialized(input, outputView);
+      } else {
+        PropertyValue.copySerialized(input, null);
+        value.write(outputView);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decodes the value of a single key from the serialized properties.
+   *
+   * @param key property key
+   * @return property value or {@code null} if key does not exist
+   */
+  private PropertyValue decode(String key) {
+    try {
+      DataInputDeserializer input = seekSerialized(key);
+      if (input == null) {
+        return null;
+      }
+      PropertyValue value = new PropertyValue();
+      value.read(input);
+      properties.put(key, value);
+      return value;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while deserializing properties.", e);
+    }
+  }
+
+  /**
+   * Searches the serialized properties for the given key without decoding any values.
+   *
+   * @param key property key
+   * @return input positioned at the serialized value of the key or {@code null} if the key does
+   * not exist
+   * @throws IOException on failure
+   */
+  private DataInputDeserializer seekSerialized(String key) throws IOException {
+    DataInputDeserializer input = new DataInputDeserializer(serialized, 0, serializedLength);
+    int keyId = -1;
+    if (serializedDictionary == null) {
+      input.readInt();
+    } else {
+      PropertyKeyDictionary.readVarInt(input);
+      keyId = serializedDictionary.getId(key);
+    }
+    for (int i = 0; i < serializedCount; i++) {
+      boolean found = serializedDictionary == null ? key.equals(input.readUTF()) :
+        serializedDictionary.readKeyEquals(input, key, keyId);
+      if (found) {
+        return input;
+      }
+      PropertyValue.copySerialized(input, null);
+    }
+    return null;
+  }
+
+  /**
+   * Decodes all serialized properties. Values that were already decoded or set are kept.
+   */
+  private void decodeAll() {
+    if (serialized == null) {
+      return;
+    }
+    try {
+      DataInputDeserializer input = new DataInputDeserializer(serialized, 0, serializedLength);
+      int propertyCount = serializedDictionary == null ? input.readInt() :
+        PropertyKeyDictionary.readVarInt(input);
+      for (int i = 0; i < propertyCount; i++) {
+        String key = serializedDictionary == null ? input.readUTF() :
+          serializedDictionary.readKey(input);
+        if (properties.containsKey(key)) {
+          PropertyValue.copySerialized(input, null);
+        } else {
+          PropertyValue value = new PropertyValue();
+          value.read(input);
+          properties.put(key, value);
+        }
+      }
+      serialized = null;
+      serializedDictionary = null;
+    } catch (IOException e) {
+      throw new RuntimeException("Error while deserializing properties.", e);
+    }
+  }
+
   @Override
   public String toString() {
     return toList().stream()
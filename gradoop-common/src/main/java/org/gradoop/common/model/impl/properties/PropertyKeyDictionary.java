@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A fixed dictionary of property keys. Keys contained in the dictionary are serialized as
+ * variable-length encoded ids instead of strings, see
+ * {@link Properties#write(DataOutputView, PropertyKeyDictionary)}. Keys not contained in the
+ * dictionary are written inline.
+ * <p>
+ * The dictionary has to be known before a job is executed, since all serializers of a job must
+ * use the same ids. It can be registered at the {@link ExecutionConfig} of a job using
+ * {@link #register(ExecutionConfig)}, e.g. with the property keys of the
+ * {@link org.gradoop.common.model.impl.metadata.MetaData} of the input graph.
+ */
+public class PropertyKeyDictionary implements Serializable {
+
+  /**
+   * Name of the global job parameter storing the encoded dictionary.
+   */
+  public static final String CONFIG_KEY = "gradoop.properties.key-dictionary";
+
+  /**
+   * Id written for keys that are not contained in the dictionary.
+   */
+  private static final int INLINE_KEY = 0;
+
+  /**
+   * Separates the length of a key and the key in the encoded dictionary.
+   */
+  private static final char LENGTH_DELIMITER = ':';
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Keys of the dictionary, the position of a key is its id.
+   */
+  private final String[] keys;
+
+  /**
+   * Mapping from key to id.
+   */
+  private final Map<String, Integer> ids;
+
+  /**
+   * Creates a new dictionary. The ids of the keys are assigned in iteration order, duplicate
+   * keys are ignored.
+   *
+   * @param keys property keys
+   */
+  public PropertyKeyDictionary(Collection<String> keys) {
+    this.keys = new LinkedHashSet<>(keys).toArray(new String[0]);
+    this.ids = new HashMap<>(this.keys.length);
+    for (int i = 0; i < this.keys.length; i++) {
+      ids.put(this.keys[i], i);
+    }
+  }
+
+  /**
+   * Returns the number of keys in the dictionary.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns the keys of the dictionary ordered by their id.
+   *
+   * @return property keys
+   */
+  public List<String> getKeys() {
+    return Arrays.asList(Arrays.copyOf(keys, keys.length));
+  }
+
+  /**
+   * Writes a property key using its id if the key is contained in the dictionary.
+   *
+   * @param key property key
+   * @param outputView output view
+   * @throws IOException on failure
+   */
+  void writeKey(String key, DataOutputView outputView) throws IOException {
+    Integer id = ids.get(key);
+    if (id == null) {
+      writeVarInt(INLINE_KEY, outputView);
+      outputView.writeUTF(key);
+    } else {
+      writeVarInt(id + 1, outputView);
+    }
+  }
+
+  /**
+   * Reads a property key written by {@link #writeKey(String, DataOutputView)}.
+   *
+   * @param inputView input view
+   * @return property key
+   * @throws IOException on failure
+   */
+  String readKey(DataInputView inputView) throws IOException {
+    int id = readVarInt(inputView);
+    if (id == INLINE_KEY) {
+      return inputView.readUTF();
+    }
+    if (id > keys.length) {
+      throw new IOException("Unknown property key id " + (id - 1));
+    }
+    return keys[id - 1];
+  }
+
+  /**
+   * Returns the id of a property key.
+   *
+   * @param key property key
+   * @return id of the key or {@code -1} if the key is not contained in the dictionary
+   */
+  int getId(String key) {
+    Integer id = ids.get(key);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * Reads a property key written by {@link #writeKey(String, DataOutputView)} and checks if it
+   * is equal to the given key. Keys written as id are compared without being decoded.
+   *
+   * @param inputView input view
+   * @param key property key to compare with
+   * @param id id of the key to compare with, see {@link #getId(String)}
+   * @return true, if the read key is equal to the given key
+   * @throws IOException on failure
+   */
+  boolean readKeyEquals(DataInputView inputView, String key, int id) throws IOException {
+    int readId = readVarInt(inputView);
+    return readId == INLINE_KEY ? key.equals(inputView.readUTF()) : readId == id + 1;
+  }
+
+  /**
+   * Copies a property key written by {@link #writeKey(String, DataOutputView)} from the input
+   * view to the output view.
+   *
+   * @param inputView input view
+   * @param outputView output view
+   * @throws IOException on failure
+   */
+  static void copyKey(DataInputView inputView, DataOutputView outputView) throws IOException {
+    int id = readVarInt(inputView);
+    writeVarInt(id, outputView);
+    if (id == INLINE_KEY) {
+      copyUTF(inputView, outputView);
+    }
+  }
+
+  /**
+   * Copies a string written by {@link DataOutputView#writeUTF(String)} from the input view to the
+   * output view.
+   *
+   * @param inputView input view
+   * @param outputView output view
+   * @throws IOException on failure
+   */
+  static void copyUTF(DataInputView inputView, DataOutputView outputView) throws IOException {
+    int length = inputView.readUnsignedShort();
+    byte[] data = new byte[length];
+    inputView.readFully(data);
+    outputView.writeShort(length);
+    outputView.write(data);
+  }
+
+  /**
+   * Registers the dictionary as global job parameter of the given configuration. EPGM elements
+   * serialized by jobs using this configuration will encode their property keys using this
+   * dictionary.
+   *
+   * @param config execution config of the job
+   * @throws IllegalStateException if the configuration holds unsupported global job parameters
+   */
+  public void register(ExecutionConfig config) {
+    JobParameters.set(config, CONFIG_KEY, encode());
+  }
+
+  /**
+   * Returns the dictionary registered at the given configuration.
+   *
+   * @param config execution config of the job, may be {@code null}
+   * @return registered dictionary or {@code null} if there is none
+   */
+  public static PropertyKeyDictionary fromConfig(ExecutionConfig config) {
+    String encoded = JobParameters.get(config, CONFIG_KEY);
+    return encoded == null ? null : decode(encoded);
+  }
+
+  /**
+   * Writes the dictionary to the given output view.
+   *
+   * @param outputView output view
+   * @throws IOException on failure
+   */
+  public void write(DataOutputView outputView) throws IOException {
+    outputView.writeInt(keys.length);
+    for (String key : keys) {
+      outputView.writeUTF(key);
+    }
+  }
+
+  /**
+   * Reads a dictionary written by {@link #write(DataOutputView)}.
+   *
+   * @param inputView input view
+   * @return dictionary
+   * @throws IOException on failure
+   */
+  public static PropertyKeyDictionary read(DataInputView inputView) throws IOException {
+    int size = inputView.readInt();
+    List<String> keys = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      keys.add(inputView.readUTF());
+    }
+    return new PropertyKeyDictionary(keys);
+  }
+
+  /**
+   * Encodes the dictionary as a string of length-prefixed keys, e.g. {@code 4:name3:age}.
+   *
+   * @return encoded dictionary
+   */
+  private String encode() {
+    StringBuilder builder = new StringBuilder();
+    for (String key : keys) {
+      builder.append(key.length()).append(LENGTH_DELIMITER).append(key);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Decodes a dictionary encoded by {@link #encode()}.
+   *
+   * @param encoded encoded dictionary
+   * @return dictionary
+   */
+  private static PropertyKeyDictionary decode(String encoded) {
+    List<String> keys = new ArrayList<>();
+    int position = 0;
+    while (position < encoded.length()) {
+      int delimiter = encoded.indexOf(LENGTH_DELIMITER, position);
+      if (delimiter < 0) {
+        throw new IllegalArgumentException("Invalid property key dictionary: " + encoded);
+      }
+      int length = Integer.parseInt(encoded.substring(position, delimiter));
+      position = delimiter + 1 + length;
+      keys.add(encoded.substring(delimiter + 1, position));
+    }
+    return new PropertyKeyDictionary(keys);
+  }
+
+  /**
+   * Writes a non-negative int using 7 bits per byte. The highest bit of a byte marks that
+   * another byte follows.
+   *
+   * @param value non-negative value
+   * @param outputView output view
+   * @throws IOException on failure
+   */
+  static void writeVarInt(int value, DataOutputView outputView) throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      outputView.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    outputView.writeByte(remaining);
+  }
+
+  /**
+   * Reads an int written by {@link #writeVarInt(int, DataOutputView)}.
+   *
+   * @param inputView input view
+   * @return value
+   * @throws IOException on failure
+   */
+  static int readVarInt(DataInputView inputView) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = inputView.readByte();
+      value |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof PropertyKeyDictionary &&
+      Arrays.equals(keys, ((PropertyKeyDictionary) o).keys);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keys);
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyKeyDictionary" + Arrays.toString(keys);
+  }
+}
@@ -17,10 +17,13 @@ package org.gradoop.common.model.impl.properties;
 
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
-import org.apache.flink.types.Value;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.NormalizableKey;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.api.strategies.PropertyValueStrategy;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.bytes.Bytes;
+import org.gradoop.common.model.impl.properties.strategies.AbstractVariableSizedPropertyValueStrategy;
 import org.gradoop.common.model.impl.properties.strategies.PropertyValueStrategyFactory;
 import org.gradoop.common.util.GradoopConstants;
 import java.io.IOException;
@@ -30,6 +33,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,9 +42,15 @@ import java.util.Set;
 /**
  * Represents a single property value in the EPGM.
  *
- * A property value wraps a value that implements a supported data type.
+ * A property value wraps a value that implements a supported data type. Values of the fixed-size
+ * types {@code boolean}, {@code short}, {@code int}, {@code long}, {@code float}, {@code double},
+ * {@link LocalDate}, {@link LocalTime} and {@link LocalDateTime} are stored as primitives, i.e.
+ * they are neither boxed nor allocated unless they are accessed as objects.
+ *
+ * Property values are normalizable keys, i.e. Flink sorts them by an order-preserving binary
+ * prefix in its managed memory and only deserializes values with equal prefixes for comparison.
  */
-public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
+public class PropertyValue implements NormalizableKey<PropertyValue>, Serializable {
 
   /**
    * Represents a property value that is {@code null}.
@@ -74,10 +84,101 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   private static final long serialVersionUID = 1L;
 
   /**
-   * Stores the object representation of the value
+   * First byte of the normalized key of {@code null} values.
+   */
+  private static final byte KEY_NULL = 0;
+
+  /**
+   * First byte of the normalized key of booleans.
+   */
+  private static final byte KEY_BOOLEAN = 1;
+
+  /**
+   * First byte of the normalized key of numbers. All numerical types share the same key prefix,
+   * since they are compared by their numerical value.
+   */
+  private static final byte KEY_NUMBER = 2;
+
+  /**
+   * First byte of the normalized key of strings.
+   */
+  private static final byte KEY_STRING = 3;
+
+  /**
+   * First byte of the normalized key of dates.
+   */
+  private static final byte KEY_DATE = 4;
+
+  /**
+   * First byte of the normalized key of times.
+   */
+  private static final byte KEY_TIME = 5;
+
+  /**
+   * First byte of the normalized key of date times.
+   */
+  private static final byte KEY_DATE_TIME = 6;
+
+  /**
+   * First byte of the normalized key of {@link GradoopId}s.
+   */
+  private static final byte KEY_GRADOOP_ID = 7;
+
+  /**
+   * First byte of the normalized key of values that are not comparable, i.e. {@link List},
+   * {@link Map} and {@link Set}.
+   */
+  private static final byte KEY_OTHER = 8;
+
+  /**
+   * Smallest epoch day, subtracted from epoch days to get non-negative values.
+   */
+  private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+
+  /**
+   * Number of bytes of the normalized key of an epoch day, see {@link #MIN_EPOCH_DAY}.
+   */
+  private static final int EPOCH_DAY_KEY_SIZE = 5;
+
+  /**
+   * Number of bytes of the normalized key of a nano of day.
+   */
+  private static final int NANO_OF_DAY_KEY_SIZE = 6;
+
+  /**
+   * Stores the object representation of the value, {@code null} if the value is {@code null} or
+   * stored as primitive.
    */
   private Object value;
 
+  /**
+   * Type of the value stored as primitive, {@code null} if the value is not stored as primitive.
+   */
+  private Type primitiveType;
+
+  /**
+   * Primitive representation of the value. Stores the value itself for integral types,
+   * {@code 1} or {@code 0} for booleans, the bits of floating point values, the epoch day of
+   * dates and date times and the nano of day of times.
+   */
+  private long primitive;
+
+  /**
+   * Nano of day of a date time stored as primitive.
+   */
+  private long primitiveNanoOfDay;
+
+  /**
+   * Cached byte representation of the value. It is computed lazily and reset whenever the value
+   * changes. Mutable values (i.e. {@link List}, {@link Map} and {@link Set}) are never cached.
+   */
+  private transient byte[] rawBytes;
+
+  /**
+   * Cached hash code of the value, {@code 0} if not computed yet.
+   */
+  private transient int hash;
+
   /**
    * Default constructor.
    */
@@ -133,6 +234,11 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return property value
    */
   public PropertyValue copy() {
+    if (primitiveType != null) {
+      PropertyValue copy = new PropertyValue();
+      copy.setPrimitive(primitiveType, primitive, primitiveNanoOfDay);
+      return copy;
+    }
     return new PropertyValue(getRawBytes());
   }
 
@@ -148,7 +254,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * otherwise
    */
   public boolean is(Class clazz) {
-    return PropertyValueStrategyFactory.get(clazz).is(value);
+    PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(clazz);
+    return primitiveType != null ? strategy.getRawType() == primitiveType.getTypeByte() :
+      strategy.is(value);
   }
 
   /**
@@ -157,7 +265,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code null} value
    */
   public boolean isNull() {
-    return getRawBytes()[0] == Type.NULL.getTypeByte();
+    return value == null && primitiveType == null;
   }
 
   /**
@@ -166,7 +274,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code boolean} value
    */
   public boolean isBoolean() {
-    return is(Boolean.class);
+    return primitiveType == Type.BOOLEAN;
   }
 
   /**
@@ -175,7 +283,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code short} value
    */
   public boolean isShort() {
-    return is(Short.class);
+    return primitiveType == Type.SHORT;
   }
 
   /**
@@ -184,7 +292,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code int} value
    */
   public boolean isInt() {
-    return is(Integer.class);
+    return primitiveType == Type.INTEGER;
   }
 
   /**
@@ -193,7 +301,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code long} value
    */
   public boolean isLong() {
-    return is(Long.class);
+    return primitiveType == Type.LONG;
   }
 
   /**
@@ -202,7 +310,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code float} value
    */
   public boolean isFloat() {
-    return is(Float.class);
+    return primitiveType == Type.FLOAT;
   }
 
   /**
@@ -211,7 +319,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@code double} value
    */
   public boolean isDouble() {
-    return is(Double.class);
+    return primitiveType == Type.DOUBLE;
   }
 
   /**
@@ -266,7 +374,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link LocalDate} value
    */
   public boolean isDate() {
-    return is(LocalDate.class);
+    return primitiveType == Type.DATE;
   }
 
   /**
@@ -275,7 +383,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link LocalTime} value
    */
   public boolean isTime() {
-    return is(LocalTime.class);
+    return primitiveType == Type.TIME;
   }
 
   /**
@@ -284,7 +392,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return true, if {@link LocalDateTime} value
    */
   public boolean isDateTime() {
-    return is(LocalDateTime.class);
+    return primitiveType == Type.DATE_TIME;
   }
 
   /**
@@ -321,12 +429,11 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
   @SuppressWarnings("unchecked")
   public <T> T get(Class<T> clazz) throws UnsupportedOperationException {
     PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(clazz);
-    if (strategy.is(value)) {
-      return (T) value;
+    Object object = getObject();
+    if (strategy.is(object)) {
+      return (T) object;
     }
-    String type = value == null ? "null" : value.getClass().getSimpleName();
-    throw new UnsupportedOperationException("Value '" + value + "' of type " + type +
-      ", cannot be accessed as " + clazz.getSimpleName());
+    throw createAccessException(clazz);
   }
 
   /**
@@ -335,11 +442,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return value or {@code null} if the value is empty
    */
   public Object getObject() {
-    Object obj = null;
-    if (value != null) {
-      obj = get(value.getClass());
-    }
-    return obj;
+    return primitiveType != null ? boxPrimitive() : value;
   }
 
   /**
@@ -348,7 +451,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code boolean} value
    */
   public boolean getBoolean() {
-    return get(Boolean.class);
+    if (primitiveType != Type.BOOLEAN) {
+      throw createAccessException(Boolean.class);
+    }
+    return primitive != 0;
   }
 
   /**
@@ -357,7 +463,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code short} value
    */
   public short getShort() {
-    return get(Short.class);
+    if (primitiveType != Type.SHORT) {
+      throw createAccessException(Short.class);
+    }
+    return (short) primitive;
   }
 
   /**
@@ -366,7 +475,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code int} value
    */
   public int getInt() {
-    return get(Integer.class);
+    if (primitiveType != Type.INTEGER) {
+      throw createAccessException(Integer.class);
+    }
+    return (int) primitive;
   }
 
   /**
@@ -375,7 +487,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code long} value
    */
   public long getLong() {
-    return get(Long.class);
+    if (primitiveType != Type.LONG) {
+      throw createAccessException(Long.class);
+    }
+    return primitive;
   }
 
   /**
@@ -384,7 +499,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code float} value
    */
   public float getFloat() {
-    return get(Float.class);
+    if (primitiveType != Type.FLOAT) {
+      throw createAccessException(Float.class);
+    }
+    return Float.intBitsToFloat((int) primitive);
   }
 
   /**
@@ -393,7 +511,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@code double} value
    */
   public double getDouble() {
-    return get(Double.class);
+    if (primitiveType != Type.DOUBLE) {
+      throw createAccessException(Double.class);
+    }
+    return Double.longBitsToDouble(primitive);
   }
 
   /**
@@ -448,7 +569,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@link LocalDate} value
    */
   public LocalDate getDate() {
-    return get(LocalDate.class);
+    if (primitiveType != Type.DATE) {
+      throw createAccessException(LocalDate.class);
+    }
+    return LocalDate.ofEpochDay(primitive);
   }
 
   /**
@@ -457,7 +581,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@link LocalTime} value
    */
   public LocalTime getTime() {
-    return get(LocalTime.class);
+    if (primitiveType != Type.TIME) {
+      throw createAccessException(LocalTime.class);
+    }
+    return LocalTime.ofNanoOfDay(primitive);
   }
 
   /**
@@ -466,7 +593,10 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return {@link LocalDateTime} value
    */
   public LocalDateTime getDateTime() {
-    return get(LocalDateTime.class);
+    if (primitiveType != Type.DATE_TIME) {
+      throw createAccessException(LocalDateTime.class);
+    }
+    return toDateTime();
   }
 
   /**
@@ -492,7 +622,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     if (value != null && !PropertyValueStrategyFactory.get(value.getClass()).is(value)) {
       throw new UnsupportedTypeException(value.getClass());
     }
-    this.value = value;
+    setValue(value);
   }
 
   /**
@@ -501,7 +631,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param booleanValue value
    */
   public void setBoolean(boolean booleanValue) {
-    setObject(booleanValue);
+    setPrimitive(Type.BOOLEAN, booleanValue ? 1L : 0L, 0L);
   }
 
   /**
@@ -510,7 +640,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param shortValue value
    */
   public void setShort(short shortValue) {
-    setObject(shortValue);
+    setPrimitive(Type.SHORT, shortValue, 0L);
   }
 
   /**
@@ -519,7 +649,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param intValue intValue
    */
   public void setInt(int intValue) {
-    setObject(intValue);
+    setPrimitive(Type.INTEGER, intValue, 0L);
   }
 
   /**
@@ -528,7 +658,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param longValue value
    */
   public void setLong(long longValue) {
-    setObject(longValue);
+    setPrimitive(Type.LONG, longValue, 0L);
   }
 
   /**
@@ -537,7 +667,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param floatValue value
    */
   public void setFloat(float floatValue) {
-    setObject(floatValue);
+    setPrimitive(Type.FLOAT, Float.floatToIntBits(floatValue), 0L);
   }
 
   /**
@@ -546,7 +676,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param doubleValue value
    */
   public void setDouble(double doubleValue) {
-    setObject(doubleValue);
+    setPrimitive(Type.DOUBLE, Double.doubleToLongBits(doubleValue), 0L);
   }
 
   /**
@@ -641,7 +771,9 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   public Class<?> getType() {
     Class<?> clazz = null;
-    if (value != null) {
+    if (primitiveType != null) {
+      clazz = PropertyValueStrategyFactory.get(primitiveType.getTypeByte()).getType();
+    } else if (value != null) {
       clazz = PropertyValueStrategyFactory.get(value.getClass()).getType();
     }
 
@@ -652,8 +784,21 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     return getRawBytes().length;
   }
 
+  /**
+   * Returns the byte representation of the value. The representation is computed once and
+   * cached until the value changes, the returned array must therefore not be modified.
+   *
+   * @return byte representation
+   */
   public byte[] getRawBytes() {
-    return PropertyValueStrategyFactory.getRawBytes(value);
+    byte[] bytes = rawBytes;
+    if (bytes == null) {
+      bytes = PropertyValueStrategyFactory.getRawBytes(getObject());
+      if (!isMutable(value)) {
+        rawBytes = bytes;
+      }
+    }
+    return bytes;
   }
 
   /**
@@ -662,17 +807,44 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @param bytes array
    */
   public void setBytes(byte[] bytes) {
-    value = PropertyValueStrategyFactory.fromRawBytes(bytes);
+    setValue(PropertyValueStrategyFactory.fromRawBytes(bytes));
   }
 
   @Override
   public boolean equals(Object object) {
-    return object instanceof PropertyValue && Objects.equals(value, ((PropertyValue) object).value);
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof PropertyValue)) {
+      return false;
+    }
+    PropertyValue other = (PropertyValue) object;
+    if (primitiveType != null || other.primitiveType != null) {
+      return primitiveType == other.primitiveType && primitive == other.primitive &&
+        primitiveNanoOfDay == other.primitiveNanoOfDay;
+    }
+    // values with different hash codes can not be equal
+    if (hash != 0 && other.hash != 0 && hash != other.hash) {
+      return false;
+    }
+    return Objects.equals(value, other.value);
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(PropertyValueStrategyFactory.getRawBytes(value));
+    if (primitiveType != null) {
+      return 31 * (31 * primitiveType.getTypeByte() + Long.hashCode(primitive)) +
+        Long.hashCode(primitiveNanoOfDay);
+    }
+    int h = hash;
+    if (h == 0) {
+      byte[] bytes = getRawBytes();
+      h = Arrays.hashCode(bytes);
+      if (bytes == rawBytes) {
+        hash = h;
+      }
+    }
+    return h;
   }
 
   /**
@@ -685,7 +857,92 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public int compareTo(PropertyValue other) {
-    return PropertyValueStrategyFactory.compare(value, other.value);
+    if (primitiveType != null && primitiveType == other.primitiveType) {
+      return comparePrimitive(other);
+    }
+    if (isNumber() && other.isNumber()) {
+      return PropertyValueUtils.Numeric.compare(this, other);
+    }
+    return PropertyValueStrategyFactory.compare(getObject(), other.getObject());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The length of the normalized key is not limited, since strings are encoded character by
+   * character. The key is therefore always a prefix and values with equal key prefixes are
+   * compared using {@link #compareTo(PropertyValue)}.
+   */
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The first byte of the key identifies the type, followed by an order-preserving big endian
+   * encoding of the value. Numbers are encoded by the bits of their {@code double} value, so
+   * values of different numerical types can be compared. Strings are encoded by their UTF-16
+   * characters. Lists, maps and sets are not comparable and only encoded by their type.
+   */
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int end = offset + len;
+    int position;
+    if (primitiveType != null) {
+      switch (primitiveType) {
+      case BOOLEAN:
+        position = putNormalizedKey(target, offset, end, KEY_BOOLEAN, primitive, 1);
+        break;
+      case DATE:
+        position = putNormalizedKey(target, offset, end, KEY_DATE, primitive - MIN_EPOCH_DAY,
+          EPOCH_DAY_KEY_SIZE);
+        break;
+      case TIME:
+        position = putNormalizedKey(target, offset, end, KEY_TIME, primitive,
+          NANO_OF_DAY_KEY_SIZE);
+        break;
+      case DATE_TIME:
+        position = putNormalizedKey(target, offset, end, KEY_DATE_TIME,
+          primitive - MIN_EPOCH_DAY, EPOCH_DAY_KEY_SIZE);
+        position = putBigEndian(target, position, end, primitiveNanoOfDay, NANO_OF_DAY_KEY_SIZE);
+        break;
+      case FLOAT:
+        position = putNormalizedKey(target, offset, end, KEY_NUMBER, normalizeDouble(getFloat()),
+          Long.BYTES);
+        break;
+      case DOUBLE:
+        position = putNormalizedKey(target, offset, end, KEY_NUMBER, normalizeDouble(getDouble()),
+          Long.BYTES);
+        break;
+      default:
+        // integral values
+        position = putNormalizedKey(target, offset, end, KEY_NUMBER, normalizeDouble(primitive),
+          Long.BYTES);
+      }
+    } else if (value == null) {
+      position = putNormalizedKey(target, offset, end, KEY_NULL, 0L, 0);
+    } else if (value instanceof String) {
+      String string = (String) value;
+      position = putNormalizedKey(target, offset, end, KEY_STRING, 0L, 0);
+      for (int i = 0; i < string.length() && position < end; i++) {
+        position = putBigEndian(target, position, end, string.charAt(i), Character.BYTES);
+      }
+    } else if (value instanceof BigDecimal) {
+      position = putNormalizedKey(target, offset, end, KEY_NUMBER,
+        normalizeDouble(((BigDecimal) value).doubleValue()), Long.BYTES);
+    } else if (value instanceof GradoopId) {
+      position = putNormalizedKey(target, offset, end, KEY_GRADOOP_ID, 0L, 0);
+      int idLength = Math.min(end - position, GradoopId.ID_SIZE);
+      ((GradoopId) value).copyNormalizedKey(target, position, idLength);
+      position += idLength;
+    } else {
+      position = putNormalizedKey(target, offset, end, KEY_OTHER, 0L, 0);
+    }
+    for (; position < end; position++) {
+      target.put(position, (byte) 0);
+    }
   }
 
   /**
@@ -694,8 +951,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    * @return byte size
    */
   public int byteSize() {
-    byte[] rawBytes = PropertyValueStrategyFactory.getRawBytes(value);
-    return rawBytes.length;
+    return getRawBytes().length;
   }
 
   /**
@@ -726,7 +982,11 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    PropertyValueStrategyFactory.get(value).write(value, outputView);
+    if (primitiveType != null) {
+      writePrimitive(outputView);
+    } else {
+      PropertyValueStrategyFactory.get(value).write(value, outputView);
+    }
   }
 
   @Override
@@ -736,19 +996,348 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     // Apply bitmask to get the actual type.
     byte type = (byte) (~PropertyValue.FLAG_LARGE & typeByte);
 
+    if (readPrimitive(type, inputView)) {
+      return;
+    }
+
     PropertyValueStrategy strategy = PropertyValueStrategyFactory.get(type);
 
     if (strategy == null) {
       throw new UnsupportedTypeException("No strategy for type byte from input view found");
     } else {
-      value = strategy.read(inputView, typeByte);
+      setValue(strategy.read(inputView, typeByte));
     }
   }
 
+  /**
+   * Copies a property value written by {@link #write(DataOutputView)} from the input view to the
+   * output view without deserializing it.
+   *
+   * @param inputView input view
+   * @param outputView output view or {@code null} to skip the value
+   * @throws IOException if read from input view or write to output view fails.
+   */
+  static void copySerialized(DataInputView inputView, DataOutputView outputView)
+    throws IOException {
+    byte typeByte = inputView.readByte();
+    byte type = (byte) (~PropertyValue.FLAG_LARGE & typeByte);
+    if (outputView != null) {
+      outputView.writeByte(typeByte);
+    }
+
+    int length;
+    if (PropertyValueStrategyFactory.get(type) instanceof AbstractVariableSizedPropertyValueStrategy) {
+      if ((typeByte & PropertyValue.FLAG_LARGE) == PropertyValue.FLAG_LARGE) {
+        length = inputView.readInt();
+        if (outputView != null) {
+          outputView.writeInt(length);
+        }
+      } else {
+        length = inputView.readShort();
+        if (outputView != null) {
+          outputView.writeShort(length);
+        }
+      }
+    } else {
+      length = getFixedSize(type);
+    }
+
+    if (outputView == null) {
+      inputView.skipBytesToRead(length);
+    } else {
+      // DataOutputSerializer does not grow when copying from an input view
+      byte[] data = new byte[length];
+      inputView.readFully(data);
+      outputView.write(data);
+    }
+  }
+
+  /**
+   * Returns the number of bytes following the type byte of a serialized value of fixed size.
+   *
+   * @param type type byte
+   * @return size of the serialized value without type byte
+   */
+  private static int getFixedSize(byte type) {
+    if (type == Type.NULL.getTypeByte()) {
+      return 0;
+    } else if (type == Type.BOOLEAN.getTypeByte()) {
+      return Bytes.SIZEOF_BOOLEAN;
+    } else if (type == Type.SHORT.getTypeByte()) {
+      return Bytes.SIZEOF_SHORT;
+    } else if (type == Type.INTEGER.getTypeByte() || type == Type.FLOAT.getTypeByte()) {
+      return Bytes.SIZEOF_INT;
+    } else if (type == Type.LONG.getTypeByte() || type == Type.DOUBLE.getTypeByte()) {
+      return Bytes.SIZEOF_LONG;
+    } else if (type == Type.GRADOOP_ID.getTypeByte()) {
+      return GradoopId.ID_SIZE;
+    } else if (type == Type.DATE.getTypeByte()) {
+      return DateTimeSerializer.SIZEOF_DATE;
+    } else if (type == Type.TIME.getTypeByte()) {
+      return DateTimeSerializer.SIZEOF_TIME;
+    } else if (type == Type.DATE_TIME.getTypeByte()) {
+      return DateTimeSerializer.SIZEOF_DATETIME;
+    }
+    throw new UnsupportedTypeException("No strategy for type byte from input view found");
+  }
+
+  /**
+   * Sets the internal value and resets the cached byte representation and hash code.
+   *
+   * @param value value with supported type
+   */
+  private void setValue(Object value) {
+    if (value instanceof Boolean) {
+      setBoolean((Boolean) value);
+    } else if (value instanceof Short) {
+      setShort((Short) value);
+    } else if (value instanceof Integer) {
+      setInt((Integer) value);
+    } else if (value instanceof Long) {
+      setLong((Long) value);
+    } else if (value instanceof Float) {
+      setFloat((Float) value);
+    } else if (value instanceof Double) {
+      setDouble((Double) value);
+    } else if (value instanceof LocalDate) {
+      setPrimitive(Type.DATE, ((LocalDate) value).toEpochDay(), 0L);
+    } else if (value instanceof LocalTime) {
+      setPrimitive(Type.TIME, ((LocalTime) value).toNanoOfDay(), 0L);
+    } else if (value instanceof LocalDateTime) {
+      LocalDateTime dateTime = (LocalDateTime) value;
+      setPrimitive(Type.DATE_TIME, dateTime.toLocalDate().toEpochDay(),
+        dateTime.toLocalTime().toNanoOfDay());
+    } else {
+      this.value = value;
+      this.primitiveType = null;
+      this.rawBytes = null;
+      this.hash = 0;
+    }
+  }
+
+  /**
+   * Sets a value stored as primitive and resets the cached byte representation and hash code.
+   *
+   * @param type type of the value
+   * @param bits primitive representation of the value
+   * @param nanoOfDay nano of day of a date time, {@code 0} for all other types
+   */
+  private void setPrimitive(Type type, long bits, long nanoOfDay) {
+    this.value = null;
+    this.primitiveType = type;
+    this.primitive = bits;
+    this.primitiveNanoOfDay = nanoOfDay;
+    this.rawBytes = null;
+    this.hash = 0;
+  }
+
+  /**
+   * Returns the object representation of the value stored as primitive.
+   *
+   * @return boxed value
+   */
+  private Object boxPrimitive() {
+    switch (primitiveType) {
+    case BOOLEAN:
+      return getBoolean();
+    case SHORT:
+      return getShort();
+    case INTEGER:
+      return getInt();
+    case LONG:
+      return getLong();
+    case FLOAT:
+      return getFloat();
+    case DOUBLE:
+      return getDouble();
+    case DATE:
+      return getDate();
+    case TIME:
+      return getTime();
+    case DATE_TIME:
+      return getDateTime();
+    default:
+      throw new IllegalStateException("No primitive type: " + primitiveType);
+    }
+  }
+
+  /**
+   * Returns the date time stored as primitive.
+   *
+   * @return date time
+   */
+  private LocalDateTime toDateTime() {
+    return LocalDateTime.of(LocalDate.ofEpochDay(primitive),
+      LocalTime.ofNanoOfDay(primitiveNanoOfDay));
+  }
+
+  /**
+   * Compares this value to another value of the same primitive type.
+   *
+   * @param other value of the same primitive type
+   * @return a negative integer, zero, or a positive integer as this value is less than, equal
+   * to, or greater than the other value
+   */
+  private int comparePrimitive(PropertyValue other) {
+    switch (primitiveType) {
+    case FLOAT:
+      return Float.compare(getFloat(), other.getFloat());
+    case DOUBLE:
+      return Double.compare(getDouble(), other.getDouble());
+    case DATE_TIME:
+      int comparison = Long.compare(primitive, other.primitive);
+      return comparison != 0 ? comparison :
+        Long.compare(primitiveNanoOfDay, other.primitiveNanoOfDay);
+    default:
+      // integral values, booleans (0 or 1), epoch days and nanos of day
+      return Long.compare(primitive, other.primitive);
+    }
+  }
+
+  /**
+   * Writes the value stored as primitive. The format is the same as the one of the
+   * corresponding {@link PropertyValueStrategy}.
+   *
+   * @param outputView output view
+   * @throws IOException if write to output view fails.
+   */
+  private void writePrimitive(DataOutputView outputView) throws IOException {
+    switch (primitiveType) {
+    case BOOLEAN:
+      outputView.writeByte(primitiveType.getTypeByte());
+      outputView.writeByte(primitive != 0 ? -1 : 0);
+      break;
+    case SHORT:
+      outputView.writeByte(primitiveType.getTypeByte());
+      outputView.writeShort((short) primitive);
+      break;
+    case INTEGER:
+    case FLOAT:
+      outputView.writeByte(primitiveType.getTypeByte());
+      outputView.writeInt((int) primitive);
+      break;
+    case LONG:
+    case DOUBLE:
+      outputView.writeByte(primitiveType.getTypeByte());
+      outputView.writeLong(primitive);
+      break;
+    default:
+      outputView.write(getRawBytes());
+    }
+  }
+
+  /**
+   * Reads a value of a numeric or boolean type written by
+   * {@link #writePrimitive(DataOutputView)}.
+   *
+   * @param type type byte
+   * @param inputView input view
+   * @return true, if the value was read, false if the type is not supported by this method
+   * @throws IOException if read from input view fails.
+   */
+  private boolean readPrimitive(byte type, DataInputView inputView) throws IOException {
+    if (type == Type.BOOLEAN.getTypeByte()) {
+      setPrimitive(Type.BOOLEAN, inputView.readByte() == -1 ? 1L : 0L, 0L);
+    } else if (type == Type.SHORT.getTypeByte()) {
+      setPrimitive(Type.SHORT, inputView.readShort(), 0L);
+    } else if (type == Type.INTEGER.getTypeByte()) {
+      setPrimitive(Type.INTEGER, inputView.readInt(), 0L);
+    } else if (type == Type.LONG.getTypeByte()) {
+      setPrimitive(Type.LONG, inputView.readLong(), 0L);
+    } else if (type == Type.FLOAT.getTypeByte()) {
+      setFloat(Float.intBitsToFloat(inputView.readInt()));
+    } else if (type == Type.DOUBLE.getTypeByte()) {
+      setDouble(Double.longBitsToDouble(inputView.readLong()));
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Creates the exception thrown if the value is accessed as an unsupported type.
+   *
+   * @param clazz requested type
+   * @return exception
+   */
+  private UnsupportedOperationException createAccessException(Class<?> clazz) {
+    Object object = getObject();
+    String type = object == null ? "null" : object.getClass().getSimpleName();
+    return new UnsupportedOperationException("Value '" + object + "' of type " + type +
+      ", cannot be accessed as " + clazz.getSimpleName());
+  }
+
+  /**
+   * Checks if the given value may be modified without calling a setter of this property value.
+   * The byte representation of such values is not cached.
+   *
+   * @param value value
+   * @return true, if the value is a collection
+   */
+  private static boolean isMutable(Object value) {
+    return value instanceof Collection || value instanceof Map;
+  }
+
   @Override
   public String toString() {
     return getObject() != null ?
       getObject().toString() :
       GradoopConstants.NULL_STRING;
   }
+
+  /**
+   * Writes the type byte and the value of a normalized key, truncated to the available length.
+   *
+   * @param target memory segment to write to
+   * @param position position of the key
+   * @param end end of the key (exclusive)
+   * @param keyType first byte of the key
+   * @param value order-preserving unsigned value
+   * @param bytes number of (least significant) bytes of the value to write
+   * @return position after the written bytes
+   */
+  private static int putNormalizedKey(MemorySegment target, int position, int end, byte keyType,
+    long value, int bytes) {
+    if (position >= end) {
+      return position;
+    }
+    target.put(position, keyType);
+    return putBigEndian(target, position + 1, end, value, bytes);
+  }
+
+  /**
+   * Writes the least significant bytes of a value in big endian order, truncated to the available
+   * length.
+   *
+   * @param target memory segment to write to
+   * @param position position to write to
+   * @param end end of the key (exclusive)
+   * @param value value
+   * @param bytes number of bytes to write
+   * @return position after the written bytes
+   */
+  private static int putBigEndian(MemorySegment target, int position, int end, long value,
+    int bytes) {
+    if (bytes == Long.BYTES && end - position >= Long.BYTES) {
+      target.putLongBigEndian(position, value);
+      return position + Long.BYTES;
+    }
+    int current = position;
+    for (int shift = (bytes - 1) * Byte.SIZE; shift >= 0 && current < end; shift -= Byte.SIZE) {
+      target.put(current++, (byte) (value >>> shift));
+    }
+    return current;
+  }
+
+  /**
+   * Maps a {@code double} to a {@code long} whose unsigned order is the order of
+   * {@link Double#compare(double, double)}.
+   *
+   * @param value double value
+   * @return order-preserving bits
+   */
+  private static long normalizeDouble(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+  }
 }
@@ -501,6 +501,25 @@ public class PropertyValueUtils {
       return aIsLessOrEqual;
     }
 
+    /**
+     * Converts a numerical property value to double without boxing the value.
+     *
+     * @param value numerical property value
+     *
+     * @return converted value
+     */
+    public static double doubleValue(PropertyValue value) {
+      int type = checkNumericalAndGetType(value);
+      switch (type) {
+      case DOUBLE:
+        return value.getDouble();
+      case BIG_DECIMAL:
+        return value.getBigDecimal().doubleValue();
+      default:
+        return doubleValue(value, type);
+      }
+    }
+
     /**
      * Checks a property value for numerical type and returns its type.
      *
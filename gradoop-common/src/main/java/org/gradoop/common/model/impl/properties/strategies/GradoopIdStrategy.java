@@ -17,12 +17,10 @@ package org.gradoop.common.model.impl.properties.strategies;
 
 import org.apache.flink.core.memory.DataInputView;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.properties.bytes.Bytes;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.Type;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 /**
  * Strategy class for handling {@code PropertyValue} operations with a value of the type
@@ -32,14 +30,9 @@ public class GradoopIdStrategy extends AbstractFixSizedPropertyValueStrategy<Gra
 
   @Override
   public GradoopId read(DataInputView inputView, byte typeByte) throws IOException {
-    int length = GradoopId.ID_SIZE;
-    byte[] rawBytes = new byte[length];
-
-    for (int i = 0; i < rawBytes.length; i++) {
-      rawBytes[i] = inputView.readByte();
-    }
-
-    return GradoopId.fromByteArray(rawBytes);
+    GradoopId id = new GradoopId();
+    id.read(inputView);
+    return id;
   }
 
   @Override
@@ -63,10 +56,7 @@ public class GradoopIdStrategy extends AbstractFixSizedPropertyValueStrategy<Gra
 
   @Override
   public GradoopId get(byte[] bytes) {
-    return GradoopId.fromByteArray(
-      Arrays.copyOfRange(
-        bytes, PropertyValue.OFFSET, GradoopId.ID_SIZE + PropertyValue.OFFSET
-      ));
+    return GradoopId.fromByteArray(bytes, PropertyValue.OFFSET);
   }
 
   @Override
@@ -76,10 +66,9 @@ public class GradoopIdStrategy extends AbstractFixSizedPropertyValueStrategy<Gra
 
   @Override
   public byte[] getRawBytes(GradoopId value) {
-    byte[] valueBytes = value.toByteArray();
     byte[] rawBytes = new byte[PropertyValue.OFFSET + GradoopId.ID_SIZE];
     rawBytes[0] = getRawType();
-    Bytes.putBytes(rawBytes, PropertyValue.OFFSET, valueBytes, 0, valueBytes.length);
+    value.toByteArray(rawBytes, PropertyValue.OFFSET);
     return rawBytes;
   }
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads a GDL script definition by definition, without reading the whole script into memory.
+ * <p>
+ * Each returned definition is a self-contained GDL script, i.e. either a path like
+ * {@code (a:Person)-[e:knows]->(b)} or a graph containing a single path like
+ * {@code g:Community {area: 'Leipzig'}[(a)-->(b)]}. The paths of a graph are returned as separate
+ * definitions, only the first one contains the label and properties of the graph, the following
+ * ones refer to the graph by its variable, e.g. {@code g[(c)]}. Anonymous graphs are assigned a
+ * variable starting with {@link #GRAPH_VARIABLE_PREFIX}. Commas and comments between definitions
+ * are skipped.
+ * <p>
+ * Queries, i.e. scripts containing {@code MATCH} or {@code WHERE} clauses, are not supported.
+ *
+ * @see <a href="https://github.com/s1ck/gdl">GDL on GitHub</a>
+ */
+public class GDLDefinitionReader implements Closeable {
+
+  /**
+   * Prefix of the variables assigned to anonymous graphs.
+   */
+  public static final String GRAPH_VARIABLE_PREFIX = "__graph";
+
+  /**
+   * Returned by the reader at the end of the stream.
+   */
+  private static final int EOF = -1;
+
+  /**
+   * Matches a variable at the beginning of a graph definition.
+   */
+  private static final Pattern VARIABLE = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+  /**
+   * Reader of the GDL script, at most two characters are pushed back to detect comments.
+   */
+  private final PushbackReader reader;
+
+  /**
+   * Head of the graph whose paths are currently read, i.e. its variable, label and properties,
+   * {@code null} if no graph is read.
+   */
+  private String graphHead;
+
+  /**
+   * Variable of the graph whose paths are currently read.
+   */
+  private String graphVariable;
+
+  /**
+   * True, if a definition of the current graph was returned.
+   */
+  private boolean graphReturned;
+
+  /**
+   * Number of anonymous graphs read so far.
+   */
+  private int anonymousGraphCount;
+
+  /**
+   * Creates a new reader.
+   *
+   * @param reader reader of the GDL script
+   */
+  public GDLDefinitionReader(Reader reader) {
+    this.reader = new PushbackReader(reader, 2);
+  }
+
+  /**
+   * Reads the next definition of the script.
+   *
+   * @return next definition or {@code null} if the end of the script is reached
+   * @throws IOException if the script can not be read or is malformed
+   */
+  public String next() throws IOException {
+    while (true) {
+      int c = skip(true);
+      if (graphHead != null) {
+        if (c == EOF) {
+          throw new IOException("Unexpected end of GDL script, missing ']' of graph " +
+            graphVariable);
+        }
+        if (c == ']') {
+          reader.read();
+          String head = graphHead;
+          graphHead = null;
+          if (!graphReturned) {
+            return head + "[]";
+          }
+        } else {
+          String path = readPath();
+          String definition = (graphReturned ? graphVariable : graphHead) + '[' + path + ']';
+          graphReturned = true;
+          return definition;
+        }
+      } else if (c == EOF) {
+        return null;
+      } else if (c == '(') {
+        return readPath();
+      } else {
+        readGraphHead();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * Reads a path, i.e. vertices connected by edges, starting at the next character.
+   *
+   * @return path
+   * @throws IOException if the script can not be read or is malformed
+   */
+  private String readPath() throws IOException {
+    StringBuilder path = new StringBuilder();
+    readVertex(path);
+    int c = skip(false);
+    while (c == '-' || c == '<') {
+      // edge up to the next vertex
+      c = reader.read();
+      while (c != '(') {
+        if (c == EOF || c == ')' || c == ']' || c == '{' || c == '}') {
+          throw new IOException("Invalid GDL edge in path " + path);
+        }
+        path.append((char) c);
+        if (c == '[') {
+          readGroup(path, ']');
+        }
+        c = reader.read();
+      }
+      reader.unread(c);
+      readVertex(path);
+      c = skip(false);
+    }
+    return path.toString();
+  }
+
+  /**
+   * Reads a vertex, i.e. a group enclosed by parentheses.
+   *
+   * @param builder builder to append the vertex to
+   * @throws IOException if the script can not be read or is malformed
+   */
+  private void readVertex(StringBuilder builder) throws IOException {
+    int c = reader.read();
+    if (c != '(') {
+      throw new IOException("Invalid GDL vertex, expected '(' after " + builder);
+    }
+    builder.append('(');
+    readGroup(builder, ')');
+  }
+
+  /**
+   * Reads the head of a graph up to the opening bracket of its body and assigns a variable if
+   * the graph is anonymous.
+   *
+   * @throws IOException if the script can not be read or is malformed
+   */
+  private void readGraphHead() throws IOException {
+    StringBuilder head = new StringBuilder();
+    int c = reader.read();
+    while (c != '[') {
+      if (c == EOF || c == '(' || c == ')' || c == ']' || c == '}') {
+        throw new IOException("Invalid GDL graph definition " + head);
+      }
+      head.append((char) c);
+      if (c == '{') {
+        readGroup(head, '}');
+      }
+      c = reader.read();
+    }
+    graphHead = head.toString().trim();
+    Matcher matcher = VARIABLE.matcher(graphHead);
+    if (matcher.lookingAt()) {
+      graphVariable = matcher.group();
+    } else {
+      graphVariable = GRAPH_VARIABLE_PREFIX + anonymousGraphCount++;
+      graphHead = graphVariable + graphHead;
+    }
+    graphReturned = false;
+  }
+
+  /**
+   * Reads the remainder of a group up to the given closing bracket, including nested groups and
+   * string literals.
+   *
+   * @param builder builder to append the group to
+   * @param close closing bracket of the group
+   * @throws IOException if the script can not be read or is malformed
+   */
+  private void readGroup(StringBuilder builder, char close) throws IOException {
+    int depth = 0;
+    int c = reader.read();
+    while (c != EOF) {
+      builder.append((char) c);
+      if (c == '\'' || c == '"') {
+        readString(builder, (char) c);
+      } else if (c == '(' || c == '[' || c == '{') {
+        depth++;
+      } else if (c == ')' || c == ']' || c == '}') {
+        if (depth == 0) {
+          if (c != close) {
+            throw new IOException("Invalid GDL script, expected '" + close + "' in " + builder);
+          }
+          return;
+        }
+        depth--;
+      }
+      c = reader.read();
+    }
+    throw new IOException("Unexpected end of GDL script, missing '" + close + "' in " + builder);
+  }
+
+  /**
+   * Reads the remainder of a string literal.
+   *
+   * @param builder builder to append the string to
+   * @param quote quote character of the string
+   * @throws IOException if the script can not be read or is malformed
+   */
+  private void readString(StringBuilder builder, char quote) throws IOException {
+    int c = reader.read();
+    while (c != EOF) {
+      builder.append((char) c);
+      if (c == '\\') {
+        c = reader.read();
+        if (c == EOF) {
+          break;
+        }
+        builder.append((char) c);
+      } else if (c == quote) {
+        return;
+      }
+      c = reader.read();
+    }
+    throw new IOException("Unexpected end of GDL script, unterminated string in " + builder);
+  }
+
+  /**
+   * Skips whitespace and comments and returns the next character without consuming it.
+   *
+   * @param skipCommas true, if commas are skipped as well
+   * @return next character or {@link #EOF}
+   * @throws IOException if the script can not be read
+   */
+  private int skip(boolean skipCommas) throws IOException {
+    while (true) {
+      int c = reader.read();
+      if (c == '/') {
+        int next = reader.read();
+        if (next == '/') {
+          skipLineComment();
+          continue;
+        } else if (next == '*') {
+          skipBlockComment();
+          continue;
+        }
+        if (next != EOF) {
+          reader.unread(next);
+        }
+      } else if (Character.isWhitespace(c) || (skipCommas && c == ',')) {
+        continue;
+      }
+      if (c != EOF) {
+        reader.unread(c);
+      }
+      return c;
+    }
+  }
+
+  /**
+   * Skips the remainder of a line comment.
+   *
+   * @throws IOException if the script can not be read
+   */
+  private void skipLineComment() throws IOException {
+    int c = reader.read();
+    while (c != EOF && c != '\n' && c != '\r') {
+      c = reader.read();
+    }
+  }
+
+  /**
+   * Skips the remainder of a block comment.
+   *
+   * @throws IOException if the script can not be read or the comment is not terminated
+   */
+  private void skipBlockComment() throws IOException {
+    int previous = EOF;
+    int c = reader.read();
+    while (c != EOF) {
+      if (previous == '*' && c == '/') {
+        return;
+      }
+      previous = c;
+      c = reader.read();
+    }
+    throw new IOException("Unexpected end of GDL script, unterminated comment");
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.util;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.ElementFactoryProvider;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.common.model.api.entities.Vertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.s1ck.gdl.GDLHandler;
+import org.s1ck.gdl.exceptions.BailSyntaxErrorStrategy;
+import org.s1ck.gdl.model.Graph;
+import org.s1ck.gdl.model.GraphElement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Creates graphs, vertices and edges from a GDL script definition by definition, see
+ * {@link GDLDefinitionReader}. In contrast to {@link AsciiGraphLoader}, only the current
+ * definition is kept in memory, which allows loading scripts of arbitrary size.
+ * <p>
+ * The ids of the elements are derived from their variables, i.e. elements with the same variable
+ * have the same id in all definitions and in repeated runs. Elements without variable get an id
+ * derived from the scope of the script (e.g. its file name), the position of their definition
+ * and the variable generated by GDL, which is of the form {@code __v0}. Variables of that form
+ * should therefore not be used in scripts.
+ * <p>
+ * An element may be contained in multiple definitions, e.g. a vertex in multiple paths. The
+ * elements returned for all definitions therefore have to be merged by id. Like GDL, the label
+ * and properties of the first definition of an element are kept and its graph ids are united.
+ *
+ * @param <G> graph head type
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public class StreamingAsciiGraphLoader<G extends GraphHead, V extends Vertex, E extends Edge>
+  implements Closeable {
+
+  /**
+   * Matches the variables GDL generates for anonymous elements.
+   */
+  private static final Pattern GENERATED_VARIABLE = Pattern.compile("__[gve][0-9]+");
+
+  /**
+   * Hash function used to derive ids from variables.
+   */
+  private static final HashFunction ID_HASH = Hashing.murmur3_128();
+
+  /**
+   * Reads the definitions of the script.
+   */
+  private final GDLDefinitionReader reader;
+
+  /**
+   * Factory provider for graph elements.
+   */
+  private final ElementFactoryProvider<G, V, E> elementFactoryProvider;
+
+  /**
+   * Scope of the script, used to create the ids of anonymous elements.
+   */
+  private final String scope;
+
+  /**
+   * Position of the current definition in the script, starting at {@code 0}.
+   */
+  private long definitionIndex = -1;
+
+  /**
+   * Parsed current definition, {@code null} if there is none.
+   */
+  private GDLHandler gdlHandler;
+
+  /**
+   * Creates a new loader.
+   *
+   * @param reader reader of the GDL script
+   * @param elementFactoryProvider factory provider for graph elements
+   * @param scope scope of the script, e.g. its file name, must be unique if multiple scripts
+   *              are loaded into the same graph collection
+   */
+  public StreamingAsciiGraphLoader(Reader reader,
+    ElementFactoryProvider<G, V, E> elementFactoryProvider, String scope) {
+    this.reader = new GDLDefinitionReader(reader);
+    this.elementFactoryProvider = elementFactoryProvider;
+    this.scope = scope;
+  }
+
+  /**
+   * Reads and parses the next definition of the script.
+   *
+   * @return true, if there was a next definition, false if the end of the script is reached
+   * @throws IOException if the script can not be read or is malformed
+   */
+  public boolean next() throws IOException {
+    String definition = reader.next();
+    if (definition == null) {
+      gdlHandler = null;
+      return false;
+    }
+    definitionIndex++;
+    gdlHandler = new GDLHandler.Builder()
+      .setDefaultGraphLabel(GradoopConstants.DEFAULT_GRAPH_LABEL)
+      .setDefaultVertexLabel(GradoopConstants.DEFAULT_VERTEX_LABEL)
+      .setDefaultEdgeLabel(GradoopConstants.DEFAULT_EDGE_LABEL)
+      .setErrorStrategy(new BailSyntaxErrorStrategy())
+      .buildFromString(definition);
+    return true;
+  }
+
+  /**
+   * Returns the position of the current definition in the script. Elements of definitions with
+   * a lower position take precedence when merging elements.
+   *
+   * @return position of the current definition, starting at {@code 0}
+   */
+  public long getDefinitionIndex() {
+    return definitionIndex;
+  }
+
+  /**
+   * Returns the graph heads of the current definition.
+   *
+   * @return graph heads
+   */
+  public List<G> getGraphHeads() {
+    List<G> graphHeads = new ArrayList<>(gdlHandler.getGraphs().size());
+    for (Graph g : gdlHandler.getGraphs()) {
+      graphHeads.add(elementFactoryProvider.getGraphHeadFactory().initGraphHead(
+        createId('g', g.getVariable()), g.getLabel(), Properties.createFromMap(g.getProperties())));
+    }
+    return graphHeads;
+  }
+
+  /**
+   * Returns the vertices of the current definition.
+   *
+   * @return vertices
+   */
+  public List<V> getVertices() {
+    Map<Long, GradoopId> graphIds = getGraphIds();
+    List<V> vertices = new ArrayList<>(gdlHandler.getVertices().size());
+    for (org.s1ck.gdl.model.Vertex v : gdlHandler.getVertices()) {
+      vertices.add(elementFactoryProvider.getVertexFactory().initVertex(
+        createId('v', v.getVariable()), v.getLabel(), Properties.createFromMap(v.getProperties()),
+        createGradoopIdSet(v, graphIds)));
+    }
+    return vertices;
+  }
+
+  /**
+   * Returns the edges of the current definition.
+   *
+   * @return edges
+   */
+  public List<E> getEdges() {
+    Map<Long, GradoopId> graphIds = getGraphIds();
+    Map<Long, GradoopId> vertexIds = new HashMap<>();
+    for (org.s1ck.gdl.model.Vertex v : gdlHandler.getVertices()) {
+      vertexIds.put(v.getId(), createId('v', v.getVariable()));
+    }
+    List<E> edges = new ArrayList<>(gdlHandler.getEdges().size());
+    for (org.s1ck.gdl.model.Edge e : gdlHandler.getEdges()) {
+      edges.add(elementFactoryProvider.getEdgeFactory().initEdge(
+        createId('e', e.getVariable()), e.getLabel(),
+        vertexIds.get(e.getSourceVertexId()), vertexIds.get(e.getTargetVertexId()),
+        Properties.createFromMap(e.getProperties()), createGradoopIdSet(e, graphIds)));
+    }
+    return edges;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * Returns the ids of the graphs of the current definition by their GDL id.
+   *
+   * @return mapping from GDL id to graph id
+   */
+  private Map<Long, GradoopId> getGraphIds() {
+    Map<Long, GradoopId> graphIds = new HashMap<>();
+    for (Graph g : gdlHandler.getGraphs()) {
+      graphIds.put(g.getId(), createId('g', g.getVariable()));
+    }
+    return graphIds;
+  }
+
+  /**
+   * Creates the graph ids of a graph element.
+   *
+   * @param e graph element
+   * @param graphIds mapping from GDL id to graph id
+   * @return graph ids of the element
+   */
+  private GradoopIdSet createGradoopIdSet(GraphElement e, Map<Long, GradoopId> graphIds) {
+    GradoopIdSet result = new GradoopIdSet();
+    for (Long graphId : e.getGraphs()) {
+      result.add(graphIds.get(graphId));
+    }
+    return result;
+  }
+
+  /**
+   * Derives the id of an element from its variable.
+   *
+   * @param type type of the element, {@code g}, {@code v} or {@code e}
+   * @param variable variable of the element
+   * @return id of the element
+   */
+  private GradoopId createId(char type, String variable) {
+    String key;
+    if (GENERATED_VARIABLE.matcher(variable).matches()) {
+      key = scope + ':' + definitionIndex + ':' + variable;
+    } else if (variable.startsWith(GDLDefinitionReader.GRAPH_VARIABLE_PREFIX)) {
+      // anonymous graphs are split into multiple definitions
+      key = scope + ':' + variable;
+    } else {
+      key = variable;
+    }
+    byte[] hash = ID_HASH.hashString(type + key, StandardCharsets.UTF_8).asBytes();
+    return GradoopId.fromByteArray(Arrays.copyOf(hash, GradoopId.ID_SIZE));
+  }
+}
@@ -15,10 +15,15 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.testng.Assert.assertNotEquals;
@@ -61,6 +66,25 @@ public class GradoopIdTest {
     assertEquals("reconstruction from string failed", originalId, fromStringId);
   }
 
+  @Test
+  public void testFromCharSequence() {
+    GradoopId originalId = GradoopId.get();
+    String line = "id;" + originalId + ";label";
+    assertEquals(originalId, GradoopId.fromCharSequence(line, 3));
+    assertEquals(GradoopId.fromString("1AB363914FD1325CC43790AB"),
+      GradoopId.fromCharSequence(new StringBuilder("1ab363914fd1325cc43790ab"), 0));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testFromCharSequenceWithInvalidInput() {
+    GradoopId.fromCharSequence("12345678910111211314151G", 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testFromCharSequenceWithShortInput() {
+    GradoopId.fromCharSequence("id;abc3451d98ebd3452fff32a", 3);
+  }
+
   @Test
   public void testGetRawBytes() {
     GradoopId originalId = GradoopId.get();
@@ -111,6 +135,34 @@ public class GradoopIdTest {
     assertEquals(expectedId, newId);
   }
 
+  /**
+   * Tests that the serialized form and the normalized key of an id are its byte representation
+   * and that ids are ordered like their unsigned byte representations.
+   */
+  @Test
+  public void testBinaryRepresentation() throws IOException {
+    GradoopId id = GradoopId.fromString("ff00000000000080000000ff");
+    GradoopId other = GradoopId.fromString("7f0000000000008100000000");
+    byte[] bytes = id.toByteArray();
+
+    DataOutputSerializer output = new DataOutputSerializer(GradoopId.ID_SIZE);
+    id.write(output);
+    assertTrue(Arrays.equals(bytes, output.getCopyOfBuffer()));
+
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[2 * GradoopId.ID_SIZE]);
+    id.copyNormalizedKey(segment, 0, GradoopId.ID_SIZE);
+    id.copyNormalizedKey(segment, GradoopId.ID_SIZE, 4);
+    byte[] normalizedKeys = segment.getArray();
+    assertTrue(Arrays.equals(bytes, Arrays.copyOf(normalizedKeys, GradoopId.ID_SIZE)));
+    assertTrue(Arrays.equals(Arrays.copyOf(bytes, 4),
+      Arrays.copyOfRange(normalizedKeys, GradoopId.ID_SIZE, GradoopId.ID_SIZE + 4)));
+
+    assertTrue(id.compareTo(other) > 0);
+    assertTrue(other.compareTo(id) < 0);
+    assertEquals("ff00000000000080000000ff", id.toString());
+    assertEquals(id, GradoopId.fromByteArray(bytes));
+  }
+
   /**
    * Test the {@link GradoopId#min(GradoopId, GradoopId)} method.
    */
@@ -132,8 +184,10 @@ public class GradoopIdTest {
     GradoopId someId = GradoopId.get();
     GradoopId copy = someId.copy();
     assertEquals(someId, copy);
-    assertSame("toByteArray() seems to return copies of the id, not the raw byte[] data,",
-      someId.toByteArray(), someId.toByteArray());
+    assertTrue("toByteArray() returns different data",
+      Arrays.equals(someId.toByteArray(), copy.toByteArray()));
+    someId.toByteArray()[0]++;
+    assertEquals("toByteArray() exposes the internal representation", someId, copy);
     assertNotSame("copy", someId, copy);
     assertNotSame("raw data of copy", someId.toByteArray(), copy.toByteArray());
   }
@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
@@ -205,6 +206,65 @@ public class GradoopIdsTest {
     assertTrue(idsRead.contains(id2));
   }
 
+  @Test
+  public void testFromByteArrayUnsorted() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+
+    byte[] bytes = new byte[4 * GradoopId.ID_SIZE];
+    GradoopId[] ids = {id3, id1, id3, id2};
+    for (int i = 0; i < ids.length; i++) {
+      System.arraycopy(ids[i].toByteArray(), 0, bytes, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    }
+    GradoopIdSet set = GradoopIdSet.fromByteArray(bytes);
+
+    assertThat(set.size(), is(3));
+    assertEquals(GradoopIdSet.fromExisting(id1, id2, id3), set);
+    Iterator<GradoopId> iterator = set.iterator();
+    assertEquals(id1, iterator.next());
+    assertEquals(id2, iterator.next());
+    assertEquals(id3, iterator.next());
+  }
+
+  @Test
+  public void testMergeOperations() {
+    GradoopId[] ids = new GradoopId[6];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = GradoopId.get();
+    }
+    GradoopIdSet even = GradoopIdSet.fromExisting(ids[4], ids[0], ids[2]);
+    GradoopIdSet odd = GradoopIdSet.fromExisting(ids[1], ids[5], ids[3]);
+
+    assertFalse(even.containsAny(odd));
+    assertFalse(even.containsAll(GradoopIdSet.fromExisting(ids[0], ids[1])));
+    assertTrue(even.containsAll(GradoopIdSet.fromExisting(ids[4], ids[0])));
+
+    even.addAll(odd);
+    assertThat(even.size(), is(6));
+    assertTrue(even.containsAll(odd));
+    assertTrue(odd.containsAny(GradoopIdSet.fromExisting(ids[0], ids[5])));
+    assertEquals(Arrays.asList(ids), Lists.newArrayList(even));
+  }
+
+  @Test
+  public void testRemove() {
+    GradoopId id1 = GradoopId.get();
+    GradoopId id2 = GradoopId.get();
+    GradoopId id3 = GradoopId.get();
+    GradoopIdSet ids = GradoopIdSet.fromExisting(id1, id2, id3);
+
+    assertTrue(ids.remove(id2));
+    assertFalse(ids.remove(id2));
+    Iterator<GradoopId> iterator = ids.iterator();
+    iterator.next();
+    iterator.remove();
+
+    assertEquals(GradoopIdSet.fromExisting(id3), ids);
+    assertEquals(id3, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
   @Test
   public void testIterator() {
     GradoopId id1 = GradoopId.get();
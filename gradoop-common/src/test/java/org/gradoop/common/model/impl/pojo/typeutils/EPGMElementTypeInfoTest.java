@@ -0,0 +1,381 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.pojo.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.AtomicType;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.CompositeType;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.common.typeutils.TypeSerializerSnapshot;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+import static org.gradoop.common.GradoopTestUtils.SUPPORTED_PROPERTIES;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class EPGMElementTypeInfoTest {
+
+  @Test
+  public void testTypeExtraction() {
+    TypeInformation<EPGMVertex> vertexType = TypeExtractor.getForClass(EPGMVertex.class);
+    TypeInformation<EPGMEdge> edgeType = TypeExtractor.getForClass(EPGMEdge.class);
+    TypeInformation<EPGMGraphHead> graphHeadType = TypeExtractor.getForClass(EPGMGraphHead.class);
+
+    assertTrue(vertexType instanceof EPGMElementTypeInfo);
+    assertTrue(edgeType instanceof EPGMElementTypeInfo);
+    assertTrue(graphHeadType instanceof EPGMElementTypeInfo);
+    assertEquals(vertexType, TypeExtractor.getForClass(EPGMVertex.class));
+    assertTrue(vertexType.createSerializer(new ExecutionConfig()) instanceof EPGMVertexSerializer);
+  }
+
+  @Test
+  public void testFieldExpressions() {
+    CompositeType<EPGMEdge> edgeType =
+      (CompositeType<EPGMEdge>) TypeExtractor.getForClass(EPGMEdge.class);
+
+    assertEquals(edgeType.getFlatFields("targetId").get(0).getPosition(), 2);
+    assertEquals(edgeType.getFlatFields("*").size(), 6);
+    assertTrue(edgeType.getTypeAt("sourceId").isKeyType());
+    assertTrue(edgeType.getTypeAt("label").isKeyType());
+    assertEquals(edgeType.getTypeAt("graphIds").getTypeClass(), GradoopIdSet.class);
+  }
+
+  @Test
+  public void testSubclassTypeExtraction() throws IOException {
+    TypeInformation<WeightedVertex> type = TypeExtractor.getForClass(WeightedVertex.class);
+
+    assertTrue(type instanceof PojoTypeInfo);
+    PojoTypeInfo<WeightedVertex> pojoType = (PojoTypeInfo<WeightedVertex>) type;
+    assertEquals(pojoType.getArity(), 5);
+    assertEquals(pojoType.getTypeAt("weight"), TypeExtractor.getForClass(Double.class));
+    assertEquals(pojoType.getTypeAt("id").getTypeClass(), GradoopId.class);
+
+    WeightedVertex vertex = new WeightedVertex();
+    vertex.setId(GradoopId.get());
+    vertex.setLabel("A");
+    vertex.setWeight(0.5);
+    WeightedVertex copy =
+      serializeAndDeserialize(type.createSerializer(new ExecutionConfig()), vertex);
+    assertEquals(copy.getId(), vertex.getId());
+    assertEquals(copy.getLabel(), vertex.getLabel());
+    assertEquals(copy.getWeight(), vertex.getWeight());
+  }
+
+  @Test
+  public void testNonPojoSubclassTypeExtraction() {
+    assertTrue(TypeExtractor.getForClass(TaggedEdge.class) instanceof GenericTypeInfo);
+  }
+
+  @Test(expectedExceptions = CompositeType.InvalidFieldReferenceException.class)
+  public void testInvalidFieldExpression() {
+    ((CompositeType<EPGMVertex>) TypeExtractor.getForClass(EPGMVertex.class))
+      .getFlatFields("sourceId");
+  }
+
+  @Test
+  public void testVertexSerialization() throws IOException {
+    EPGMVertex vertex = new EPGMVertexFactory().createVertex("A",
+      Properties.createFromMap(SUPPORTED_PROPERTIES),
+      GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get()));
+
+    EPGMVertex copy = serializeAndDeserialize(new EPGMVertexSerializer(), vertex);
+
+    assertEquals(copy.getId(), vertex.getId());
+    assertEquals(copy.getLabel(), vertex.getLabel());
+    assertEquals(copy.getProperties(), vertex.getProperties());
+    assertEquals(copy.getGraphIds(), vertex.getGraphIds());
+  }
+
+  @Test
+  public void testEdgeSerialization() throws IOException {
+    EPGMEdge edge = new EPGMEdgeFactory().createEdge("a", GradoopId.get(), GradoopId.get(),
+      Properties.createFromMap(SUPPORTED_PROPERTIES), GradoopIdSet.fromExisting(GradoopId.get()));
+
+    EPGMEdge copy = serializeAndDeserialize(new EPGMEdgeSerializer(), edge);
+
+    assertEquals(copy.getId(), edge.getId());
+    assertEquals(copy.getSourceId(), edge.getSourceId());
+    assertEquals(copy.getTargetId(), edge.getTargetId());
+    assertEquals(copy.getLabel(), edge.getLabel());
+    assertEquals(copy.getProperties(), edge.getProperties());
+    assertEquals(copy.getGraphIds(), edge.getGraphIds());
+  }
+
+  @Test
+  public void testNullFieldSerialization() throws IOException {
+    EPGMEdge edge = new EPGMEdge();
+    edge.setTargetId(GradoopId.get());
+
+    EPGMEdge copy = serializeAndDeserialize(new EPGMEdgeSerializer(), edge);
+
+    assertNull(copy.getId());
+    assertNull(copy.getSourceId());
+    assertEquals(copy.getTargetId(), edge.getTargetId());
+    assertNull(copy.getLabel());
+    assertNull(copy.getProperties());
+    assertNull(copy.getGraphIds());
+  }
+
+  @Test
+  public void testSerializationWithKeyDictionary() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    EPGMVertex vertex = new EPGMVertexFactory().createVertex("A", properties);
+    ExecutionConfig config = new ExecutionConfig();
+    PropertyKeyDictionary dictionary = new PropertyKeyDictionary(SUPPORTED_PROPERTIES.keySet());
+    dictionary.register(config);
+
+    TypeSerializer<EPGMVertex> serializer =
+      TypeExtractor.getForClass(EPGMVertex.class).createSerializer(config);
+    assertEquals(((EPGMElementSerializer<EPGMVertex>) serializer).getKeyDictionary(), dictionary);
+    assertEquals(serializeAndDeserialize(serializer, vertex).getProperties(), properties);
+
+    // the dictionary is restored from the configuration snapshot
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    TypeSerializerSnapshot.writeVersionedSnapshot(out, serializer.snapshotConfiguration());
+    TypeSerializerSnapshot<EPGMVertex> snapshot = TypeSerializerSnapshot.readVersionedSnapshot(
+      new DataInputDeserializer(out.getCopyOfBuffer()), getClass().getClassLoader());
+    assertEquals(snapshot.restoreSerializer(), serializer);
+    assertTrue(snapshot.resolveSchemaCompatibility(serializer).isCompatibleAsIs());
+    assertTrue(snapshot.resolveSchemaCompatibility(new EPGMVertexSerializer()).isIncompatible());
+  }
+
+  @Test
+  public void testSerializationWithLazyProperties() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    EPGMVertex vertex = new EPGMVertexFactory().createVertex("A", properties);
+    ExecutionConfig config = new ExecutionConfig();
+    Properties.enableLazyDeserialization(config);
+
+    TypeSerializer<EPGMVertex> serializer =
+      TypeExtractor.getForClass(EPGMVertex.class).createSerializer(config);
+    assertTrue(((EPGMElementSerializer<EPGMVertex>) serializer).isLazyProperties());
+    EPGMVertex result = serializeAndDeserialize(serializer, vertex);
+    assertEquals(serializer.copy(result).getProperties(), properties);
+    assertEquals(result.getProperties(), properties);
+
+    // the lazy flag is restored from the configuration snapshot
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    TypeSerializerSnapshot.writeVersionedSnapshot(out, serializer.snapshotConfiguration());
+    TypeSerializerSnapshot<EPGMVertex> snapshot = TypeSerializerSnapshot.readVersionedSnapshot(
+      new DataInputDeserializer(out.getCopyOfBuffer()), getClass().getClassLoader());
+    assertEquals(snapshot.restoreSerializer(), serializer);
+    assertTrue(snapshot.resolveSchemaCompatibility(new EPGMVertexSerializer()).isCompatibleAsIs());
+  }
+
+  @Test
+  public void testNullElementSerialization() throws IOException {
+    EPGMGraphHeadSerializer serializer = new EPGMGraphHeadSerializer();
+
+    assertNull(serializeAndDeserialize(serializer, null));
+    assertNull(serializer.copy(null));
+  }
+
+  @Test
+  public void testCopySerialized() throws IOException {
+    EPGMEdge edge = new EPGMEdgeFactory().createEdge("e", GradoopId.get(), GradoopId.get(),
+      Properties.createFromMap(SUPPORTED_PROPERTIES), GradoopIdSet.fromExisting(GradoopId.get()));
+    EPGMEdge edgeWithNullFields = new EPGMEdge();
+    PropertyKeyDictionary dictionary =
+      new PropertyKeyDictionary(SUPPORTED_PROPERTIES.keySet());
+
+    for (EPGMEdgeSerializer serializer :
+      new EPGMEdgeSerializer[] {new EPGMEdgeSerializer(), new EPGMEdgeSerializer(dictionary)}) {
+      for (EPGMEdge element : new EPGMEdge[] {edge, edgeWithNullFields, null}) {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        serializer.serialize(element, out);
+        byte[] serialized = out.getCopyOfBuffer();
+
+        DataInputDeserializer in = new DataInputDeserializer(serialized);
+        DataOutputSerializer copy = new DataOutputSerializer(64);
+        serializer.copy(in, copy);
+
+        assertEquals(in.available(), 0);
+        assertEquals(copy.getCopyOfBuffer(), serialized);
+      }
+    }
+  }
+
+  @Test
+  public void testCopy() {
+    EPGMGraphHead graphHead = new EPGMGraphHeadFactory().createGraphHead("G",
+      Properties.createFromMap(SUPPORTED_PROPERTIES));
+
+    EPGMGraphHead copy = new EPGMGraphHeadSerializer().copy(graphHead);
+
+    assertEquals(copy.getId(), graphHead.getId());
+    assertEquals(copy.getLabel(), graphHead.getLabel());
+    assertEquals(copy.getProperties(), graphHead.getProperties());
+    assertTrue(copy.getProperties() != graphHead.getProperties());
+  }
+
+  @Test
+  public void testComparator() throws IOException {
+    EPGMEdgeSerializer serializer = new EPGMEdgeSerializer();
+    TypeComparator<EPGMEdge> comparator = createComparator(EPGMEdge.class, "targetId", "sourceId");
+    TypeComparator<GradoopId> idComparator = ((AtomicType<GradoopId>)
+      TypeExtractor.getForClass(GradoopId.class)).createComparator(true, new ExecutionConfig());
+
+    GradoopId small = GradoopId.fromString("000000000000000000000001");
+    GradoopId large = GradoopId.fromString("ff0000000000000000000000");
+    EPGMEdgeFactory factory = new EPGMEdgeFactory();
+    EPGMEdge first = factory.createEdge(small, large);
+    EPGMEdge second = factory.createEdge(large, small);
+
+    assertTrue(comparator.compare(first, second) > 0);
+    assertTrue(comparator.compare(second, first) < 0);
+    assertEquals(comparator.compare(first, first), 0);
+    assertEquals(compareSerialized(serializer, comparator, first, second),
+      comparator.compare(first, second));
+    assertEquals(compareSerialized(serializer, comparator, second, first),
+      comparator.compare(second, first));
+    assertEquals(compareSerialized(serializer, comparator, first, first), 0);
+
+    // normalized keys have the same order
+    assertTrue(comparator.supportsNormalizedKey());
+    int length = comparator.getNormalizeKeyLen();
+    MemorySegment firstKey = MemorySegmentFactory.allocateUnpooledSegment(length);
+    MemorySegment secondKey = MemorySegmentFactory.allocateUnpooledSegment(length);
+    comparator.putNormalizedKey(first, firstKey, 0, length);
+    comparator.putNormalizedKey(second, secondKey, 0, length);
+    assertTrue(firstKey.compare(secondKey, 0, 0, length) > 0);
+
+    // the hash code is the same as the one of the key field
+    TypeComparator<EPGMEdge> idKeyComparator = createComparator(EPGMEdge.class, "sourceId");
+    assertEquals(idKeyComparator.hash(first), idComparator.hash(first.getSourceId()));
+  }
+
+  @Test
+  public void testComparatorWithLabelKey() throws IOException {
+    EPGMVertexSerializer serializer = new EPGMVertexSerializer();
+    TypeComparator<EPGMVertex> comparator = createComparator(EPGMVertex.class, "label", "id");
+
+    EPGMVertexFactory factory = new EPGMVertexFactory();
+    EPGMVertex first = factory.createVertex("B");
+    EPGMVertex second = factory.createVertex("A");
+
+    assertTrue(comparator.compare(first, second) > 0);
+    assertEquals(compareSerialized(serializer, comparator, first, second),
+      comparator.compare(first, second));
+    assertEquals(compareSerialized(serializer, comparator, second, second), 0);
+    assertFalse(comparator.supportsNormalizedKey());
+  }
+
+  @Test
+  public void testComparatorOfNestedKey() {
+    TupleTypeInfo<Tuple2<EPGMEdge, GradoopId>> type = new TupleTypeInfo<>(
+      TypeExtractor.getForClass(EPGMEdge.class), TypeExtractor.getForClass(GradoopId.class));
+    int position = type.getFlatFields("f0.targetId").get(0).getPosition();
+    TypeComparator<Tuple2<EPGMEdge, GradoopId>> comparator =
+      type.createComparator(new int[] {position}, new boolean[] {true}, 0, new ExecutionConfig());
+
+    EPGMEdge edge = new EPGMEdgeFactory().createEdge(GradoopId.get(), GradoopId.get());
+    Object[] keys = new Object[1];
+    comparator.extractKeys(Tuple2.of(edge, GradoopId.get()), keys, 0);
+    TypeComparator[] flatComparators = comparator.getFlatComparators();
+
+    assertEquals(flatComparators.length, 1);
+    assertEquals(keys[0], edge.getTargetId());
+    assertEquals(flatComparators[0].compare(keys[0], edge.getTargetId()), 0);
+    assertTrue(flatComparators[0].compare(keys[0], edge.getSourceId()) != 0);
+  }
+
+  private static <T extends EPGMElement> TypeComparator<T> createComparator(Class<T> clazz,
+    String... keys) {
+    CompositeType<T> type = (CompositeType<T>) TypeExtractor.getForClass(clazz);
+    int[] positions = new int[keys.length];
+    boolean[] orders = new boolean[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      positions[i] = type.getFlatFields(keys[i]).get(0).getPosition();
+      orders[i] = true;
+    }
+    return type.createComparator(positions, orders, 0, new ExecutionConfig());
+  }
+
+  private static <T> int compareSerialized(TypeSerializer<T> serializer,
+    TypeComparator<T> comparator, T first, T second) throws IOException {
+    DataOutputSerializer firstOut = new DataOutputSerializer(64);
+    DataOutputSerializer secondOut = new DataOutputSerializer(64);
+    serializer.serialize(first, firstOut);
+    serializer.serialize(second, secondOut);
+    return comparator.compareSerialized(
+      new DataInputDeserializer(firstOut.getCopyOfBuffer()),
+      new DataInputDeserializer(secondOut.getCopyOfBuffer()));
+  }
+
+  private static <T> T serializeAndDeserialize(TypeSerializer<T> serializer, T element)
+    throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    serializer.serialize(element, out);
+    DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+    T result = serializer.deserialize(in);
+    assertEquals(in.available(), 0);
+    return result;
+  }
+
+  /**
+   * Vertex subclass fulfilling the POJO rules.
+   */
+  public static class WeightedVertex extends EPGMVertex {
+
+    private Double weight;
+
+    public Double getWeight() {
+      return weight;
+    }
+
+    public void setWeight(Double weight) {
+      this.weight = weight;
+    }
+  }
+
+  /**
+   * Edge subclass with a field that is not accessible by a POJO serializer.
+   */
+  public static class TaggedEdge extends EPGMEdge {
+
+    private String tag;
+
+    public String getTag() {
+      return tag;
+    }
+  }
+}
@@ -16,8 +16,13 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -212,4 +217,116 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
+
+  @Test
+  public void testReadLazily() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    PropertyKeyDictionary dictionary = new PropertyKeyDictionary(Arrays.asList(KEY_1, KEY_2));
+
+    for (PropertyKeyDictionary keyDictionary : Arrays.asList(null, dictionary)) {
+      byte[] serialized = write(properties, keyDictionary);
+      Properties lazy = readLazily(serialized, keyDictionary);
+
+      assertEquals(properties.size(), lazy.size());
+      for (Map.Entry<String, Object> entry : SUPPORTED_PROPERTIES.entrySet()) {
+        assertEquals(entry.getValue(), lazy.get(entry.getKey()).getObject());
+      }
+      assertNull(lazy.get("unknown"));
+      assertEquals(properties, readLazily(serialized, keyDictionary));
+      assertTrue(Arrays.equals(serialized, write(readLazily(serialized, keyDictionary),
+        keyDictionary)));
+    }
+  }
+
+  @Test
+  public void testModifyLazilyReadProperties() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    PropertyKeyDictionary dictionary = new PropertyKeyDictionary(Arrays.asList(KEY_1, KEY_2));
+    Properties modified = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    modified.get(KEY_2).setInt(42);
+
+    for (PropertyKeyDictionary keyDictionary : Arrays.asList(null, dictionary)) {
+      // values returned by get are the values held by the properties, as in eager mode
+      Properties lazy = readLazily(write(properties, keyDictionary), keyDictionary);
+      Properties unmodifiedCopy = lazy.copy();
+      lazy.get(KEY_2).setInt(42);
+      assertTrue(lazy.get(KEY_2) == lazy.get(KEY_2));
+      assertEquals(42, lazy.get(KEY_2).getInt());
+      assertEquals(modified, readLazily(write(lazy, keyDictionary), keyDictionary));
+      assertEquals(modified, readLazily(write(lazy.copy(), keyDictionary), keyDictionary));
+      assertEquals(properties, unmodifiedCopy);
+
+      // values stored by set are returned as they are
+      lazy = readLazily(write(properties, keyDictionary), keyDictionary);
+      PropertyValue value = PropertyValue.create(42);
+      lazy.set(KEY_2, value);
+      assertTrue(value == lazy.get(KEY_2));
+      assertEquals(SUPPORTED_PROPERTIES.size(), lazy.size());
+      assertEquals(modified, readLazily(write(lazy, keyDictionary), keyDictionary));
+    }
+
+    Properties copy = readLazily(write(properties, null), null).copy();
+
+    copy.remove(KEY_2);
+    assertEquals(SUPPORTED_PROPERTIES.size() - 1, copy.size());
+    assertFalse(copy.containsKey(KEY_2));
+  }
+
+  @Test
+  public void testWriteLazilyReadPropertiesAfterGet() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    PropertyKeyDictionary dictionary = new PropertyKeyDictionary(Arrays.asList(KEY_1, KEY_2));
+
+    for (PropertyKeyDictionary keyDictionary : Arrays.asList(null, dictionary)) {
+      byte[] serialized = write(properties, keyDictionary);
+      Properties lazy = readLazily(serialized, keyDictionary);
+
+      // a filter reading a single property writes the same serialized form
+      assertTrue(lazy.containsKey(KEY_2));
+      assertFalse(lazy.containsKey("unknown"));
+      assertEquals(SUPPORTED_PROPERTIES.get(KEY_1), lazy.get(KEY_1).getObject());
+      assertEquals(SUPPORTED_PROPERTIES.size(), lazy.size());
+      assertTrue(Arrays.equals(serialized, write(lazy, keyDictionary)));
+      assertTrue(Arrays.equals(serialized, write(lazy.copy(), keyDictionary)));
+    }
+  }
+
+  @Test
+  public void testEnableLazyDeserialization() {
+    ExecutionConfig config = new ExecutionConfig();
+    assertFalse(Properties.isLazyDeserializationEnabled(config));
+
+    Properties.enableLazyDeserialization(config);
+    assertTrue(Properties.isLazyDeserializationEnabled(config));
+  }
+
+  /**
+   * Writes the properties using the given dictionary.
+   *
+   * @param properties properties
+   * @param dictionary key dictionary, may be {@code null}
+   * @return serialized properties
+   * @throws IOException on failure
+   */
+  private static byte[] write(Properties properties, PropertyKeyDictionary dictionary)
+    throws IOException {
+    DataOutputSerializer output = new DataOutputSerializer(256);
+    properties.write(output, dictionary);
+    return output.getCopyOfBuffer();
+  }
+
+  /**
+   * Reads serialized properties lazily.
+   *
+   * @param serialized serialized properties
+   * @param dictionary key dictionary, may be {@code null}
+   * @return lazily read properties
+   * @throws IOException on failure
+   */
+  private static Properties readLazily(byte[] serialized, PropertyKeyDictionary dictionary)
+    throws IOException {
+    Properties properties = new Properties();
+    properties.readLazily(new DataInputDeserializer(serialized), dictionary);
+    return properties;
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.properties;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.SUPPORTED_PROPERTIES;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class PropertyKeyDictionaryTest {
+
+  @Test
+  public void testWriteAndReadWithDictionary() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    // ids larger than 127 need more than one byte, one key is not contained at all
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      keys.add("unused" + i);
+    }
+    keys.addAll(SUPPORTED_PROPERTIES.keySet());
+    keys.remove(keys.size() - 1);
+    PropertyKeyDictionary dictionary = new PropertyKeyDictionary(keys);
+
+    DataOutputSerializer plain = new DataOutputSerializer(256);
+    properties.write(plain);
+    DataOutputSerializer encoded = new DataOutputSerializer(256);
+    properties.write(encoded, dictionary);
+
+    Properties result = new Properties();
+    DataInputDeserializer input = new DataInputDeserializer(encoded.getCopyOfBuffer());
+    result.read(input, dictionary);
+
+    assertEquals(result, properties);
+    assertEquals(input.available(), 0);
+    assertTrue(encoded.length() < plain.length());
+  }
+
+  @Test
+  public void testWriteAndReadWithoutDictionary() throws IOException {
+    Properties properties = Properties.createFromMap(SUPPORTED_PROPERTIES);
+
+    DataOutputSerializer output = new DataOutputSerializer(256);
+    properties.write(output, null);
+    Properties result = new Properties();
+    result.read(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+    assertEquals(result, properties);
+  }
+
+  @Test
+  public void testRegister() {
+    ExecutionConfig config = new ExecutionConfig();
+    assertNull(PropertyKeyDictionary.fromConfig(config));
+
+    config.setGlobalJobParameters(ParameterTool.fromArgs(new String[] {"--input", "path"}));
+    PropertyKeyDictionary dictionary =
+      new PropertyKeyDictionary(Arrays.asList("name", "a:b", "12:c", ""));
+    dictionary.register(config);
+
+    assertEquals(PropertyKeyDictionary.fromConfig(config), dictionary);
+    assertEquals(config.getGlobalJobParameters().toMap().get("input"), "path");
+  }
+
+  @Test
+  public void testWriteAndReadDictionary() throws IOException {
+    PropertyKeyDictionary dictionary =
+      new PropertyKeyDictionary(Arrays.asList("name", "age", "name"));
+
+    DataOutputSerializer output = new DataOutputSerializer(64);
+    dictionary.write(output);
+    PropertyKeyDictionary result =
+      PropertyKeyDictionary.read(new DataInputDeserializer(output.getCopyOfBuffer()));
+
+    assertEquals(result, dictionary);
+    assertEquals(result.getKeys(), Arrays.asList("name", "age"));
+  }
+}
@@ -17,6 +17,8 @@ package org.gradoop.common.model.impl.properties;
 
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.testng.annotations.Test;
@@ -500,6 +502,83 @@ public class PropertyValueTest {
     assertNotEquals(p, null);
   }
 
+  /**
+   * Tests that the cached byte representation and hash code are reset if the value changes.
+   */
+  @Test
+  public void testHashCodeAndRawBytesAfterSet() {
+    PropertyValue p = create(INT_VAL_2);
+    p.hashCode();
+    p.getRawBytes();
+
+    p.setString(STRING_VAL_6);
+    assertEquals(create(STRING_VAL_6), p);
+    assertEquals(create(STRING_VAL_6).hashCode(), p.hashCode());
+    assertTrue(Arrays.equals(create(STRING_VAL_6).getRawBytes(), p.getRawBytes()));
+    assertSame(p.getRawBytes(), p.getRawBytes());
+
+    p.setBytes(create(LONG_VAL_3).getRawBytes());
+    assertEquals(create(LONG_VAL_3), p);
+    assertEquals(create(LONG_VAL_3).hashCode(), p.hashCode());
+  }
+
+  /**
+   * Tests that the byte representation of mutable values reflects modifications of the value.
+   */
+  @Test
+  public void testHashCodeAndRawBytesOfMutableValue() {
+    List<PropertyValue> list = new ArrayList<>();
+    list.add(create(INT_VAL_2));
+    PropertyValue p = create(list);
+    int hashCode = p.hashCode();
+
+    list.add(create(LONG_VAL_3));
+    assertNotEquals(hashCode, p.hashCode());
+    assertEquals(create(new ArrayList<>(list)).hashCode(), p.hashCode());
+    assertTrue(Arrays.equals(create(new ArrayList<>(list)).getRawBytes(), p.getRawBytes()));
+  }
+
+  /**
+   * Tests that values stored as primitives are equal to, have the same hash code and the same
+   * byte representation as values created from the corresponding objects.
+   */
+  @Test
+  public void testPrimitiveValues() {
+    PropertyValue p = new PropertyValue();
+    p.setInt(INT_VAL_2);
+    assertEquals(create(INT_VAL_2), p);
+    assertEquals(create(INT_VAL_2).hashCode(), p.hashCode());
+    assertTrue(Arrays.equals(create(INT_VAL_2).getRawBytes(), p.getRawBytes()));
+    assertEquals(INT_VAL_2, p.getObject());
+
+    p.setLong(INT_VAL_2);
+    assertNotEquals(create(INT_VAL_2), p);
+    assertEquals(create((long) INT_VAL_2), p);
+    assertEquals(0, create(INT_VAL_2).compareTo(p));
+
+    p.setDateTime(DATETIME_VAL_d);
+    assertEquals(create(DATETIME_VAL_d), p);
+    assertEquals(DATETIME_VAL_d, p.getDateTime());
+    assertTrue(Arrays.equals(create(DATETIME_VAL_d).getRawBytes(), p.getRawBytes()));
+
+    p.setDouble(Double.NaN);
+    assertEquals(create(Double.NaN), p);
+    assertEquals(0, create(Double.NaN).compareTo(p));
+
+    p.setObject(STRING_VAL_6);
+    assertFalse(p.isDouble());
+    assertEquals(STRING_VAL_6, p.getString());
+  }
+
+  /**
+   * Tests that a value stored as primitive can not be accessed as a different type.
+   */
+  @Test(expectedExceptions = UnsupportedOperationException.class,
+    expectedExceptionsMessageRegExp = "Value '23' of type Integer, cannot be accessed as Long")
+  public void testPrimitiveValueAccessedAsOtherType() {
+    create(23).getLong();
+  }
+
   /**
    * Tests {@link PropertyValue#compareTo(PropertyValue)}.
    */
@@ -873,4 +952,57 @@ public class PropertyValueTest {
     assertTrue(p3.compareTo(p1) > 0);
     assertTrue(p3.compareTo(p2) > 0);
   }
+
+  @Test
+  public void testNormalizedKey() {
+    // values of each group are in ascending order
+    List<List<PropertyValue>> groups = Arrays.asList(
+      Arrays.asList(create((short) -5), create(-1), create(0L), create(0.5f), create(1.5d),
+        create(new BigDecimal("2.25")), create(Long.MAX_VALUE), create(Double.NaN)),
+      Arrays.asList(create(""), create("a"), create("ab"), create("abcdefgh"), create("b"),
+        create("\u00e4")),
+      Arrays.asList(create(LocalDate.MIN), create(LocalDate.of(2020, 1, 1)),
+        create(LocalDate.of(2020, 1, 2)), create(LocalDate.MAX)),
+      Arrays.asList(create(LocalTime.MIN), create(LocalTime.of(12, 0)),
+        create(LocalTime.of(12, 0, 0, 1)), create(LocalTime.MAX)),
+      Arrays.asList(create(LocalDateTime.of(2020, 1, 1, 23, 0)),
+        create(LocalDateTime.of(2020, 1, 2, 1, 0)), create(LocalDateTime.of(2020, 1, 2, 2, 0))),
+      Arrays.asList(create(false), create(true)),
+      Arrays.asList(create(GradoopId.fromString("000000000000000000000001")),
+        create(GradoopId.fromString("100000000000000000000000"))));
+
+    for (int length : new int[] {1, 8, 16}) {
+      PropertyValue nullValue = create(null);
+      for (List<PropertyValue> group : groups) {
+        assertTrue(compareNormalizedKeys(nullValue, group.get(0), length) < 0);
+        for (int i = 0; i < group.size(); i++) {
+          for (int j = i + 1; j < group.size(); j++) {
+            assertTrue(group.get(i) + " < " + group.get(j),
+              compareNormalizedKeys(group.get(i), group.get(j), length) <= 0);
+          }
+        }
+      }
+    }
+    assertTrue(compareNormalizedKeys(create(1), create(2L), 16) < 0);
+    assertTrue(compareNormalizedKeys(create("ab"), create("ac"), 16) < 0);
+    assertTrue(compareNormalizedKeys(create(LocalDate.of(2020, 1, 1)),
+      create(LocalDate.of(2020, 1, 2)), 8) < 0);
+    assertEquals(0, compareNormalizedKeys(create(1), create(new BigDecimal("1.00")), 16));
+  }
+
+  /**
+   * Compares the normalized keys of two property values.
+   *
+   * @param first first value
+   * @param second second value
+   * @param length length of the normalized keys
+   * @return result of the comparison of the keys
+   */
+  private static int compareNormalizedKeys(PropertyValue first, PropertyValue second,
+    int length) {
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[2 * length]);
+    first.copyNormalizedKey(segment, 0, length);
+    second.copyNormalizedKey(segment, length, length);
+    return segment.compare(segment, 0, length, length);
+  }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.util;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class GDLDefinitionReaderTest {
+
+  @Test
+  public void testPaths() throws IOException {
+    assertEquals(read("(a:A {x: 1})-[e:e]->(b), (b)<--(c)\n(d)"),
+      Arrays.asList("(a:A {x: 1})-[e:e]->(b)", "(b)<--(c)", "(d)"));
+  }
+
+  @Test
+  public void testGraphs() throws IOException {
+    assertEquals(read("g:G {x: 1}[(a)-->(b) (c)] h[]"),
+      Arrays.asList("g:G {x: 1}[(a)-->(b)]", "g[(c)]", "h[]"));
+  }
+
+  @Test
+  public void testAnonymousGraphs() throws IOException {
+    assertEquals(read("[(a)] :G[(b),(c)]"),
+      Arrays.asList("__graph0[(a)]", "__graph1:G[(b)]", "__graph1[(c)]"));
+  }
+
+  @Test
+  public void testComments() throws IOException {
+    assertEquals(read("// (a)\n(b) /* (c) */ g[ // ]\n(d)] (e) // (f)"),
+      Arrays.asList("(b)", "g[(d)]", "(e)"));
+  }
+
+  @Test
+  public void testStrings() throws IOException {
+    String path = "(a {x: \"])}\"})-[{y: '\\\\'}]->(b {z: 'a\\'(b\\\\'})";
+    assertEquals(read(path + ", (c)"), Arrays.asList(path, "(c)"));
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testUnterminatedGraph() throws IOException {
+    read("g[(a)");
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testUnterminatedVertex() throws IOException {
+    read("(a {x: 1}");
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testInvalidEdge() throws IOException {
+    read("(a)-->]");
+  }
+
+  /**
+   * Reads all definitions of a GDL script.
+   *
+   * @param script GDL script
+   * @return definitions
+   * @throws IOException on failure
+   */
+  private List<String> read(String script) throws IOException {
+    List<String> definitions = new ArrayList<>();
+    try (GDLDefinitionReader reader = new GDLDefinitionReader(new StringReader(script))) {
+      String definition = reader.next();
+      while (definition != null) {
+        definitions.add(definition);
+        definition = reader.next();
+      }
+    }
+    return definitions;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.util;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.gradoop.common.GradoopTestUtils.getEPGMElementFactoryProvider;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class StreamingAsciiGraphLoaderTest {
+
+  private static final String SCRIPT =
+    "g:Community {area: 'Leipzig'}[(alice:Person {name: 'Alice'})-[e:knows]->(bob:Person)]" +
+    "g[(bob)-->(carol:Person)]" +
+    "h[(alice)]" +
+    "(dave)";
+
+  @Test
+  public void testDefinitions() throws IOException {
+    StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader = createLoader(SCRIPT);
+
+    assertTrue(loader.next());
+    assertEquals(loader.getDefinitionIndex(), 0);
+    assertEquals(loader.getGraphHeads().size(), 1);
+    assertEquals(loader.getGraphHeads().get(0).getLabel(), "Community");
+    assertEquals(loader.getVertices().size(), 2);
+    assertEquals(loader.getEdges().size(), 1);
+
+    assertTrue(loader.next());
+    assertEquals(loader.getDefinitionIndex(), 1);
+    assertEquals(loader.getVertices().size(), 2);
+    assertEquals(loader.getEdges().size(), 1);
+    assertEquals(loader.getEdges().get(0).getLabel(), GradoopConstants.DEFAULT_EDGE_LABEL);
+
+    assertTrue(loader.next());
+    assertTrue(loader.next());
+    assertEquals(loader.getGraphHeads().size(), 0);
+    assertEquals(loader.getVertices().size(), 1);
+    assertEquals(loader.getVertices().get(0).getGraphCount(), 0);
+
+    assertFalse(loader.next());
+    loader.close();
+  }
+
+  @Test
+  public void testMergedElements() throws IOException {
+    Map<String, EPGMGraphHead> graphHeads = new HashMap<>();
+    Map<String, EPGMVertex> vertices = new HashMap<>();
+    Map<String, EPGMEdge> edges = new HashMap<>();
+    load(SCRIPT, graphHeads, vertices, edges);
+
+    assertEquals(graphHeads.size(), 2);
+    assertEquals(vertices.size(), 4);
+    assertEquals(edges.size(), 2);
+
+    EPGMGraphHead g = graphHeads.get("Community");
+    EPGMGraphHead h = graphHeads.get(GradoopConstants.DEFAULT_GRAPH_LABEL);
+    assertEquals(g.getPropertyValue("area").getString(), "Leipzig");
+
+    EPGMVertex alice = vertices.get("Alice");
+    assertEquals(alice.getGraphIds(), GradoopIdSet.fromExisting(g.getId(), h.getId()));
+    assertEquals(edges.get(GradoopConstants.DEFAULT_EDGE_LABEL).getGraphIds(),
+      GradoopIdSet.fromExisting(g.getId()));
+    assertEquals(edges.get("knows").getSourceId(), alice.getId());
+  }
+
+  @Test
+  public void testStableIds() throws IOException {
+    String script = "g[(a)-->(b)] [(c)-->()] [()]";
+    List<GradoopId> first = loadIds(script, "scope");
+
+    assertEquals(first.size(), 10);
+    assertEquals(loadIds(script, "scope"), first);
+    assertNotEquals(loadIds(script, "other"), first);
+  }
+
+  @Test
+  public void testStructureEqualsAsciiGraphLoader() throws IOException {
+    String script = "g:G[(a:A)-[:e]->(b:B)<-[:f]-(:C)] :H[(a)-->(b)] (b)-->(:D)";
+    AsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> expected =
+      AsciiGraphLoader.fromString(script, getEPGMElementFactoryProvider());
+
+    Map<GradoopId, EPGMGraphHead> graphHeads = new HashMap<>();
+    Map<GradoopId, EPGMVertex> vertices = new HashMap<>();
+    Map<GradoopId, EPGMEdge> edges = new HashMap<>();
+    try (StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader =
+      createLoader(script)) {
+      while (loader.next()) {
+        loader.getGraphHeads().forEach(e -> graphHeads.putIfAbsent(e.getId(), e));
+        loader.getVertices().forEach(e -> merge(vertices, e.getId(), e));
+        loader.getEdges().forEach(e -> merge(edges, e.getId(), e));
+      }
+    }
+
+    assertEquals(graphHeads.size(), expected.getGraphHeads().size());
+    assertEquals(vertices.size(), expected.getVertices().size());
+    assertEquals(edges.size(), expected.getEdges().size());
+    assertEquals(labels(vertices.values()), labels(expected.getVertices()));
+    assertEquals(labels(edges.values()), labels(expected.getEdges()));
+    assertEquals(vertices.values().stream().mapToInt(EPGMVertex::getGraphCount).sum(),
+      expected.getVertices().stream().mapToInt(EPGMVertex::getGraphCount).sum());
+    assertEquals(edges.values().stream().mapToInt(EPGMEdge::getGraphCount).sum(),
+      expected.getEdges().stream().mapToInt(EPGMEdge::getGraphCount).sum());
+  }
+
+  private StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> createLoader(
+    String script) {
+    return createLoader(script, "test");
+  }
+
+  private StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> createLoader(
+    String script, String scope) {
+    return new StreamingAsciiGraphLoader<>(new StringReader(script),
+      getEPGMElementFactoryProvider(), scope);
+  }
+
+  private void load(String script, Map<String, EPGMGraphHead> graphHeads,
+    Map<String, EPGMVertex> vertices, Map<String, EPGMEdge> edges) throws IOException {
+    Map<GradoopId, EPGMGraphHead> graphHeadsById = new HashMap<>();
+    Map<GradoopId, EPGMVertex> verticesById = new HashMap<>();
+    Map<GradoopId, EPGMEdge> edgesById = new HashMap<>();
+    try (StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader =
+      createLoader(script)) {
+      while (loader.next()) {
+        loader.getGraphHeads().forEach(e -> graphHeadsById.putIfAbsent(e.getId(), e));
+        loader.getVertices().forEach(e -> merge(verticesById, e.getId(), e));
+        loader.getEdges().forEach(e -> merge(edgesById, e.getId(), e));
+      }
+    }
+    graphHeadsById.values().forEach(g -> graphHeads.put(g.getLabel(), g));
+    verticesById.values().forEach(v -> vertices.put(v.hasProperty("name") ?
+      v.getPropertyValue("name").getString() : v.getId().toString(), v));
+    edgesById.values().forEach(e -> edges.put(e.getLabel(), e));
+  }
+
+  private List<GradoopId> loadIds(String script, String scope) throws IOException {
+    List<GradoopId> ids = new ArrayList<>();
+    try (StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader =
+      createLoader(script, scope)) {
+      while (loader.next()) {
+        loader.getGraphHeads().forEach(e -> ids.add(e.getId()));
+        loader.getVertices().forEach(e -> ids.add(e.getId()));
+        loader.getEdges().forEach(e -> ids.add(e.getId()));
+      }
+    }
+    return ids;
+  }
+
+  private static <T extends org.gradoop.common.model.api.entities.GraphElement> void merge(
+    Map<GradoopId, T> elements, GradoopId id, T element) {
+    T existing = elements.putIfAbsent(id, element);
+    if (existing != null) {
+      element.getGraphIds().forEach(existing::addGraphId);
+    }
+  }
+
+  private static List<String> labels(Iterable<? extends Element> elements) {
+    List<String> labels = new ArrayList<>();
+    elements.forEach(e -> labels.add(e.getLabel()));
+    labels.sort(String::compareTo);
+    return labels;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Base class for the columnar data source and data sink.
+ */
+public abstract class ColumnarBase {
+  /**
+   * Broadcast set identifier for meta data.
+   */
+  public static final String BC_METADATA = "metadata";
+  /**
+   * Path of the graph heads.
+   */
+  private static final String GRAPH_HEAD_PATH = "graphs";
+  /**
+   * Path of the vertices.
+   */
+  private static final String VERTEX_PATH = "vertices";
+  /**
+   * Path of the edges.
+   */
+  private static final String EDGE_PATH = "edges";
+  /**
+   * File storing the meta data.
+   */
+  private static final String METADATA_FILE = "metadata.csv";
+  /**
+   * Root directory containing the files.
+   */
+  private final String root;
+  /**
+   * Gradoop Flink configuration.
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param path directory of the files
+   * @param config Gradoop Flink configuration
+   */
+  protected ColumnarBase(String path, GradoopFlinkConfig config) {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(config);
+    this.root = path.endsWith(File.separator) ? path : path + File.separator;
+    this.config = config;
+  }
+
+  /**
+   * Returns the path of the graph heads.
+   *
+   * @return graph head path
+   */
+  protected String getGraphHeadPath() {
+    return root + GRAPH_HEAD_PATH;
+  }
+
+  /**
+   * Returns the path of the vertices.
+   *
+   * @return vertex path
+   */
+  protected String getVertexPath() {
+    return root + VERTEX_PATH;
+  }
+
+  /**
+   * Returns the path of the edges.
+   *
+   * @return edge path
+   */
+  protected String getEdgePath() {
+    return root + EDGE_PATH;
+  }
+
+  /**
+   * Returns the path of the meta data file.
+   *
+   * @return meta data path
+   */
+  protected String getMetaDataPath() {
+    return root + METADATA_FILE;
+  }
+
+  /**
+   * Returns the Gradoop Flink configuration.
+   *
+   * @return Gradoop Flink configuration
+   */
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
+import org.gradoop.flink.io.impl.columnar.functions.ElementsToColumnBlocks;
+import org.gradoop.flink.io.impl.columnar.outputformats.ColumnBlockOutputFormat;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink writing a binary columnar format.
+ * <p>
+ * The elements of each partition are grouped by label into blocks. Ids, graph ids and source and
+ * target ids are stored as binary columns, properties are stored as one typed column per key
+ * according to the meta data of the graph. Graph ids and strings are dictionary encoded and each
+ * column is compressed if this reduces its size. The meta data is written in the same format as
+ * by the {@link org.gradoop.flink.io.impl.csv.CSVDataSink}.
+ * <p>
+ * The sink writes the following directory structure:
+ * <p>
+ * root
+ * |- vertices     # vertex blocks, a directory if written by multiple tasks
+ * |- edges        # edge blocks
+ * |- graphs       # graph head blocks
+ * |- metadata.csv # meta data of the properties
+ */
+public class ColumnarDataSink extends ColumnarBase implements DataSink {
+
+  /**
+   * Creates a new columnar data sink.
+   *
+   * @param path directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    FileSystem.WriteMode writeMode = overwrite ?
+      FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    DataSet<Tuple3<String, String, String>> metaData =
+      new CSVMetaDataSource().tuplesFromCollection(graphCollection);
+    new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
+
+    write(graphCollection.getGraphHeads(), MetaDataSource.GRAPH_TYPE, getGraphHeadPath(),
+      metaData, writeMode);
+    write(graphCollection.getVertices(), MetaDataSource.VERTEX_TYPE, getVertexPath(),
+      metaData, writeMode);
+    write(graphCollection.getEdges(), MetaDataSource.EDGE_TYPE, getEdgePath(),
+      metaData, writeMode);
+  }
+
+  /**
+   * Writes the elements of one type as column blocks.
+   *
+   * @param elements elements to write
+   * @param type element type of the meta data
+   * @param path path to write to
+   * @param metaData meta data tuples
+   * @param writeMode write mode
+   * @param <E> EPGM element type
+   */
+  private <E extends EPGMElement> void write(DataSet<E> elements, String type, String path,
+    DataSet<Tuple3<String, String, String>> metaData, FileSystem.WriteMode writeMode) {
+    ColumnBlockOutputFormat outputFormat = new ColumnBlockOutputFormat(new Path(path));
+    outputFormat.setWriteMode(writeMode);
+    elements
+      .mapPartition(new ElementsToColumnBlocks<>(type))
+      .withBroadcastSet(metaData, BC_METADATA)
+      .output(outputFormat);
+  }
+}
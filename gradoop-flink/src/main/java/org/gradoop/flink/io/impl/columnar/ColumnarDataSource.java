@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.columnar.inputformats.ColumnarEdgeInputFormat;
+import org.gradoop.flink.io.impl.columnar.inputformats.ColumnarGraphHeadInputFormat;
+import org.gradoop.flink.io.impl.columnar.inputformats.ColumnarVertexInputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * A graph data source for the binary columnar format written by {@link ColumnarDataSink}.
+ * <p>
+ * Each file written by a task of the sink is read by a single task. The elements are decoded
+ * from their columns without parsing ids or property values from strings.
+ */
+public class ColumnarDataSource extends ColumnarBase implements DataSource {
+
+  /**
+   * Creates a new columnar data source.
+   *
+   * @param path directory containing the files
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSource(String path, GradoopFlinkConfig config) {
+    super(path, config);
+  }
+
+  /**
+   * Will use a single graph head of the collection as final graph head for the graph.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    GraphCollection collection = getGraphCollection();
+    return collection.getGraphFactory()
+      .fromDataSets(
+        collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    GraphCollectionFactory collectionFactory = getConfig().getGraphCollectionFactory();
+    ExecutionEnvironment env = getConfig().getExecutionEnvironment();
+
+    DataSet<EPGMGraphHead> graphHeads = env.createInput(new ColumnarGraphHeadInputFormat(
+      new Path(getGraphHeadPath()), collectionFactory.getGraphHeadFactory()));
+    DataSet<EPGMVertex> vertices = env.createInput(new ColumnarVertexInputFormat(
+      new Path(getVertexPath()), collectionFactory.getVertexFactory()));
+    DataSet<EPGMEdge> edges = env.createInput(new ColumnarEdgeInputFormat(
+      new Path(getEdgePath()), collectionFactory.getEdgeFactory()));
+
+    return collectionFactory.fromDataSets(graphHeads, vertices, edges);
+  }
+}
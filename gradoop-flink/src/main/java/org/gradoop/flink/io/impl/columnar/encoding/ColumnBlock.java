@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.encoding;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+
+/**
+ * Constants and helpers of the columnar block encoding.
+ * <p>
+ * A block contains up to {@link #MAX_ROWS} elements with the same label. It starts with a flags
+ * byte, the number of rows and the label, followed by the id column, the graph ids column (if
+ * {@link #HAS_GRAPH_IDS} is set), the source and target id columns (if {@link #HAS_ENDPOINTS} is
+ * set) and the property columns. Each property column is preceded by its key and its encoding.
+ * <p>
+ * Each column is stored as a compression byte and its length, followed by the uncompressed length
+ * if the column is compressed, and the column data.
+ */
+public final class ColumnBlock {
+
+  /**
+   * Magic number at the beginning of each file.
+   */
+  public static final int MAGIC = 0x47434F4C;
+
+  /**
+   * Version of the format.
+   */
+  public static final byte VERSION = 1;
+
+  /**
+   * Maximum number of rows of a block.
+   */
+  public static final int MAX_ROWS = 4096;
+
+  /**
+   * Flag of blocks containing graph ids.
+   */
+  static final byte HAS_GRAPH_IDS = 1;
+
+  /**
+   * Flag of blocks containing source and target ids.
+   */
+  static final byte HAS_ENDPOINTS = 2;
+
+  /**
+   * Column stored uncompressed.
+   */
+  static final byte UNCOMPRESSED = 0;
+
+  /**
+   * Column compressed using deflate.
+   */
+  static final byte DEFLATE = 1;
+
+  /**
+   * Property values serialized as {@link org.gradoop.common.model.impl.properties.PropertyValue}.
+   */
+  static final byte GENERIC = 0;
+
+  /**
+   * Boolean values, one byte per value.
+   */
+  static final byte BOOLEAN = 1;
+
+  /**
+   * Short values.
+   */
+  static final byte SHORT = 2;
+
+  /**
+   * Integer values.
+   */
+  static final byte INTEGER = 3;
+
+  /**
+   * Long values.
+   */
+  static final byte LONG = 4;
+
+  /**
+   * Float values.
+   */
+  static final byte FLOAT = 5;
+
+  /**
+   * Double values.
+   */
+  static final byte DOUBLE = 6;
+
+  /**
+   * Length-prefixed UTF-8 strings.
+   */
+  static final byte STRING = 7;
+
+  /**
+   * Dictionary of distinct strings followed by a dictionary index per value.
+   */
+  static final byte STRING_DICTIONARY = 8;
+
+  /**
+   * Gradoop ids.
+   */
+  static final byte GRADOOP_ID = 9;
+
+  /**
+   * No instances.
+   */
+  private ColumnBlock() {
+  }
+
+  /**
+   * Writes a non-negative int using 7 bits per byte.
+   *
+   * @param value non-negative value
+   * @param out output view
+   * @throws IOException on failure
+   */
+  static void writeVarInt(int value, DataOutputView out) throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  /**
+   * Reads an int written by {@link #writeVarInt(int, DataOutputView)}.
+   *
+   * @param in input view
+   * @return value
+   * @throws IOException on failure
+   */
+  static int readVarInt(DataInputView in) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = in.readByte();
+      value |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return value;
+  }
+}
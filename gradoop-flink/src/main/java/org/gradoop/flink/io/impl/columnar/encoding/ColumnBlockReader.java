@@ -0,0 +1,338 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.encoding;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decodes a block written by {@link ColumnBlockWriter}. The columns of the block are decoded at
+ * once, the values of a row are accessed by its index.
+ */
+public class ColumnBlockReader implements AutoCloseable {
+
+  /**
+   * Decompressor of the columns.
+   */
+  private final Inflater inflater = new Inflater();
+
+  /**
+   * Input of the current block.
+   */
+  private final DataInputDeserializer block = new DataInputDeserializer();
+
+  /**
+   * Input of the current column.
+   */
+  private final DataInputDeserializer column = new DataInputDeserializer();
+
+  /**
+   * Label of the elements of the current block.
+   */
+  private String label;
+
+  /**
+   * Number of rows of the current block.
+   */
+  private int rowCount;
+
+  /**
+   * Ids of the elements.
+   */
+  private GradoopId[] ids;
+
+  /**
+   * Graph ids of the elements, {@code null} if the block contains no graph ids.
+   */
+  private GradoopIdSet[] graphIds;
+
+  /**
+   * Source ids of the edges, {@code null} if the block contains no edges.
+   */
+  private GradoopId[] sourceIds;
+
+  /**
+   * Target ids of the edges, {@code null} if the block contains no edges.
+   */
+  private GradoopId[] targetIds;
+
+  /**
+   * Properties of the elements.
+   */
+  private Properties[] properties;
+
+  /**
+   * Decodes a block.
+   *
+   * @param data encoded block
+   * @throws IOException if the block is malformed
+   */
+  public void read(byte[] data) throws IOException {
+    block.setBuffer(data);
+    byte flags = block.readByte();
+    rowCount = ColumnBlock.readVarInt(block);
+    label = block.readUTF();
+
+    readColumn();
+    ids = readIds();
+    graphIds = null;
+    if ((flags & ColumnBlock.HAS_GRAPH_IDS) != 0) {
+      readColumn();
+      readGraphIds();
+    }
+    sourceIds = null;
+    targetIds = null;
+    if ((flags & ColumnBlock.HAS_ENDPOINTS) != 0) {
+      readColumn();
+      sourceIds = readIds();
+      readColumn();
+      targetIds = readIds();
+    }
+
+    properties = new Properties[rowCount];
+    int columnCount = ColumnBlock.readVarInt(block);
+    for (int i = 0; i < rowCount; i++) {
+      properties[i] = Properties.createWithCapacity(columnCount);
+    }
+    for (int i = 0; i < columnCount; i++) {
+      String key = block.readUTF();
+      byte encoding = block.readByte();
+      readColumn();
+      readProperties(key, encoding);
+    }
+  }
+
+  /**
+   * Returns the label of all elements of the current block.
+   *
+   * @return label
+   */
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * Returns the number of rows of the current block.
+   *
+   * @return number of rows
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the id of an element.
+   *
+   * @param row row of the element
+   * @return id
+   */
+  public GradoopId getId(int row) {
+    return ids[row];
+  }
+
+  /**
+   * Returns the graph ids of an element.
+   *
+   * @param row row of the element
+   * @return graph ids
+   */
+  public GradoopIdSet getGraphIds(int row) {
+    return graphIds[row];
+  }
+
+  /**
+   * Returns the source id of an edge.
+   *
+   * @param row row of the edge
+   * @return source id
+   */
+  public GradoopId getSourceId(int row) {
+    return sourceIds[row];
+  }
+
+  /**
+   * Returns the target id of an edge.
+   *
+   * @param row row of the edge
+   * @return target id
+   */
+  public GradoopId getTargetId(int row) {
+    return targetIds[row];
+  }
+
+  /**
+   * Returns the properties of an element.
+   *
+   * @param row row of the element
+   * @return properties
+   */
+  public Properties getProperties(int row) {
+    return properties[row];
+  }
+
+  @Override
+  public void close() {
+    inflater.end();
+  }
+
+  /**
+   * Reads the next column of the block into the column input, decompressing it if necessary.
+   *
+   * @throws IOException if the block is malformed
+   */
+  private void readColumn() throws IOException {
+    byte compression = block.readByte();
+    int length = ColumnBlock.readVarInt(block);
+    byte[] data;
+    if (compression == ColumnBlock.DEFLATE) {
+      data = new byte[ColumnBlock.readVarInt(block)];
+      byte[] compressed = new byte[length];
+      block.readFully(compressed);
+      inflater.reset();
+      inflater.setInput(compressed);
+      try {
+        if (inflater.inflate(data) != data.length) {
+          throw new IOException("Invalid length of compressed column");
+        }
+      } catch (DataFormatException e) {
+        throw new IOException("Invalid compressed column", e);
+      }
+    } else if (compression == ColumnBlock.UNCOMPRESSED) {
+      data = new byte[length];
+      block.readFully(data);
+    } else {
+      throw new IOException("Unknown column compression " + compression);
+    }
+    column.setBuffer(data);
+  }
+
+  /**
+   * Reads an id per row from the column input.
+   *
+   * @return ids
+   * @throws IOException if the column is malformed
+   */
+  private GradoopId[] readIds() throws IOException {
+    GradoopId[] result = new GradoopId[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      result[i] = new GradoopId();
+      result[i].read(column);
+    }
+    return result;
+  }
+
+  /**
+   * Reads the graph ids column from the column input.
+   *
+   * @throws IOException if the column is malformed
+   */
+  private void readGraphIds() throws IOException {
+    GradoopId[] dictionary = new GradoopId[ColumnBlock.readVarInt(column)];
+    for (int i = 0; i < dictionary.length; i++) {
+      dictionary[i] = new GradoopId();
+      dictionary[i].read(column);
+    }
+    graphIds = new GradoopIdSet[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      int count = ColumnBlock.readVarInt(column);
+      graphIds[i] = new GradoopIdSet();
+      for (int j = 0; j < count; j++) {
+        graphIds[i].add(dictionary[ColumnBlock.readVarInt(column)]);
+      }
+    }
+  }
+
+  /**
+   * Reads a property column from the column input and adds its values to the properties.
+   *
+   * @param key property key
+   * @param encoding encoding of the column
+   * @throws IOException if the column is malformed
+   */
+  private void readProperties(String key, byte encoding) throws IOException {
+    byte[] bitmap = new byte[(rowCount + 7) / 8];
+    column.readFully(bitmap);
+    String[] dictionary = null;
+    if (encoding == ColumnBlock.STRING_DICTIONARY) {
+      dictionary = new String[ColumnBlock.readVarInt(column)];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = readString();
+      }
+    }
+    for (int i = 0; i < rowCount; i++) {
+      if ((bitmap[i / 8] & (1 << (i % 8))) != 0) {
+        properties[i].set(key, dictionary == null ? readValue(encoding) :
+          PropertyValue.create(dictionary[ColumnBlock.readVarInt(column)]));
+      }
+    }
+  }
+
+  /**
+   * Reads a single property value from the column input.
+   *
+   * @param encoding encoding of the column
+   * @return property value
+   * @throws IOException if the column is malformed
+   */
+  private PropertyValue readValue(byte encoding) throws IOException {
+    switch (encoding) {
+    case ColumnBlock.GENERIC:
+      PropertyValue value = new PropertyValue();
+      value.read(column);
+      return value;
+    case ColumnBlock.BOOLEAN:
+      return PropertyValue.create(column.readBoolean());
+    case ColumnBlock.SHORT:
+      return PropertyValue.create(column.readShort());
+    case ColumnBlock.INTEGER:
+      return PropertyValue.create(column.readInt());
+    case ColumnBlock.LONG:
+      return PropertyValue.create(column.readLong());
+    case ColumnBlock.FLOAT:
+      return PropertyValue.create(column.readFloat());
+    case ColumnBlock.DOUBLE:
+      return PropertyValue.create(column.readDouble());
+    case ColumnBlock.STRING:
+      return PropertyValue.create(readString());
+    case ColumnBlock.GRADOOP_ID:
+      GradoopId id = new GradoopId();
+      id.read(column);
+      return PropertyValue.create(id);
+    default:
+      throw new IOException("Unknown column encoding " + encoding);
+    }
+  }
+
+  /**
+   * Reads a string written by {@link ColumnBlockWriter}.
+   *
+   * @return string
+   * @throws IOException if the column is malformed
+   */
+  private String readString() throws IOException {
+    byte[] bytes = new byte[ColumnBlock.readVarInt(column)];
+    column.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.encoding;
+
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.api.entities.Edge;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes elements with the same label as a block of columns, see {@link ColumnBlock}.
+ * <p>
+ * The encoding of a property column is chosen based on the type of the property in the meta data.
+ * Keys with multiple or unsupported types, keys missing in the meta data and columns containing
+ * values not matching the type of the meta data are stored as generic column. String columns are
+ * dictionary encoded if at least half of their values are duplicates.
+ */
+public class ColumnBlockWriter implements AutoCloseable {
+
+  /**
+   * Buffer of the current block.
+   */
+  private final DataOutputSerializer block = new DataOutputSerializer(64 * 1024);
+
+  /**
+   * Buffer of the current column.
+   */
+  private final DataOutputSerializer column = new DataOutputSerializer(16 * 1024);
+
+  /**
+   * Compressor of the columns.
+   */
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+  /**
+   * Buffer of the compressed column.
+   */
+  private byte[] compressed = new byte[16 * 1024];
+
+  /**
+   * Encodes the given elements as block.
+   *
+   * @param label label of all elements
+   * @param elements elements, at most {@link ColumnBlock#MAX_ROWS}
+   * @param schema meta data of the properties of the label
+   * @return encoded block
+   * @throws IOException on failure
+   */
+  public byte[] write(String label, List<? extends Element> elements,
+    List<PropertyMetaData> schema) throws IOException {
+    block.clear();
+    Element first = elements.get(0);
+    byte flags = 0;
+    if (first instanceof GraphElement) {
+      flags |= ColumnBlock.HAS_GRAPH_IDS;
+    }
+    if (first instanceof Edge) {
+      flags |= ColumnBlock.HAS_ENDPOINTS;
+    }
+    block.writeByte(flags);
+    ColumnBlock.writeVarInt(elements.size(), block);
+    block.writeUTF(label);
+
+    for (Element element : elements) {
+      element.getId().write(column);
+    }
+    writeColumn();
+    if ((flags & ColumnBlock.HAS_GRAPH_IDS) != 0) {
+      writeGraphIds(elements);
+    }
+    if ((flags & ColumnBlock.HAS_ENDPOINTS) != 0) {
+      for (Element element : elements) {
+        ((Edge) element).getSourceId().write(column);
+      }
+      writeColumn();
+      for (Element element : elements) {
+        ((Edge) element).getTargetId().write(column);
+      }
+      writeColumn();
+    }
+
+    Map<String, Byte> encodings = getEncodings(elements, schema);
+    ColumnBlock.writeVarInt(encodings.size(), block);
+    for (Map.Entry<String, Byte> encoding : encodings.entrySet()) {
+      block.writeUTF(encoding.getKey());
+      block.writeByte(writeProperties(elements, encoding.getKey(), encoding.getValue()));
+      writeColumn();
+    }
+    return block.getCopyOfBuffer();
+  }
+
+  /**
+   * Writes the graph ids column. The distinct graph ids of the block are written first, followed
+   * by the number of graph ids and their dictionary indices per element.
+   *
+   * @param elements graph elements
+   * @throws IOException on failure
+   */
+  private void writeGraphIds(List<? extends Element> elements) throws IOException {
+    Map<GradoopId, Integer> dictionary = new LinkedHashMap<>();
+    for (Element element : elements) {
+      for (GradoopId graphId : getGraphIds(element)) {
+        dictionary.putIfAbsent(graphId, dictionary.size());
+      }
+    }
+    ColumnBlock.writeVarInt(dictionary.size(), column);
+    for (GradoopId graphId : dictionary.keySet()) {
+      graphId.write(column);
+    }
+    for (Element element : elements) {
+      GradoopIdSet graphIds = getGraphIds(element);
+      ColumnBlock.writeVarInt(graphIds.size(), column);
+      for (GradoopId graphId : graphIds) {
+        ColumnBlock.writeVarInt(dictionary.get(graphId), column);
+      }
+    }
+    writeColumn();
+  }
+
+  /**
+   * Returns the graph ids of a graph element.
+   *
+   * @param element graph element
+   * @return graph ids, empty if the element has no graph ids
+   */
+  private static GradoopIdSet getGraphIds(Element element) {
+    GradoopIdSet graphIds = ((GraphElement) element).getGraphIds();
+    return graphIds == null ? new GradoopIdSet() : graphIds;
+  }
+
+  /**
+   * Determines the encoding of the property columns of the block. Keys without values in the
+   * block are omitted.
+   *
+   * @param elements elements of the block
+   * @param schema meta data of the properties of the label
+   * @return encodings by property key
+   */
+  private Map<String, Byte> getEncodings(List<? extends Element> elements,
+    List<PropertyMetaData> schema) {
+    Map<String, Byte> declared = new HashMap<>();
+    for (PropertyMetaData propertyMetaData : schema) {
+      byte encoding = getEncoding(propertyMetaData.getTypeString());
+      declared.put(propertyMetaData.getKey(),
+        declared.containsKey(propertyMetaData.getKey()) ? ColumnBlock.GENERIC : encoding);
+    }
+    Map<String, Byte> encodings = new LinkedHashMap<>();
+    for (Element element : elements) {
+      Properties properties = element.getProperties();
+      if (properties == null) {
+        continue;
+      }
+      for (Property property : properties) {
+        Byte encoding = encodings.get(property.getKey());
+        if (encoding == null) {
+          encoding = declared.getOrDefault(property.getKey(), ColumnBlock.GENERIC);
+        }
+        if (encoding != ColumnBlock.GENERIC && !matches(encoding, property.getValue())) {
+          encoding = ColumnBlock.GENERIC;
+        }
+        encodings.put(property.getKey(), encoding);
+      }
+    }
+    return encodings;
+  }
+
+  /**
+   * Returns the encoding of a type of the meta data.
+   *
+   * @param typeString type string of the meta data
+   * @return encoding
+   */
+  private static byte getEncoding(String typeString) {
+    if (Type.BOOLEAN.toString().equals(typeString)) {
+      return ColumnBlock.BOOLEAN;
+    } else if (Type.SHORT.toString().equals(typeString)) {
+      return ColumnBlock.SHORT;
+    } else if (Type.INTEGER.toString().equals(typeString)) {
+      return ColumnBlock.INTEGER;
+    } else if (Type.LONG.toString().equals(typeString)) {
+      return ColumnBlock.LONG;
+    } else if (Type.FLOAT.toString().equals(typeString)) {
+      return ColumnBlock.FLOAT;
+    } else if (Type.DOUBLE.toString().equals(typeString)) {
+      return ColumnBlock.DOUBLE;
+    } else if (Type.STRING.toString().equals(typeString)) {
+      return ColumnBlock.STRING;
+    } else if (Type.GRADOOP_ID.toString().equals(typeString)) {
+      return ColumnBlock.GRADOOP_ID;
+    }
+    return ColumnBlock.GENERIC;
+  }
+
+  /**
+   * Checks if a property value can be stored using the given typed encoding.
+   *
+   * @param encoding typed encoding
+   * @param value property value
+   * @return true, if the value matches the encoding
+   */
+  private static boolean matches(byte encoding, PropertyValue value) {
+    switch (encoding) {
+    case ColumnBlock.BOOLEAN:
+      return value.isBoolean();
+    case ColumnBlock.SHORT:
+      return value.isShort();
+    case ColumnBlock.INTEGER:
+      return value.isInt();
+    case ColumnBlock.LONG:
+      return value.isLong();
+    case ColumnBlock.FLOAT:
+      return value.isFloat();
+    case ColumnBlock.DOUBLE:
+      return value.isDouble();
+    case ColumnBlock.STRING:
+      return value.isString();
+    case ColumnBlock.GRADOOP_ID:
+      return value.isGradoopId();
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Writes the values of a property column to the column buffer. The values are preceded by a
+   * bitmap marking the rows containing the property.
+   *
+   * @param elements elements of the block
+   * @param key property key
+   * @param encoding encoding of the column
+   * @return actual encoding of the column
+   * @throws IOException on failure
+   */
+  private byte writeProperties(List<? extends Element> elements, String key, byte encoding)
+    throws IOException {
+    PropertyValue[] values = new PropertyValue[elements.size()];
+    int present = 0;
+    byte[] bitmap = new byte[(elements.size() + 7) / 8];
+    for (int i = 0; i < values.length; i++) {
+      Properties properties = elements.get(i).getProperties();
+      values[i] = properties == null ? null : properties.get(key);
+      if (values[i] != null) {
+        bitmap[i / 8] |= 1 << (i % 8);
+        present++;
+      }
+    }
+    column.write(bitmap);
+
+    if (encoding == ColumnBlock.STRING) {
+      return writeStrings(values, present);
+    }
+    for (PropertyValue value : values) {
+      if (value != null) {
+        writeValue(value, encoding);
+      }
+    }
+    return encoding;
+  }
+
+  /**
+   * Writes a single property value using a typed or the generic encoding.
+   *
+   * @param value property value
+   * @param encoding encoding of the column
+   * @throws IOException on failure
+   */
+  private void writeValue(PropertyValue value, byte encoding) throws IOException {
+    switch (encoding) {
+    case ColumnBlock.BOOLEAN:
+      column.writeBoolean(value.getBoolean());
+      break;
+    case ColumnBlock.SHORT:
+      column.writeShort(value.getShort());
+      break;
+    case ColumnBlock.INTEGER:
+      column.writeInt(value.getInt());
+      break;
+    case ColumnBlock.LONG:
+      column.writeLong(value.getLong());
+      break;
+    case ColumnBlock.FLOAT:
+      column.writeFloat(value.getFloat());
+      break;
+    case ColumnBlock.DOUBLE:
+      column.writeDouble(value.getDouble());
+      break;
+    case ColumnBlock.GRADOOP_ID:
+      value.getGradoopId().write(column);
+      break;
+    default:
+      value.write(column);
+    }
+  }
+
+  /**
+   * Writes the values of a string column, using a dictionary if at least half of the values are
+   * duplicates.
+   *
+   * @param values values of the column, {@code null} for missing values
+   * @param present number of present values
+   * @return actual encoding of the column
+   * @throws IOException on failure
+   */
+  private byte writeStrings(PropertyValue[] values, int present) throws IOException {
+    Map<String, Integer> dictionary = new LinkedHashMap<>();
+    for (PropertyValue value : values) {
+      if (value != null) {
+        dictionary.putIfAbsent(value.getString(), dictionary.size());
+      }
+    }
+    if (dictionary.size() * 2 > present) {
+      for (PropertyValue value : values) {
+        if (value != null) {
+          writeString(value.getString());
+        }
+      }
+      return ColumnBlock.STRING;
+    }
+    ColumnBlock.writeVarInt(dictionary.size(), column);
+    for (String entry : dictionary.keySet()) {
+      writeString(entry);
+    }
+    for (PropertyValue value : values) {
+      if (value != null) {
+        ColumnBlock.writeVarInt(dictionary.get(value.getString()), column);
+      }
+    }
+    return ColumnBlock.STRING_DICTIONARY;
+  }
+
+  /**
+   * Writes a length-prefixed UTF-8 string to the column buffer.
+   *
+   * @param string string
+   * @throws IOException on failure
+   */
+  private void writeString(String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    ColumnBlock.writeVarInt(bytes.length, column);
+    column.write(bytes);
+  }
+
+  /**
+   * Appends the column buffer to the block, compressed if this reduces its size, and clears the
+   * column buffer.
+   *
+   * @throws IOException on failure
+   */
+  private void writeColumn() throws IOException {
+    int length = column.length();
+    byte[] data = column.getSharedBuffer();
+    if (compressed.length < length) {
+      compressed = new byte[length];
+    }
+    deflater.reset();
+    deflater.setInput(data, 0, length);
+    deflater.finish();
+    int compressedLength = deflater.deflate(compressed, 0, length);
+    if (deflater.finished() && compressedLength < length) {
+      block.writeByte(ColumnBlock.DEFLATE);
+      ColumnBlock.writeVarInt(compressedLength, block);
+      ColumnBlock.writeVarInt(length, block);
+      block.write(compressed, 0, compressedLength);
+    } else {
+      block.writeByte(ColumnBlock.UNCOMPRESSED);
+      ColumnBlock.writeVarInt(length, block);
+      block.write(data, 0, length);
+    }
+    column.clear();
+  }
+
+  @Override
+  public void close() {
+    deflater.end();
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.ColumnarBase;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlock;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlockWriter;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
+import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the elements of a partition by label and encodes them as column blocks of up to
+ * {@link ColumnBlock#MAX_ROWS} elements. The property columns are derived from the broadcast
+ * meta data.
+ *
+ * @param <E> EPGM element type
+ */
+public class ElementsToColumnBlocks<E extends EPGMElement>
+  extends RichMapPartitionFunction<E, byte[]> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Element type of the meta data, see {@link org.gradoop.flink.io.api.metadata.MetaDataSource}.
+   */
+  private final String type;
+
+  /**
+   * Meta data of the elements.
+   */
+  private transient CSVMetaData metaData;
+
+  /**
+   * Encodes the blocks.
+   */
+  private transient ColumnBlockWriter writer;
+
+  /**
+   * Creates a new function.
+   *
+   * @param type element type of the meta data
+   */
+  public ElementsToColumnBlocks(String type) {
+    this.type = type;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    metaData = new CSVMetaDataSource().fromTuples(getRuntimeContext()
+      .getBroadcastVariable(ColumnarBase.BC_METADATA));
+    writer = new ColumnBlockWriter();
+  }
+
+  @Override
+  public void mapPartition(Iterable<E> elements, Collector<byte[]> out) throws Exception {
+    Map<String, List<E>> blocks = new HashMap<>();
+    for (E element : elements) {
+      List<E> block = blocks.computeIfAbsent(element.getLabel(), l -> new ArrayList<>());
+      block.add(element);
+      if (block.size() == ColumnBlock.MAX_ROWS) {
+        writeBlock(element.getLabel(), block, out);
+      }
+    }
+    for (Map.Entry<String, List<E>> block : blocks.entrySet()) {
+      if (!block.getValue().isEmpty()) {
+        writeBlock(block.getKey(), block.getValue(), out);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (writer != null) {
+      writer.close();
+    }
+    super.close();
+  }
+
+  /**
+   * Encodes and emits a block and clears it.
+   *
+   * @param label label of the elements
+   * @param block elements of the block
+   * @param out output collector
+   * @throws Exception on failure
+   */
+  private void writeBlock(String label, List<E> block, Collector<byte[]> out) throws Exception {
+    out.collect(writer.write(label, block, metaData.getPropertyMetaData(type, label)));
+    block.clear();
+  }
+}
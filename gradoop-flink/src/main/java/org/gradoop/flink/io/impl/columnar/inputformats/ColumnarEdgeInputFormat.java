@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.inputformats;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlockReader;
+
+/**
+ * Reads the edges of the columnar graph format.
+ */
+public class ColumnarEdgeInputFormat extends ColumnarInputFormat<EPGMEdge> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Factory to create the edges.
+   */
+  private final EdgeFactory<EPGMEdge> edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the file or directory to read
+   * @param edgeFactory serializable factory to create the edges
+   */
+  public ColumnarEdgeInputFormat(Path filePath, EdgeFactory<EPGMEdge> edgeFactory) {
+    super(filePath);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  protected EPGMEdge createElement(ColumnBlockReader reader, int row) {
+    return edgeFactory.initEdge(reader.getId(row), reader.getLabel(),
+      reader.getSourceId(row), reader.getTargetId(row), reader.getProperties(row),
+      reader.getGraphIds(row));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.inputformats;
+
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlockReader;
+
+/**
+ * Reads the graph heads of the columnar graph format.
+ */
+public class ColumnarGraphHeadInputFormat extends ColumnarInputFormat<EPGMGraphHead> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Factory to create the graph heads.
+   */
+  private final GraphHeadFactory<EPGMGraphHead> graphHeadFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the file or directory to read
+   * @param graphHeadFactory serializable factory to create the graph heads
+   */
+  public ColumnarGraphHeadInputFormat(Path filePath, GraphHeadFactory<EPGMGraphHead> graphHeadFactory) {
+    super(filePath);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  protected EPGMGraphHead createElement(ColumnBlockReader reader, int row) {
+    return graphHeadFactory.initGraphHead(reader.getId(row), reader.getLabel(),
+      reader.getProperties(row));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.inputformats;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlock;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlockReader;
+import org.gradoop.flink.io.impl.columnar.outputformats.ColumnBlockOutputFormat;
+
+import java.io.IOException;
+
+/**
+ * Reads elements from files written by {@link ColumnBlockOutputFormat}. The files can not be
+ * split, i.e. each file written by a task of the sink is read by a single task.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ColumnarInputFormat<E extends EPGMElement> extends FileInputFormat<E> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Input view of the current file.
+   */
+  private transient DataInputViewStreamWrapper inputView;
+
+  /**
+   * Decodes the blocks.
+   */
+  private transient ColumnBlockReader reader;
+
+  /**
+   * Number of rows of the current block.
+   */
+  private transient int rowCount;
+
+  /**
+   * Next row of the current block.
+   */
+  private transient int row;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the file or directory to read
+   */
+  ColumnarInputFormat(Path filePath) {
+    super(filePath);
+    this.unsplittable = true;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    inputView = new DataInputViewStreamWrapper(stream);
+    if (inputView.readInt() != ColumnBlock.MAGIC) {
+      throw new IOException(split.getPath() + " is not a columnar graph file");
+    }
+    byte version = inputView.readByte();
+    if (version != ColumnBlock.VERSION) {
+      throw new IOException("Unsupported version " + version + " of " + split.getPath());
+    }
+    if (reader == null) {
+      reader = new ColumnBlockReader();
+    }
+    rowCount = 0;
+    row = 0;
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (row >= rowCount) {
+      int first = inputView.read();
+      if (first < 0) {
+        return true;
+      }
+      byte[] block = new byte[first << 24 | inputView.readUnsignedByte() << 16 |
+        inputView.readUnsignedShort()];
+      inputView.readFully(block);
+      reader.read(block);
+      rowCount = reader.getRowCount();
+      row = 0;
+    }
+    return false;
+  }
+
+  @Override
+  public E nextRecord(E reuse) {
+    return createElement(reader, row++);
+  }
+
+  @Override
+  public void closeInputFormat() throws IOException {
+    if (reader != null) {
+      reader.close();
+      reader = null;
+    }
+    super.closeInputFormat();
+  }
+
+  /**
+   * Creates the element of a row of the current block.
+   *
+   * @param reader reader of the current block
+   * @param row row of the element
+   * @return element
+   */
+  protected abstract E createElement(ColumnBlockReader reader, int row);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.outputformats;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlock;
+
+import java.io.IOException;
+
+/**
+ * Writes encoded column blocks to a file. The file starts with {@link ColumnBlock#MAGIC} and
+ * {@link ColumnBlock#VERSION}, each block is prefixed by its length.
+ */
+public class ColumnBlockOutputFormat extends FileOutputFormat<byte[]> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Output view of the file.
+   */
+  private transient DataOutputViewStreamWrapper outputView;
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath path of the file or directory to write to
+   */
+  public ColumnBlockOutputFormat(Path outputPath) {
+    super(outputPath);
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    outputView = new DataOutputViewStreamWrapper(stream);
+    outputView.writeInt(ColumnBlock.MAGIC);
+    outputView.writeByte(ColumnBlock.VERSION);
+  }
+
+  @Override
+  public void writeRecord(byte[] block) throws IOException {
+    outputView.writeInt(block.length);
+    outputView.write(block);
+  }
+}
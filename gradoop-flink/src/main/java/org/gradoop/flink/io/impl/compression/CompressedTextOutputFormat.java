@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Output format writing records as compressed UTF-8 encoded text, one formatted record per line.
+ * <p>
+ * Compressed output is always written to a directory containing one file per parallel task,
+ * named by the task number and the extension of the compression, e.g. {@code 1.bz2}. This
+ * allows data sources to detect the compression of each file.
+ *
+ * @param <T> record type
+ */
+public class CompressedTextOutputFormat<T> extends FileOutputFormat<T> {
+
+  /**
+   * Default delimiter written after each record.
+   */
+  public static final String DEFAULT_RECORD_DELIMITER = "\n";
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Formats a record as text.
+   */
+  private final TextOutputFormat.TextFormatter<T> formatter;
+
+  /**
+   * Compression of the written files.
+   */
+  private final Compression compression;
+
+  /**
+   * Delimiter written after each record.
+   */
+  private final String recordDelimiter;
+
+  /**
+   * Compressing stream wrapping the file stream or {@code null} if the output is not compressed.
+   */
+  private transient CompressionOutputStream compressedStream;
+
+  /**
+   * Writer encoding the formatted records.
+   */
+  private transient Writer writer;
+
+  /**
+   * Creates a new output format using the default record delimiter.
+   *
+   * @param outputPath output path
+   * @param formatter formats a record as text
+   * @param compression compression of the written files
+   */
+  public CompressedTextOutputFormat(Path outputPath, TextOutputFormat.TextFormatter<T> formatter,
+    Compression compression) {
+    this(outputPath, formatter, compression, DEFAULT_RECORD_DELIMITER);
+  }
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath output path
+   * @param formatter formats a record as text
+   * @param compression compression of the written files
+   * @param recordDelimiter delimiter written after each record
+   */
+  public CompressedTextOutputFormat(Path outputPath, TextOutputFormat.TextFormatter<T> formatter,
+    Compression compression, String recordDelimiter) {
+    super(outputPath);
+    if (formatter == null || compression == null || recordDelimiter == null) {
+      throw new IllegalArgumentException("formatter, compression and delimiter must not be null");
+    }
+    this.formatter = formatter;
+    this.compression = compression;
+    this.recordDelimiter = recordDelimiter;
+    if (compression != Compression.NONE) {
+      setOutputDirectoryMode(OutputDirectoryMode.ALWAYS);
+    }
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    OutputStream out = stream;
+    CompressionCodec codec = compression.createCodec();
+    if (codec != null) {
+      compressedStream = codec.createOutputStream(stream);
+      out = compressedStream;
+    }
+    writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void writeRecord(T record) throws IOException {
+    writer.write(formatter.format(record));
+    writer.write(recordDelimiter);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (writer != null) {
+        writer.flush();
+        if (compressedStream != null) {
+          compressedStream.finish();
+        }
+      }
+    } finally {
+      writer = null;
+      compressedStream = null;
+      super.close();
+    }
+  }
+
+  @Override
+  protected String getDirectoryFileName(int taskNumber) {
+    return super.getDirectoryFileName(taskNumber) + compression.getExtension();
+  }
+
+  @Override
+  public String toString() {
+    return "CompressedTextOutputFormat (" + getOutputFilePath() + ") - " + compression;
+  }
+}
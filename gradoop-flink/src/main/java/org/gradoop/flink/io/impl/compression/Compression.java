@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.io.compress.SplittableCompressionCodec;
+import org.apache.hadoop.util.ReflectionUtils;
+
+import java.io.IOException;
+
+/**
+ * Compression of files written by text based data sinks.
+ * <p>
+ * Data sources detect the compression of a file by its extension, see
+ * {@link #getExtension()}. Files compressed by a {@link #isSplittable() splittable} codec are
+ * split into multiple input splits which are decompressed in parallel, other compressed files
+ * are read as a whole.
+ */
+public enum Compression {
+  /**
+   * Files are not compressed.
+   */
+  NONE(null),
+  /**
+   * Files are compressed by the deflate algorithm, not splittable.
+   */
+  DEFLATE(DefaultCodec.class),
+  /**
+   * Files are compressed by gzip, not splittable.
+   */
+  GZIP(GzipCodec.class),
+  /**
+   * Files are compressed by bzip2. Compressed files consist of independent blocks and are
+   * splittable.
+   */
+  BZIP2(ConcurrentBZip2Codec.class);
+
+  /**
+   * Hadoop configuration key listing the available compression codecs.
+   */
+  private static final String CODECS_KEY = "io.compression.codecs";
+
+  /**
+   * Hadoop codec implementing the compression or {@code null}.
+   */
+  private final Class<? extends CompressionCodec> codecClass;
+
+  /**
+   * Creates a new compression.
+   *
+   * @param codecClass hadoop codec implementing the compression or {@code null}
+   */
+  Compression(Class<? extends CompressionCodec> codecClass) {
+    this.codecClass = codecClass;
+  }
+
+  /**
+   * Creates a new instance of the codec implementing the compression.
+   *
+   * @return codec or {@code null} if files are not compressed
+   */
+  public CompressionCodec createCodec() {
+    return codecClass == null ? null : ReflectionUtils.newInstance(codecClass, new Configuration());
+  }
+
+  /**
+   * Returns the extension of compressed files, e.g. {@code .bz2}.
+   *
+   * @return file extension or an empty string if files are not compressed
+   */
+  public String getExtension() {
+    return codecClass == null ? "" : createCodec().getDefaultExtension();
+  }
+
+  /**
+   * Checks if compressed files can be split into multiple input splits.
+   *
+   * @return true, if files are not compressed or the codec is splittable
+   */
+  public boolean isSplittable() {
+    return codecClass == null || SplittableCompressionCodec.class.isAssignableFrom(codecClass);
+  }
+
+  /**
+   * Detects the compression of a file by its extension.
+   *
+   * @param fileName name of the file
+   * @return compression of the file, {@link #NONE} if no known extension matches
+   */
+  public static Compression ofFile(String fileName) {
+    for (Compression compression : values()) {
+      if (compression.codecClass != null && fileName.endsWith(compression.getExtension())) {
+        return compression;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * Checks if the file or one of the files in the directory at the given path is compressed.
+   * The path is accessed by the Flink file system, nested directories are not inspected.
+   *
+   * @param path path of a file or directory
+   * @return true, if a file with the extension of a compression was found
+   * @throws IOException if the path can not be accessed
+   */
+  public static boolean containsCompressedFiles(Path path) throws IOException {
+    FileSystem fs = path.getFileSystem();
+    FileStatus status = fs.getFileStatus(path);
+    FileStatus[] files = status.isDir() ? fs.listStatus(path) : new FileStatus[] {status};
+    if (files == null) {
+      return false;
+    }
+    for (FileStatus file : files) {
+      if (!file.isDir() && ofFile(file.getPath().getName()) != NONE) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Registers the codecs of all compressions at the given hadoop configuration. Input formats
+   * using the configuration decompress files by the same codecs that were used to compress them.
+   *
+   * @param conf hadoop configuration
+   * @param <C> configuration type
+   * @return the given configuration
+   */
+  public static <C extends Configuration> C configure(C conf) {
+    StringBuilder codecs = new StringBuilder();
+    String configured = conf.get(CODECS_KEY);
+    if (configured != null && !configured.isEmpty()) {
+      codecs.append(configured);
+    }
+    for (Compression compression : values()) {
+      if (compression.codecClass != null) {
+        codecs.append(codecs.length() == 0 ? "" : ",").append(compression.codecClass.getName());
+      }
+    }
+    conf.set(CODECS_KEY, codecs.toString());
+    return conf;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.CompressionInputStream;
+import org.apache.hadoop.io.compress.Decompressor;
+import org.apache.hadoop.io.compress.SplitCompressionInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link BZip2Codec} whose input streams can be used by multiple threads of a JVM in parallel.
+ * <p>
+ * The bzip2 decoder of the bundled hadoop version shares a static flag between all its instances
+ * which is set when a splittable input stream searches the first block of its split and reset
+ * by the first read of that stream (HADOOP-10614). Decompressing another stream in between
+ * corrupts both streams. This codec creates splittable input streams and reads their first byte
+ * exclusively, while all other reads are not synchronized among each other.
+ */
+public class ConcurrentBZip2Codec extends BZip2Codec {
+
+  /**
+   * Lock held exclusively while a splittable input stream is created and its first byte is read,
+   * shared while a stream is read.
+   */
+  private static final ReadWriteLock LOCK = new ReentrantReadWriteLock();
+
+  @Override
+  public CompressionInputStream createInputStream(InputStream in, Decompressor decompressor)
+    throws IOException {
+    return new SharedLockInputStream(super.createInputStream(in, decompressor), 0L, Long.MAX_VALUE);
+  }
+
+  @Override
+  public SplitCompressionInputStream createInputStream(InputStream seekableIn,
+    Decompressor decompressor, long start, long end, READ_MODE readMode) throws IOException {
+    LOCK.writeLock().lock();
+    try {
+      SplitCompressionInputStream in =
+        super.createInputStream(seekableIn, decompressor, start, end, readMode);
+      SharedLockInputStream result =
+        new SharedLockInputStream(in, in.getAdjustedStart(), in.getAdjustedEnd());
+      result.readAhead();
+      return result;
+    } finally {
+      LOCK.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Input stream reading a bzip2 stream while holding the shared lock.
+   */
+  private static class SharedLockInputStream extends SplitCompressionInputStream {
+
+    /**
+     * Wrapped bzip2 input stream.
+     */
+    private final CompressionInputStream delegate;
+
+    /**
+     * Byte read ahead by {@link #readAhead()} or {@code -1} if there is none.
+     */
+    private int pendingByte = -1;
+
+    /**
+     * Creates a new input stream.
+     *
+     * @param delegate wrapped bzip2 input stream
+     * @param start adjusted start of the split
+     * @param end adjusted end of the split
+     * @throws IOException on failure
+     */
+    SharedLockInputStream(CompressionInputStream delegate, long start, long end)
+      throws IOException {
+      super(delegate, start, end);
+      this.delegate = delegate;
+    }
+
+    /**
+     * Reads the first byte of the stream, which is returned by the next read.
+     *
+     * @throws IOException on failure
+     */
+    void readAhead() throws IOException {
+      pendingByte = delegate.read();
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (pendingByte >= 0) {
+        int result = pendingByte;
+        pendingByte = -1;
+        return result;
+      }
+      LOCK.readLock().lock();
+      try {
+        return delegate.read();
+      } finally {
+        LOCK.readLock().unlock();
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (pendingByte >= 0 && len > 0) {
+        b[off] = (byte) pendingByte;
+        pendingByte = -1;
+        return 1;
+      }
+      LOCK.readLock().lock();
+      try {
+        return delegate.read(b, off, len);
+      } finally {
+        LOCK.readLock().unlock();
+      }
+    }
+
+    @Override
+    public void resetState() throws IOException {
+      delegate.resetState();
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return delegate.getPos();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+}
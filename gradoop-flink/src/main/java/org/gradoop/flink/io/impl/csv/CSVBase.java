@@ -15,11 +15,33 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.FlatMapOperator;
+import org.apache.flink.hadoopcompatibility.HadoopInputs;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.TextInputFormat;
+import org.gradoop.flink.io.impl.compression.Compression;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.compression.functions.TextLineToString;
+import org.gradoop.flink.io.impl.csv.functions.CSVBytesToElement;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
 import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
 import org.gradoop.flink.io.impl.csv.indexed.functions.MultipleFileOutputFormat;
+import org.gradoop.flink.io.impl.mapped.MappedLineInputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsHDFSReader;
+import org.gradoop.flink.model.impl.operators.statistics.GraphStatisticsCounts;
+import org.gradoop.flink.model.impl.operators.statistics.writer.StatisticWriter;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -62,6 +84,10 @@ public abstract class CSVBase {
    * CSV file for meta data.
    */
   private static final String METADATA_FILE = "metadata" + CSV_FILE_SUFFIX;
+  /**
+   * Directory containing the graph statistics.
+   */
+  private static final String STATISTICS_PATH = "statistics";
   /**
    * Root directory containing the CSV and metadata files.
    */
@@ -70,6 +96,10 @@ public abstract class CSVBase {
    * Gradoop Flink configuration
    */
   private final GradoopFlinkConfig config;
+  /**
+   * True, if local CSV files are read through memory mapped buffers.
+   */
+  private boolean memoryMapped;
 
   /**
    * Constructor.
@@ -111,6 +141,53 @@ public abstract class CSVBase {
     return csvRoot + EDGE_PATH;
   }
 
+  /**
+   * Returns the path to the directory containing the graph statistics.
+   *
+   * @return statistics path
+   */
+  protected String getStatisticsPath() {
+    return csvRoot + STATISTICS_PATH;
+  }
+
+  /**
+   * Writes the statistics used by the Cypher query planner for the vertices and edges of the given
+   * collection to the statistics directory. The statistics are computed by the same job as the
+   * CSV files, so the input is read only once.
+   *
+   * @param graphCollection graph collection
+   * @param overwrite       true, if existing files should be overwritten
+   */
+  protected void writeStatistics(GraphCollection graphCollection, boolean overwrite) {
+    LogicalGraph graph = config.getLogicalGraphFactory()
+      .fromDataSets(graphCollection.getVertices(), graphCollection.getEdges());
+    StatisticWriter.writeGraphStatistics(
+      new GraphStatisticsCounts().execute(graph), getStatisticsPath(), overwrite);
+  }
+
+  /**
+   * Returns true, if the CSV directory contains graph statistics.
+   *
+   * @param hdfsConfig Hadoop configuration
+   * @return true, iff statistics were written together with the graph
+   * @throws IOException on failure
+   */
+  protected boolean hasStatistics(Configuration hdfsConfig) throws IOException {
+    Path statisticsPath = new Path(getStatisticsPath());
+    return statisticsPath.getFileSystem(hdfsConfig).exists(statisticsPath);
+  }
+
+  /**
+   * Reads the graph statistics written together with the graph.
+   *
+   * @param hdfsConfig Hadoop configuration
+   * @return graph statistics
+   * @throws IOException if the statistics can not be read
+   */
+  protected GraphStatistics readStatistics(Configuration hdfsConfig) throws IOException {
+    return GraphStatisticsHDFSReader.read(getStatisticsPath(), hdfsConfig);
+  }
+
   /**
    * Returns the path to the graph head file.
    *
@@ -194,6 +271,76 @@ public abstract class CSVBase {
     return csvRoot + METADATA_FILE;
   }
 
+  /**
+   * Reads the elements of the CSV file or of all CSV files of the directory at the given path.
+   * <p>
+   * If memory mapping is enabled, see {@link #setMemoryMappedInput(boolean)}, the files are read
+   * by a {@link MappedLineInputFormat} and the elements are parsed from the bytes of the lines.
+   * Otherwise, the lines are read by {@link #readCSVLines(String)}.
+   *
+   * @param path          path of a file or directory
+   * @param lineToElement function parsing the lines
+   * @param <E>           element type
+   * @return elements of the files
+   */
+  protected <E extends Element> FlatMapOperator<?, E> readCSVElements(String path,
+    CSVLineToElement<E> lineToElement) {
+    if (memoryMapped) {
+      return config.getExecutionEnvironment()
+        .createInput(new MappedLineInputFormat(new org.apache.flink.core.fs.Path(path)))
+        .flatMap(new CSVBytesToElement<>(lineToElement));
+    }
+    return readCSVLines(path).flatMap(lineToElement);
+  }
+
+  /**
+   * Reads the lines of the CSV file or of all CSV files of the directory at the given path.
+   * <p>
+   * Uncompressed files are read by the text input format of Flink, i.e. through the Flink file
+   * systems. Compressed files are detected by their extension, see {@link Compression}, and read
+   * by the codec aware Hadoop text input format. Files compressed by a splittable codec are split
+   * into multiple input splits, i.e. they are read and decompressed in parallel.
+   *
+   * @param path path of a file or directory
+   * @return lines of the files
+   */
+  protected DataSet<String> readCSVLines(String path) {
+    if (!isCompressed(path)) {
+      return config.getExecutionEnvironment().readTextFile(path);
+    }
+    return config.getExecutionEnvironment()
+      .createInput(HadoopInputs.readHadoopFile(
+        new TextInputFormat(), LongWritable.class, Text.class, path,
+        Compression.configure(new JobConf())))
+      .map(new TextLineToString());
+  }
+
+  /**
+   * Checks if the CSV file or one of the CSV files in the directory at the given path is
+   * compressed. Paths which can not be accessed are treated as uncompressed, the error is then
+   * reported by the input format when the job is executed.
+   *
+   * @param path path of a file or directory
+   * @return true, if a compressed file was found
+   */
+  private static boolean isCompressed(String path) {
+    try {
+      return Compression.containsCompressedFiles(new org.apache.flink.core.fs.Path(path));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Sets whether the CSV files are read through memory mapped buffers instead of Hadoop input
+   * streams. This requires uncompressed files in the local file system.
+   *
+   * @param memoryMapped true, iff memory mapped buffers shall be used
+   */
+  protected void setMemoryMappedInput(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+  }
+
   protected GradoopFlinkConfig getConfig() {
     return config;
   }
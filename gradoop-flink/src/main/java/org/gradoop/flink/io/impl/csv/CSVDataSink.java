@@ -16,11 +16,16 @@
 package org.gradoop.flink.io.impl.csv;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.Compression;
+import org.gradoop.flink.io.impl.compression.CompressedTextOutputFormat;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
 import org.gradoop.flink.io.impl.csv.functions.GraphHeadToCSVGraphHead;
+import org.gradoop.flink.io.impl.csv.functions.TupleToCSVLine;
 import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
@@ -32,6 +37,7 @@ import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * A graph data sink for CSV files.
@@ -42,6 +48,16 @@ public class CSVDataSink extends CSVBase implements DataSink {
    */
   protected final String metaDataPath;
 
+  /**
+   * Compression of the written CSV files.
+   */
+  private Compression compression = Compression.NONE;
+
+  /**
+   * Flag to write the graph statistics together with the graph.
+   */
+  private boolean writeStatistics = false;
+
   /**
    * Creates a new CSV data sink. Computes the meta data based on the given graph.
    *
@@ -65,6 +81,43 @@ public class CSVDataSink extends CSVBase implements DataSink {
     this.metaDataPath = metaDataPath;
   }
 
+  /**
+   * Sets the compression of the written CSV files. Compressed element files are written to
+   * directories containing one file per parallel task. Files compressed by a splittable codec,
+   * e.g. {@link Compression#BZIP2}, are read in parallel by the CSV data sources.
+   *
+   * @param compression compression of the written files
+   * @return this data sink
+   */
+  public CSVDataSink setCompression(Compression compression) {
+    this.compression = Objects.requireNonNull(compression);
+    return this;
+  }
+
+  /**
+   * Sets whether the statistics used by the Cypher query planner (element counts by label,
+   * distinct source and target vertex counts and distinct property value counts) shall be
+   * computed and written together with the graph. The statistics are computed in the same job,
+   * i.e. without reading the input a second time, and are provided by the CSV data sources
+   * via {@code getStatistics()}. Default: false
+   *
+   * @param writeStatistics true, iff the statistics shall be written
+   * @return this data sink
+   */
+  public CSVDataSink setWriteStatistics(boolean writeStatistics) {
+    this.writeStatistics = writeStatistics;
+    return this;
+  }
+
+  /**
+   * Returns true, if the graph statistics shall be written together with the graph.
+   *
+   * @return true, iff the statistics shall be written
+   */
+  protected boolean isWriteStatistics() {
+    return writeStatistics;
+  }
+
   @Override
   public void write(LogicalGraph logicalGraph) throws IOException {
     write(logicalGraph, false);
@@ -110,14 +163,35 @@ public class CSVDataSink extends CSVBase implements DataSink {
       new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
     }
 
-    csvGraphHeads.writeAsCsv(getGraphHeadCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvGraphHeads, getGraphHeadCSVPath(), writeMode);
 
-    csvVertices.writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvVertices, getVertexCSVPath(), writeMode);
 
-    csvEdges.writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvEdges, getEdgeCSVPath(), writeMode);
+
+    if (writeStatistics) {
+      writeStatistics(graphCollection, overwrite);
+    }
+  }
+
+  /**
+   * Writes the given tuples as CSV file using the compression of the sink.
+   *
+   * @param tuples    CSV tuples
+   * @param path      output path
+   * @param writeMode write mode
+   * @param <T>       tuple type
+   */
+  protected <T extends Tuple> void writeCSV(DataSet<T> tuples, String path,
+    FileSystem.WriteMode writeMode) {
+    if (compression == Compression.NONE) {
+      tuples.writeAsCsv(path, CSVConstants.ROW_DELIMITER, CSVConstants.TOKEN_DELIMITER, writeMode);
+    } else {
+      CompressedTextOutputFormat<T> format = new CompressedTextOutputFormat<>(new Path(path),
+        new TupleToCSVLine<>(CSVConstants.TOKEN_DELIMITER), compression, CSVConstants.ROW_DELIMITER);
+      format.setWriteMode(writeMode);
+      tuples.output(format);
+    }
   }
 
   /**
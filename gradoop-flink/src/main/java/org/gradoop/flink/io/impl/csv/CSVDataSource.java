@@ -17,6 +17,7 @@ package org.gradoop.flink.io.impl.csv;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.hadoop.conf.Configuration;
 import org.gradoop.common.model.api.entities.Edge;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.model.api.entities.Vertex;
@@ -26,14 +27,18 @@ import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.predicate.query.CSVElementQuery;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
 import org.gradoop.flink.model.api.epgm.BaseGraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.io.IOException;
+
 /**
  * A graph data source for CSV files.
  * <p>
@@ -45,9 +50,31 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
  * |- edges.csv    # all edge data
  * |- graphs.csv   # all graph head data
  * |- metadata.csv # Meta data for all data contained in the graph
+ * <p>
+ * Label filters, property predicates and property projections can be pushed down into the
+ * source using {@link CSVElementQuery}, see {@link #applyVertexPredicate(CSVElementQuery)}.
+ * Lines which do not fulfill a query are dropped while parsing.
+ * <p>
+ * Compressed CSV files are detected by their extension, see
+ * {@link org.gradoop.flink.io.impl.compression.Compression}.
  */
 public class CSVDataSource extends CSVBase implements DataSource {
 
+  /**
+   * Query pushed down into the parsing of graph heads, may be {@code null}.
+   */
+  private CSVElementQuery graphHeadQuery;
+
+  /**
+   * Query pushed down into the parsing of vertices, may be {@code null}.
+   */
+  private CSVElementQuery vertexQuery;
+
+  /**
+   * Query pushed down into the parsing of edges, may be {@code null}.
+   */
+  private CSVElementQuery edgeQuery;
+
   /**
    * Creates a new CSV data source.
    *
@@ -58,6 +85,90 @@ public class CSVDataSource extends CSVBase implements DataSource {
     super(csvPath, config);
   }
 
+  /**
+   * Pushes a query down into the parsing of graph heads. Replaces any previously applied graph
+   * head query.
+   *
+   * @param query graph head query
+   * @return this data source
+   */
+  public CSVDataSource applyGraphPredicate(CSVElementQuery query) {
+    this.graphHeadQuery = query;
+    return this;
+  }
+
+  /**
+   * Pushes a query down into the parsing of vertices. Replaces any previously applied vertex
+   * query. Note that edges are not filtered accordingly, i.e. edges of filtered vertices are
+   * still returned unless they are filtered by an edge query.
+   *
+   * @param query vertex query
+   * @return this data source
+   */
+  public CSVDataSource applyVertexPredicate(CSVElementQuery query) {
+    this.vertexQuery = query;
+    return this;
+  }
+
+  /**
+   * Pushes a query down into the parsing of edges. Replaces any previously applied edge query.
+   *
+   * @param query edge query
+   * @return this data source
+   */
+  public CSVDataSource applyEdgePredicate(CSVElementQuery query) {
+    this.edgeQuery = query;
+    return this;
+  }
+
+  /**
+   * Sets whether the CSV files are read through memory mapped buffers (NIO) instead of Hadoop
+   * input streams. This avoids copying the data through stream buffers when a graph is loaded
+   * from the local file system of a single machine. The files are split at line boundaries and
+   * read in parallel. Only uncompressed files in the local file system are supported.
+   * Default: false
+   *
+   * @param memoryMapped true, iff the files shall be memory mapped
+   * @return this data source
+   */
+  public CSVDataSource setMemoryMapped(boolean memoryMapped) {
+    setMemoryMappedInput(memoryMapped);
+    return this;
+  }
+
+  /**
+   * Checks if any query was pushed down into the data source.
+   *
+   * @return true, if a query was applied
+   */
+  public boolean isFilterPushedDown() {
+    return graphHeadQuery != null || vertexQuery != null || edgeQuery != null;
+  }
+
+  /**
+   * Checks if graph statistics were written together with the graph, see
+   * {@link CSVDataSink#setWriteStatistics(boolean)}.
+   *
+   * @return true, if the statistics are available
+   * @throws IOException on failure
+   */
+  public boolean hasStatistics() throws IOException {
+    return hasStatistics(new Configuration());
+  }
+
+  /**
+   * Returns the graph statistics written together with the graph. The statistics can be used to
+   * plan Cypher queries, see {@link org.gradoop.flink.model.api.epgm.BaseGraphOperators#query(
+   * String, GraphStatistics)}. Note that the statistics describe the stored graph, predicates
+   * pushed down into this source are not considered.
+   *
+   * @return graph statistics
+   * @throws IOException if no statistics were written or they can not be read
+   */
+  public GraphStatistics getStatistics() throws IOException {
+    return readStatistics(new Configuration());
+  }
+
   /**
    * Will use a single graph head of the collection as final graph head for the graph.
    * Issue #1217 (https://github.com/dbs-leipzig/gradoop/issues/1217) will optimize further.
@@ -112,17 +223,15 @@ public class CSVDataSource extends CSVBase implements DataSource {
       new CSVMetaDataSource().readDistributed(getMetaDataPath(), getConfig());
 
     // Read the datasets of each graph element
-    DataSet<G> graphHeads = getConfig().getExecutionEnvironment()
-      .readTextFile(getGraphHeadCSVPath())
-      .map(csvToGraphHead).withBroadcastSet(metaData, BC_METADATA);
+    DataSet<G> graphHeads =
+      readCSVElements(getGraphHeadCSVPath(), csvToGraphHead.withQuery(graphHeadQuery))
+        .withBroadcastSet(metaData, BC_METADATA);
 
-    DataSet<V> vertices = getConfig().getExecutionEnvironment()
-      .readTextFile(getVertexCSVPath())
-      .map(csvToVertex).withBroadcastSet(metaData, BC_METADATA);
+    DataSet<V> vertices = readCSVElements(getVertexCSVPath(), csvToVertex.withQuery(vertexQuery))
+      .withBroadcastSet(metaData, BC_METADATA);
 
-    DataSet<E> edges = getConfig().getExecutionEnvironment()
-      .readTextFile(getEdgeCSVPath())
-      .map(csvToEdge).withBroadcastSet(metaData, BC_METADATA);
+    DataSet<E> edges = readCSVElements(getEdgeCSVPath(), csvToEdge.withQuery(edgeQuery))
+      .withBroadcastSet(metaData, BC_METADATA);
 
     // Create the graph
     return collectionFactory.fromDataSets(graphHeads, vertices, edges);
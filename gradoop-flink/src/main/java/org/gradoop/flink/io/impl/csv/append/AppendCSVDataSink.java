@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.append;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.csv.CSVDataSink;
+import org.gradoop.flink.io.impl.csv.append.functions.ManifestOutputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A data sink appending graph data to a directory of CSV deltas instead of rewriting the whole
+ * graph. Each write adds a new delta containing the written elements and the ids of removed
+ * elements (tombstones). The delta is committed to the manifest (see {@link CSVManifest}) after
+ * the job finished successfully. The {@link AppendCSVDataSource} merges the live deltas on read.
+ * <p>
+ * Elements of a delta replace elements with the same id of previous deltas. Removing a vertex
+ * does not remove its edges, their ids have to be removed as well.
+ * <p>
+ * Writing with {@code overwrite} set to true replaces all previous deltas by the written graph,
+ * {@link #compact()} folds all deltas into a single one.
+ * <p>
+ * Each write reserves its delta directory when the job is defined. Directories of deltas which
+ * are never committed, e.g. because the job failed or was never executed, are not deleted
+ * automatically, as they can not be told apart from the deltas of jobs which are still running.
+ * They are ignored on read and have to be deleted explicitly by {@link #deleteStaleDeltas(long)}.
+ */
+public class AppendCSVDataSink implements DataSink {
+  /**
+   * Root directory of the deltas and the manifest.
+   */
+  private final String root;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+  /**
+   * HDFS configuration
+   */
+  private final Configuration hdfsConfig;
+
+  /**
+   * Creates a new data sink.
+   *
+   * @param root   root directory of the deltas
+   * @param config Gradoop Flink configuration
+   */
+  public AppendCSVDataSink(String root, GradoopFlinkConfig config) {
+    this(root, config, new Configuration());
+  }
+
+  /**
+   * Creates a new data sink.
+   *
+   * @param root       root directory of the deltas
+   * @param config     Gradoop Flink configuration
+   * @param hdfsConfig HDFS configuration
+   */
+  public AppendCSVDataSink(String root, GradoopFlinkConfig config, Configuration hdfsConfig) {
+    this.root = Objects.requireNonNull(root);
+    this.config = Objects.requireNonNull(config);
+    this.hdfsConfig = Objects.requireNonNull(hdfsConfig);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  /**
+   * Appends the graph collection as new delta. If overwrite is true, the collection replaces the
+   * graph, i.e. all previous deltas are removed when the job finished.
+   *
+   * @param graphCollection graph collection
+   * @param overwrite true, iff the collection shall replace all previous deltas
+   * @throws IOException on failure
+   */
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    writeDelta(graphCollection, null, overwrite, ManifestOutputFormat.CURRENT_VERSION);
+  }
+
+  /**
+   * Appends a delta adding or replacing the elements of the graph collection and removing the
+   * elements with the given ids.
+   *
+   * @param additions  added or updated elements
+   * @param removedIds ids of removed graph heads, vertices and edges
+   * @throws IOException on failure
+   */
+  public void append(GraphCollection additions, DataSet<GradoopId> removedIds)
+    throws IOException {
+    writeDelta(additions, Objects.requireNonNull(removedIds), false,
+      ManifestOutputFormat.CURRENT_VERSION);
+  }
+
+  /**
+   * Folds all live deltas into a single delta. Afterwards, reading the graph no longer has to
+   * merge deltas. The previous deltas are deleted when the job finished, unlisted deltas are
+   * kept. The job fails if another delta was committed since the live deltas were read.
+   *
+   * @throws IOException on failure
+   */
+  public void compact() throws IOException {
+    long version = CSVManifest.version(root, hdfsConfig);
+    GraphCollection merged = new AppendCSVDataSource(root, config, hdfsConfig)
+      .getGraphCollection(CSVManifest.read(root, version, hdfsConfig));
+    writeDelta(merged, null, true, version);
+  }
+
+  /**
+   * Deletes the directories of deltas which are not listed by the manifest and were reserved at
+   * least the given time ago, i.e. deltas of failed or never executed jobs. The deletion is
+   * executed immediately. Deltas of running jobs can not be told apart from stale ones, the age
+   * therefore has to exceed the run time of any job appending to the directory. A job whose delta
+   * was deleted fails to commit it.
+   *
+   * @param maxAge minimum time in milliseconds since the reservation of deleted deltas
+   * @return names of the deleted delta directories
+   * @throws IOException on failure
+   */
+  public List<String> deleteStaleDeltas(long maxAge) throws IOException {
+    return CSVManifest.deleteStale(root, maxAge, hdfsConfig);
+  }
+
+  /**
+   * Writes a new delta and commits it to the manifest when the job finished. The delta directory
+   * is reserved immediately, i.e. multiple deltas can be written by the same job.
+   *
+   * @param additions  added or updated elements
+   * @param removedIds ids of removed elements or {@code null}
+   * @param replace    true, iff the delta replaces all previous deltas
+   * @param version    manifest version the delta is based on or
+   *                   {@link ManifestOutputFormat#CURRENT_VERSION}
+   * @throws IOException on failure
+   */
+  private void writeDelta(GraphCollection additions, DataSet<GradoopId> removedIds,
+    boolean replace, long version) throws IOException {
+    String delta = CSVManifest.reserveDelta(root, hdfsConfig);
+    String deltaPath = new Path(root, delta).toString();
+
+    new CSVDataSink(deltaPath, config).write(additions, false);
+    if (removedIds != null) {
+      removedIds.writeAsText(new Path(deltaPath, CSVManifest.TOMBSTONE_FILE).toString(),
+        FileSystem.WriteMode.NO_OVERWRITE);
+    }
+
+    config.getExecutionEnvironment().fromElements(0)
+      .output(new ManifestOutputFormat(root, delta, replace, version, hdfsConfig));
+  }
+}
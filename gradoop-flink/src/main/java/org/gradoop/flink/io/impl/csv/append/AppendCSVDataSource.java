@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.append;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.CSVDataSource;
+import org.gradoop.flink.io.impl.csv.append.functions.StringToGradoopId;
+import org.gradoop.flink.io.impl.csv.append.functions.WithoutIds;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A data source reading graph data written by the {@link AppendCSVDataSink}. The live deltas
+ * listed in the manifest are merged in the order they were written: elements of a delta replace
+ * elements with the same id of previous deltas and tombstones remove them.
+ */
+public class AppendCSVDataSource implements DataSource {
+  /**
+   * Root directory of the deltas and the manifest.
+   */
+  private final String root;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+  /**
+   * HDFS configuration
+   */
+  private final Configuration hdfsConfig;
+
+  /**
+   * Creates a new data source.
+   *
+   * @param root   root directory of the deltas
+   * @param config Gradoop Flink configuration
+   */
+  public AppendCSVDataSource(String root, GradoopFlinkConfig config) {
+    this(root, config, new Configuration());
+  }
+
+  /**
+   * Creates a new data source.
+   *
+   * @param root       root directory of the deltas
+   * @param config     Gradoop Flink configuration
+   * @param hdfsConfig HDFS configuration
+   */
+  public AppendCSVDataSource(String root, GradoopFlinkConfig config, Configuration hdfsConfig) {
+    this.root = Objects.requireNonNull(root);
+    this.config = Objects.requireNonNull(config);
+    this.hdfsConfig = Objects.requireNonNull(hdfsConfig);
+  }
+
+  /**
+   * Returns the number of live deltas, i.e. the number of deltas merged on read.
+   *
+   * @return number of deltas
+   * @throws IOException on failure
+   */
+  public int getDeltaCount() throws IOException {
+    return CSVManifest.read(root, hdfsConfig).size();
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() throws IOException {
+    GraphCollection collection = getGraphCollection();
+    return collection.getGraphFactory()
+      .fromDataSets(
+        collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() throws IOException {
+    return getGraphCollection(CSVManifest.read(root, hdfsConfig));
+  }
+
+  /**
+   * Merges the given deltas.
+   *
+   * @param deltas delta directory names in the order they were written
+   * @return merged graph collection
+   * @throws IOException on failure
+   */
+  GraphCollection getGraphCollection(List<String> deltas) throws IOException {
+    if (deltas.isEmpty()) {
+      return config.getGraphCollectionFactory().createEmptyCollection();
+    }
+
+    GraphCollection first = readDelta(deltas.get(0));
+    DataSet<EPGMGraphHead> graphHeads = first.getGraphHeads();
+    DataSet<EPGMVertex> vertices = first.getVertices();
+    DataSet<EPGMEdge> edges = first.getEdges();
+
+    for (String delta : deltas.subList(1, deltas.size())) {
+      GraphCollection current = readDelta(delta);
+      DataSet<GradoopId> removedIds = current.getGraphHeads().map(new Id<>())
+        .union(current.getVertices().map(new Id<>()))
+        .union(current.getEdges().map(new Id<>()));
+
+      Path tombstones = new Path(new Path(root, delta), CSVManifest.TOMBSTONE_FILE);
+      if (tombstones.getFileSystem(hdfsConfig).exists(tombstones)) {
+        removedIds = removedIds.union(config.getExecutionEnvironment()
+          .readTextFile(tombstones.toString())
+          .map(new StringToGradoopId()));
+      }
+
+      graphHeads = without(graphHeads, removedIds).union(current.getGraphHeads());
+      vertices = without(vertices, removedIds).union(current.getVertices());
+      edges = without(edges, removedIds).union(current.getEdges());
+    }
+
+    return config.getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+
+  /**
+   * Reads a single delta.
+   *
+   * @param delta delta directory name
+   * @return graph collection of the delta
+   */
+  private GraphCollection readDelta(String delta) {
+    return new CSVDataSource(new Path(root, delta).toString(), config).getGraphCollection();
+  }
+
+  /**
+   * Removes the elements with the given ids.
+   *
+   * @param elements elements
+   * @param ids      ids of the elements to remove
+   * @param <E>      element type
+   * @return remaining elements
+   */
+  private <E extends Element> DataSet<E> without(DataSet<E> elements, DataSet<GradoopId> ids) {
+    return elements.leftOuterJoin(ids)
+      .where(new Id<>()).equalTo("*")
+      .with(new WithoutIds<>());
+  }
+}
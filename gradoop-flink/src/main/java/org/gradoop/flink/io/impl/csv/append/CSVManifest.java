@@ -0,0 +1,386 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.append;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The manifest of an append CSV directory. The manifest lists the live deltas of the graph in
+ * the order they were written, one delta directory name per line. Each delta is a graph written
+ * by the {@link org.gradoop.flink.io.impl.csv.CSVDataSink} and optionally contains a file of
+ * tombstoned element ids. Delta directories not listed in the manifest are ignored.
+ * <p>
+ * The manifest is versioned, each update writes a new manifest file whose version is one higher
+ * than the one of the current manifest and readers use the manifest with the highest version.
+ * An update is based on the version it read and is rejected if another version was committed
+ * in between. A new version is written to a uniquely named temporary file first and published
+ * afterwards without replacing an existing file, by a rename on distributed file systems and by
+ * a hard link on the local file system. Readers therefore see either the old or the new snapshot
+ * and concurrent writers of the same version can not overwrite each other.
+ */
+public final class CSVManifest {
+  /**
+   * Prefix of manifest file names, followed by the version and {@link #MANIFEST_SUFFIX}.
+   */
+  public static final String MANIFEST_PREFIX = "manifest-";
+  /**
+   * Suffix of manifest file names.
+   */
+  public static final String MANIFEST_SUFFIX = ".csv";
+  /**
+   * Name of the file containing the ids of removed elements of a delta.
+   */
+  public static final String TOMBSTONE_FILE = "tombstones.csv";
+  /**
+   * Prefix of delta directory names.
+   */
+  static final String DELTA_PREFIX = "delta-";
+  /**
+   * Suffix of temporary manifest files.
+   */
+  private static final String TMP_SUFFIX = ".tmp";
+  /**
+   * Number of manifest versions kept. A writer based on an older version could publish a version
+   * whose file was already deleted, the retained versions make such a publication fail.
+   */
+  private static final int RETAINED_VERSIONS = 10;
+  /**
+   * Name of the file marking a delta directory as reserved. Flink and Hadoop input formats ignore
+   * files starting with an underscore.
+   */
+  private static final String RESERVATION_FILE = "_reserved";
+
+  /**
+   * No instances.
+   */
+  private CSVManifest() {
+  }
+
+  /**
+   * Reads the names of the live deltas.
+   *
+   * @param root root directory
+   * @param hdfsConfig Hadoop configuration
+   * @return delta directory names, empty if there is no manifest
+   * @throws IOException on failure
+   */
+  public static List<String> read(String root, Configuration hdfsConfig) throws IOException {
+    return read(root, version(root, hdfsConfig), hdfsConfig);
+  }
+
+  /**
+   * Reads the names of the deltas listed by a manifest version.
+   *
+   * @param root root directory
+   * @param version manifest version, see {@link #version(String, Configuration)}
+   * @param hdfsConfig Hadoop configuration
+   * @return delta directory names, empty if the version is negative
+   * @throws IOException on failure
+   */
+  public static List<String> read(String root, long version, Configuration hdfsConfig)
+    throws IOException {
+    List<String> deltas = new ArrayList<>();
+    if (version < 0) {
+      return deltas;
+    }
+    Path rootPath = new Path(root);
+    FileSystem fs = rootPath.getFileSystem(hdfsConfig);
+    Path manifest = manifestPath(rootPath, version);
+    try (BufferedReader reader = new BufferedReader(
+      new InputStreamReader(fs.open(manifest), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isEmpty()) {
+          deltas.add(line);
+        }
+      }
+    }
+    return deltas;
+  }
+
+  /**
+   * Returns the version of the current manifest.
+   *
+   * @param root root directory
+   * @param hdfsConfig Hadoop configuration
+   * @return version of the current manifest or -1 if there is no manifest
+   * @throws IOException on failure
+   */
+  public static long version(String root, Configuration hdfsConfig) throws IOException {
+    Path rootPath = new Path(root);
+    return latestVersion(rootPath.getFileSystem(hdfsConfig), rootPath);
+  }
+
+  /**
+   * Replaces the manifest by a new version listing the given deltas, if the given version is
+   * still the current one. The manifest is written to a uniquely named temporary file first,
+   * which is published as the next version afterwards. The latest {@link #RETAINED_VERSIONS}
+   * versions are kept, for readers which already chose one of them and to reject writers which
+   * were based on one of them.
+   *
+   * @param root root directory
+   * @param version version of the manifest the deltas are based on, -1 if there is none
+   * @param deltas delta directory names
+   * @param hdfsConfig Hadoop configuration
+   * @return true, if the new version was committed, false if another version was committed
+   * since the given one
+   * @throws IOException on failure
+   */
+  public static boolean write(String root, long version, List<String> deltas,
+    Configuration hdfsConfig) throws IOException {
+    Path rootPath = new Path(root);
+    FileSystem fs = rootPath.getFileSystem(hdfsConfig);
+    if (fs instanceof LocalFileSystem) {
+      fs = ((LocalFileSystem) fs).getRaw();
+    }
+    if (latestVersion(fs, rootPath) != version) {
+      return false;
+    }
+    long next = version + 1;
+    Path manifest = manifestPath(rootPath, next);
+    Path tmp = new Path(rootPath, manifest.getName() + "." + UUID.randomUUID() + TMP_SUFFIX);
+    try (FSDataOutputStream out = fs.create(tmp, false);
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+      for (String delta : deltas) {
+        writer.write(delta);
+        writer.write('\n');
+      }
+    }
+    if (!publish(fs, tmp, manifest)) {
+      fs.delete(tmp, false);
+      return false;
+    }
+    for (long obsolete = next - RETAINED_VERSIONS; obsolete >= 0; obsolete--) {
+      Path path = manifestPath(rootPath, obsolete);
+      if (!fs.exists(path)) {
+        break;
+      }
+      fs.delete(path, false);
+    }
+    return true;
+  }
+
+  /**
+   * Publishes a temporary manifest file without replacing an existing manifest. The rename of the
+   * local file system replaces existing files, a hard link is created instead.
+   *
+   * @param fs file system of the root directory
+   * @param tmp temporary manifest file
+   * @param manifest manifest file
+   * @return true, if the manifest was published, false if it already exists
+   * @throws IOException on failure
+   */
+  private static boolean publish(FileSystem fs, Path tmp, Path manifest) throws IOException {
+    if (fs instanceof RawLocalFileSystem) {
+      try {
+        Files.createLink(Paths.get(fs.makeQualified(manifest).toUri()),
+          Paths.get(fs.makeQualified(tmp).toUri()));
+      } catch (FileAlreadyExistsException e) {
+        return false;
+      }
+      fs.delete(tmp, false);
+      return true;
+    }
+    return fs.rename(tmp, manifest);
+  }
+
+  /**
+   * Deletes the directories of stale deltas, i.e. deltas which are not listed by the manifest and
+   * were reserved at least the given time ago. Unlisted deltas are deltas of failed jobs, of jobs
+   * which were never executed and of jobs which are still running, the latter can not be told
+   * apart from the others. The age therefore has to exceed the run time of any append job, a
+   * running job whose delta is deleted fails to commit it.
+   *
+   * @param root root directory
+   * @param maxAge minimum time in milliseconds since the reservation of deleted deltas
+   * @param hdfsConfig Hadoop configuration
+   * @return names of the deleted delta directories
+   * @throws IOException on failure
+   */
+  public static List<String> deleteStale(String root, long maxAge, Configuration hdfsConfig)
+    throws IOException {
+    Path rootPath = new Path(root);
+    FileSystem fs = rootPath.getFileSystem(hdfsConfig);
+    List<String> deleted = new ArrayList<>();
+    if (!fs.exists(rootPath)) {
+      return deleted;
+    }
+    long now = System.currentTimeMillis();
+    List<FileStatus> stale = new ArrayList<>();
+    for (FileStatus status : fs.listStatus(rootPath)) {
+      if (status.isDirectory() && deltaNumber(status.getPath().getName()) >= 0 &&
+        now - reservationTime(fs, status) >= maxAge) {
+        stale.add(status);
+      }
+    }
+    // read after the reservation times, a delta committed in between is listed
+    Set<String> listed = new HashSet<>(read(root, hdfsConfig));
+    for (FileStatus status : stale) {
+      String name = status.getPath().getName();
+      if (!listed.contains(name)) {
+        fs.delete(status.getPath(), true);
+        deleted.add(name);
+      }
+    }
+    return deleted;
+  }
+
+  /**
+   * Returns the time a delta directory was reserved at, i.e. the modification time of its marker
+   * file or of the directory itself if the marker is missing.
+   *
+   * @param fs file system of the root directory
+   * @param delta status of the delta directory
+   * @return reservation time in milliseconds
+   * @throws IOException on failure
+   */
+  private static long reservationTime(FileSystem fs, FileStatus delta) throws IOException {
+    Path marker = new Path(delta.getPath(), RESERVATION_FILE);
+    return fs.exists(marker) ? fs.getFileStatus(marker).getModificationTime() :
+      delta.getModificationTime();
+  }
+
+  /**
+   * Returns true, if the directory of the given delta is still reserved, i.e. it was not deleted
+   * as a stale delta, see {@link #deleteStale(String, long, Configuration)}.
+   *
+   * @param root root directory
+   * @param delta delta directory name
+   * @param hdfsConfig Hadoop configuration
+   * @return true, iff the delta directory is reserved
+   * @throws IOException on failure
+   */
+  public static boolean isReserved(String root, String delta, Configuration hdfsConfig)
+    throws IOException {
+    Path marker = new Path(new Path(root, delta), RESERVATION_FILE);
+    return marker.getFileSystem(hdfsConfig).exists(marker);
+  }
+
+  /**
+   * Reserves the directory of a new delta. The name is not used by any existing directory,
+   * including the ones of failed or deleted deltas and the ones reserved for deltas of jobs which
+   * were not executed yet. The directory is reserved by creating it together with a marker file.
+   *
+   * @param root root directory
+   * @param hdfsConfig Hadoop configuration
+   * @return delta directory name
+   * @throws IOException on failure
+   */
+  public static String reserveDelta(String root, Configuration hdfsConfig) throws IOException {
+    Path rootPath = new Path(root);
+    FileSystem fs = rootPath.getFileSystem(hdfsConfig);
+    String delta;
+    do {
+      delta = nextDelta(fs, rootPath);
+    } while (!fs.createNewFile(new Path(new Path(rootPath, delta), RESERVATION_FILE)));
+    return delta;
+  }
+
+  /**
+   * Returns the name following the highest delta directory name.
+   *
+   * @param fs file system of the root directory
+   * @param rootPath root directory
+   * @return delta directory name
+   * @throws IOException on failure
+   */
+  private static String nextDelta(FileSystem fs, Path rootPath) throws IOException {
+    long next = 0;
+    if (fs.exists(rootPath)) {
+      for (FileStatus status : fs.listStatus(rootPath)) {
+        if (status.isDirectory()) {
+          next = Math.max(next, deltaNumber(status.getPath().getName()) + 1);
+        }
+      }
+    }
+    return String.format("%s%06d", DELTA_PREFIX, next);
+  }
+
+  /**
+   * Returns the number of a delta directory name.
+   *
+   * @param name directory name
+   * @return number of the delta or -1 if the name is not a delta directory name
+   */
+  private static long deltaNumber(String name) {
+    if (name.startsWith(DELTA_PREFIX)) {
+      try {
+        return Long.parseLong(name.substring(DELTA_PREFIX.length()));
+      } catch (NumberFormatException e) {
+        // not a delta directory
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the version of the current manifest.
+   *
+   * @param fs file system of the root directory
+   * @param rootPath root directory
+   * @return version of the current manifest or -1 if there is no manifest
+   * @throws IOException on failure
+   */
+  private static long latestVersion(FileSystem fs, Path rootPath) throws IOException {
+    long latest = -1;
+    if (fs.exists(rootPath)) {
+      for (FileStatus status : fs.listStatus(rootPath)) {
+        String name = status.getPath().getName();
+        if (status.isFile() && name.startsWith(MANIFEST_PREFIX) && name.endsWith(MANIFEST_SUFFIX)) {
+          try {
+            latest = Math.max(latest, Long.parseLong(
+              name.substring(MANIFEST_PREFIX.length(), name.length() - MANIFEST_SUFFIX.length())));
+          } catch (NumberFormatException e) {
+            // not a manifest file
+          }
+        }
+      }
+    }
+    return latest;
+  }
+
+  /**
+   * Returns the path of a manifest version.
+   *
+   * @param rootPath root directory
+   * @param version manifest version
+   * @return path of the manifest file
+   */
+  private static Path manifestPath(Path rootPath, long version) {
+    return new Path(rootPath, String.format("%s%06d%s", MANIFEST_PREFIX, version, MANIFEST_SUFFIX));
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.append.functions;
+
+import org.apache.flink.api.common.io.FinalizeOnMaster;
+import org.apache.flink.api.common.io.OutputFormat;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.gradoop.flink.io.impl.csv.append.CSVManifest;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Commits a delta by adding it to the manifest. The manifest is updated on the master after all
+ * tasks of the job finished successfully, i.e. after the delta was written completely. The
+ * records written to this format are ignored.
+ * <p>
+ * The manifest is updated based on its current version. If another job committed a version in
+ * between, the update is retried based on the new version. A delta replacing the graph which was
+ * computed from a specific manifest version, e.g. by a compaction, is based on that version
+ * instead and fails if another version was committed since.
+ * <p>
+ * If the delta replaces the graph, the manifest lists only the new delta afterwards and the
+ * directories of all previous deltas are deleted. Directories of unlisted deltas may belong to
+ * jobs which are still running and are kept.
+ * <p>
+ * The Hadoop configuration is not serializable and therefore written by its own serialization.
+ */
+public class ManifestOutputFormat implements OutputFormat<Integer>, FinalizeOnMaster {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Base version denoting the current manifest version at the time of the commit.
+   */
+  public static final long CURRENT_VERSION = Long.MIN_VALUE;
+
+  /**
+   * Maximum number of attempts to commit the delta based on the current manifest version.
+   */
+  private static final int MAX_ATTEMPTS = 10;
+
+  /**
+   * Root directory containing the manifest.
+   */
+  private final String root;
+
+  /**
+   * Name of the delta to commit.
+   */
+  private final String delta;
+
+  /**
+   * True, if the delta replaces all previous deltas.
+   */
+  private final boolean replace;
+
+  /**
+   * Version of the manifest the delta is based on or {@link #CURRENT_VERSION}.
+   */
+  private final long baseVersion;
+
+  /**
+   * Hadoop configuration used to access the manifest and the deltas.
+   */
+  private transient Configuration hdfsConfig;
+
+  /**
+   * Creates a new output format committing the delta based on the current manifest version.
+   *
+   * @param root root directory containing the manifest
+   * @param delta name of the delta to commit
+   * @param replace true, iff the delta replaces all previous deltas
+   * @param hdfsConfig Hadoop configuration used to access the manifest and the deltas
+   */
+  public ManifestOutputFormat(String root, String delta, boolean replace,
+    Configuration hdfsConfig) {
+    this(root, delta, replace, CURRENT_VERSION, hdfsConfig);
+  }
+
+  /**
+   * Creates a new output format.
+   *
+   * @param root root directory containing the manifest
+   * @param delta name of the delta to commit
+   * @param replace true, iff the delta replaces all previous deltas
+   * @param baseVersion version of the manifest the delta is based on or {@link #CURRENT_VERSION}
+   * @param hdfsConfig Hadoop configuration used to access the manifest and the deltas
+   */
+  public ManifestOutputFormat(String root, String delta, boolean replace, long baseVersion,
+    Configuration hdfsConfig) {
+    this.root = root;
+    this.delta = delta;
+    this.replace = replace;
+    this.baseVersion = baseVersion;
+    this.hdfsConfig = hdfsConfig;
+  }
+
+  @Override
+  public void finalizeGlobal(int parallelism) throws IOException {
+    for (int attempt = 1; ; attempt++) {
+      if (!CSVManifest.isReserved(root, delta, hdfsConfig)) {
+        throw new IOException("Can not commit delta " + delta + " to " + root +
+          ", it was deleted by a concurrent compaction");
+      }
+      long version = CSVManifest.version(root, hdfsConfig);
+      if (baseVersion != CURRENT_VERSION && version != baseVersion) {
+        throw new IOException("Can not commit delta " + delta + " to " + root + ", it is based " +
+          "on manifest version " + baseVersion + " but version " + version + " was committed");
+      }
+      List<String> previous = CSVManifest.read(root, version, hdfsConfig);
+      List<String> deltas = new ArrayList<>();
+      if (!replace) {
+        deltas.addAll(previous);
+      }
+      deltas.add(delta);
+      if (CSVManifest.write(root, version, deltas, hdfsConfig)) {
+        if (replace) {
+          deleteReplaced(previous);
+        }
+        return;
+      }
+      if (baseVersion != CURRENT_VERSION || attempt == MAX_ATTEMPTS) {
+        throw new IOException("Can not commit delta " + delta + " to " + root +
+          ", the manifest was committed concurrently");
+      }
+    }
+  }
+
+  /**
+   * Deletes the directories of the deltas replaced by the committed delta.
+   *
+   * @param previous names of the replaced deltas
+   * @throws IOException on failure
+   */
+  private void deleteReplaced(List<String> previous) throws IOException {
+    for (String obsolete : previous) {
+      Path path = new Path(root, obsolete);
+      FileSystem fs = path.getFileSystem(hdfsConfig);
+      if (!obsolete.equals(delta) && fs.exists(path)) {
+        fs.delete(path, true);
+      }
+    }
+  }
+
+  @Override
+  public void configure(org.apache.flink.configuration.Configuration parameters) {
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) {
+  }
+
+  @Override
+  public void writeRecord(Integer record) {
+  }
+
+  @Override
+  public void close() {
+  }
+
+  /**
+   * Writes the fields of the format followed by the Hadoop configuration.
+   *
+   * @param out object output stream
+   * @throws IOException on failure
+   */
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    hdfsConfig.write(out);
+  }
+
+  /**
+   * Reads the fields of the format followed by the Hadoop configuration.
+   *
+   * @param in object input stream
+   * @throws IOException on failure
+   * @throws ClassNotFoundException if a class of a field can not be found
+   */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    hdfsConfig = new Configuration(false);
+    hdfsConfig.readFields(in);
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.append.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Parses a line of a tombstone file.
+ */
+public class StringToGradoopId implements MapFunction<String, GradoopId> {
+
+  @Override
+  public GradoopId map(String line) {
+    return GradoopId.fromString(line.trim());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.common.functions.util.FunctionUtils;
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.Element;
+
+/**
+ * Parses UTF-8 encoded CSV lines using a {@link CSVLineToElement} function without decoding the
+ * lines to strings. The wrapped function is opened with the runtime context of this function,
+ * i.e. it can access the broadcast sets of this function.
+ *
+ * @param <E> element type
+ */
+public class CSVBytesToElement<E extends Element> extends RichFlatMapFunction<byte[], E>
+  implements ResultTypeQueryable<E> {
+
+  /**
+   * Function parsing the lines.
+   */
+  private final CSVLineToElement<E> lineToElement;
+
+  /**
+   * Creates a new function.
+   *
+   * @param lineToElement function parsing the lines
+   */
+  public CSVBytesToElement(CSVLineToElement<E> lineToElement) {
+    this.lineToElement = lineToElement;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    FunctionUtils.setFunctionRuntimeContext(lineToElement, getRuntimeContext());
+    FunctionUtils.openFunction(lineToElement, parameters);
+  }
+
+  @Override
+  public void flatMap(byte[] csvLine, Collector<E> out) throws Exception {
+    lineToElement.flatMap(csvLine, out);
+  }
+
+  @Override
+  public void close() throws Exception {
+    FunctionUtils.closeFunction(lineToElement);
+    super.close();
+  }
+
+  @Override
+  public TypeInformation<E> getProducedType() {
+    return TypeExtractor.getFlatMapReturnTypes(lineToElement, BasicTypeInfo.STRING_TYPE_INFO);
+  }
+}
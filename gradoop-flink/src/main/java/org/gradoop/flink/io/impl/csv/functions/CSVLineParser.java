@@ -0,0 +1,523 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.Type;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single pass parser of the tokens of a CSV line.
+ * <p>
+ * The tokens are decoded directly from the characters of the line, i.e. without splitting the
+ * line into intermediate strings: ids are decoded from their hexadecimal representation,
+ * integral and boolean property values are parsed in place and only string values and labels are
+ * copied. A parser is reused for all lines of a task, see {@link #reset(String)}.
+ * <p>
+ * Lines can also be parsed from their UTF-8 encoded bytes, see {@link #reset(byte[], int)}. As
+ * all delimiters, digits and hexadecimal characters are ASCII characters, which never occur
+ * within the encoding of other characters, the tokens are found on the bytes directly and only
+ * labels and string values are decoded.
+ */
+public class CSVLineParser {
+  /**
+   * Escape character, see {@link StringEscaper}.
+   */
+  private static final char ESCAPE_CHARACTER = '\\';
+  /**
+   * Delimiter of the tokens of a line.
+   */
+  private static final char TOKEN_DELIMITER = CSVConstants.TOKEN_DELIMITER.charAt(0);
+  /**
+   * Delimiter of property values.
+   */
+  private static final char VALUE_DELIMITER = CSVConstants.VALUE_DELIMITER.charAt(0);
+  /**
+   * Delimiter of list items.
+   */
+  private static final char LIST_DELIMITER = CSVConstants.LIST_DELIMITER.charAt(0);
+  /**
+   * Number of hexadecimal characters of a {@link GradoopId}.
+   */
+  private static final int ID_LENGTH = 2 * GradoopId.ID_SIZE;
+  /**
+   * Maximum number of digits which can not overflow a long value.
+   */
+  private static final int MAX_SAFE_DIGITS = 18;
+  /**
+   * Buffer used to unescape strings.
+   */
+  private final StringBuilder builder = new StringBuilder();
+  /**
+   * Bytes of the current line viewed as characters, reused for all lines given as bytes.
+   */
+  private final ByteChars byteChars = new ByteChars();
+  /**
+   * Current line, either a string or {@link #byteChars}.
+   */
+  private CharSequence line;
+  /**
+   * True, if the current line is given as bytes.
+   */
+  private boolean bytes;
+  /**
+   * Position of the next token in the current line.
+   */
+  private int position;
+  /**
+   * Last parsed label, reused as long as consecutive lines have the same label.
+   */
+  private String lastLabel;
+  /**
+   * Characters of the token of the last parsed label.
+   */
+  private String lastLabelToken;
+
+  /**
+   * Starts parsing the given line.
+   *
+   * @param line CSV line
+   * @return this parser
+   */
+  public CSVLineParser reset(String line) {
+    this.line = line;
+    this.bytes = false;
+    this.position = 0;
+    return this;
+  }
+
+  /**
+   * Starts parsing the given UTF-8 encoded line. The bytes are not copied, i.e. they must not
+   * be modified while the line is parsed.
+   *
+   * @param line   bytes of the CSV line
+   * @param length number of bytes of the line
+   * @return this parser
+   */
+  public CSVLineParser reset(byte[] line, int length) {
+    byteChars.set(line, length);
+    this.line = byteChars;
+    this.bytes = true;
+    this.position = 0;
+    return this;
+  }
+
+  /**
+   * Parses the next token as {@link GradoopId}.
+   *
+   * @return id
+   * @throws IllegalArgumentException if the token does not represent an id
+   */
+  public GradoopId nextId() {
+    int end = tokenEnd();
+    GradoopId id = end - position == ID_LENGTH ?
+      GradoopId.fromCharSequence(line, position) :
+      GradoopId.fromString(text(position, end));
+    position = end + 1;
+    return id;
+  }
+
+  /**
+   * Parses the next token as set of ids, e.g. {@code [id1,id2]}.
+   *
+   * @return id set
+   * @throws IllegalArgumentException if the token does not represent a set of ids
+   */
+  public GradoopIdSet nextIdSet() {
+    int end = tokenEnd();
+    if (end - position < 2 || line.charAt(position) != '[' || line.charAt(end - 1) != ']') {
+      throw new IllegalArgumentException(
+        "invalid representation of GradoopIds: [" + text(position, end) + "]");
+    }
+    GradoopIdSet ids = new GradoopIdSet();
+    int itemStart = position + 1;
+    while (itemStart < end - 1) {
+      int itemEnd = indexOf(LIST_DELIMITER, itemStart, end - 1);
+      int idStart = skipWhitespace(itemStart, itemEnd);
+      ids.add(itemEnd - idStart >= ID_LENGTH &&
+        skipWhitespace(idStart + ID_LENGTH, itemEnd) == itemEnd ?
+        GradoopId.fromCharSequence(line, idStart) :
+        GradoopId.fromString(text(itemStart, itemEnd).trim()));
+      itemStart = itemEnd + 1;
+    }
+    position = end + 1;
+    return ids;
+  }
+
+  /**
+   * Parses the next token as unescaped label. The label of the previous line is reused if it is
+   * equal to the token.
+   *
+   * @return label
+   */
+  public String nextLabel() {
+    int end = tokenEnd();
+    if (lastLabelToken == null || !regionMatches(position, end, lastLabelToken, false)) {
+      lastLabelToken = line.subSequence(position, end).toString();
+      lastLabel = unescape(position, end);
+    }
+    position = end + 1;
+    return lastLabel;
+  }
+
+  /**
+   * Parses the next token as long value.
+   *
+   * @return value
+   * @throws NumberFormatException if the token does not represent a long value
+   */
+  public long nextLong() {
+    int end = tokenEnd();
+    long value = parseLong(position, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    position = end + 1;
+    return value;
+  }
+
+  /**
+   * Parses the next long value of the current token, e.g. a single value of a tuple
+   * {@code (1,2)}. The value is terminated by the given delimiter.
+   *
+   * @param delimiter character following the value
+   * @return value
+   * @throws NumberFormatException if the characters do not represent a long value
+   * @throws IllegalArgumentException if the value is not followed by the delimiter
+   */
+  public long nextLong(char delimiter) {
+    int end = indexOf(delimiter, position, line.length());
+    if (end == line.length()) {
+      throw new IllegalArgumentException("Missing '" + delimiter + "' in: " + line);
+    }
+    long value = parseLong(position, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    position = end + 1;
+    return value;
+  }
+
+  /**
+   * Skips the given character of the current token.
+   *
+   * @param expected expected character
+   * @throws IllegalArgumentException if the next character is not the expected one
+   */
+  public void skip(char expected) {
+    if (position >= line.length() || line.charAt(position) != expected) {
+      throw new IllegalArgumentException("Expected '" + expected + "' at position " + position +
+        " of: " + line);
+    }
+    position++;
+  }
+
+  /**
+   * Skips the end of the current token.
+   *
+   * @throws IllegalArgumentException if the current token contains further characters
+   */
+  public void endToken() {
+    if (position < line.length() && line.charAt(position) != TOKEN_DELIMITER) {
+      throw new IllegalArgumentException("Unexpected character at position " + position +
+        " of: " + line);
+    }
+    position++;
+  }
+
+  /**
+   * Parses the next token as property values. Empty values and values of keys which are not
+   * required are skipped without being decoded.
+   *
+   * @param metaData     property meta data of the element label
+   * @param requiredKeys property keys to parse or {@code null} to parse all properties
+   * @param properties   properties the parsed values are added to
+   */
+  public void nextProperties(List<PropertyMetaData> metaData, Set<String> requiredKeys,
+    Properties properties) {
+    int end = tokenEnd();
+    int valueStart = position;
+    for (int i = 0; valueStart <= end; i++) {
+      int valueEnd = delimiterIndex(VALUE_DELIMITER, valueStart, end);
+      if (valueEnd > valueStart) {
+        PropertyMetaData propertyMetaData = metaData.get(i);
+        if (requiredKeys == null || requiredKeys.contains(propertyMetaData.getKey())) {
+          properties.set(propertyMetaData.getKey(),
+            parseValue(propertyMetaData, valueStart, valueEnd));
+        }
+      }
+      valueStart = valueEnd + 1;
+    }
+    position = end + 1;
+  }
+
+  /**
+   * Parses a property value. Integral, boolean, id and string values are decoded in place, other
+   * values are parsed by the value parser of the meta data.
+   *
+   * @param metaData property meta data
+   * @param start    start of the value
+   * @param end      end of the value
+   * @return property value
+   */
+  private PropertyValue parseValue(PropertyMetaData metaData, int start, int end) {
+    PropertyValue value = new PropertyValue();
+    String type = metaData.getTypeString();
+    if (Type.STRING.toString().equals(type)) {
+      value.setString(unescape(start, end));
+    } else if (Type.INTEGER.toString().equals(type)) {
+      value.setInt((int) parseLong(start, end, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    } else if (Type.SHORT.toString().equals(type)) {
+      value.setShort((short) parseLong(start, end, Short.MIN_VALUE, Short.MAX_VALUE));
+    } else if (Type.LONG.toString().equals(type)) {
+      value.setLong(parseLong(start, end, Long.MIN_VALUE, Long.MAX_VALUE));
+    } else if (Type.BOOLEAN.toString().equals(type)) {
+      value.setBoolean(regionMatches(start, end, "true", true));
+    } else if (Type.GRADOOP_ID.toString().equals(type) && end - start == ID_LENGTH) {
+      value.setGradoopId(GradoopId.fromCharSequence(line, start));
+    } else {
+      value.setObject(metaData.getValueParser().apply(text(start, end)));
+    }
+    return value;
+  }
+
+  /**
+   * Parses a decimal integral value within the given bounds. Values which may overflow a long
+   * value are parsed by {@link Long#parseLong(String)}.
+   *
+   * @param start start of the value
+   * @param end   end of the value
+   * @param min   minimum value
+   * @param max   maximum value
+   * @return value
+   * @throws NumberFormatException if the characters do not represent a value within the bounds
+   */
+  private long parseLong(int start, int end, long min, long max) {
+    int index = start;
+    boolean negative = false;
+    if (index < end && (line.charAt(index) == '-' || line.charAt(index) == '+')) {
+      negative = line.charAt(index) == '-';
+      index++;
+    }
+    long value = 0L;
+    if (index == end || end - index > MAX_SAFE_DIGITS) {
+      value = Long.parseLong(text(start, end));
+    } else {
+      for (; index < end; index++) {
+        char c = line.charAt(index);
+        if (c < '0' || c > '9') {
+          throw invalidNumber(start, end);
+        }
+        value = value * 10 + (c - '0');
+      }
+      value = negative ? -value : value;
+    }
+    if (value < min || value > max) {
+      throw invalidNumber(start, end);
+    }
+    return value;
+  }
+
+  /**
+   * Creates the exception thrown for characters which do not represent a number.
+   *
+   * @param start start of the characters
+   * @param end   end of the characters
+   * @return exception
+   */
+  private NumberFormatException invalidNumber(int start, int end) {
+    return new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+  }
+
+  /**
+   * Unescapes the characters of the current line between start and end.
+   *
+   * @param start start index
+   * @param end   end index
+   * @return unescaped string
+   */
+  private String unescape(int start, int end) {
+    if (indexOf(ESCAPE_CHARACTER, start, end) == end) {
+      return text(start, end);
+    }
+    builder.setLength(0);
+    if (bytes) {
+      String text = text(start, end);
+      StringEscaper.unescape(text, 0, text.length(), builder);
+    } else {
+      StringEscaper.unescape(line, start, end, builder);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Returns the characters of the current line between start and end. Bytes are decoded as
+   * UTF-8.
+   *
+   * @param start start index
+   * @param end   end index
+   * @return characters as string
+   */
+  private String text(int start, int end) {
+    return bytes ? byteChars.decode(start, end) : line.subSequence(start, end).toString();
+  }
+
+  /**
+   * Returns the index of the next occurrence of the character between start and end.
+   *
+   * @param c     character
+   * @param start start index
+   * @param end   end index
+   * @return index of the character or end if there is none
+   */
+  private int indexOf(char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (line.charAt(i) == c) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Checks if the characters of the current line between start and end are equal to the given
+   * characters.
+   *
+   * @param start      start index
+   * @param end        end index
+   * @param chars      characters to compare to
+   * @param ignoreCase true, iff ASCII letters are compared ignoring their case
+   * @return true, if the characters are equal
+   */
+  private boolean regionMatches(int start, int end, String chars, boolean ignoreCase) {
+    if (end - start != chars.length()) {
+      return false;
+    }
+    for (int i = 0; i < chars.length(); i++) {
+      char c = line.charAt(start + i);
+      char expected = chars.charAt(i);
+      if (c != expected && (!ignoreCase || Character.toLowerCase(c) != Character.toLowerCase(expected))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the end of the current token, i.e. the index of the next unescaped token delimiter or
+   * the end of the line.
+   *
+   * @return end of the token
+   */
+  private int tokenEnd() {
+    return delimiterIndex(TOKEN_DELIMITER, position, line.length());
+  }
+
+  /**
+   * Returns the index of the next unescaped delimiter between start and end.
+   *
+   * @param delimiter delimiter
+   * @param start     start index
+   * @param end       end index
+   * @return index of the delimiter or end if there is none
+   */
+  private int delimiterIndex(char delimiter, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = line.charAt(i);
+      if (c == ESCAPE_CHARACTER) {
+        i++;
+      } else if (c == delimiter) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Returns the index of the first non whitespace character between start and end.
+   *
+   * @param start start index
+   * @param end   end index
+   * @return index of the character or end if there is none
+   */
+  private int skipWhitespace(int start, int end) {
+    int index = start;
+    while (index < end && line.charAt(index) <= ' ') {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Character view of the bytes of a line. Each byte is viewed as a character, i.e. ASCII
+   * characters are viewed unchanged while bytes of encoded non ASCII characters are viewed as
+   * characters which are no delimiters, digits or hexadecimal characters.
+   */
+  private static final class ByteChars implements CharSequence {
+    /**
+     * Bytes of the line.
+     */
+    private byte[] data;
+    /**
+     * Number of bytes of the line.
+     */
+    private int length;
+
+    /**
+     * Sets the viewed bytes.
+     *
+     * @param data   bytes of the line
+     * @param length number of bytes of the line
+     */
+    void set(byte[] data, int length) {
+      this.data = data;
+      this.length = length;
+    }
+
+    /**
+     * Decodes the UTF-8 encoded bytes between start and end.
+     *
+     * @param start start index
+     * @param end   end index
+     * @return decoded string
+     */
+    String decode(int start, int end) {
+      return new String(data, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return (char) (data[index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return new String(data, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+      return decode(0, length);
+    }
+  }
+}
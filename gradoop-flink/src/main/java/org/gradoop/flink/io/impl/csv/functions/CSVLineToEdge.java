@@ -17,6 +17,7 @@ package org.gradoop.flink.io.impl.csv.functions;
 
 import org.gradoop.common.model.api.entities.EdgeFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
@@ -45,14 +46,20 @@ public class CSVLineToEdge extends CSVLineToElement<EPGMEdge> {
   }
 
   @Override
-  public EPGMEdge map(String csvLine) throws Exception {
-    String[] tokens = split(csvLine, 6);
-    String label = StringEscaper.unescape(tokens[4]);
-    return edgeFactory.initEdge(GradoopId.fromString(tokens[0]),
+  protected EPGMEdge parseLine(CSVLineParser parser) throws Exception {
+    GradoopId id = parser.nextId();
+    GradoopIdSet graphIds = parser.nextIdSet();
+    GradoopId sourceId = parser.nextId();
+    GradoopId targetId = parser.nextId();
+    String label = parser.nextLabel();
+    if (isSkipped(label)) {
+      return null;
+    }
+    return edgeFactory.initEdge(id,
       label,
-      GradoopId.fromString(tokens[2]),
-      GradoopId.fromString(tokens[3]),
-      parseProperties(MetaDataSource.EDGE_TYPE, label, tokens[5]),
-      parseGradoopIds(tokens[1]));
+      sourceId,
+      targetId,
+      parseProperties(MetaDataSource.EDGE_TYPE, label, parser),
+      graphIds);
   }
 }
@@ -15,8 +15,10 @@
  */
 package org.gradoop.flink.io.impl.csv.functions;
 
-import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.common.functions.RichFlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
 import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
@@ -27,16 +29,27 @@ import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSource;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+import org.gradoop.flink.io.impl.csv.predicate.query.CSVElementQuery;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Base class for reading an {@link Element} from CSV. Handles the {@link MetaData} which is
  * required to parse the property values.
+ * <p>
+ * An optional {@link CSVElementQuery} is evaluated while parsing: lines of labels not accepted
+ * by the query are skipped before their properties are parsed, only projected properties and
+ * properties read by the filter are parsed, and elements not fulfilling the filter are dropped.
+ * <p>
+ * Besides strings, the function parses the UTF-8 encoded bytes of lines, see
+ * {@link #flatMap(byte[], Collector)}.
  *
  * @param <E> element type
  */
-public abstract class CSVLineToElement<E extends Element> extends RichMapFunction<String, E> {
+public abstract class CSVLineToElement<E extends Element> extends RichFlatMapFunction<String, E> {
   /**
    * Stores the properties for the {@link Element} to be parsed.
    */
@@ -45,6 +58,35 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
    * Meta data that provides parsers for a specific {@link Element}.
    */
   private CSVMetaData metaData;
+  /**
+   * Meta data tuples set by {@link #withMetaData(List)} or {@code null} if the meta data is read
+   * from the broadcast set.
+   */
+  private ArrayList<Tuple3<String, String, String>> metaDataTuples;
+  /**
+   * Query pushed down into the function or {@code null} if all elements are returned.
+   */
+  private CSVElementQuery query;
+  /**
+   * Filter of the query or {@code null}, initialized in {@link #open(Configuration)}.
+   */
+  private transient CSVElementFilter filter;
+  /**
+   * Labels accepted by the query or {@code null} if all labels are accepted.
+   */
+  private transient Set<String> labels;
+  /**
+   * Property keys to parse or {@code null} if all properties are parsed.
+   */
+  private transient Set<String> requiredKeys;
+  /**
+   * Property keys which are only parsed to evaluate the filter, i.e. not projected.
+   */
+  private transient List<String> filterOnlyKeys;
+  /**
+   * Parser of the CSV lines, reused for all lines of the task.
+   */
+  private transient CSVLineParser parser;
 
   /**
    * Constructor
@@ -57,8 +99,126 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    this.metaData = new CSVMetaDataSource().fromTuples(getRuntimeContext()
-      .getBroadcastVariable(CSVDataSource.BC_METADATA));
+    this.metaData = new CSVMetaDataSource().fromTuples(metaDataTuples != null ? metaDataTuples :
+      getRuntimeContext().getBroadcastVariable(CSVDataSource.BC_METADATA));
+    this.filterOnlyKeys = new ArrayList<>();
+    this.parser = new CSVLineParser();
+    if (query != null) {
+      this.filter = query.getFilter();
+      this.labels = query.getLabels();
+      this.requiredKeys = query.getRequiredPropertyKeys();
+      if (filter != null && query.getProjection() != null) {
+        for (String key : filter.getPropertyKeys()) {
+          if (!query.getProjection().contains(key)) {
+            filterOnlyKeys.add(key);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Sets the query which is evaluated while parsing the lines.
+   *
+   * @param query query or {@code null} if all elements are returned
+   * @return this function
+   */
+  public CSVLineToElement<E> withQuery(CSVElementQuery query) {
+    this.query = query;
+    return this;
+  }
+
+  /**
+   * Sets the meta data of the elements read by this function. If set, the meta data is not read
+   * from the broadcast set {@link CSVDataSource#BC_METADATA}, e.g. if the meta data is known
+   * before the job is executed.
+   *
+   * @param metaData meta data tuples {@code (type, label, properties)}
+   * @return this function
+   */
+  public CSVLineToElement<E> withMetaData(List<Tuple3<String, String, String>> metaData) {
+    this.metaDataTuples = new ArrayList<>(metaData);
+    return this;
+  }
+
+  @Override
+  public void flatMap(String csvLine, Collector<E> out) throws Exception {
+    collect(map(csvLine), out);
+  }
+
+  /**
+   * Parses a single UTF-8 encoded CSV line and collects the element if it fulfills the query.
+   *
+   * @param csvLine bytes of the CSV line
+   * @param out     collector of the parsed elements
+   * @throws Exception on failure
+   */
+  public void flatMap(byte[] csvLine, Collector<E> out) throws Exception {
+    collect(parseLine(parser.reset(csvLine, csvLine.length)), out);
+  }
+
+  /**
+   * Parses a single CSV line.
+   *
+   * @param csvLine CSV line
+   * @return parsed element or {@code null} if the line is skipped
+   * @throws Exception on failure
+   */
+  public E map(String csvLine) throws Exception {
+    return parseLine(parser.reset(csvLine));
+  }
+
+  /**
+   * Parses the element of a CSV line. Implementations should check {@link #isSkipped(String)}
+   * as soon as the label of the line is known.
+   *
+   * @param parser parser positioned at the first token of the line
+   * @return parsed element or {@code null} if the line is skipped
+   * @throws Exception on failure
+   */
+  protected abstract E parseLine(CSVLineParser parser) throws Exception;
+
+  /**
+   * Collects the parsed element if it fulfills the filter of the query.
+   *
+   * @param element parsed element or {@code null} if the line was skipped
+   * @param out     collector of the parsed elements
+   * @throws Exception on failure
+   */
+  private void collect(E element, Collector<E> out) throws Exception {
+    if (element == null || (filter != null && !filter.test(element))) {
+      return;
+    }
+    for (String key : filterOnlyKeys) {
+      element.removeProperty(key);
+    }
+    out.collect(element);
+  }
+
+  /**
+   * Checks if lines of the given label are skipped, since elements of that label can not
+   * fulfill the query.
+   *
+   * @param label element label
+   * @return true, if the line is skipped
+   */
+  protected boolean isSkipped(String label) {
+    return labels != null && !labels.contains(label);
+  }
+
+  /**
+   * Parses the next token of the given parser as property values according to the meta data
+   * associated with the specified label.
+   *
+   * @param type   element type
+   * @param label  element label
+   * @param parser parser positioned at the property values
+   * @return parsed properties
+   */
+  protected Properties parseProperties(String type, String label, CSVLineParser parser) {
+    properties.clear();
+    parser.nextProperties(metaData.getPropertyMetaData(type, label), requiredKeys, properties);
+    return properties;
   }
 
   /**
@@ -76,7 +236,8 @@ public abstract class CSVLineToElement<E extends Element> extends RichMapFunctio
     List<PropertyMetaData> metaDataList = metaData.getPropertyMetaData(type, label);
     properties.clear();
     for (int i = 0; i < propertyValues.length; i++) {
-      if (propertyValues[i].length() > 0) {
+      if (propertyValues[i].length() > 0 &&
+        (requiredKeys == null || requiredKeys.contains(metaDataList.get(i).getKey()))) {
         properties.set(metaDataList.get(i).getKey(),
           metaDataList.get(i).getValueParser().apply(propertyValues[i]));
       }
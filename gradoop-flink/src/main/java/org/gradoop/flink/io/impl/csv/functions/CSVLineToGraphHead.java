@@ -45,13 +45,16 @@ public class CSVLineToGraphHead extends CSVLineToElement<EPGMGraphHead> {
   }
 
   @Override
-  public EPGMGraphHead map(String csvLine) throws Exception {
-    String[] tokens = split(csvLine, 3);
-    String label = StringEscaper.unescape(tokens[1]);
+  protected EPGMGraphHead parseLine(CSVLineParser parser) throws Exception {
+    GradoopId id = parser.nextId();
+    String label = parser.nextLabel();
+    if (isSkipped(label)) {
+      return null;
+    }
     return graphHeadFactory.initGraphHead(
-      GradoopId.fromString(tokens[0]),
+      id,
       label,
-      parseProperties(MetaDataSource.GRAPH_TYPE, label, tokens[2])
+      parseProperties(MetaDataSource.GRAPH_TYPE, label, parser)
     );
   }
 }
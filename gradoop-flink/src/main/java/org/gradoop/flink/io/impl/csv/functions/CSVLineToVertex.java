@@ -17,6 +17,7 @@ package org.gradoop.flink.io.impl.csv.functions;
 
 import org.gradoop.common.model.api.entities.VertexFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
@@ -45,15 +46,18 @@ public class CSVLineToVertex extends CSVLineToElement<EPGMVertex> {
   }
 
   @Override
-  public EPGMVertex map(String csvLine) throws Exception {
-    String[] tokens = split(csvLine, 4);
-    String label = StringEscaper.unescape(tokens[2]);
+  protected EPGMVertex parseLine(CSVLineParser parser) throws Exception {
+    GradoopId id = parser.nextId();
+    GradoopIdSet graphIds = parser.nextIdSet();
+    String label = parser.nextLabel();
+    if (isSkipped(label)) {
+      return null;
+    }
     return vertexFactory.initVertex(
-      GradoopId.fromString(tokens[0]),
+      id,
       label,
-      parseProperties(MetaDataSource.VERTEX_TYPE, label, tokens[3]),
-      parseGradoopIds(tokens[1])
+      parseProperties(MetaDataSource.VERTEX_TYPE, label, parser),
+      graphIds
     );
-
   }
 }
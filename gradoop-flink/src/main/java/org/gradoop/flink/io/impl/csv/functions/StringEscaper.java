@@ -20,7 +20,9 @@ import com.google.common.collect.ImmutableBiMap;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Escapes characters in strings and allows to split escaped strings.
@@ -41,6 +43,12 @@ public class StringEscaper {
       .put('\r', String.format("%c%c", ESCAPE_CHARACTER, 'r'))
       .put('\f', String.format("%c%c", ESCAPE_CHARACTER, 'f'))
       .build();
+  /**
+   * Characters of the custom escape sequences by the second character of the sequence.
+   */
+  private static final Map<Character, Character> CUSTOM_UNESCAPED_CHARACTERS =
+    CUSTOM_ESCAPE_SEQUENCES.entrySet().stream()
+      .collect(Collectors.toMap(e -> e.getValue().charAt(1), Map.Entry::getKey));
 
   /**
    * Escapes the {@code escapedCharacters} in a string.
@@ -69,18 +77,33 @@ public class StringEscaper {
    */
   public static String unescape(String escapedString) {
     StringBuilder sb = new StringBuilder();
+    unescape(escapedString, 0, escapedString.length(), sb);
+    return sb.toString();
+  }
+
+  /**
+   * Unescapes the escaped characters of a region of a character sequence and appends the result
+   * to the given builder.
+   *
+   * @param escapedChars character sequence containing the escaped string
+   * @param start start index of the escaped string
+   * @param end end index of the escaped string
+   * @param target builder the unescaped characters are appended to
+   */
+  public static void unescape(CharSequence escapedChars, int start, int end,
+    StringBuilder target) {
     boolean escaped = false;
-    for (int i = 0; i < escapedString.length(); i++) {
+    for (int i = start; i < end; i++) {
+      char c = escapedChars.charAt(i);
       if (escaped) {
         escaped = false;
-        sb.append(unescapeSequence(escapedString.subSequence(i - 1, i + 1)));
-      } else if (escapedString.charAt(i) == ESCAPE_CHARACTER) {
+        target.append(unescapeSequence(c));
+      } else if (c == ESCAPE_CHARACTER) {
         escaped = true;
       } else {
-        sb.append(escapedString.charAt(i));
+        target.append(c);
       }
     }
-    return sb.toString();
   }
 
   /**
@@ -168,13 +191,10 @@ public class StringEscaper {
   /**
    * Returns the character of a given escape sequence.
    *
-   * @param sequence escape sequence
+   * @param escapedCharacter second character of the escape sequence
    * @return escaped character
    */
-  private static char unescapeSequence(CharSequence sequence) {
-    if (CUSTOM_ESCAPE_SEQUENCES.containsValue(sequence)) {
-      return CUSTOM_ESCAPE_SEQUENCES.inverse().get(sequence);
-    }
-    return sequence.charAt(1);
+  private static char unescapeSequence(char escapedCharacter) {
+    return CUSTOM_UNESCAPED_CHARACTERS.getOrDefault(escapedCharacter, escapedCharacter);
   }
 }
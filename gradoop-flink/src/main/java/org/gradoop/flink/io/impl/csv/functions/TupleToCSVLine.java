@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import org.apache.flink.api.java.io.TextOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
+
+/**
+ * Formats a tuple as CSV line, i.e. joins its fields using a delimiter, by default
+ * {@link CSVConstants#TOKEN_DELIMITER}. Fields being {@code null} are written as empty strings.
+ *
+ * @param <T> tuple type
+ */
+public class TupleToCSVLine<T extends Tuple> implements TextOutputFormat.TextFormatter<T> {
+
+  /**
+   * Delimiter separating the fields.
+   */
+  private final String fieldDelimiter;
+
+  /**
+   * Reused builder.
+   */
+  private final StringBuilder builder = new StringBuilder();
+
+  /**
+   * Creates a new formatter using {@link CSVConstants#TOKEN_DELIMITER}.
+   */
+  public TupleToCSVLine() {
+    this(CSVConstants.TOKEN_DELIMITER);
+  }
+
+  /**
+   * Creates a new formatter.
+   *
+   * @param fieldDelimiter delimiter separating the fields
+   */
+  public TupleToCSVLine(String fieldDelimiter) {
+    this.fieldDelimiter = fieldDelimiter;
+  }
+
+  @Override
+  public String format(T tuple) {
+    builder.setLength(0);
+    for (int i = 0; i < tuple.getArity(); i++) {
+      if (i > 0) {
+        builder.append(fieldDelimiter);
+      }
+      Object field = tuple.getField(i);
+      if (field != null) {
+        builder.append(field);
+      }
+    }
+    return builder.toString();
+  }
+}
@@ -15,20 +15,25 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.apache.flink.api.common.operators.Order;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem.WriteMode;
 import org.apache.flink.core.fs.Path;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.Compression;
 import org.gradoop.flink.io.impl.csv.CSVBase;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.functions.EdgeToCSVEdge;
 import org.gradoop.flink.io.impl.csv.functions.GraphHeadToCSVGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.VertexToCSVVertex;
+import org.gradoop.flink.io.impl.csv.indexed.functions.ElementToDirectory;
 import org.gradoop.flink.io.impl.csv.indexed.functions.IndexedCSVFileFormat;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
 import org.gradoop.flink.io.impl.csv.tuples.CSVEdge;
+import org.gradoop.flink.io.impl.csv.tuples.CSVElement;
 import org.gradoop.flink.io.impl.csv.tuples.CSVGraphHead;
 import org.gradoop.flink.io.impl.csv.tuples.CSVVertex;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
@@ -36,6 +41,7 @@ import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * A graph data sink for CSV files indexed by label.
@@ -46,6 +52,26 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
    */
   private final String metaDataPath;
 
+  /**
+   * Compression of the written CSV files.
+   */
+  private Compression compression = Compression.NONE;
+
+  /**
+   * Flag to partition the elements by their label before writing them.
+   */
+  private boolean partitionByLabel = false;
+
+  /**
+   * Flag to sort the elements of each task by their label directory before writing them.
+   */
+  private boolean groupByLabel = true;
+
+  /**
+   * Flag to write the graph statistics together with the graph.
+   */
+  private boolean writeStatistics = false;
+
   /**
    * Creates a new indexed CSV data sink. Computes the meta data based on the given graph.
    *
@@ -68,6 +94,64 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
     this.metaDataPath = metaDataPath;
   }
 
+  /**
+   * Sets the compression of the written CSV files. Compressed label files are written to
+   * directories containing one file per parallel task. Files compressed by a splittable codec,
+   * e.g. {@link Compression#BZIP2}, are read in parallel by the CSV data sources.
+   *
+   * @param compression compression of the written files
+   * @return this data sink
+   */
+  public IndexedCSVDataSink setCompression(Compression compression) {
+    this.compression = Objects.requireNonNull(compression);
+    return this;
+  }
+
+  /**
+   * Sets whether the elements shall be hash partitioned by their label before they are written.
+   * All elements of a label are then written by a single task into a single file, which
+   * reduces the number of files to one per label. Note that the write parallelism is bounded
+   * by the number of labels and that large labels are written by a single task. Default: false,
+   * i.e. each task writes one file per label it contains.
+   *
+   * @param partitionByLabel true, iff the elements shall be partitioned by label
+   * @return this data sink
+   */
+  public IndexedCSVDataSink setPartitionByLabel(boolean partitionByLabel) {
+    this.partitionByLabel = partitionByLabel;
+    return this;
+  }
+
+  /**
+   * Sets whether the elements of each task shall be sorted by their label directory before they
+   * are written. Each task then keeps a single file open at a time, independent of the number of
+   * labels. Disabling the local sort writes the elements in a single pass, but each task keeps
+   * one file open per label it contains, which may exceed the open file limit of the task
+   * managers for graphs with many labels. Default: true
+   *
+   * @param groupByLabel true, iff the elements of each task shall be grouped by label
+   * @return this data sink
+   */
+  public IndexedCSVDataSink setGroupByLabel(boolean groupByLabel) {
+    this.groupByLabel = groupByLabel;
+    return this;
+  }
+
+  /**
+   * Sets whether the statistics used by the Cypher query planner (element counts by label,
+   * distinct source and target vertex counts and distinct property value counts) shall be
+   * computed and written together with the graph. The statistics are computed in the same job,
+   * i.e. without reading the input a second time, and are provided by the CSV data sources
+   * via {@code getStatistics()}. Default: false
+   *
+   * @param writeStatistics true, iff the statistics shall be written
+   * @return this data sink
+   */
+  public IndexedCSVDataSink setWriteStatistics(boolean writeStatistics) {
+    this.writeStatistics = writeStatistics;
+    return this;
+  }
+
   @Override
   public void write(LogicalGraph logicalGraph) throws IOException {
     write(logicalGraph, false);
@@ -112,29 +196,41 @@ public class IndexedCSVDataSink extends CSVBase implements DataSink {
       new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
     }
 
-    IndexedCSVFileFormat<CSVGraphHead> graphHeadFormat = new IndexedCSVFileFormat<>(
-      new Path(getGraphHeadPath()),
-      CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER);
-
-    graphHeadFormat.setWriteMode(writeMode);
-    csvGraphHeads.output(graphHeadFormat);
+    writeIndexedCSV(csvGraphHeads, getGraphHeadPath(), writeMode);
 
-    IndexedCSVFileFormat<CSVVertex> vertexFormat = new IndexedCSVFileFormat<>(
-      new Path(getVertexPath()),
-      CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER);
+    writeIndexedCSV(csvVertices, getVertexPath(), writeMode);
 
-    vertexFormat.setWriteMode(writeMode);
-    csvVertices.output(vertexFormat);
+    writeIndexedCSV(csvEdges, getEdgePath(), writeMode);
 
-    IndexedCSVFileFormat<CSVEdge> edgeFormat = new IndexedCSVFileFormat<>(
-      new Path(getEdgePath()),
-      CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER);
+    if (writeStatistics) {
+      writeStatistics(graphCollection, overwrite);
+    }
+  }
 
-    edgeFormat.setWriteMode(writeMode);
-    csvEdges.output(edgeFormat);
+  /**
+   * Writes the given CSV elements to one directory per label. Each task keeps a single file open,
+   * unless the local sort by label directory is disabled.
+   *
+   * @param elements  CSV elements
+   * @param path      root directory of the label directories
+   * @param writeMode write mode
+   * @param <T>       CSV element type
+   */
+  private <T extends Tuple & CSVElement> void writeIndexedCSV(DataSet<T> elements, String path,
+    WriteMode writeMode) {
+    IndexedCSVFileFormat<T> format = new IndexedCSVFileFormat<>(new Path(path),
+      CSVConstants.ROW_DELIMITER, CSVConstants.TOKEN_DELIMITER);
+
+    format.setWriteMode(writeMode);
+    format.setCompression(compression);
+    format.setGroupedByDirectory(groupByLabel);
+
+    DataSet<T> partitioned = partitionByLabel ?
+      elements.partitionByHash(new ElementToDirectory<>()) : elements;
+    if (groupByLabel) {
+      partitioned = partitioned.sortPartition(new ElementToDirectory<>(), Order.ASCENDING);
+    }
+    partitioned.output(format);
   }
 
   /**
@@ -17,27 +17,40 @@ package org.gradoop.flink.io.impl.csv.indexed;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
 import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.api.entities.Element;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.api.metadata.MetaDataSource;
 import org.gradoop.flink.io.impl.csv.CSVBase;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToEdge;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToGraphHead;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToVertex;
+import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
+import org.gradoop.flink.io.impl.csv.predicate.query.CSVElementQuery;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.ByLabel;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +64,13 @@ import java.util.stream.Collectors;
  * |- knows.csv      # contains all edges with label 'knows'
  * |- studyAt.csv    # contains all edges with label 'studyAt'
  * |- metadata.csv   # Meta data for all data contained in the graph
+ * <p>
+ * Label filters, property predicates and property projections can be pushed down into the
+ * source using {@link CSVElementQuery}, see {@link #applyVertexPredicate(CSVElementQuery)}.
+ * Files of labels not accepted by a query are not read at all.
+ * <p>
+ * Compressed CSV files are detected by their extension, see
+ * {@link org.gradoop.flink.io.impl.compression.Compression}.
  */
 public class IndexedCSVDataSource extends CSVBase implements DataSource {
   /**
@@ -58,6 +78,21 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
    */
   private final Configuration hdfsConfig;
 
+  /**
+   * Query pushed down into the parsing of graph heads, may be {@code null}.
+   */
+  private CSVElementQuery graphHeadQuery;
+
+  /**
+   * Query pushed down into the parsing of vertices, may be {@code null}.
+   */
+  private CSVElementQuery vertexQuery;
+
+  /**
+   * Query pushed down into the parsing of edges, may be {@code null}.
+   */
+  private CSVElementQuery edgeQuery;
+
   /**
    * Creates a new data source. The constructor creates a default HDFS configuration.
    *
@@ -81,6 +116,90 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
     this.hdfsConfig = hdfsConf;
   }
 
+  /**
+   * Pushes a query down into the parsing of graph heads. Replaces any previously applied graph
+   * head query.
+   *
+   * @param query graph head query
+   * @return this data source
+   */
+  public IndexedCSVDataSource applyGraphPredicate(CSVElementQuery query) {
+    this.graphHeadQuery = query;
+    return this;
+  }
+
+  /**
+   * Pushes a query down into the parsing of vertices. Replaces any previously applied vertex
+   * query. Note that edges are not filtered accordingly, i.e. edges of filtered vertices are
+   * still returned unless they are filtered by an edge query.
+   *
+   * @param query vertex query
+   * @return this data source
+   */
+  public IndexedCSVDataSource applyVertexPredicate(CSVElementQuery query) {
+    this.vertexQuery = query;
+    return this;
+  }
+
+  /**
+   * Pushes a query down into the parsing of edges. Replaces any previously applied edge query.
+   *
+   * @param query edge query
+   * @return this data source
+   */
+  public IndexedCSVDataSource applyEdgePredicate(CSVElementQuery query) {
+    this.edgeQuery = query;
+    return this;
+  }
+
+  /**
+   * Sets whether the CSV files are read through memory mapped buffers (NIO) instead of Hadoop
+   * input streams. This avoids copying the data through stream buffers when a graph is loaded
+   * from the local file system of a single machine. The files are split at line boundaries and
+   * read in parallel. Only uncompressed files in the local file system are supported.
+   * Default: false
+   *
+   * @param memoryMapped true, iff the files shall be memory mapped
+   * @return this data source
+   */
+  public IndexedCSVDataSource setMemoryMapped(boolean memoryMapped) {
+    setMemoryMappedInput(memoryMapped);
+    return this;
+  }
+
+  /**
+   * Checks if any query was pushed down into the data source.
+   *
+   * @return true, if a query was applied
+   */
+  public boolean isFilterPushedDown() {
+    return graphHeadQuery != null || vertexQuery != null || edgeQuery != null;
+  }
+
+  /**
+   * Checks if graph statistics were written together with the graph, see
+   * {@link IndexedCSVDataSink#setWriteStatistics(boolean)}.
+   *
+   * @return true, if the statistics are available
+   * @throws IOException on failure
+   */
+  public boolean hasStatistics() throws IOException {
+    return hasStatistics(hdfsConfig);
+  }
+
+  /**
+   * Returns the graph statistics written together with the graph. The statistics can be used to
+   * plan Cypher queries, see {@link org.gradoop.flink.model.api.epgm.BaseGraphOperators#query(
+   * String, GraphStatistics)}. Note that the statistics describe the stored graph, predicates
+   * pushed down into this source are not considered.
+   *
+   * @return graph statistics
+   * @throws IOException if no statistics were written or they can not be read
+   */
+  public GraphStatistics getStatistics() throws IOException {
+    return readStatistics(hdfsConfig);
+  }
+
   /**
    * Will use a single graph head of the collection as final graph head for the graph.
    * Issue #1217 (https://github.com/dbs-leipzig/gradoop/issues/1217) will optimize further.
@@ -94,37 +213,107 @@ public class IndexedCSVDataSource extends CSVBase implements DataSource {
       .fromDataSets(collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
   }
 
+  /**
+   * Reads each label directory only once and without a broadcast of the meta data, since the
+   * meta data of the labels is known when the job is created. Elements are only filtered by
+   * their label if labels differing in case share a directory.
+   *
+   * {@inheritDoc}
+   */
   @Override
   public GraphCollection getGraphCollection() throws IOException {
     CSVMetaDataSource source = new CSVMetaDataSource();
-    CSVMetaData metaData = source.readLocal(getMetaDataPath(), hdfsConfig);
-    DataSet<Tuple3<String, String, String>> metaDataBroadcast =
-      source.readDistributed(getMetaDataPath(), getConfig());
+    List<Tuple3<String, String, String>> metaDataTuples =
+      source.readLocalTuples(getMetaDataPath(), hdfsConfig);
+    CSVMetaData metaData = source.fromTuples(metaDataTuples);
 
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
     GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
 
-    Map<String, DataSet<EPGMGraphHead>> graphHeads = metaData.getGraphLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getGraphHeadCSVPath(label))
-        .map(new CSVLineToGraphHead(factory.getGraphHeadFactory()))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(graphHead -> graphHead.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
-
-    Map<String, DataSet<EPGMVertex>> vertices = metaData.getVertexLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getVertexCSVPath(label))
-        .map(new CSVLineToVertex(factory.getVertexFactory()))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(vertex -> vertex.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
-
-    Map<String, DataSet<EPGMEdge>> edges = metaData.getEdgeLabels().stream()
-      .map(label -> Tuple2.of(label, env.readTextFile(getEdgeCSVPath(label))
-        .map(new CSVLineToEdge(factory.getEdgeFactory()))
-        .withBroadcastSet(metaDataBroadcast, BC_METADATA)
-        .filter(edge -> edge.getLabel().equals(label))))
-      .collect(Collectors.toMap(t -> t.f0, t -> t.f1));
+    Map<String, DataSet<EPGMGraphHead>> graphHeads = readLabels(metaData.getGraphLabels(),
+      MetaDataSource.GRAPH_TYPE, metaDataTuples, graphHeadQuery, this::getGraphHeadCSVPath,
+      () -> new CSVLineToGraphHead(factory.getGraphHeadFactory()));
+
+    Map<String, DataSet<EPGMVertex>> vertices = readLabels(metaData.getVertexLabels(),
+      MetaDataSource.VERTEX_TYPE, metaDataTuples, vertexQuery, this::getVertexCSVPath,
+      () -> new CSVLineToVertex(factory.getVertexFactory()));
+
+    Map<String, DataSet<EPGMEdge>> edges = readLabels(metaData.getEdgeLabels(),
+      MetaDataSource.EDGE_TYPE, metaDataTuples, edgeQuery, this::getEdgeCSVPath,
+      () -> new CSVLineToEdge(factory.getEdgeFactory()));
+
+    // the graph collection requires at least one graph head and vertex data set
+    addEmptyIfNone(graphHeads, env, EPGMGraphHead.class);
+    addEmptyIfNone(vertices, env, EPGMVertex.class);
 
     return factory.fromIndexedDataSets(graphHeads, vertices, edges);
   }
+
+  /**
+   * Reads the elements of the given labels from their label directories.
+   *
+   * @param labels         labels of the element type
+   * @param type           meta data type of the elements
+   * @param metaDataTuples meta data of all elements
+   * @param query          query pushed down into the source or {@code null}
+   * @param labelToPath    maps a label to the path of its CSV file
+   * @param lineToElement  creates the function parsing the CSV lines
+   * @param <E>            element type
+   * @return elements by label
+   */
+  private <E extends Element> Map<String, DataSet<E>> readLabels(Set<String> labels, String type,
+    List<Tuple3<String, String, String>> metaDataTuples, CSVElementQuery query,
+    Function<String, String> labelToPath, Supplier<CSVLineToElement<E>> lineToElement) {
+    Map<String, List<String>> labelsByPath = labels.stream()
+      .filter(label -> isRequired(label, query))
+      .collect(Collectors.groupingBy(labelToPath));
+
+    Map<String, DataSet<E>> dataSets = new HashMap<>();
+    for (Map.Entry<String, List<String>> file : labelsByPath.entrySet()) {
+      List<String> fileLabels = file.getValue();
+      List<Tuple3<String, String, String>> fileMetaData = metaDataTuples.stream()
+        .filter(tuple -> tuple.f0.equals(type) &&
+          fileLabels.contains(StringEscaper.unescape(tuple.f1)))
+        .collect(Collectors.toList());
+
+      DataSet<E> elements = readCSVElements(file.getKey(),
+        lineToElement.get().withQuery(query).withMetaData(fileMetaData));
+
+      if (fileLabels.size() == 1) {
+        dataSets.put(fileLabels.get(0), elements);
+      } else {
+        for (String label : fileLabels) {
+          dataSets.put(label, elements.filter(new ByLabel<>(label)));
+        }
+      }
+    }
+    return dataSets;
+  }
+
+  /**
+   * Checks if the file of the given label has to be read to answer a query.
+   *
+   * @param label element label
+   * @param query query or {@code null}
+   * @return true, if elements of the label may fulfill the query
+   */
+  private static boolean isRequired(String label, CSVElementQuery query) {
+    return query == null || query.getLabels() == null || query.getLabels().contains(label);
+  }
+
+  /**
+   * Adds an empty data set to the given map if it does not contain any data set, e.g. because
+   * all labels were filtered by a query.
+   *
+   * @param dataSets data sets by label
+   * @param env execution environment
+   * @param type element type
+   * @param <T> element type
+   */
+  private static <T> void addEmptyIfNone(Map<String, DataSet<T>> dataSets,
+    ExecutionEnvironment env, Class<T> type) {
+    if (dataSets.isEmpty()) {
+      dataSets.put("", env.fromCollection(new ArrayList<>(), TypeExtractor.createTypeInfo(type)));
+    }
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.indexed.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.gradoop.flink.io.impl.csv.tuples.CSVElement;
+
+/**
+ * Selects the directory an element is written to by {@link IndexedCSVFileFormat}.
+ *
+ * @param <T> CSV element type
+ */
+public class ElementToDirectory<T extends Tuple & CSVElement> implements KeySelector<T, String> {
+
+  @Override
+  public String getKey(T element) {
+    return IndexedCSVFileFormat.getDirectory(element.getLabel());
+  }
+}
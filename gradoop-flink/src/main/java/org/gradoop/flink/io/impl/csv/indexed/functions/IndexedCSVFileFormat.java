@@ -20,9 +20,14 @@ import org.apache.flink.api.java.io.CsvOutputFormat;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.core.fs.FileSystem;
 import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.CompressedTextOutputFormat;
+import org.gradoop.flink.io.impl.compression.Compression;
 import org.gradoop.flink.io.impl.csv.CSVConstants;
+import org.gradoop.flink.io.impl.csv.functions.TupleToCSVLine;
 import org.gradoop.flink.io.impl.csv.tuples.CSVElement;
 
+import java.util.Objects;
+
 /**
  * This is an OutputFormat to serialize {@link Tuple}s to text by their labels.
  * The output is structured by record delimiters and field delimiters as common in CSV files.
@@ -63,6 +68,11 @@ public class IndexedCSVFileFormat<T extends Tuple & CSVElement>
    */
   private String charsetName = null;
 
+  /**
+   * The compression of the written files.
+   */
+  private Compression compression = Compression.NONE;
+
   /**
    * Creates a new instance of an IndexedCSVFileFormat. Use the default record delimiter '\n'
    * and the default field delimiter ','.
@@ -114,8 +124,24 @@ public class IndexedCSVFileFormat<T extends Tuple & CSVElement>
     this.charsetName = charsetName;
   }
 
+  /**
+   * Sets the compression of the written files. Compressed files are written using UTF-8.
+   *
+   * @param compression compression of the written files
+   */
+  public void setCompression(Compression compression) {
+    this.compression = Objects.requireNonNull(compression);
+  }
+
   @Override
   protected OutputFormat<T> createFormatForDirectory(Path directory) {
+    if (compression != Compression.NONE) {
+      CompressedTextOutputFormat<T> format = new CompressedTextOutputFormat<>(directory,
+        new TupleToCSVLine<>(fieldDelimiter), compression, recordDelimiter);
+      format.setWriteMode(FileSystem.WriteMode.NO_OVERWRITE);
+      format.configure(configuration);
+      return format;
+    }
     CsvOutputFormat<T> format = new CsvOutputFormat<>(directory, recordDelimiter, fieldDelimiter);
     // OVERWRITE in a distributed fs would delete the label directory including already written
     // files of other workers. In a local fs it does not delete the directory but it would not
@@ -131,13 +157,17 @@ public class IndexedCSVFileFormat<T extends Tuple & CSVElement>
 
   @Override
   protected String getDirectoryForRecord(T record) {
-    String label = record.getLabel();
-    if (label.isEmpty()) {
-      return cleanFilename(CSVConstants.DEFAULT_DIRECTORY) + Path.SEPARATOR +
-        CSVConstants.SIMPLE_FILE;
-    } else {
-      return cleanFilename(label) + Path.SEPARATOR + CSVConstants.SIMPLE_FILE;
-    }
+    return getDirectory(record.getLabel()) + Path.SEPARATOR + CSVConstants.SIMPLE_FILE;
   }
-}
 
+  /**
+   * Returns the directory of the elements with the given label. Different labels may share a
+   * directory, since the directory names are case insensitive.
+   *
+   * @param label element label
+   * @return directory name relative to the root path
+   */
+  public static String getDirectory(String label) {
+    return cleanFilename(label.isEmpty() ? CSVConstants.DEFAULT_DIRECTORY : label);
+  }
+}
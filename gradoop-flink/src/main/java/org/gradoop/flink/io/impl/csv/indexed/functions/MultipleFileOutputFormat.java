@@ -24,7 +24,9 @@ import org.apache.flink.core.fs.Path;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The abstract base class for all output formats using multiple files.
@@ -81,6 +83,16 @@ public abstract class MultipleFileOutputFormat<IT>
    */
   private Map<String, OutputFormat<IT>> formatsPerSubdirectory;
 
+  /**
+   * True, if the records of a task are grouped by their subdirectory.
+   */
+  private boolean groupedByDirectory;
+
+  /**
+   * Subdirectories whose formats were already closed, only used if the records are grouped.
+   */
+  private Set<String> closedSubdirectories;
+
   /**
    * Creates a new output format with multiple output files.
    *
@@ -89,6 +101,7 @@ public abstract class MultipleFileOutputFormat<IT>
   MultipleFileOutputFormat(Path rootPath) {
     this.rootOutputPath = rootPath;
     formatsPerSubdirectory = new HashMap<>();
+    closedSubdirectories = new HashSet<>();
   }
 
   @Override
@@ -97,6 +110,7 @@ public abstract class MultipleFileOutputFormat<IT>
       outputFormat.close();
     }
     formatsPerSubdirectory.clear();
+    closedSubdirectories.clear();
   }
 
   @Override
@@ -144,6 +158,18 @@ public abstract class MultipleFileOutputFormat<IT>
     this.writeMode = writeMode;
   }
 
+  /**
+   * Declares that the records of each task are grouped by their subdirectory, e.g. by a
+   * {@link org.apache.flink.api.java.DataSet#sortPartition} on the subdirectory. The format of a
+   * subdirectory is then closed as soon as a record of another subdirectory is written, i.e. each
+   * task keeps a single file open instead of one file per subdirectory.
+   *
+   * @param groupedByDirectory true, if the records are grouped by their subdirectory
+   */
+  public void setGroupedByDirectory(boolean groupedByDirectory) {
+    this.groupedByDirectory = groupedByDirectory;
+  }
+
   @Override
   public void tryCleanupOnError() throws Exception {
     for (OutputFormat<IT> outputFormat : formatsPerSubdirectory.values()) {
@@ -162,6 +188,9 @@ public abstract class MultipleFileOutputFormat<IT>
     if (formatsPerSubdirectory.containsKey(subDirectory)) {
       format = formatsPerSubdirectory.get(subDirectory);
     } else {
+      if (groupedByDirectory) {
+        closeFormats(subDirectory);
+      }
       format = createFormatForDirectory(new Path(rootOutputPath, subDirectory));
       format.open(taskNumber, numTasks);
       formatsPerSubdirectory.put(subDirectory, format);
@@ -169,6 +198,25 @@ public abstract class MultipleFileOutputFormat<IT>
     format.writeRecord(record);
   }
 
+  /**
+   * Closes the formats of all previous subdirectories when the records are grouped by their
+   * subdirectory.
+   *
+   * @param subDirectory the subdirectory of the next record
+   * @throws IOException if closing a format fails or the records are not grouped
+   */
+  private void closeFormats(String subDirectory) throws IOException {
+    if (closedSubdirectories.contains(subDirectory)) {
+      throw new IOException("Records are not grouped by their directory, " + subDirectory +
+        " was already closed.");
+    }
+    for (Map.Entry<String, OutputFormat<IT>> entry : formatsPerSubdirectory.entrySet()) {
+      entry.getValue().close();
+      closedSubdirectories.add(entry.getKey());
+    }
+    formatsPerSubdirectory.clear();
+  }
+
   /**
    * Create or load an {@link OutputFormat} to use for a specific directory.
    * The directory should be a subdirectory of the root directory of this output format.
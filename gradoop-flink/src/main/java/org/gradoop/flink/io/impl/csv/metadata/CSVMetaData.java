@@ -19,7 +19,7 @@ import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.common.model.impl.metadata.PropertyMetaData;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -53,11 +53,11 @@ public class CSVMetaData extends MetaData {
   public List<PropertyMetaData> getPropertyMetaData(String type, String label) {
     switch (type) {
     case MetaDataSource.GRAPH_TYPE:
-      return this.graphMetaData.getOrDefault(label, new ArrayList<>());
+      return this.graphMetaData.getOrDefault(label, Collections.emptyList());
     case MetaDataSource.VERTEX_TYPE:
-      return this.vertexMetaData.getOrDefault(label, new ArrayList<>());
+      return this.vertexMetaData.getOrDefault(label, Collections.emptyList());
     case MetaDataSource.EDGE_TYPE:
-      return this.edgeMetaData.getOrDefault(label, new ArrayList<>());
+      return this.edgeMetaData.getOrDefault(label, Collections.emptyList());
     default:
       throw new IllegalArgumentException("Entity type " + type + " is not supported. Supported " +
         "types are g, v and e.");
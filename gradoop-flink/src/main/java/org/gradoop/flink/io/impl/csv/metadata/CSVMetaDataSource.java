@@ -100,6 +100,19 @@ public class CSVMetaDataSource implements MetaDataSource<CSVMetaData> {
 
   @Override
   public CSVMetaData readLocal(String path, Configuration hdfsConfig) throws IOException {
+    return fromTuples(readLocalTuples(path, hdfsConfig));
+  }
+
+  /**
+   * Reads the meta data tuples {@code (type, label, properties)} from a local or HDFS file.
+   *
+   * @param path path to the meta data file
+   * @param hdfsConfig file system configuration
+   * @return meta data tuples
+   * @throws IOException if the file does not exist or can not be read
+   */
+  public List<Tuple3<String, String, String>> readLocalTuples(String path, Configuration hdfsConfig)
+    throws IOException {
     FileSystem fs = FileSystem.get(hdfsConfig);
     Path file = new Path(path);
     Charset charset = StandardCharsets.UTF_8;
@@ -109,10 +122,10 @@ public class CSVMetaDataSource implements MetaDataSource<CSVMetaData> {
     } else {
 
       try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(file), charset))) {
-        return fromTuples(br.lines()
+        return br.lines()
           .map(line -> StringEscaper.split(line, CSVConstants.TOKEN_DELIMITER, 3))
           .map(tokens -> Tuple3.of(tokens[0], tokens[1], tokens[2]))
-          .collect(Collectors.toList()));
+          .collect(Collectors.toList());
       }
     }
   }
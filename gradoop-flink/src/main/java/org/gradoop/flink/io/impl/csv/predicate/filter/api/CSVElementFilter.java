@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.api;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.csv.predicate.filter.calculate.And;
+import org.gradoop.flink.io.impl.csv.predicate.filter.calculate.Not;
+import org.gradoop.flink.io.impl.csv.predicate.filter.calculate.Or;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * Predicate evaluated while parsing the lines of a CSV data source. Follows the shape of the
+ * element filters of the gradoop stores, i.e. label and property predicates which can be
+ * combined using {@link #and}, {@link #or} and {@link #negate}.
+ * <p>
+ * Only the properties returned by {@link #getPropertyKeys()} are guaranteed to be parsed when the
+ * predicate is evaluated.
+ */
+public interface CSVElementFilter extends Serializable {
+
+  /**
+   * Combines this predicate with another one using a logical OR.
+   *
+   * @param another another predicate
+   * @return combined predicate
+   */
+  default CSVElementFilter or(CSVElementFilter another) {
+    return Or.create(this, another);
+  }
+
+  /**
+   * Combines this predicate with another one using a logical AND.
+   *
+   * @param another another predicate
+   * @return combined predicate
+   */
+  default CSVElementFilter and(CSVElementFilter another) {
+    return And.create(this, another);
+  }
+
+  /**
+   * Negates this predicate.
+   *
+   * @return negated predicate
+   */
+  default CSVElementFilter negate() {
+    return Not.of(this);
+  }
+
+  /**
+   * Returns the labels of the elements which may fulfill the predicate. Lines of other labels are
+   * skipped before their properties are parsed and label-indexed files of other labels are not
+   * read at all.
+   *
+   * @return labels or {@code null} if elements of any label may fulfill the predicate
+   */
+  default Set<String> getLabels() {
+    return null;
+  }
+
+  /**
+   * Returns the keys of the properties read by the predicate.
+   *
+   * @return property keys
+   */
+  Set<String> getPropertyKeys();
+
+  /**
+   * Evaluates the predicate.
+   *
+   * @param element parsed element
+   * @return true, if the element fulfills the predicate
+   */
+  boolean test(Element element);
+}
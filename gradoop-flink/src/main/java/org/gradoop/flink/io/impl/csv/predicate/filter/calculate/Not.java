@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.calculate;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.Set;
+
+/**
+ * Logical negation of a predicate.
+ */
+public final class Not implements CSVElementFilter {
+
+  /**
+   * Negated predicate.
+   */
+  private final CSVElementFilter predicate;
+
+  /**
+   * Creates a new negation.
+   *
+   * @param predicate negated predicate
+   */
+  private Not(CSVElementFilter predicate) {
+    this.predicate = predicate;
+  }
+
+  /**
+   * Creates the negation of a predicate.
+   *
+   * @param predicate predicate
+   * @return negation
+   */
+  public static Not of(CSVElementFilter predicate) {
+    return new Not(predicate);
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return predicate.getPropertyKeys();
+  }
+
+  @Override
+  public boolean test(Element element) {
+    return !predicate.test(element);
+  }
+
+  @Override
+  public String toString() {
+    return "NOT (" + predicate.toString() + ")";
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.calculate;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Logical OR of multiple predicates.
+ */
+public final class Or implements CSVElementFilter {
+
+  /**
+   * Combined predicates.
+   */
+  private final List<CSVElementFilter> predicates = new ArrayList<>();
+
+  /**
+   * Creates a new disjunction.
+   *
+   * @param predicates at least two predicates
+   */
+  private Or(List<CSVElementFilter> predicates) {
+    if (predicates.size() < 2) {
+      throw new IllegalArgumentException(String.format("predicates len(=%d) < 2",
+        predicates.size()));
+    }
+    this.predicates.addAll(predicates);
+  }
+
+  /**
+   * Creates a disjunction of the given predicates.
+   *
+   * @param predicates at least two predicates
+   * @return disjunction
+   */
+  public static Or create(CSVElementFilter... predicates) {
+    List<CSVElementFilter> formula = new ArrayList<>();
+    Collections.addAll(formula, predicates);
+    return new Or(formula);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * An element has to fulfill any predicate, i.e. the labels are united. If any predicate
+   * accepts all labels, the disjunction does so as well.
+   */
+  @Override
+  public Set<String> getLabels() {
+    Set<String> labels = new HashSet<>();
+    for (CSVElementFilter predicate : predicates) {
+      Set<String> predicateLabels = predicate.getLabels();
+      if (predicateLabels == null) {
+        return null;
+      }
+      labels.addAll(predicateLabels);
+    }
+    return labels;
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    Set<String> keys = new HashSet<>();
+    predicates.forEach(predicate -> keys.addAll(predicate.getPropertyKeys()));
+    return keys;
+  }
+
+  @Override
+  public boolean test(Element element) {
+    for (CSVElementFilter predicate : predicates) {
+      if (predicate.test(element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(" OR ");
+    for (CSVElementFilter predicate : predicates) {
+      joiner.add("(" + predicate.toString() + ")");
+    }
+    return joiner.toString();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.impl;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Predicate by label equality, i.e. {@code e.label IN (labels)}.
+ */
+public class CSVLabelIn implements CSVElementFilter {
+
+  /**
+   * Accepted labels.
+   */
+  private final HashSet<String> labels;
+
+  /**
+   * Creates a new label predicate.
+   *
+   * @param labels accepted labels
+   */
+  public CSVLabelIn(String... labels) {
+    if (labels.length == 0) {
+      throw new IllegalArgumentException("labels must not be empty");
+    }
+    this.labels = new HashSet<>(Arrays.asList(labels));
+  }
+
+  @Override
+  public Set<String> getLabels() {
+    return Collections.unmodifiableSet(labels);
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public boolean test(Element element) {
+    return labels.contains(element.getLabel());
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (String label : labels) {
+      builder.append(builder.length() == 0 ? "" : ",").append('`').append(label).append('`');
+    }
+    return "e.label IN (" + builder + ")";
+  }
+}
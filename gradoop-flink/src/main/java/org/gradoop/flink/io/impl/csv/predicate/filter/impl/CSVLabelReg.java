@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.impl;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Predicate by label regular expression, i.e. {@code e.label REGEXP pattern}.
+ */
+public class CSVLabelReg implements CSVElementFilter {
+
+  /**
+   * Label pattern.
+   */
+  private final Pattern reg;
+
+  /**
+   * Creates a new label predicate.
+   *
+   * @param reg label pattern, has to match the whole label
+   */
+  public CSVLabelReg(Pattern reg) {
+    this.reg = reg;
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public boolean test(Element element) {
+    return reg.matcher(element.getLabel()).matches();
+  }
+
+  @Override
+  public String toString() {
+    return "e.label REGEXP `" + reg.pattern() + "`";
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.impl;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Predicate by property value equality, i.e. {@code e.prop.key = value}.
+ */
+public class CSVPropEquals implements CSVElementFilter {
+
+  /**
+   * Property key.
+   */
+  private final String key;
+
+  /**
+   * Expected property value.
+   */
+  private final PropertyValue value;
+
+  /**
+   * Creates a new property predicate.
+   *
+   * @param key property key
+   * @param value expected property value
+   */
+  public CSVPropEquals(String key, Object value) {
+    this.key = key;
+    this.value = value instanceof PropertyValue ? (PropertyValue) value :
+      PropertyValue.create(value);
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.singleton(key);
+  }
+
+  @Override
+  public boolean test(Element element) {
+    return value.equals(element.getPropertyValue(key));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("e.prop.%s=`%s`", key, value);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.impl;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Predicate by property value comparison. An element fulfills the predicate if and only if
+ * <ul>
+ *   <li>it contains the property key,</li>
+ *   <li>the property value is of the type of the min value or both are numbers and</li>
+ *   <li>the property value is larger than the min value.</li>
+ * </ul>
+ *
+ * @see PropertyValue#compareTo(PropertyValue)
+ */
+public class CSVPropLargerThan implements CSVElementFilter {
+
+  /**
+   * Property key.
+   */
+  private final String key;
+
+  /**
+   * Min property value.
+   */
+  private final PropertyValue min;
+
+  /**
+   * Allow equality case.
+   */
+  private final boolean include;
+
+  /**
+   * Creates a new property predicate.
+   *
+   * @param key property key
+   * @param min min property value
+   * @param include include min value
+   */
+  public CSVPropLargerThan(String key, Object min, boolean include) {
+    this.key = key;
+    this.min = min instanceof PropertyValue ? (PropertyValue) min : PropertyValue.create(min);
+    this.include = include;
+
+    //noinspection EqualsWithItself, only for type check
+    this.min.compareTo(this.min);
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.singleton(key);
+  }
+
+  @Override
+  public boolean test(Element element) {
+    PropertyValue value = element.getPropertyValue(key);
+    if (value == null || value.isNull()) {
+      return false;
+    }
+    if (value.getType() != min.getType() && !(value.isNumber() && min.isNumber())) {
+      return false;
+    }
+    int comparison = value.compareTo(min);
+    return include ? comparison >= 0 : comparison > 0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("e.prop.%1$s IS NOT NULL AND e.prop.%1$s%3$s`%2$s`",
+      key, min, include ? ">=" : ">");
+  }
+}
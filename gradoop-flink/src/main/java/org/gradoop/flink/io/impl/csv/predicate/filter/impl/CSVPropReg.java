@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.filter.impl;
+
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Predicate by property regular expression, i.e. {@code e.prop.key REGEXP pattern}. Only
+ * string values are matched.
+ */
+public class CSVPropReg implements CSVElementFilter {
+
+  /**
+   * Property key.
+   */
+  private final String key;
+
+  /**
+   * Value pattern.
+   */
+  private final Pattern reg;
+
+  /**
+   * Creates a new property predicate.
+   *
+   * @param key property key
+   * @param reg value pattern, has to match the whole value
+   */
+  public CSVPropReg(String key, Pattern reg) {
+    this.key = key;
+    this.reg = reg;
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.singleton(key);
+  }
+
+  @Override
+  public boolean test(Element element) {
+    PropertyValue value = element.getPropertyValue(key);
+    return value != null && value.isString() && reg.matcher(value.getString()).matches();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("e.prop.%s REGEXP `%s`", key, reg.pattern());
+  }
+}
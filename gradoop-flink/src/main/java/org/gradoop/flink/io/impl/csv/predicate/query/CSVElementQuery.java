@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.predicate.query;
+
+import org.gradoop.flink.io.impl.csv.predicate.filter.api.CSVElementFilter;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Query pushed down into a CSV data source. A query consists of an optional filter predicate
+ * and an optional projection of property keys, e.g.
+ *
+ * <pre>
+ * CSVElementQuery.create()
+ *   .where(new CSVLabelIn("Person").and(new CSVPropLargerThan("age", 18, true)))
+ *   .project("name", "age");
+ * </pre>
+ *
+ * Queries are immutable, each method returns a new instance.
+ */
+public class CSVElementQuery implements Serializable {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Filter predicate or {@code null} if all elements are returned.
+   */
+  private final CSVElementFilter filter;
+
+  /**
+   * Projected property keys or {@code null} if all properties are returned.
+   */
+  private final HashSet<String> projection;
+
+  /**
+   * Creates a new query.
+   *
+   * @param filter filter predicate, may be {@code null}
+   * @param projection projected property keys, may be {@code null}
+   */
+  private CSVElementQuery(CSVElementFilter filter, HashSet<String> projection) {
+    this.filter = filter;
+    this.projection = projection;
+  }
+
+  /**
+   * Creates a query returning all elements with all properties.
+   *
+   * @return query
+   */
+  public static CSVElementQuery create() {
+    return new CSVElementQuery(null, null);
+  }
+
+  /**
+   * Returns a query which additionally filters elements by the given predicate. Multiple
+   * predicates are combined using a logical AND.
+   *
+   * @param predicate filter predicate
+   * @return query
+   */
+  public CSVElementQuery where(CSVElementFilter predicate) {
+    if (predicate == null) {
+      throw new IllegalArgumentException("predicate must not be null");
+    }
+    return new CSVElementQuery(filter == null ? predicate : filter.and(predicate), projection);
+  }
+
+  /**
+   * Returns a query which only returns the given properties. Other properties are not parsed.
+   *
+   * @param keys projected property keys
+   * @return query
+   */
+  public CSVElementQuery project(String... keys) {
+    return new CSVElementQuery(filter, new HashSet<>(Arrays.asList(keys)));
+  }
+
+  /**
+   * Returns the filter predicate.
+   *
+   * @return filter predicate or {@code null} if all elements are returned
+   */
+  public CSVElementFilter getFilter() {
+    return filter;
+  }
+
+  /**
+   * Returns the projected property keys.
+   *
+   * @return property keys or {@code null} if all properties are returned
+   */
+  public Set<String> getProjection() {
+    return projection == null ? null : Collections.unmodifiableSet(projection);
+  }
+
+  /**
+   * Returns the labels of the elements which may be returned by the query.
+   *
+   * @return labels or {@code null} if elements of any label may be returned
+   */
+  public Set<String> getLabels() {
+    return filter == null ? null : filter.getLabels();
+  }
+
+  /**
+   * Returns the keys of the properties which have to be parsed to answer the query, i.e. the
+   * projected keys and the keys read by the filter.
+   *
+   * @return property keys or {@code null} if all properties have to be parsed
+   */
+  public Set<String> getRequiredPropertyKeys() {
+    if (projection == null) {
+      return null;
+    }
+    Set<String> keys = new HashSet<>(projection);
+    if (filter != null) {
+      keys.addAll(filter.getPropertyKeys());
+    }
+    return keys;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("FROM ALL WHERE %s PROJECT %s",
+      filter == null ? "TRUE" : filter, projection == null ? "*" : projection);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.types.Either;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.gdl.functions.EdgeOfFragment;
+import org.gradoop.flink.io.impl.gdl.functions.ElementIdOfFragment;
+import org.gradoop.flink.io.impl.gdl.functions.GraphHeadOfFragment;
+import org.gradoop.flink.io.impl.gdl.functions.MergeGDLElements;
+import org.gradoop.flink.io.impl.gdl.functions.VertexOfFragment;
+import org.gradoop.flink.io.impl.gdl.inputformats.GDLInputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+/**
+ * A data source for GDL files, e.g. written by {@link GDLDataSink}.
+ * <p>
+ * In contrast to {@link org.gradoop.flink.util.FlinkAsciiGraphLoader}, the files are not parsed
+ * on the client but read definition by definition by the input formats, see
+ * {@link org.gradoop.common.util.StreamingAsciiGraphLoader}. The ids of the elements are derived
+ * from their variables, i.e. they are stable across multiple reads of the same files. Each file
+ * is read once by a single task, the path may also refer to a directory of GDL files.
+ */
+public class GDLDataSource implements DataSource {
+
+  /**
+   * Path of the GDL file or directory.
+   */
+  private final String path;
+
+  /**
+   * Gradoop Flink configuration.
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new GDL data source.
+   *
+   * @param path path of the GDL file or a directory of GDL files
+   * @param config Gradoop Flink configuration
+   */
+  public GDLDataSource(String path, GradoopFlinkConfig config) {
+    this.path = path;
+    this.config = config;
+  }
+
+  /**
+   * Will use a single graph head of the collection as final graph head for the graph.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    GraphCollection collection = getGraphCollection();
+    return collection.getGraphFactory()
+      .fromDataSets(
+        collection.getGraphHeads().first(1), collection.getVertices(), collection.getEdges());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    GraphCollectionFactory collectionFactory = config.getGraphCollectionFactory();
+    DataSet<Tuple2<Long, Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>>> fragments =
+      config.getExecutionEnvironment()
+        .createInput(new GDLInputFormat(new Path(path), collectionFactory));
+
+    DataSet<EPGMGraphHead> graphHeads = merge(fragments.flatMap(new GraphHeadOfFragment()));
+    DataSet<EPGMVertex> vertices = merge(fragments.flatMap(new VertexOfFragment()));
+    DataSet<EPGMEdge> edges = merge(fragments.flatMap(new EdgeOfFragment()));
+
+    return collectionFactory.fromDataSets(graphHeads, vertices, edges);
+  }
+
+  /**
+   * Merges elements contained in multiple definitions.
+   *
+   * @param fragments elements read from GDL definitions with the position of their definition
+   * @param <T> element type
+   * @return merged elements
+   */
+  private <T extends EPGMElement> DataSet<T> merge(DataSet<Tuple2<Long, T>> fragments) {
+    return fragments
+      .groupBy(new ElementIdOfFragment<>())
+      .reduce(new MergeGDLElements<>())
+      .map(new Value1Of2<>());
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl.functions;
+
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Returns the id of an element read from a GDL definition.
+ * <p>
+ * {@code (definitionIndex, element) => element.id}
+ *
+ * @param <T> element type
+ */
+@FunctionAnnotation.ForwardedFields("f1.id->*")
+public class ElementIdOfFragment<T extends Element> implements KeySelector<Tuple2<Long, T>, GradoopId> {
+
+  @Override
+  public GradoopId getKey(Tuple2<Long, T> fragment) {
+    return fragment.f1.getId();
+  }
+}
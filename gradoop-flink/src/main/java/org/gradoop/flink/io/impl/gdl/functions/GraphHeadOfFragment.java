@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.Either;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+
+/**
+ * Selects the graph heads read from GDL definitions.
+ * <p>
+ * {@code (definitionIndex, Left(graphHead)) => (definitionIndex, graphHead)}
+ */
+public class GraphHeadOfFragment implements
+  FlatMapFunction<Tuple2<Long, Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>>,
+    Tuple2<Long, EPGMGraphHead>> {
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple2<Long, EPGMGraphHead> reuseTuple = new Tuple2<>();
+
+  @Override
+  public void flatMap(Tuple2<Long, Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>> fragment,
+    Collector<Tuple2<Long, EPGMGraphHead>> out) {
+    if (fragment.f1.isLeft()) {
+      reuseTuple.f0 = fragment.f0;
+      reuseTuple.f1 = fragment.f1.left();
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.api.entities.GraphElement;
+
+/**
+ * Merges the fragments of an element read from multiple GDL definitions. Like GDL, the label and
+ * properties of the first definition are kept and the graph ids of all definitions are united.
+ * The definitions of multiple files are ordered by the relative path of their file first, see
+ * {@link org.gradoop.flink.io.impl.gdl.inputformats.GDLInputFormat#position(int, long)}.
+ * <p>
+ * {@code (i, element), (j, element') => (min(i, j), merged element)}
+ *
+ * @param <T> element type
+ */
+public class MergeGDLElements<T extends Element> implements ReduceFunction<Tuple2<Long, T>> {
+
+  @Override
+  public Tuple2<Long, T> reduce(Tuple2<Long, T> first, Tuple2<Long, T> second) {
+    Tuple2<Long, T> result = first.f0 <= second.f0 ? first : second;
+    Tuple2<Long, T> other = result == first ? second : first;
+    if (result.f1 instanceof GraphElement) {
+      GraphElement element = (GraphElement) result.f1;
+      ((GraphElement) other.f1).getGraphIds().forEach(element::addGraphId);
+    }
+    return result;
+  }
+}
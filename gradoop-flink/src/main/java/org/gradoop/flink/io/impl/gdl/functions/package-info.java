@@ -14,6 +14,6 @@
  * limitations under the License.
  */
 /**
- * Contains classes related to the conversion of data into the gdl format.
+ * Contains classes related to the conversion of data from and into the gdl format.
  */
 package org.gradoop.flink.io.impl.gdl.functions;
@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl.inputformats;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.types.Either;
+import org.gradoop.common.model.api.entities.EdgeFactory;
+import org.gradoop.common.model.api.entities.ElementFactoryProvider;
+import org.gradoop.common.model.api.entities.GraphHeadFactory;
+import org.gradoop.common.model.api.entities.VertexFactory;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.util.StreamingAsciiGraphLoader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reads the elements of GDL files definition by definition using a
+ * {@link StreamingAsciiGraphLoader}. Each element is emitted together with the position of its
+ * definition, since elements contained in multiple definitions have to be merged. The position
+ * orders the definitions of all files globally, first by the path of their file relative to the
+ * input path and then by their index in the file, see {@link #position(int, long)}.
+ * Graph heads, vertices and edges are emitted by the same format as
+ * {@code Left(graphHead)}, {@code Right(Left(vertex))} and {@code Right(Right(edge))}, i.e. each
+ * file is parsed only once.
+ * <p>
+ * GDL files can not be split, i.e. each file is read by a single task. The path of the file
+ * relative to the input path is used as scope of the ids of anonymous elements, i.e. the ids do
+ * not change if the files are moved or the input path is given with a different scheme.
+ */
+public class GDLInputFormat extends
+  FileInputFormat<Tuple2<Long, Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>>> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Number of low bits of a position used for the definition index, the remaining bits are used
+   * for the file index.
+   */
+  private static final int DEFINITION_INDEX_BITS = 40;
+
+  /**
+   * Factory to create graph heads.
+   */
+  private final GraphHeadFactory<EPGMGraphHead> graphHeadFactory;
+
+  /**
+   * Factory to create vertices.
+   */
+  private final VertexFactory<EPGMVertex> vertexFactory;
+
+  /**
+   * Factory to create edges.
+   */
+  private final EdgeFactory<EPGMEdge> edgeFactory;
+
+  /**
+   * Loader of the current file.
+   */
+  private transient StreamingAsciiGraphLoader<EPGMGraphHead, EPGMVertex, EPGMEdge> loader;
+
+  /**
+   * Remaining elements of the current definition.
+   */
+  private transient Iterator<Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>> elements;
+
+  /**
+   * Elements of the current definition, reused for all definitions.
+   */
+  private transient List<Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>> definition;
+
+  /**
+   * Index of the current file in the order of the relative paths of all files.
+   */
+  private transient int fileIndex;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the GDL file or a directory of GDL files
+   * @param elementFactoryProvider provider of serializable element factories
+   */
+  public GDLInputFormat(Path filePath,
+    ElementFactoryProvider<EPGMGraphHead, EPGMVertex, EPGMEdge> elementFactoryProvider) {
+    super(filePath);
+    this.graphHeadFactory = elementFactoryProvider.getGraphHeadFactory();
+    this.vertexFactory = elementFactoryProvider.getVertexFactory();
+    this.edgeFactory = elementFactoryProvider.getEdgeFactory();
+    this.unsplittable = true;
+  }
+
+  /**
+   * Returns the position of a definition in the global order of the definitions of all files.
+   *
+   * @param fileIndex index of the file in the order of the relative paths of all files
+   * @param definitionIndex index of the definition in the file
+   * @return position of the definition
+   */
+  public static long position(int fileIndex, long definitionIndex) {
+    return ((long) fileIndex << DEFINITION_INDEX_BITS) | definitionIndex;
+  }
+
+  /**
+   * Creates one split per file. The splits are numbered in the order of the relative paths of
+   * their files, which determines the file index of each split.
+   *
+   * {@inheritDoc}
+   */
+  @Override
+  public GDLInputSplit[] createInputSplits(int minNumSplits) throws IOException {
+    Path root = getFilePaths()[0];
+    FileSystem fs = root.getFileSystem();
+    String rootPath = root.makeQualified(fs).toUri().getPath();
+
+    FileInputSplit[] splits = super.createInputSplits(minNumSplits);
+    GDLInputSplit[] result = new GDLInputSplit[splits.length];
+    for (int i = 0; i < splits.length; i++) {
+      FileInputSplit split = splits[i];
+      String filePath = split.getPath().toUri().getPath();
+      String relativePath;
+      if (filePath.startsWith(rootPath + Path.SEPARATOR)) {
+        relativePath = filePath.substring(rootPath.length() + 1);
+      } else {
+        relativePath = split.getPath().getName();
+      }
+      result[i] = new GDLInputSplit(i, split.getPath(), split.getStart(), split.getLength(),
+        split.getHostnames(), relativePath);
+    }
+    Arrays.sort(result, Comparator.comparing(GDLInputSplit::getRelativePath));
+    for (int i = 0; i < result.length; i++) {
+      GDLInputSplit split = result[i];
+      result[i] = new GDLInputSplit(i, split.getPath(), split.getStart(), split.getLength(),
+        split.getHostnames(), split.getRelativePath());
+    }
+    return result;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    fileIndex = split.getSplitNumber();
+    loader = new StreamingAsciiGraphLoader<>(
+      new InputStreamReader(stream, StandardCharsets.UTF_8),
+      new ElementFactoryProvider<EPGMGraphHead, EPGMVertex, EPGMEdge>() {
+        @Override
+        public GraphHeadFactory<EPGMGraphHead> getGraphHeadFactory() {
+          return graphHeadFactory;
+        }
+
+        @Override
+        public VertexFactory<EPGMVertex> getVertexFactory() {
+          return vertexFactory;
+        }
+
+        @Override
+        public EdgeFactory<EPGMEdge> getEdgeFactory() {
+          return edgeFactory;
+        }
+      }, ((GDLInputSplit) split).getRelativePath());
+    definition = new ArrayList<>();
+    elements = definition.iterator();
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    while (!elements.hasNext()) {
+      if (!loader.next()) {
+        return true;
+      }
+      definition.clear();
+      for (EPGMGraphHead graphHead : loader.getGraphHeads()) {
+        definition.add(Either.Left(graphHead));
+      }
+      for (EPGMVertex vertex : loader.getVertices()) {
+        definition.add(Either.Right(Either.Left(vertex)));
+      }
+      for (EPGMEdge edge : loader.getEdges()) {
+        definition.add(Either.Right(Either.Right(edge)));
+      }
+      elements = definition.iterator();
+    }
+    return false;
+  }
+
+  @Override
+  public Tuple2<Long, Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>> nextRecord(
+    Tuple2<Long, Either<EPGMGraphHead, Either<EPGMVertex, EPGMEdge>>> reuse) throws IOException {
+    if (loader.getDefinitionIndex() >>> DEFINITION_INDEX_BITS != 0) {
+      throw new IOException("Too many definitions in " + currentSplit.getPath());
+    }
+    reuse.f0 = position(fileIndex, loader.getDefinitionIndex());
+    reuse.f1 = elements.next();
+    return reuse;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (loader != null) {
+      loader.close();
+      loader = null;
+    }
+    super.close();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl.inputformats;
+
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+
+/**
+ * A split of a GDL file, which additionally contains the path of the file relative to the input
+ * path of the {@link GDLInputFormat}.
+ */
+public class GDLInputSplit extends FileInputSplit {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Path of the file relative to the input path.
+   */
+  private final String relativePath;
+
+  /**
+   * Creates a new split.
+   *
+   * @param num number of the split
+   * @param file path of the file
+   * @param start position of the first byte of the split in the file
+   * @param length number of bytes of the split
+   * @param hosts names of the hosts storing the split
+   * @param relativePath path of the file relative to the input path
+   */
+  public GDLInputSplit(int num, Path file, long start, long length, String[] hosts,
+    String relativePath) {
+    super(num, file, start, length, hosts);
+    this.relativePath = relativePath;
+  }
+
+  /**
+   * Returns the path of the file relative to the input path.
+   *
+   * @return relative path
+   */
+  public String getRelativePath() {
+    return relativePath;
+  }
+}
@@ -14,6 +14,6 @@
  * limitations under the License.
  */
 /**
- * Contains classes related to the output of data in the gdl format.
+ * Contains classes related to the input and output of data in the gdl format.
  */
 package org.gradoop.flink.io.impl.gdl;
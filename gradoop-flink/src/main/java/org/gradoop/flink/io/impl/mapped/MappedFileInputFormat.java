@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.impl.compression.Compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Base class of input formats reading lines of local files through memory mapped buffers instead
+ * of input streams. The files are split like by any {@link FileInputFormat}, a split reads all
+ * lines starting within the split, i.e. the last line may end behind the split.
+ * <p>
+ * Files are mapped in windows of at most {@link #DEFAULT_WINDOW_SIZE} bytes. Only uncompressed
+ * files of the local file system are supported.
+ *
+ * @param <OT> record type
+ */
+public abstract class MappedFileInputFormat<OT> extends FileInputFormat<OT> {
+  /**
+   * Default size of the mapped windows.
+   */
+  public static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+  /**
+   * Line feed.
+   */
+  private static final byte LF = '\n';
+
+  /**
+   * Carriage return.
+   */
+  private static final byte CR = '\r';
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Size of the mapped windows.
+   */
+  private final int windowSize;
+
+  /**
+   * Channel of the current file.
+   */
+  private transient FileChannel channel;
+
+  /**
+   * Currently mapped window of the file.
+   */
+  private transient MappedByteBuffer window;
+
+  /**
+   * Duplicate of the current window used for bulk copies, its position is changed on each copy.
+   */
+  private transient ByteBuffer windowCopy;
+
+  /**
+   * Offset of the current window in the file.
+   */
+  private transient long windowOffset;
+
+  /**
+   * Length of the current file.
+   */
+  private transient long fileLength;
+
+  /**
+   * End of the current split, lines starting at or behind the end belong to the next split.
+   */
+  private transient long splitEnd;
+
+  /**
+   * Position of the next byte to read in the file.
+   */
+  private transient long position;
+
+  /**
+   * Bytes of the last read line without line terminator.
+   */
+  private transient byte[] line;
+
+  /**
+   * Length of the last read line.
+   */
+  private transient int lineLength;
+
+  /**
+   * Creates a new input format using the default window size.
+   *
+   * @param filePath path of a file or a directory of files
+   */
+  protected MappedFileInputFormat(Path filePath) {
+    this(filePath, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of a file or a directory of files
+   * @param windowSize maximum size of the mapped windows in bytes
+   */
+  protected MappedFileInputFormat(Path filePath, int windowSize) {
+    super(filePath);
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+    }
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    this.currentSplit = split;
+    this.splitStart = split.getStart();
+    Path file = split.getPath();
+    String scheme = file.toUri().getScheme();
+    if (scheme != null && !scheme.equals("file")) {
+      throw new IOException("Memory mapping requires a local file: " + file);
+    }
+    for (Compression compression : Compression.values()) {
+      if (compression != Compression.NONE && file.getName().endsWith(compression.getExtension())) {
+        throw new IOException("Memory mapping does not support compressed files: " + file);
+      }
+    }
+
+    channel = FileChannel.open(Paths.get(file.toUri().getPath()), StandardOpenOption.READ);
+    fileLength = channel.size();
+    splitEnd = split.getLength() == READ_WHOLE_SPLIT_FLAG ?
+      fileLength : Math.min(fileLength, splitStart + split.getLength());
+    line = new byte[128];
+    window = null;
+    windowCopy = null;
+
+    if (splitStart == 0) {
+      position = 0;
+    } else {
+      // skip the remainder of the line started by the previous split
+      position = splitStart - 1;
+      readLine();
+    }
+  }
+
+  /**
+   * Returns true, if a line starts at the current position and within the split.
+   *
+   * @return true, iff the next line belongs to this split
+   */
+  protected boolean hasLineInSplit() {
+    return position < splitEnd;
+  }
+
+  /**
+   * Returns the end of the current split. Lines starting at or behind the end belong to the
+   * following split.
+   *
+   * @return end position of the split
+   */
+  protected long getSplitEnd() {
+    return splitEnd;
+  }
+
+  /**
+   * Returns the position of the next line in the file.
+   *
+   * @return position of the next line
+   */
+  protected long getPosition() {
+    return position;
+  }
+
+  /**
+   * Reads the next line into the line buffer, see {@link #getLine()} and {@link #getLineLength()}.
+   * The line terminator (LF or CRLF) is not part of the line.
+   *
+   * @return true, if a line was read, false if the end of the file was reached
+   * @throws IOException if the file can not be mapped
+   */
+  protected boolean readLine() throws IOException {
+    if (position >= fileLength) {
+      return false;
+    }
+    lineLength = 0;
+    while (position < fileLength) {
+      if (window == null || position >= windowOffset + window.limit()) {
+        map(position);
+      }
+      int start = (int) (position - windowOffset);
+      int end = start;
+      int limit = window.limit();
+      while (end < limit && window.get(end) != LF) {
+        end++;
+      }
+      append(start, end);
+      position = windowOffset + end;
+      if (end < limit) {
+        // skip the line feed
+        position++;
+        break;
+      }
+    }
+    if (lineLength > 0 && line[lineLength - 1] == CR) {
+      lineLength--;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the buffer containing the last read line. The buffer is reused for all lines.
+   *
+   * @return line buffer
+   */
+  protected byte[] getLine() {
+    return line;
+  }
+
+  /**
+   * Returns the length of the last read line.
+   *
+   * @return number of bytes of the line in the line buffer
+   */
+  protected int getLineLength() {
+    return lineLength;
+  }
+
+  /**
+   * Maps the window starting at the given position.
+   *
+   * @param offset position in the file
+   * @throws IOException if the file can not be mapped
+   */
+  private void map(long offset) throws IOException {
+    windowOffset = offset;
+    window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+      Math.min(windowSize, fileLength - offset));
+    windowCopy = window.duplicate();
+  }
+
+  /**
+   * Appends bytes of the current window to the line buffer.
+   *
+   * @param start first position in the window
+   * @param end end position in the window (exclusive)
+   */
+  private void append(int start, int end) {
+    int length = end - start;
+    if (lineLength + length > line.length) {
+      line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+    }
+    windowCopy.position(start);
+    windowCopy.get(line, lineLength, length);
+    lineLength += length;
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    windowCopy = null;
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+}
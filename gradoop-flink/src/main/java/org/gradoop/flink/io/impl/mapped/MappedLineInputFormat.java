@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.api.common.typeinfo.PrimitiveArrayTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.core.fs.Path;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of local files through memory mapped buffers. In contrast to the
+ * {@link MappedTextInputFormat}, the lines are not decoded but returned as bytes, e.g. to be
+ * parsed by a parser working on the encoded lines.
+ */
+public class MappedLineInputFormat extends MappedFileInputFormat<byte[]>
+  implements ResultTypeQueryable<byte[]> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of a file or a directory of files
+   */
+  public MappedLineInputFormat(Path filePath) {
+    super(filePath);
+  }
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of a file or a directory of files
+   * @param windowSize maximum size of the mapped windows in bytes
+   */
+  public MappedLineInputFormat(Path filePath, int windowSize) {
+    super(filePath, windowSize);
+  }
+
+  @Override
+  public boolean reachedEnd() {
+    return !hasLineInSplit();
+  }
+
+  @Override
+  public byte[] nextRecord(byte[] reuse) throws IOException {
+    if (!hasLineInSplit() || !readLine()) {
+      return null;
+    }
+    return Arrays.copyOf(getLine(), getLineLength());
+  }
+
+  @Override
+  public TypeInformation<byte[]> getProducedType() {
+    return PrimitiveArrayTypeInfo.BYTE_PRIMITIVE_ARRAY_TYPE_INFO;
+  }
+}
@@ -26,15 +26,21 @@ import org.gradoop.flink.model.impl.operators.statistics.DistinctSourceIdsByEdge
 import org.gradoop.flink.model.impl.operators.statistics.DistinctTargetIdsByEdgeLabel;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctVertexProperties;
 import org.gradoop.flink.model.impl.operators.statistics.EdgeLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.EdgePropertyValueHistogramsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.IncomingVertexDegreeDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.MostCommonEdgePropertyValuesByLabel;
+import org.gradoop.flink.model.impl.operators.statistics.MostCommonVertexPropertyValuesByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.OutgoingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.VertexPropertyValueHistogramsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctEdgePropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctSourceVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctTargetVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctVertexPropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.EdgeCountPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.MostCommonPropertyValuesByLabelPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.PropertyValueHistogramsByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.SourceAndEdgeLabelDistributionPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.StatisticWriter;
 import org.gradoop.flink.model.impl.operators.statistics.writer.TargetAndEdgeLabelDistributionPreparer;
@@ -151,6 +157,30 @@ public class GraphStatisticsDataSink implements DataSink {
         appendSeparator(this.path) +
         GraphStatisticsReader.OUTGOING_VERTEX_DEGREE_DISTRIBUTION,
         overwrite);
+    StatisticWriter.writeCSV(new PropertyValueHistogramsByLabelPreparer(
+        new EdgePropertyValueHistogramsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL,
+        overwrite);
+    StatisticWriter.writeCSV(new PropertyValueHistogramsByLabelPreparer(
+        new VertexPropertyValueHistogramsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL,
+        overwrite);
+    StatisticWriter.writeCSV(new MostCommonPropertyValuesByLabelPreparer(
+        new MostCommonEdgePropertyValuesByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL,
+        overwrite);
+    StatisticWriter.writeCSV(new MostCommonPropertyValuesByLabelPreparer(
+        new MostCommonVertexPropertyValuesByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL,
+        overwrite);
   }
 
   @Override
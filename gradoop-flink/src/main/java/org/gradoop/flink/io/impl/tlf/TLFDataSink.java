@@ -16,8 +16,12 @@
 package org.gradoop.flink.io.impl.tlf;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.io.TextOutputFormat;
 import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.compression.CompressedTextOutputFormat;
+import org.gradoop.flink.io.impl.compression.Compression;
 import org.gradoop.flink.io.impl.tlf.functions.EdgeLabelList;
 import org.gradoop.flink.io.impl.tlf.functions.ElementLabelEncoder;
 import org.gradoop.flink.io.impl.tlf.functions.TLFDictionaryFileFormat;
@@ -31,6 +35,7 @@ import org.gradoop.flink.util.GradoopFlinkConfig;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Writes an EPGM representation into one TLF file. The format
@@ -38,6 +43,11 @@ import java.util.Map;
  */
 public class TLFDataSink extends TLFBase implements DataSink {
 
+  /**
+   * Compression of the written TLF and dictionary files.
+   */
+  private Compression compression = Compression.NONE;
+
   /**
    * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
    *
@@ -61,6 +71,19 @@ public class TLFDataSink extends TLFBase implements DataSink {
     super(tlfPath, tlfVertexDictionaryPath, tlfEdgeDictionaryPath, config);
   }
 
+  /**
+   * Sets the compression of the written TLF and dictionary files. Compressed files are written
+   * to directories containing one file per parallel task. Files compressed by a splittable codec,
+   * e.g. {@link Compression#BZIP2}, are read in parallel by the {@link TLFDataSource}.
+   *
+   * @param compression compression of the written files
+   * @return this data sink
+   */
+  public TLFDataSink setCompression(Compression compression) {
+    this.compression = Objects.requireNonNull(compression);
+    return this;
+  }
+
   @Override
   public void write(LogicalGraph logicalGraph) throws IOException {
     write(logicalGraph, false);
@@ -96,11 +119,8 @@ public class TLFDataSink extends TLFBase implements DataSink {
         // reduce them to one dictionary without duplicates
         .reduceGroup(new TLFDictionaryMapGroupReducer());
       // write the vertex dictionary
-      vertexDictionary
-        .writeAsFormattedText(
-          getTLFVertexDictionaryPath(),
-          writeMode,
-          new TLFDictionaryFileFormat());
+      writeText(vertexDictionary, getTLFVertexDictionaryPath(), writeMode,
+        new TLFDictionaryFileFormat());
     }
 
     if (hasEdgeDictionary()) {
@@ -111,11 +131,8 @@ public class TLFDataSink extends TLFBase implements DataSink {
         // reduce them to one dictionary without duplicates
         .reduceGroup(new TLFDictionaryMapGroupReducer());
       // write the edge dictionary
-      edgeDictionary
-        .writeAsFormattedText(
-          getTLFEdgeDictionaryPath(),
-          writeMode,
-          new TLFDictionaryFileFormat());
+      writeText(edgeDictionary, getTLFEdgeDictionaryPath(), writeMode,
+        new TLFDictionaryFileFormat());
     }
 
     if (hasVertexDictionary() || hasEdgeDictionary()) {
@@ -144,12 +161,31 @@ public class TLFDataSink extends TLFBase implements DataSink {
             TLFConstants.EDGE_DICTIONARY);
       }
       // write the TLF format adjusted graphs to file
-      simpleLabelTransaction
-        .writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
+      writeText(simpleLabelTransaction, getTLFPath(), writeMode, new TLFFileFormat());
       // if there was no dictionary used the graphs can simply be written
     } else {
-      graphTransactions
-        .writeAsFormattedText(getTLFPath(), writeMode, new TLFFileFormat());
+      writeText(graphTransactions, getTLFPath(), writeMode, new TLFFileFormat());
+    }
+  }
+
+  /**
+   * Writes the given data set as text file using the compression of the sink.
+   *
+   * @param dataSet   data set
+   * @param path      output path
+   * @param writeMode write mode
+   * @param formatter formats a record as text
+   * @param <T>       record type
+   */
+  private <T> void writeText(DataSet<T> dataSet, String path, FileSystem.WriteMode writeMode,
+    TextOutputFormat.TextFormatter<T> formatter) {
+    if (compression == Compression.NONE) {
+      dataSet.writeAsFormattedText(path, writeMode, formatter);
+    } else {
+      CompressedTextOutputFormat<T> format =
+        new CompressedTextOutputFormat<>(new Path(path), formatter, compression);
+      format.setWriteMode(writeMode);
+      dataSet.output(format);
     }
   }
 }
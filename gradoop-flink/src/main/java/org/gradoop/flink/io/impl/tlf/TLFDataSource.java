@@ -18,17 +18,23 @@ package org.gradoop.flink.io.impl.tlf;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.Path;
 import org.apache.flink.hadoopcompatibility.HadoopInputs;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hadoop.mapreduce.Job;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.Compression;
 import org.gradoop.flink.io.impl.tlf.functions.Dictionary;
 import org.gradoop.flink.io.impl.tlf.functions.DictionaryEntry;
 import org.gradoop.flink.io.impl.tlf.functions.EdgeLabelDecoder;
 import org.gradoop.flink.io.impl.tlf.functions.GraphTransactionFromText;
 import org.gradoop.flink.io.impl.tlf.functions.TLFFileFormat;
 import org.gradoop.flink.io.impl.tlf.functions.VertexLabelDecoder;
+import org.gradoop.flink.io.impl.tlf.inputformats.MappedTLFInputFormat;
 import org.gradoop.flink.io.impl.tlf.inputformats.TLFInputFormat;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -46,6 +52,11 @@ import java.util.Map;
  */
 public class TLFDataSource extends TLFBase implements DataSource {
 
+  /**
+   * True, if the TLF file is read through memory mapped buffers.
+   */
+  private boolean memoryMapped;
+
   /**
    * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
    *
@@ -70,7 +81,8 @@ public class TLFDataSource extends TLFBase implements DataSource {
     ExecutionEnvironment env = config.getExecutionEnvironment();
     if (hasVertexDictionary()) {
       DataSet<Map<Integer, String>> dictionary = env.createInput(HadoopInputs.readHadoopFile(
-        new TextInputFormat(), LongWritable.class, Text.class, getTLFVertexDictionaryPath()))
+        new TextInputFormat(), LongWritable.class, Text.class, getTLFVertexDictionaryPath(),
+        Compression.configure(new JobConf())))
           .filter(t -> !t.f1.toString().isEmpty())
           .map(new DictionaryEntry())
           .reduceGroup(new Dictionary());
@@ -79,7 +91,8 @@ public class TLFDataSource extends TLFBase implements DataSource {
     }
     if (hasEdgeDictionary()) {
       DataSet<Map<Integer, String>> dictionary = env.createInput(HadoopInputs.readHadoopFile(
-        new TextInputFormat(), LongWritable.class, Text.class, getTLFEdgeDictionaryPath()))
+        new TextInputFormat(), LongWritable.class, Text.class, getTLFEdgeDictionaryPath(),
+        Compression.configure(new JobConf())))
           .filter(t -> !t.f1.toString().isEmpty())
           .map(new DictionaryEntry())
           .reduceGroup(new Dictionary());
@@ -88,6 +101,20 @@ public class TLFDataSource extends TLFBase implements DataSource {
     }
   }
 
+  /**
+   * Sets whether the TLF file is read through memory mapped buffers (NIO) instead of Hadoop
+   * input streams, see {@link MappedTLFInputFormat}. The file is split at line boundaries and
+   * read in parallel. Only uncompressed files in the local file system are supported, the
+   * dictionaries are read as before. Default: false
+   *
+   * @param memoryMapped true, iff the file shall be memory mapped
+   * @return this data source
+   */
+  public TLFDataSource setMemoryMapped(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+    return this;
+  }
+
   @Override
   public LogicalGraph getLogicalGraph() throws IOException {
     return getGraphCollection().reduce(new ReduceCombination<>());
@@ -98,13 +125,17 @@ public class TLFDataSource extends TLFBase implements DataSource {
     DataSet<GraphTransaction> transactions;
     ExecutionEnvironment env = getConfig().getExecutionEnvironment();
 
-    DataSet<Tuple2<LongWritable, Text>> input = null;
+    DataSet<Tuple2<LongWritable, Text>> input;
 
-    input = env.createInput(HadoopInputs.readHadoopFile(
-      new TLFInputFormat(), LongWritable.class, Text.class, getTLFPath()));
+    if (memoryMapped) {
+      input = env.createInput(new MappedTLFInputFormat(new Path(getTLFPath())));
+    } else {
+      input = env.createInput(HadoopInputs.readHadoopFile(
+        new TLFInputFormat(), LongWritable.class, Text.class, getTLFPath(),
+        Job.getInstance(Compression.configure(new Configuration()))));
+    }
 
     // load tlf graphs from file
-    assert input != null;
     transactions = input.map(new GraphTransactionFromText(getConfig()));
 
     // map the integer valued labels to strings from dictionary
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+
+import java.io.IOException;
+
+/**
+ * Constants and encoding of the binary TLF format.
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by blocks prefixed by their
+ * length as int. The first block is the label dictionary: the number of labels followed by the
+ * labels, the position of a label is its id. Each following block is a graph transaction: the
+ * graph label id, the number of vertices, the label ids of the vertices, the number of edges
+ * and source index, target index and label id of each edge. Vertices are referenced by their
+ * position in the transaction. All numbers of a block are variable-length encoded.
+ * <p>
+ * The blocks are followed by a block index: the file offsets of the transaction blocks starting
+ * at least {@link #DEFAULT_INDEX_INTERVAL} bytes after the previous indexed block as longs, the
+ * number of offsets as int and {@link #MAGIC}. Readers of an input split use the index to
+ * continue at the last indexed block before the split instead of skipping all blocks from the
+ * start of the file.
+ * <p>
+ * Like the textual TLF format, only labels and the structure of the graphs are stored.
+ */
+public final class BinaryTLF {
+  /**
+   * Magic number at the start of each file.
+   */
+  public static final int MAGIC = 0x42544C46;
+  /**
+   * Version of the format.
+   */
+  public static final byte VERSION = 1;
+  /**
+   * Default minimum number of bytes between two indexed blocks.
+   */
+  public static final int DEFAULT_INDEX_INTERVAL = 1 << 20;
+  /**
+   * Broadcast set identifier for the label dictionary.
+   */
+  public static final String DICTIONARY = "dictionary";
+  /**
+   * Number of ints per encoded edge.
+   */
+  public static final int EDGE_LENGTH = 3;
+
+  /**
+   * No instances.
+   */
+  private BinaryTLF() {
+  }
+
+  /**
+   * Writes a non-negative int using 7 bits per byte. The highest bit of a byte marks that
+   * another byte follows.
+   *
+   * @param value non-negative value
+   * @param outputView output view
+   * @throws IOException on failure
+   */
+  public static void writeVarInt(int value, DataOutputView outputView) throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      outputView.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    outputView.writeByte(remaining);
+  }
+
+  /**
+   * Reads an int written by {@link #writeVarInt(int, DataOutputView)}.
+   *
+   * @param inputView input view
+   * @return value
+   * @throws IOException on failure
+   */
+  public static int readVarInt(DataInputView inputView) throws IOException {
+    int value = 0;
+    int shift = 0;
+    byte current;
+    do {
+      current = inputView.readByte();
+      value |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return value;
+  }
+}
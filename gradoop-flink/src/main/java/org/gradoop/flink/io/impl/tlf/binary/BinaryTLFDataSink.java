@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.tlf.binary.functions.CreateLabelDictionary;
+import org.gradoop.flink.io.impl.tlf.binary.functions.EncodeTransactions;
+import org.gradoop.flink.io.impl.tlf.binary.functions.TransactionLabels;
+import org.gradoop.flink.io.impl.tlf.binary.outputformats.BinaryTLFOutputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Writes graph transactions in the binary TLF format, see {@link BinaryTLF}. Each task of the
+ * sink writes a file starting with the integer-encoded label dictionary of all graphs,
+ * followed by length-prefixed transactions. The files are read by the
+ * {@link BinaryTLFDataSource}.
+ */
+public class BinaryTLFDataSink implements DataSink {
+
+  /**
+   * Path of the file or directory to write to.
+   */
+  private final String path;
+
+  /**
+   * Minimum number of bytes between two indexed blocks.
+   */
+  private int indexInterval = BinaryTLF.DEFAULT_INDEX_INTERVAL;
+
+  /**
+   * Creates a new data sink. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path path of the file or directory to write to
+   */
+  public BinaryTLFDataSink(String path) {
+    this.path = Objects.requireNonNull(path);
+  }
+
+  /**
+   * Sets the minimum number of bytes between two blocks of a file listed in its block index.
+   * Smaller intervals reduce the number of blocks skipped by readers of an input split but
+   * increase the size of the index read by each reader.
+   *
+   * @param indexInterval minimum number of bytes between two indexed blocks
+   * @return this data sink
+   */
+  public BinaryTLFDataSink setIndexInterval(int indexInterval) {
+    if (indexInterval <= 0) {
+      throw new IllegalArgumentException("Index interval must be positive: " + indexInterval);
+    }
+    this.indexInterval = indexInterval;
+    return this;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    DataSet<GraphTransaction> transactions = graphCollection.getGraphTransactions();
+
+    DataSet<String[]> dictionary = transactions
+      .flatMap(new TransactionLabels())
+      .distinct()
+      .reduceGroup(new CreateLabelDictionary());
+
+    BinaryTLFOutputFormat format = new BinaryTLFOutputFormat(new Path(path), indexInterval);
+    format.setWriteMode(overwrite ? FileSystem.WriteMode.OVERWRITE :
+      FileSystem.WriteMode.NO_OVERWRITE);
+
+    // the dictionary is the first block of each partition, i.e. of each written file
+    transactions
+      .mapPartition(new EncodeTransactions())
+      .withBroadcastSet(dictionary, BinaryTLF.DICTIONARY)
+      .output(format);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.tlf.binary.inputformats.BinaryTLFLabeledGraphInputFormat;
+import org.gradoop.flink.io.impl.tlf.binary.inputformats.BinaryTLFTransactionInputFormat;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.Objects;
+
+/**
+ * Reads graph transactions written by the {@link BinaryTLFDataSink}. Labels are decoded using
+ * the dictionary stored in each file, no text has to be parsed. The files are split into
+ * multiple input splits and read in parallel.
+ */
+public class BinaryTLFDataSource implements DataSource {
+
+  /**
+   * Path of the file or directory to read.
+   */
+  private final String path;
+
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Creates a new data source. Paths can be local (file://) or HDFS (hdfs://).
+   *
+   * @param path   path of the file or directory to read
+   * @param config Gradoop Flink configuration
+   */
+  public BinaryTLFDataSource(String path, GradoopFlinkConfig config) {
+    this.path = Objects.requireNonNull(path);
+    this.config = Objects.requireNonNull(config);
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination<>());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    DataSet<GraphTransaction> transactions = config.getExecutionEnvironment()
+      .createInput(new BinaryTLFTransactionInputFormat(new Path(path), config));
+    return config.getGraphCollectionFactory().fromTransactions(transactions);
+  }
+
+  /**
+   * Reads the graphs as input of {@link org.gradoop.flink.algorithms.fsm.dimspan.DIMSpan}
+   * without creating EPGM elements.
+   *
+   * @return labeled graphs
+   */
+  public DataSet<LabeledGraphStringString> getLabeledGraphs() {
+    return config.getExecutionEnvironment()
+      .createInput(new BinaryTLFLabeledGraphInputFormat(new Path(path)));
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.util.Collector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates the label dictionary from distinct labels. The labels are sorted, the position of a
+ * label is its id.
+ */
+public class CreateLabelDictionary implements GroupReduceFunction<String, String[]> {
+
+  @Override
+  public void reduce(Iterable<String> labels, Collector<String[]> out) {
+    List<String> dictionary = new ArrayList<>();
+    labels.forEach(dictionary::add);
+    Collections.sort(dictionary);
+    out.collect(dictionary.toArray(new String[0]));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLF;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the graph transactions of a partition as blocks of the binary TLF format. The first
+ * block of each partition is the label dictionary, i.e. each file written by a task of the sink
+ * can be read on its own.
+ * <p>
+ * Requires the dictionary created by {@link CreateLabelDictionary} as broadcast set
+ * {@link BinaryTLF#DICTIONARY}.
+ */
+public class EncodeTransactions extends RichMapPartitionFunction<GraphTransaction, byte[]> {
+
+  /**
+   * Label dictionary.
+   */
+  private String[] dictionary;
+
+  /**
+   * Mapping from label to id.
+   */
+  private Map<String, Integer> labelIds;
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<String[]> broadcast = getRuntimeContext().getBroadcastVariable(BinaryTLF.DICTIONARY);
+    dictionary = broadcast.isEmpty() ? new String[0] : broadcast.get(0);
+    labelIds = new HashMap<>(dictionary.length);
+    for (int i = 0; i < dictionary.length; i++) {
+      labelIds.put(dictionary[i], i);
+    }
+  }
+
+  @Override
+  public void mapPartition(Iterable<GraphTransaction> transactions, Collector<byte[]> out)
+    throws IOException {
+    DataOutputSerializer output = new DataOutputSerializer(1024);
+    BinaryTLF.writeVarInt(dictionary.length, output);
+    for (String label : dictionary) {
+      output.writeUTF(label);
+    }
+    out.collect(output.getCopyOfBuffer());
+
+    Map<GradoopId, Integer> vertexIndex = new HashMap<>();
+    for (GraphTransaction transaction : transactions) {
+      output.clear();
+      vertexIndex.clear();
+      BinaryTLF.writeVarInt(labelIds.get(transaction.getGraphHead().getLabel()), output);
+      BinaryTLF.writeVarInt(transaction.getVertices().size(), output);
+      for (EPGMVertex vertex : transaction.getVertices()) {
+        vertexIndex.put(vertex.getId(), vertexIndex.size());
+        BinaryTLF.writeVarInt(labelIds.get(vertex.getLabel()), output);
+      }
+      BinaryTLF.writeVarInt(transaction.getEdges().size(), output);
+      for (EPGMEdge edge : transaction.getEdges()) {
+        BinaryTLF.writeVarInt(vertexIndex.get(edge.getSourceId()), output);
+        BinaryTLF.writeVarInt(vertexIndex.get(edge.getTargetId()), output);
+        BinaryTLF.writeVarInt(labelIds.get(edge.getLabel()), output);
+      }
+      out.collect(output.getCopyOfBuffer());
+    }
+  }
+}
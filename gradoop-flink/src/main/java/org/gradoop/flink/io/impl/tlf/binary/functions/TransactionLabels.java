@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+
+/**
+ * Returns the labels of the graph head, the vertices and the edges of a transaction.
+ */
+public class TransactionLabels implements FlatMapFunction<GraphTransaction, String> {
+
+  @Override
+  public void flatMap(GraphTransaction transaction, Collector<String> out) {
+    out.collect(transaction.getGraphHead().getLabel());
+    for (EPGMVertex vertex : transaction.getVertices()) {
+      out.collect(vertex.getLabel());
+    }
+    for (EPGMEdge edge : transaction.getEdges()) {
+      out.collect(edge.getLabel());
+    }
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.inputformats;
+
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLF;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads graph transactions from binary TLF files, see {@link BinaryTLF}. Files are split at
+ * arbitrary positions: a transaction belongs to the split in which its block starts. To find
+ * the first block of a split, the reader continues at the last block before the split listed
+ * in the block index of the file and skips the following blocks before the split using their
+ * length prefix, i.e. without reading or decoding them.
+ *
+ * @param <T> type of the read graphs
+ */
+public abstract class BinaryTLFInputFormat<T> extends FileInputFormat<T> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Input view of the current file.
+   */
+  private transient DataInputViewStreamWrapper inputView;
+
+  /**
+   * Label dictionary of the current file.
+   */
+  private transient String[] dictionary;
+
+  /**
+   * Position of the next block in the file.
+   */
+  private transient long position;
+
+  /**
+   * End of the current split.
+   */
+  private transient long splitEnd;
+
+  /**
+   * End of the blocks of the current file, i.e. the start of its block index.
+   */
+  private transient long blocksEnd;
+
+  /**
+   * Offsets of the indexed blocks of the current file.
+   */
+  private transient long[] index;
+
+  /**
+   * Reused buffer of the current block.
+   */
+  private transient byte[] block;
+
+  /**
+   * Decodes the current block.
+   */
+  private transient DataInputDeserializer blockInput;
+
+  /**
+   * Label id of the current graph.
+   */
+  private transient int graphLabel;
+
+  /**
+   * Label ids of the vertices of the current graph.
+   */
+  private transient int[] vertexLabels;
+
+  /**
+   * Number of vertices of the current graph.
+   */
+  private transient int vertexCount;
+
+  /**
+   * Source index, target index and label id of each edge of the current graph.
+   */
+  private transient int[] edges;
+
+  /**
+   * Number of edges of the current graph.
+   */
+  private transient int edgeCount;
+
+  /**
+   * True, if the current block was not yet returned.
+   */
+  private transient boolean hasBlock;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the file or directory to read
+   */
+  BinaryTLFInputFormat(Path filePath) {
+    super(filePath);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    splitEnd = split.getLength() == READ_WHOLE_SPLIT_FLAG ?
+      Long.MAX_VALUE : split.getStart() + split.getLength();
+    if (block == null) {
+      block = new byte[1024];
+      blockInput = new DataInputDeserializer();
+      vertexLabels = new int[16];
+      edges = new int[16 * BinaryTLF.EDGE_LENGTH];
+    }
+    hasBlock = false;
+
+    stream.seek(0);
+    inputView = new DataInputViewStreamWrapper(stream);
+    if (inputView.readInt() != BinaryTLF.MAGIC) {
+      throw new IOException(split.getPath() + " is not a binary TLF file");
+    }
+    byte version = inputView.readByte();
+    if (version != BinaryTLF.VERSION) {
+      throw new IOException("Unsupported version " + version + " of " + split.getPath());
+    }
+    position = stream.getPos();
+    readIndex(split.getPath());
+    stream.seek(position);
+    if (readBlock()) {
+      dictionary = new String[BinaryTLF.readVarInt(blockInput)];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = blockInput.readUTF();
+      }
+    } else {
+      dictionary = new String[0];
+    }
+
+    // continue at the last indexed block before the split and skip the following blocks
+    int indexed = Arrays.binarySearch(index, split.getStart());
+    indexed = indexed >= 0 ? indexed : -indexed - 2;
+    if (indexed >= 0 && index[indexed] > position) {
+      position = index[indexed];
+      stream.seek(position);
+    }
+    while (position < split.getStart()) {
+      int length = readLength();
+      if (length < 0) {
+        break;
+      }
+      position += Integer.BYTES + length;
+      stream.seek(position);
+    }
+  }
+
+  @Override
+  public boolean reachedEnd() throws IOException {
+    if (hasBlock) {
+      return false;
+    }
+    if (position >= splitEnd || !readBlock()) {
+      return true;
+    }
+    decodeBlock();
+    hasBlock = true;
+    return false;
+  }
+
+  @Override
+  public T nextRecord(T reuse) throws IOException {
+    if (reachedEnd()) {
+      return null;
+    }
+    hasBlock = false;
+    return createGraph(dictionary, graphLabel, vertexLabels, vertexCount, edges, edgeCount);
+  }
+
+  /**
+   * Creates a graph from the decoded block.
+   *
+   * @param dictionary   label dictionary
+   * @param graphLabel   label id of the graph
+   * @param vertexLabels label ids of the vertices (reused, only valid for this call)
+   * @param vertexCount  number of vertices
+   * @param edges        source index, target index and label id of each edge (reused, only
+   *                     valid for this call)
+   * @param edgeCount    number of edges
+   * @return graph
+   */
+  protected abstract T createGraph(String[] dictionary, int graphLabel, int[] vertexLabels,
+    int vertexCount, int[] edges, int edgeCount);
+
+  /**
+   * Reads the block index at the end of the file and sets the end of the blocks.
+   *
+   * @param path path of the current file
+   * @throws IOException on failure or if the file has no valid block index
+   */
+  private void readIndex(Path path) throws IOException {
+    long fileLength = path.getFileSystem().getFileStatus(path).getLen();
+    stream.seek(fileLength - 2 * Integer.BYTES);
+    int indexSize = inputView.readInt();
+    if (inputView.readInt() != BinaryTLF.MAGIC || indexSize < 0) {
+      throw new IOException(path + " has no valid block index");
+    }
+    blocksEnd = fileLength - 2 * Integer.BYTES - (long) indexSize * Long.BYTES;
+    stream.seek(blocksEnd);
+    index = new long[indexSize];
+    for (int i = 0; i < indexSize; i++) {
+      index[i] = inputView.readLong();
+    }
+  }
+
+  /**
+   * Reads the length prefix of the next block.
+   *
+   * @return length of the block or -1 at the end of the blocks
+   * @throws IOException on failure
+   */
+  private int readLength() throws IOException {
+    if (position >= blocksEnd) {
+      return -1;
+    }
+    int first = inputView.read();
+    if (first < 0) {
+      return -1;
+    }
+    return first << 24 | inputView.readUnsignedByte() << 16 | inputView.readUnsignedShort();
+  }
+
+  /**
+   * Reads the next block into the block buffer.
+   *
+   * @return true, if a block was read, false at the end of the blocks
+   * @throws IOException on failure
+   */
+  private boolean readBlock() throws IOException {
+    int length = readLength();
+    if (length < 0) {
+      return false;
+    }
+    if (length > block.length) {
+      block = new byte[Math.max(length, block.length * 2)];
+    }
+    inputView.readFully(block, 0, length);
+    blockInput.setBuffer(block, 0, length);
+    position += Integer.BYTES + length;
+    return true;
+  }
+
+  /**
+   * Decodes the graph of the current block.
+   *
+   * @throws IOException on failure
+   */
+  private void decodeBlock() throws IOException {
+    graphLabel = BinaryTLF.readVarInt(blockInput);
+    vertexCount = BinaryTLF.readVarInt(blockInput);
+    if (vertexCount > vertexLabels.length) {
+      vertexLabels = Arrays.copyOf(vertexLabels, Math.max(vertexCount, vertexLabels.length * 2));
+    }
+    for (int i = 0; i < vertexCount; i++) {
+      vertexLabels[i] = BinaryTLF.readVarInt(blockInput);
+    }
+    edgeCount = BinaryTLF.readVarInt(blockInput);
+    int edgeInts = edgeCount * BinaryTLF.EDGE_LENGTH;
+    if (edgeInts > edges.length) {
+      edges = Arrays.copyOf(edges, Math.max(edgeInts, edges.length * 2));
+    }
+    for (int i = 0; i < edgeInts; i++) {
+      edges[i] = BinaryTLF.readVarInt(blockInput);
+    }
+  }
+}
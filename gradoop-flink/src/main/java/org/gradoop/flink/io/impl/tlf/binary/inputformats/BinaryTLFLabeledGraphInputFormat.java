@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.inputformats;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLF;
+
+/**
+ * Reads binary TLF files as labeled graphs, the input of
+ * {@link org.gradoop.flink.algorithms.fsm.dimspan.DIMSpan}. The graphs are created from the
+ * decoded blocks without creating EPGM elements and ids.
+ */
+public class BinaryTLFLabeledGraphInputFormat extends BinaryTLFInputFormat<LabeledGraphStringString>
+  implements ResultTypeQueryable<LabeledGraphStringString> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the file or directory to read
+   */
+  public BinaryTLFLabeledGraphInputFormat(Path filePath) {
+    super(filePath);
+  }
+
+  @Override
+  protected LabeledGraphStringString createGraph(String[] dictionary, int graphLabel,
+    int[] vertexLabels, int vertexCount, int[] edges, int edgeCount) {
+    String[] vertexLabelStrings = new String[vertexCount];
+    for (int i = 0; i < vertexCount; i++) {
+      vertexLabelStrings[i] = dictionary[vertexLabels[i]];
+    }
+    int[] edgeIds = new int[edgeCount * 2];
+    String[] edgeLabelStrings = new String[edgeCount];
+    for (int i = 0; i < edgeCount; i++) {
+      edgeIds[2 * i] = edges[i * BinaryTLF.EDGE_LENGTH];
+      edgeIds[2 * i + 1] = edges[i * BinaryTLF.EDGE_LENGTH + 1];
+      edgeLabelStrings[i] = dictionary[edges[i * BinaryTLF.EDGE_LENGTH + 2]];
+    }
+    LabeledGraphStringString graph = new LabeledGraphStringString();
+    graph.setFields(edgeIds, vertexLabelStrings, edgeLabelStrings);
+    return graph;
+  }
+
+  @Override
+  public TypeInformation<LabeledGraphStringString> getProducedType() {
+    return TypeExtractor.createTypeInfo(LabeledGraphStringString.class);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.inputformats;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.api.entities.EdgeFactory;
+import org.gradoop.common.model.api.entities.GraphHeadFactory;
+import org.gradoop.common.model.api.entities.VertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLF;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads binary TLF files as graph transactions. New ids are assigned to all elements.
+ */
+public class BinaryTLFTransactionInputFormat extends BinaryTLFInputFormat<GraphTransaction>
+  implements ResultTypeQueryable<GraphTransaction> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Graph head factory.
+   */
+  private final GraphHeadFactory<EPGMGraphHead> graphHeadFactory;
+
+  /**
+   * Vertex factory.
+   */
+  private final VertexFactory<EPGMVertex> vertexFactory;
+
+  /**
+   * Edge factory.
+   */
+  private final EdgeFactory<EPGMEdge> edgeFactory;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of the file or directory to read
+   * @param config   Gradoop Flink configuration
+   */
+  public BinaryTLFTransactionInputFormat(Path filePath, GradoopFlinkConfig config) {
+    super(filePath);
+    this.graphHeadFactory = config.getLogicalGraphFactory().getGraphHeadFactory();
+    this.vertexFactory = config.getLogicalGraphFactory().getVertexFactory();
+    this.edgeFactory = config.getLogicalGraphFactory().getEdgeFactory();
+  }
+
+  @Override
+  protected GraphTransaction createGraph(String[] dictionary, int graphLabel, int[] vertexLabels,
+    int vertexCount, int[] edges, int edgeCount) {
+    EPGMGraphHead graphHead = graphHeadFactory.createGraphHead(dictionary[graphLabel]);
+    GradoopId graphId = graphHead.getId();
+
+    GradoopId[] vertexIds = new GradoopId[vertexCount];
+    Set<EPGMVertex> vertices = new HashSet<>(vertexCount);
+    for (int i = 0; i < vertexCount; i++) {
+      EPGMVertex vertex = vertexFactory.createVertex(dictionary[vertexLabels[i]],
+        GradoopIdSet.fromExisting(graphId));
+      vertexIds[i] = vertex.getId();
+      vertices.add(vertex);
+    }
+
+    Set<EPGMEdge> edgeSet = new HashSet<>(edgeCount);
+    for (int i = 0; i < edgeCount * BinaryTLF.EDGE_LENGTH; i += BinaryTLF.EDGE_LENGTH) {
+      edgeSet.add(edgeFactory.createEdge(dictionary[edges[i + 2]],
+        vertexIds[edges[i]], vertexIds[edges[i + 1]], GradoopIdSet.fromExisting(graphId)));
+    }
+    return new GraphTransaction(graphHead, vertices, edgeSet);
+  }
+
+  @Override
+  public TypeInformation<GraphTransaction> getProducedType() {
+    return TypeExtractor.createTypeInfo(GraphTransaction.class);
+  }
+}
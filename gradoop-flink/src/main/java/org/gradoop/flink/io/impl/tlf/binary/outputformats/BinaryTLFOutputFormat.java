@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary.outputformats;
+
+import org.apache.flink.api.common.io.FileOutputFormat;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.gradoop.flink.io.impl.tlf.binary.BinaryTLF;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writes blocks encoded by the {@link org.gradoop.flink.io.impl.tlf.binary.functions.EncodeTransactions}
+ * function to a binary TLF file. The file starts with {@link BinaryTLF#MAGIC} and
+ * {@link BinaryTLF#VERSION}, each block is prefixed by its length. The block index is written
+ * when the file is closed.
+ */
+public class BinaryTLFOutputFormat extends FileOutputFormat<byte[]> {
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Output view of the file.
+   */
+  private transient DataOutputViewStreamWrapper outputView;
+
+  /**
+   * Minimum number of bytes between two indexed blocks.
+   */
+  private final int indexInterval;
+
+  /**
+   * Offsets of the indexed blocks, the dictionary block is not indexed.
+   */
+  private transient long[] index;
+
+  /**
+   * Number of indexed blocks.
+   */
+  private transient int indexSize;
+
+  /**
+   * True, if the next block is the dictionary.
+   */
+  private transient boolean dictionaryBlock;
+
+  /**
+   * Creates a new output format using the default index interval.
+   *
+   * @param outputPath path of the file or directory to write to
+   */
+  public BinaryTLFOutputFormat(Path outputPath) {
+    this(outputPath, BinaryTLF.DEFAULT_INDEX_INTERVAL);
+  }
+
+  /**
+   * Creates a new output format.
+   *
+   * @param outputPath path of the file or directory to write to
+   * @param indexInterval minimum number of bytes between two indexed blocks
+   */
+  public BinaryTLFOutputFormat(Path outputPath, int indexInterval) {
+    super(outputPath);
+    this.indexInterval = indexInterval;
+  }
+
+  @Override
+  public void open(int taskNumber, int numTasks) throws IOException {
+    super.open(taskNumber, numTasks);
+    outputView = new DataOutputViewStreamWrapper(stream);
+    outputView.writeInt(BinaryTLF.MAGIC);
+    outputView.writeByte(BinaryTLF.VERSION);
+    index = new long[16];
+    indexSize = 0;
+    dictionaryBlock = true;
+  }
+
+  @Override
+  public void writeRecord(byte[] block) throws IOException {
+    if (dictionaryBlock) {
+      dictionaryBlock = false;
+    } else {
+      long offset = stream.getPos();
+      if (indexSize == 0 || offset - index[indexSize - 1] >= indexInterval) {
+        if (indexSize == index.length) {
+          index = Arrays.copyOf(index, indexSize * 2);
+        }
+        index[indexSize++] = offset;
+      }
+    }
+    outputView.writeInt(block.length);
+    outputView.write(block);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (outputView != null) {
+      for (int i = 0; i < indexSize; i++) {
+        outputView.writeLong(index[i]);
+      }
+      outputView.writeInt(indexSize);
+      outputView.writeInt(BinaryTLF.MAGIC);
+      outputView = null;
+    }
+    super.close();
+  }
+}
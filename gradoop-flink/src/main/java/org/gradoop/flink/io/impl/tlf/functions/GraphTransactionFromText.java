@@ -30,21 +30,34 @@ import org.gradoop.flink.io.impl.tlf.TLFConstants;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 import org.gradoop.flink.util.GradoopFlinkConfig;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Reads graph imported from a TLF file. The result of the mapping is a
  * dataset of of tlf graphs, with each TLFGraph consisting of a tlf graph
  * head, a collection of tlf vertices and a collection of tlf edges.
+ * <p>
+ * The lines of a graph block are parsed from the UTF-8 encoded bytes of the text, only labels
+ * are decoded. Fields are separated by single spaces, labels may contain spaces.
  */
 public class GraphTransactionFromText
   implements MapFunction<Tuple2<LongWritable, Text>, GraphTransaction> {
 
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Maximum number of digits which can not overflow a long value.
+   */
+  private static final int MAX_SAFE_DIGITS = 18;
+
   /**
    * Graph head factory.
    */
@@ -57,6 +70,14 @@ public class GraphTransactionFromText
    * EPGMEdge factory.
    */
   private EdgeFactory<EPGMEdge> edgeFactory;
+  /**
+   * Start positions of the fields of the current line, reused for all lines.
+   */
+  private transient int[] fieldStarts;
+  /**
+   * End positions of the fields of the current line, reused for all lines.
+   */
+  private transient int[] fieldEnds;
 
   /**
    * Valued constructor.
@@ -83,44 +104,151 @@ public class GraphTransactionFromText
     Set<EPGMEdge> edges = new HashSet<>();
     EPGMGraphHead graphHead = null;
 
-    String[] lines = inputTuple.f1.toString().split("\\R", -1);
-    for (int i = 0; i < lines.length; i++) {
-      String[] fields = lines[i].trim().split(" ");
+    if (fieldStarts == null) {
+      fieldStarts = new int[8];
+      fieldEnds = new int[8];
+    }
+    byte[] bytes = inputTuple.f1.getBytes();
+    int length = inputTuple.f1.getLength();
+    int lineStart = 0;
+    for (int i = 0; lineStart <= length; i++) {
+      int lineEnd = lineStart;
+      while (lineEnd < length && bytes[lineEnd] != '\n' && bytes[lineEnd] != '\r') {
+        lineEnd++;
+      }
+      int fieldCount = splitFields(bytes, lineStart, lineEnd);
       GradoopId gradoopId = GradoopId.get();
 
       if (i == 0) {
-        idMap.put(Long.valueOf(fields[2]), gradoopId);
+        idMap.put(parseLong(bytes, 2), gradoopId);
         graphHead = graphHeadFactory.initGraphHead(gradoopId);
 
-      } else if (TLFConstants.VERTEX_SYMBOL.equals(fields[0])) {
-        idMap.put(Long.valueOf(fields[1]), gradoopId);
-        EPGMVertex vertex = vertexFactory.initVertex(gradoopId, getLabel(fields, 2));
+      } else if (isSymbol(bytes, TLFConstants.VERTEX_SYMBOL)) {
+        idMap.put(parseLong(bytes, 1), gradoopId);
+        EPGMVertex vertex = vertexFactory.initVertex(gradoopId, getLabel(bytes, 2, fieldCount));
         vertex.addGraphId(graphHead.getId());
         vertices.add(vertex);
 
-      } else if (TLFConstants.EDGE_SYMBOL.equals(fields[0])) {
+      } else if (isSymbol(bytes, TLFConstants.EDGE_SYMBOL)) {
         EPGMEdge edge = edgeFactory.initEdge(gradoopId,
-          getLabel(fields, 3),
-          idMap.get(Long.valueOf(fields[1])),
-          idMap.get(Long.valueOf(fields[2]))
+          getLabel(bytes, 3, fieldCount),
+          idMap.get(parseLong(bytes, 1)),
+          idMap.get(parseLong(bytes, 2))
         );
         edge.addGraphId(graphHead.getId());
         edges.add(edge);
       }
+
+      // skip the line break, CRLF is a single line break
+      lineStart = lineEnd + 1;
+      if (lineEnd + 1 < length && bytes[lineEnd] == '\r' && bytes[lineEnd + 1] == '\n') {
+        lineStart++;
+      }
     }
 
     return new GraphTransaction(graphHead, vertices, edges);
   }
 
   /**
-   * Builds a label from the current fields. If the label is split by whitespaces the last fields
+   * Splits the line between start and end into fields separated by single spaces, after leading
+   * and trailing whitespace was removed. The positions of the fields are stored in
+   * {@link #fieldStarts} and {@link #fieldEnds}.
+   *
+   * @param bytes text bytes
+   * @param start start of the line
+   * @param end end of the line
+   * @return number of fields
+   */
+  private int splitFields(byte[] bytes, int start, int end) {
+    int from = start;
+    int to = end;
+    while (from < to && (bytes[from] & 0xFF) <= ' ') {
+      from++;
+    }
+    while (to > from && (bytes[to - 1] & 0xFF) <= ' ') {
+      to--;
+    }
+    int count = 0;
+    int fieldStart = from;
+    for (int i = from; i <= to; i++) {
+      if (i == to || bytes[i] == ' ') {
+        if (count == fieldStarts.length) {
+          fieldStarts = Arrays.copyOf(fieldStarts, count * 2);
+          fieldEnds = Arrays.copyOf(fieldEnds, count * 2);
+        }
+        fieldStarts[count] = fieldStart;
+        fieldEnds[count] = i;
+        count++;
+        fieldStart = i + 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Checks if the first field of the current line is the given symbol.
+   *
+   * @param bytes text bytes
+   * @param symbol ASCII symbol
+   * @return true, if the field is equal to the symbol
+   */
+  private boolean isSymbol(byte[] bytes, String symbol) {
+    if (fieldEnds[0] - fieldStarts[0] != symbol.length()) {
+      return false;
+    }
+    for (int i = 0; i < symbol.length(); i++) {
+      if (bytes[fieldStarts[0] + i] != symbol.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses a field of the current line as decimal long value.
+   *
+   * @param bytes text bytes
+   * @param field index of the field
+   * @return value
+   * @throws NumberFormatException if the field does not represent a long value
+   */
+  private long parseLong(byte[] bytes, int field) {
+    int start = fieldStarts[field];
+    int end = fieldEnds[field];
+    int index = start;
+    boolean negative = false;
+    if (index < end && (bytes[index] == '-' || bytes[index] == '+')) {
+      negative = bytes[index] == '-';
+      index++;
+    }
+    if (index == end || end - index > MAX_SAFE_DIGITS) {
+      return Long.parseLong(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+    }
+    long value = 0L;
+    for (; index < end; index++) {
+      if (bytes[index] < '0' || bytes[index] > '9') {
+        throw new NumberFormatException(
+          "For input string: \"" + new String(bytes, start, end - start, StandardCharsets.UTF_8) + "\"");
+      }
+      value = value * 10 + (bytes[index] - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Decodes the label of the current line. If the label is split by whitespaces the last fields
    * which represent the label will be concatenated.
    *
-   * @param fields graph element fields
+   * @param bytes text bytes
    * @param labelStart field where the label starts
+   * @param fieldCount number of fields of the line
    * @return full label
    */
-  private String getLabel(String[] fields, int labelStart) {
-    return Arrays.stream(fields).skip(labelStart).collect(Collectors.joining(" "));
+  private String getLabel(byte[] bytes, int labelStart, int fieldCount) {
+    if (labelStart >= fieldCount) {
+      return "";
+    }
+    int start = fieldStarts[labelStart];
+    return new String(bytes, start, fieldEnds[fieldCount - 1] - start, StandardCharsets.UTF_8);
   }
 }
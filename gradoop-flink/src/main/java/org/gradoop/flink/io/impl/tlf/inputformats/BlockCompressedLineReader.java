@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.compress.SplitCompressionInputStream;
+import org.apache.hadoop.mapreduce.lib.input.CompressedSplitLineReader;
+import org.apache.hadoop.mapreduce.lib.input.SplitLineReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the lines of a split of a file compressed by a splittable codec.
+ * <p>
+ * In contrast to {@link CompressedSplitLineReader}, which reads at most one line after the end
+ * of the split, all following lines of the file can be read. This is needed to complete the
+ * last graph block of a split, which may span multiple compressed blocks.
+ */
+class BlockCompressedLineReader extends SplitLineReader {
+
+  /**
+   * Decompressed input stream of the split.
+   */
+  private final SplitCompressionInputStream scin;
+
+  /**
+   * True, if the split ended within a record delimiter.
+   */
+  private boolean needAdditionalRecord;
+
+  /**
+   * True, if a line was read after the stream reported the end of the split.
+   */
+  private boolean afterSplit;
+
+  /**
+   * Creates a new line reader using the default record delimiter.
+   *
+   * @param scin decompressed input stream of the split
+   * @param conf hadoop configuration
+   * @throws IOException on failure
+   */
+  BlockCompressedLineReader(SplitCompressionInputStream scin, Configuration conf)
+    throws IOException {
+    super(scin, conf, null);
+    this.scin = scin;
+  }
+
+  @Override
+  protected int fillBuffer(InputStream in, byte[] buffer, boolean inDelimiter)
+    throws IOException {
+    int bytesRead = in.read(buffer);
+    // the next split does not recognize a partial CRLF delimiter as the end of a line
+    if (inDelimiter && bytesRead > 0) {
+      needAdditionalRecord = buffer[0] != '\n';
+    }
+    return bytesRead;
+  }
+
+  @Override
+  public int readLine(Text str, int maxLineLength, int maxBytesToConsume) throws IOException {
+    if (scin.getPos() > scin.getAdjustedEnd()) {
+      afterSplit = true;
+    }
+    return super.readLine(str, maxLineLength, maxBytesToConsume);
+  }
+
+  @Override
+  public boolean needAdditionalRecordAfterSplit() {
+    return !afterSplit && needAdditionalRecord;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.gradoop.flink.io.impl.mapped.MappedFileInputFormat;
+import org.gradoop.flink.io.impl.tlf.TLFConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads graph blocks of local TLF files through memory mapped buffers. The records are equal
+ * to the ones of the {@link TLFRecordReader}: a graph block belongs to the split in which the
+ * line containing its start tag begins and ends before the next start tag.
+ */
+public class MappedTLFInputFormat extends MappedFileInputFormat<Tuple2<LongWritable, Text>>
+  implements ResultTypeQueryable<Tuple2<LongWritable, Text>> {
+
+  /**
+   * Bytes of the tag starting a graph block.
+   */
+  private static final byte[] START_TAG = TLFConstants.START_TAG.getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Line break appended to each line of a graph block.
+   */
+  private static final byte NEW_LINE = '\n';
+
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Buffer collecting the lines of the current graph block.
+   */
+  private transient DataOutputBuffer buffer;
+
+  /**
+   * True, if the last read line is the start tag of the next graph block of the split.
+   */
+  private transient boolean hasPendingStartTag;
+
+  /**
+   * Position of the last read start tag.
+   */
+  private transient long startTagPosition;
+
+  /**
+   * True, if all graph blocks of the split were read.
+   */
+  private boolean finished;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of a TLF file or a directory of TLF files
+   */
+  public MappedTLFInputFormat(Path filePath) {
+    super(filePath);
+  }
+
+  /**
+   * Creates a new input format.
+   *
+   * @param filePath path of a TLF file or a directory of TLF files
+   * @param windowSize maximum size of the mapped windows in bytes
+   */
+  public MappedTLFInputFormat(Path filePath, int windowSize) {
+    super(filePath, windowSize);
+  }
+
+  @Override
+  public void open(FileInputSplit split) throws IOException {
+    super.open(split);
+    buffer = new DataOutputBuffer();
+    hasPendingStartTag = false;
+    finished = false;
+  }
+
+  @Override
+  public boolean reachedEnd() {
+    return finished;
+  }
+
+  @Override
+  public Tuple2<LongWritable, Text> nextRecord(Tuple2<LongWritable, Text> reuse)
+    throws IOException {
+    if (!hasPendingStartTag && !findStartTag()) {
+      return null;
+    }
+    LongWritable key = new LongWritable(startTagPosition);
+    buffer.reset();
+    appendLine();
+    hasPendingStartTag = false;
+
+    // read the graph block until the next start tag, even beyond the end of the split
+    while (true) {
+      long position = getPosition();
+      if (!readLine()) {
+        finished = true;
+        break;
+      }
+      if (isStartTag()) {
+        startTagPosition = position;
+        hasPendingStartTag = position < getSplitEnd();
+        finished = !hasPendingStartTag;
+        break;
+      }
+      appendLine();
+    }
+    Text value = new Text();
+    value.set(buffer.getData(), 0, buffer.getLength());
+    return Tuple2.of(key, value);
+  }
+
+  /**
+   * Reads the lines of the split until a line starting with the start tag is found.
+   *
+   * @return true if a start tag was found within the split
+   * @throws IOException on failure
+   */
+  private boolean findStartTag() throws IOException {
+    while (hasLineInSplit()) {
+      long position = getPosition();
+      if (!readLine()) {
+        break;
+      }
+      if (isStartTag()) {
+        startTagPosition = position;
+        return true;
+      }
+    }
+    finished = true;
+    return false;
+  }
+
+  /**
+   * Checks if the last read line starts with the start tag.
+   *
+   * @return true, if the line starts a new graph block
+   */
+  private boolean isStartTag() {
+    if (getLineLength() < START_TAG.length) {
+      return false;
+    }
+    byte[] bytes = getLine();
+    for (int i = 0; i < START_TAG.length; i++) {
+      if (bytes[i] != START_TAG[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Appends the last read line to the buffer.
+   *
+   * @throws IOException on failure
+   */
+  private void appendLine() throws IOException {
+    buffer.write(getLine(), 0, getLineLength());
+    buffer.write(NEW_LINE);
+  }
+
+  @Override
+  public TypeInformation<Tuple2<LongWritable, Text>> getProducedType() {
+    return TypeInformation.of(new TypeHint<Tuple2<LongWritable, Text>>() { });
+  }
+}
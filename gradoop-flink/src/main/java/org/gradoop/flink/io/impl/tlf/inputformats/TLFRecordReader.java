@@ -15,29 +15,52 @@
  */
 package org.gradoop.flink.io.impl.tlf.inputformats;
 
-import org.apache.commons.io.Charsets;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.Seekable;
 import org.apache.hadoop.io.DataOutputBuffer;
 import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.Decompressor;
+import org.apache.hadoop.io.compress.SplitCompressionInputStream;
+import org.apache.hadoop.io.compress.SplittableCompressionCodec;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.mapreduce.lib.input.SplitLineReader;
 import org.gradoop.flink.io.impl.tlf.TLFConstants;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * TLFRecordReader class to read through a given TLF document to
  * output graph blocks as records which are specified by the start tag and
  * end tag.
+ * <p>
+ * The document is read line by line. A graph block belongs to the split in which the line
+ * containing its start tag begins and ends before the next start tag, which may be located in
+ * one of the following splits. Compressed documents are decompressed on the fly, documents
+ * compressed by a splittable codec (e.g. bzip2) are read in parallel like uncompressed ones.
  */
 public class TLFRecordReader extends RecordReader<LongWritable, Text> {
 
+  /**
+   * Bytes of the tag starting a graph block.
+   */
+  private static final byte[] START_TAG = TLFConstants.START_TAG.getBytes(StandardCharsets.UTF_8);
+
+  /**
+   * Line break appended to each line of a graph block.
+   */
+  private static final byte NEW_LINE = '\n';
+
   /**
    * The start position of the split.
    */
@@ -51,7 +74,52 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
   /**
    * Input stream which reads the data from the split file.
    */
-  private final FSDataInputStream fsin;
+  private final FSDataInputStream fileIn;
+
+  /**
+   * Reads the (decompressed) lines of the split.
+   */
+  private final SplitLineReader in;
+
+  /**
+   * Provides the position in the file, i.e. in the compressed data for compressed files.
+   */
+  private final Seekable filePosition;
+
+  /**
+   * True, if the input is compressed.
+   */
+  private final boolean isCompressedInput;
+
+  /**
+   * Decompressor of compressed input, returned to the pool on close.
+   */
+  private Decompressor decompressor;
+
+  /**
+   * Position of the next line in the uncompressed input.
+   */
+  private long pos;
+
+  /**
+   * The last read line.
+   */
+  private final Text line = new Text();
+
+  /**
+   * True, if {@link #line} contains the start tag of the next graph block of this split.
+   */
+  private boolean hasPendingStartTag;
+
+  /**
+   * Position of the pending start tag.
+   */
+  private long pendingStartTagPosition;
+
+  /**
+   * True, if no further graph block starts within this split.
+   */
+  private boolean finished;
 
   /**
    * Output buffer which writes only needed content.
@@ -68,11 +136,6 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   private Text currentValue;
 
-  /**
-   * The length of the buffer data to be set to the value.
-   */
-  private int valueLength;
-
   /**
    * Constructor for the reader which handles TLF splits and
    * initializes the file input stream.
@@ -83,13 +146,41 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   public TLFRecordReader(FileSplit split, Configuration conf) throws
     IOException {
-    // open the file and seek to the start of the split
-    start = split.getStart();
-    end = start + split.getLength();
+    long splitStart = split.getStart();
+    long splitEnd = splitStart + split.getLength();
     Path file = split.getPath();
     FileSystem fs = file.getFileSystem(conf);
-    fsin = fs.open(split.getPath());
-    fsin.seek(start);
+    fileIn = fs.open(file);
+
+    CompressionCodec codec = new CompressionCodecFactory(conf).getCodec(file);
+    if (codec != null) {
+      isCompressedInput = true;
+      decompressor = CodecPool.getDecompressor(codec);
+      if (codec instanceof SplittableCompressionCodec) {
+        SplitCompressionInputStream cIn = ((SplittableCompressionCodec) codec).createInputStream(
+          fileIn, decompressor, splitStart, splitEnd,
+          SplittableCompressionCodec.READ_MODE.BYBLOCK);
+        in = new BlockCompressedLineReader(cIn, conf);
+        splitStart = cIn.getAdjustedStart();
+        splitEnd = cIn.getAdjustedEnd();
+        filePosition = cIn;
+      } else {
+        in = new SplitLineReader(codec.createInputStream(fileIn, decompressor), conf, null);
+        filePosition = fileIn;
+      }
+    } else {
+      isCompressedInput = false;
+      fileIn.seek(splitStart);
+      in = new SplitLineReader(fileIn, conf, null);
+      filePosition = fileIn;
+    }
+    // the first (partial) line of a split is read by the previous split
+    if (splitStart != 0) {
+      splitStart += in.readLine(new Text(), 0, maxBytesToConsume(splitStart, splitEnd));
+    }
+    start = splitStart;
+    end = splitEnd;
+    pos = splitStart;
   }
 
   /**
@@ -101,69 +192,122 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    * @throws IOException on failure
    */
   private boolean next(LongWritable key, Text value) throws IOException {
-    if (fsin.getPos() < end &&
-      readUntilMatch(TLFConstants.START_TAG.getBytes(Charsets.UTF_8), false)) {
-      try {
-        buffer.write(TLFConstants.START_TAG.getBytes(Charsets.UTF_8));
-        if (readUntilMatch(TLFConstants.END_TAG.getBytes(Charsets.UTF_8), true)) {
-          key.set(fsin.getPos());
-          if (fsin.getPos() != end) {
-            //- end tag because it is the new start tag and shall not be added
-            valueLength = buffer.getLength() - TLFConstants.END_TAG.getBytes(Charsets.UTF_8).length;
-          } else {
-            // in this case there is no new start tag
-            valueLength = buffer.getLength();
-          }
-          //- end tag because it is the new start tag and shall not be added
-          value.set(buffer.getData(), 0, valueLength);
-          //set the buffer to position before end tag of old graph which is
-          // start tag of the new one
-          fsin.seek(fsin.getPos() - TLFConstants.END_TAG.getBytes(Charsets.UTF_8).length);
-          return true;
+    if (!hasPendingStartTag && !findStartTag()) {
+      return false;
+    }
+    key.set(pendingStartTagPosition);
+    buffer.reset();
+    appendLine();
+    hasPendingStartTag = false;
+
+    // read the graph block until the next start tag, even beyond the end of the split
+    boolean owned = !finished && isWithinSplit();
+    while (readLine() > 0) {
+      if (isStartTag()) {
+        if (owned) {
+          hasPendingStartTag = true;
+        } else {
+          finished = true;
         }
-      } finally {
-        buffer.reset();
+        break;
       }
+      appendLine();
+      owned = owned && isWithinSplit();
     }
-    return false;
+    value.set(buffer.getData(), 0, buffer.getLength());
+    return true;
   }
 
   /**
-   * Reads the split and searches for matches with given 'match byte array'.
+   * Reads the lines of the split until a line starting with the start tag is found.
    *
-   * @param match the match byte to be found
-   * @param withinBlock specifies if match is within the graph block
-   * @return true if match was found or the end of file was reached, so
-   * that the current block can be closed
+   * @return true if a start tag was found within the split
    * @throws IOException on failure
    */
-  private boolean readUntilMatch(byte[] match, boolean withinBlock) throws
-    IOException {
-    int i = 0;
-    while (true) {
-      int b = fsin.read();
-      // end of file:
-      if (b == -1) {
-        return true;
-      }
-      // save to buffer:
-      if (withinBlock) {
-        buffer.write(b);
+  private boolean findStartTag() throws IOException {
+    while (!finished && isWithinSplit()) {
+      if (readLine() == 0) {
+        break;
       }
-      // check if we are matching:
-      if (b == match[i]) {
-        i++;
-        if (i >= match.length) {
-          return true;
-        }
-      } else {
-        i = 0;
+      if (isStartTag()) {
+        return true;
       }
-      // see if we have passed the stop point:
-      if (!withinBlock && i == 0 && fsin.getPos() >= end) {
+    }
+    finished = true;
+    return false;
+  }
+
+  /**
+   * Reads the next line into {@link #line} and remembers its position.
+   *
+   * @return number of consumed bytes, 0 at the end of the input
+   * @throws IOException on failure
+   */
+  private int readLine() throws IOException {
+    pendingStartTagPosition = pos;
+    int size = in.readLine(line, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    pos += size;
+    return size;
+  }
+
+  /**
+   * Checks if the next line starts within the split.
+   *
+   * @return true, if the next line belongs to this split
+   * @throws IOException on failure
+   */
+  private boolean isWithinSplit() throws IOException {
+    return getFilePosition() <= end || in.needAdditionalRecordAfterSplit();
+  }
+
+  /**
+   * Checks if the last read line starts with the start tag.
+   *
+   * @return true, if the line starts a new graph block
+   */
+  private boolean isStartTag() {
+    if (line.getLength() < START_TAG.length) {
+      return false;
+    }
+    byte[] bytes = line.getBytes();
+    for (int i = 0; i < START_TAG.length; i++) {
+      if (bytes[i] != START_TAG[i]) {
         return false;
       }
     }
+    return true;
+  }
+
+  /**
+   * Appends the last read line to the buffer.
+   *
+   * @throws IOException on failure
+   */
+  private void appendLine() throws IOException {
+    buffer.write(line.getBytes(), 0, line.getLength());
+    buffer.write(NEW_LINE);
+  }
+
+  /**
+   * Returns the position in the file, i.e. in the compressed data for compressed files.
+   *
+   * @return file position
+   * @throws IOException on failure
+   */
+  private long getFilePosition() throws IOException {
+    return isCompressedInput ? filePosition.getPos() : pos;
+  }
+
+  /**
+   * Returns the maximum number of bytes to consume when skipping the first line of a split.
+   *
+   * @param position current position
+   * @param splitEnd end of the split
+   * @return maximum number of bytes
+   */
+  private int maxBytesToConsume(long position, long splitEnd) {
+    return isCompressedInput ? Integer.MAX_VALUE :
+      (int) Math.max(Math.min(Integer.MAX_VALUE, splitEnd - position), 0);
   }
 
   /**
@@ -173,8 +317,15 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   @Override
   public void close() throws IOException {
-    fsin.close();
-    buffer.close();
+    try {
+      in.close();
+      buffer.close();
+    } finally {
+      if (decompressor != null) {
+        CodecPool.returnDecompressor(decompressor);
+        decompressor = null;
+      }
+    }
   }
 
   /**
@@ -185,7 +336,10 @@ public class TLFRecordReader extends RecordReader<LongWritable, Text> {
    */
   @Override
   public float getProgress() throws IOException {
-    return (fsin.getPos() - start) / (float) (end - start);
+    if (start == end) {
+      return 0.0f;
+    }
+    return Math.min(1.0f, (getFilePosition() - start) / (float) (end - start));
   }
 
   /**
@@ -89,7 +89,7 @@ public interface BaseGraphOperators<
    * @return graph collection containing matching subgraphs
    */
   default GC query(String query) {
-    return query(query, new GraphStatistics(1, 1, 1, 1));
+    return query(query, GraphStatistics.unknown());
   }
 
   /**
@@ -115,13 +115,16 @@ public interface BaseGraphOperators<
    * @return graph collection containing the output of the construct pattern
    */
   default GC query(String query, String constructionPattern) {
-    return query(query, constructionPattern, new GraphStatistics(1, 1, 1, 1));
+    return query(query, constructionPattern, GraphStatistics.unknown());
   }
 
   /**
    * Evaluates the given query using the Cypher query engine. The engine uses default morphism strategies,
    * which is vertex homomorphism and edge isomorphism. The vertex and edge data of the data graph elements
    * is attached to the resulting vertices.
+   * <p>
+   * Statistics written together with the graph by a CSV data sink are available without further I/O via
+   * {@link org.gradoop.flink.io.impl.csv.CSVDataSource#getStatistics()}.
    *
    * @param query           Cypher query
    * @param graphStatistics statistics about the data graph
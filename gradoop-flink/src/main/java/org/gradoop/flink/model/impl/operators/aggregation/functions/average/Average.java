@@ -91,7 +91,7 @@ public interface Average extends AggregateFunction {
     }
     // Convert the two list values to a double.
     // The first was some unknown number type, the second a long.
-    double sum = ((Number) value.get(0).getObject()).doubleValue();
+    double sum = PropertyValueUtils.Numeric.doubleValue(value.get(0));
     long count = value.get(1).getLong();
     if (count < 0) {
       throw new IllegalArgumentException("Invalid number of elements " + count +
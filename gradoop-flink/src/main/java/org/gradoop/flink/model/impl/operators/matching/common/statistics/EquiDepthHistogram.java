@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An equi-depth histogram over the numeric values of a property. Each bucket covers a closed
+ * value range and holds roughly the same number of values. Values that do not fit into a single
+ * bucket, e.g. a very frequent value, may form a bucket on their own.
+ */
+public class EquiDepthHistogram {
+  /**
+   * Buckets ordered by their value ranges.
+   */
+  private final List<Bucket> buckets;
+  /**
+   * Total number of values in the histogram.
+   */
+  private final long count;
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param buckets buckets ordered by their value ranges
+   */
+  public EquiDepthHistogram(List<Bucket> buckets) {
+    this.buckets = new ArrayList<>(buckets);
+    this.count = buckets.stream().mapToLong(Bucket::getCount).sum();
+  }
+
+  /**
+   * Returns the buckets ordered by their value ranges.
+   *
+   * @return buckets
+   */
+  public List<Bucket> getBuckets() {
+    return Collections.unmodifiableList(buckets);
+  }
+
+  /**
+   * Returns the total number of values in the histogram.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Checks if the histogram can estimate comparisons with the given value.
+   *
+   * @param value value to compare with
+   * @return true, iff the value is numeric
+   */
+  public static boolean isSupported(PropertyValue value) {
+    return value != null && value.isNumber();
+  }
+
+  /**
+   * Estimates the number of values smaller than the given value. Inside a bucket, values are
+   * assumed to be distributed uniformly.
+   *
+   * @param value numeric value, see {@link #isSupported(PropertyValue)}
+   * @return estimated number of smaller values
+   */
+  public double estimateLessThan(PropertyValue value) {
+    double v = toDouble(value);
+    double result = 0d;
+    for (Bucket bucket : buckets) {
+      double lower = toDouble(bucket.getLower());
+      double upper = toDouble(bucket.getUpper());
+      if (upper < v) {
+        result += bucket.getCount();
+      } else if (lower < v) {
+        result += bucket.getCount() * (v - lower) / (upper - lower);
+      } else {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Estimates the number of values greater than the given value.
+   *
+   * @param value numeric value, see {@link #isSupported(PropertyValue)}
+   * @return estimated number of greater values
+   */
+  public double estimateGreaterThan(PropertyValue value) {
+    double v = toDouble(value);
+    double result = 0d;
+    for (int i = buckets.size() - 1; i >= 0; i--) {
+      Bucket bucket = buckets.get(i);
+      double lower = toDouble(bucket.getLower());
+      double upper = toDouble(bucket.getUpper());
+      if (lower > v) {
+        result += bucket.getCount();
+      } else if (upper > v) {
+        result += bucket.getCount() * (upper - v) / (upper - lower);
+      } else {
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Converts a numeric property value to double.
+   *
+   * @param value numeric property value
+   * @return double value
+   */
+  private static double toDouble(PropertyValue value) {
+    return ((Number) value.getObject()).doubleValue();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof EquiDepthHistogram && buckets.equals(((EquiDepthHistogram) o).buckets);
+  }
+
+  @Override
+  public int hashCode() {
+    return buckets.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "EquiDepthHistogram" + buckets;
+  }
+
+  /**
+   * A bucket of the histogram covering the closed range between its lower and upper bound.
+   */
+  public static class Bucket {
+    /**
+     * Smallest value in the bucket.
+     */
+    private final PropertyValue lower;
+    /**
+     * Largest value in the bucket.
+     */
+    private final PropertyValue upper;
+    /**
+     * Number of values in the bucket.
+     */
+    private final long count;
+
+    /**
+     * Creates a new bucket.
+     *
+     * @param lower smallest value in the bucket
+     * @param upper largest value in the bucket
+     * @param count number of values in the bucket
+     */
+    public Bucket(PropertyValue lower, PropertyValue upper, long count) {
+      this.lower = lower;
+      this.upper = upper;
+      this.count = count;
+    }
+
+    /**
+     * Returns the smallest value in the bucket.
+     *
+     * @return lower bound
+     */
+    public PropertyValue getLower() {
+      return lower;
+    }
+
+    /**
+     * Returns the largest value in the bucket.
+     *
+     * @return upper bound
+     */
+    public PropertyValue getUpper() {
+      return upper;
+    }
+
+    /**
+     * Returns the number of values in the bucket.
+     *
+     * @return number of values
+     */
+    public long getCount() {
+      return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Bucket)) {
+        return false;
+      }
+      Bucket bucket = (Bucket) o;
+      return count == bucket.count && lower.equals(bucket.lower) && upper.equals(bucket.upper);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(lower, upper, count);
+    }
+
+    @Override
+    public String toString() {
+      return "[" + lower + ", " + upper + "]=" + count;
+    }
+  }
+}
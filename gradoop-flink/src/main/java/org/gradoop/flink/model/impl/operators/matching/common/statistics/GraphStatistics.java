@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 
 import java.util.Collections;
@@ -84,6 +85,26 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Histograms of numeric edge property values of a given label - property name pair
+   */
+  private Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel;
+  /**
+   * Histograms of numeric vertex property values of a given label - property name pair
+   */
+  private Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel;
+  /**
+   * Most common edge property values and their frequency of a given label - property name pair
+   */
+  private Map<String, Map<String, Map<PropertyValue, Long>>> edgeMostCommonValuesByLabel;
+  /**
+   * Most common vertex property values and their frequency of a given label - property name pair
+   */
+  private Map<String, Map<String, Map<PropertyValue, Long>>> vertexMostCommonValuesByLabel;
+  /**
+   * True, if the statistics are placeholders and do not describe the graph.
+   */
+  private boolean unknown;
 
   /**
    * Constructor using basic statistics.
@@ -140,6 +161,55 @@ public class GraphStatistics {
     Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
     Map<String, Long> distinctEdgeProperties,
     Map<String, Long> distinctVertexProperties) {
+    this(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
+      edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
+      distinctSourceVertexCount, distinctTargetVertexCount,
+      distinctSourceVertexCountByEdgeLabel, distinctTargetVertexCountByEdgeLabel,
+      distinctEdgePropertiesByLabel, distinctVertexPropertiesByLabel,
+      distinctEdgeProperties, distinctVertexProperties,
+      Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap(),
+      Collections.emptyMap());
+  }
+
+  /**
+   * Constructor including property value distributions.
+   *
+   * @param vertexCount number of vertices
+   * @param edgeCount number of edges
+   * @param vertexCountByLabel number of vertices by label
+   * @param edgeCountByLabel number of edges by label
+   * @param edgeCountBySourceVertexAndEdgeLabel number of edges by source vertex and edge label
+   * @param edgeCountByTargetVertexAndEdgeLabel number of edges by target vertex and edge label
+   * @param distinctSourceVertexCount number of distinct source vertices
+   * @param distinctTargetVertexCount number of distinct target vertices
+   * @param distinctSourceVertexCountByEdgeLabel number of distinct source vertices by edge label
+   * @param distinctTargetVertexCountByEdgeLabel number of distinct target vertices by edge label
+   * @param distinctEdgePropertiesByLabel {@code (label,property) -> distinct values}
+   * @param distinctVertexPropertiesByLabel {@code (label,property) -> distinct values}
+   * @param distinctEdgeProperties {@code (edge property) -> distinct values}
+   * @param distinctVertexProperties {@code (vertex property) -> distinct values}
+   * @param edgePropertyHistogramsByLabel {@code (label,property) -> histogram}
+   * @param vertexPropertyHistogramsByLabel {@code (label,property) -> histogram}
+   * @param edgeMostCommonValuesByLabel {@code (label,property) -> (value -> frequency)}
+   * @param vertexMostCommonValuesByLabel {@code (label,property) -> (value -> frequency)}
+   */
+  GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexCountByLabel,
+    Map<String, Long> edgeCountByLabel,
+    Map<String, Map<String, Long>> edgeCountBySourceVertexAndEdgeLabel,
+    Map<String, Map<String, Long>> edgeCountByTargetVertexAndEdgeLabel,
+    long distinctSourceVertexCount, long distinctTargetVertexCount,
+    Map<String, Long> distinctSourceVertexCountByEdgeLabel,
+    Map<String, Long> distinctTargetVertexCountByEdgeLabel,
+    Map<String, Map<String, Long>> distinctEdgePropertiesByLabel,
+    Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
+    Map<String, Long> distinctEdgeProperties,
+    Map<String, Long> distinctVertexProperties,
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel,
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel,
+    Map<String, Map<String, Map<PropertyValue, Long>>> edgeMostCommonValuesByLabel,
+    Map<String, Map<String, Map<PropertyValue, Long>>> vertexMostCommonValuesByLabel) {
     this.vertexCount = vertexCount;
     this.edgeCount = edgeCount;
     this.vertexCountByLabel = vertexCountByLabel;
@@ -154,6 +224,32 @@ public class GraphStatistics {
     this.distinctVertexPropertiesByLabel = distinctVertexPropertiesByLabel;
     this.distinctEdgeProperties = distinctEdgeProperties;
     this.distinctVertexProperties = distinctVertexProperties;
+    this.edgePropertyHistogramsByLabel = edgePropertyHistogramsByLabel;
+    this.vertexPropertyHistogramsByLabel = vertexPropertyHistogramsByLabel;
+    this.edgeMostCommonValuesByLabel = edgeMostCommonValuesByLabel;
+    this.vertexMostCommonValuesByLabel = vertexMostCommonValuesByLabel;
+  }
+
+  /**
+   * Creates placeholder statistics used if no statistics about the graph are available. The
+   * counts are set to one, cost based decisions that need real cardinalities should check
+   * {@link #isUnknown()} instead of relying on them.
+   *
+   * @return placeholder statistics
+   */
+  public static GraphStatistics unknown() {
+    GraphStatistics statistics = new GraphStatistics(1, 1, 1, 1);
+    statistics.unknown = true;
+    return statistics;
+  }
+
+  /**
+   * Returns true, if the statistics are placeholders, see {@link #unknown()}.
+   *
+   * @return true, iff no statistics about the graph are available
+   */
+  public boolean isUnknown() {
+    return unknown;
   }
 
   /**
@@ -306,6 +402,57 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the histogram of the numeric values of a vertex label property name pair.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return histogram or {@code null} if there is none
+   */
+  public EquiDepthHistogram getVertexPropertyHistogram(String vertexLabel, String propertyName) {
+    return vertexPropertyHistogramsByLabel.getOrDefault(vertexLabel, Collections.emptyMap())
+      .get(propertyName);
+  }
+
+  /**
+   * Returns the histogram of the numeric values of an edge label property name pair.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return histogram or {@code null} if there is none
+   */
+  public EquiDepthHistogram getEdgePropertyHistogram(String edgeLabel, String propertyName) {
+    return edgePropertyHistogramsByLabel.getOrDefault(edgeLabel, Collections.emptyMap())
+      .get(propertyName);
+  }
+
+  /**
+   * Returns the most common values and their frequency of a vertex label property name pair<br>
+   * Eg {@code (Person, city) -> {Leipzig=2, Dresden=3}}
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return most common values, empty if there are none
+   */
+  public Map<PropertyValue, Long> getVertexMostCommonValues(String vertexLabel,
+    String propertyName) {
+    return vertexMostCommonValuesByLabel.getOrDefault(vertexLabel, Collections.emptyMap())
+      .getOrDefault(propertyName, Collections.emptyMap());
+  }
+
+  /**
+   * Returns the most common values and their frequency of an edge label property name pair<br>
+   * Eg {@code (knows, since) -> {2014=4}}
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return most common values, empty if there are none
+   */
+  public Map<PropertyValue, Long> getEdgeMostCommonValues(String edgeLabel, String propertyName) {
+    return edgeMostCommonValuesByLabel.getOrDefault(edgeLabel, Collections.emptyMap())
+      .getOrDefault(propertyName, Collections.emptyMap());
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +484,14 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n vertexPropertyHistogramsByLabel="))
+      .append(vertexPropertyHistogramsByLabel);
+    sb.append(String.format(",%n edgePropertyHistogramsByLabel="))
+      .append(edgePropertyHistogramsByLabel);
+    sb.append(String.format(",%n vertexMostCommonValuesByLabel="))
+      .append(vertexMostCommonValuesByLabel);
+    sb.append(String.format(",%n edgeMostCommonValuesByLabel="))
+      .append(edgeMostCommonValuesByLabel);
 
     sb.append(String.format("%n}"));
     return sb.toString();
@@ -18,12 +18,14 @@ package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -34,7 +36,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Files
+   * containing property value histograms and most common values are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -43,8 +46,8 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    */
   public static GraphStatistics read(String inputPath, Configuration configuration)
       throws IOException {
-    FileSystem fs = FileSystem.get(configuration);
     Path root = new Path(inputPath);
+    FileSystem fs = root.getFileSystem(configuration);
     Charset charset = StandardCharsets.UTF_8;
 
     long vertexCount;
@@ -136,11 +139,48 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel = new HashMap<>();
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgePropertyHistogramsByLabel = readHistograms(br.lines());
+      }
+    }
+
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel =
+      new HashMap<>();
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexPropertyHistogramsByLabel = readHistograms(br.lines());
+      }
+    }
+
+    Map<String, Map<String, Map<PropertyValue, Long>>> edgeMostCommonValuesByLabel =
+      new HashMap<>();
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgeMostCommonValuesByLabel = readMostCommonValues(br.lines());
+      }
+    }
+
+    Map<String, Map<String, Map<PropertyValue, Long>>> vertexMostCommonValuesByLabel =
+      new HashMap<>();
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexMostCommonValuesByLabel = readMostCommonValues(br.lines());
+      }
+    }
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel,
+      edgeMostCommonValuesByLabel, vertexMostCommonValuesByLabel);
   }
 }
@@ -15,6 +15,8 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -22,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -32,7 +35,8 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Files
+   * containing property value histograms and most common values are optional.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -99,6 +103,37 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    Map<String, Map<String, EquiDepthHistogram>> edgePropertyHistogramsByLabel = new HashMap<>();
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL));
+    if (Files.exists(p)) {
+      edgePropertyHistogramsByLabel = readHistograms(Files.lines(p, charset));
+    }
+
+    Map<String, Map<String, EquiDepthHistogram>> vertexPropertyHistogramsByLabel =
+      new HashMap<>();
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL));
+    if (Files.exists(p)) {
+      vertexPropertyHistogramsByLabel = readHistograms(Files.lines(p, charset));
+    }
+
+    Map<String, Map<String, Map<PropertyValue, Long>>> edgeMostCommonValuesByLabel =
+      new HashMap<>();
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL));
+    if (Files.exists(p)) {
+      edgeMostCommonValuesByLabel = readMostCommonValues(Files.lines(p, charset));
+    }
+
+    Map<String, Map<String, Map<PropertyValue, Long>>> vertexMostCommonValuesByLabel =
+      new HashMap<>();
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL));
+    if (Files.exists(p)) {
+      vertexMostCommonValuesByLabel = readMostCommonValues(Files.lines(p, charset));
+    }
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -106,7 +141,9 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyHistogramsByLabel, vertexPropertyHistogramsByLabel,
+      edgeMostCommonValuesByLabel, vertexMostCommonValuesByLabel);
   }
 
 }
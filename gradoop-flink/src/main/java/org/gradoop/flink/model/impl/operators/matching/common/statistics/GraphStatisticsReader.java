@@ -15,8 +15,14 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -195,6 +201,81 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name, the index of a histogram bucket, its
+   * encoded lower and upper bound and the number of values in that bucket, e.g.
+   *
+   * BOF
+   * knows,since,0,AgAAB90=,AgAAB90=,3
+   * knows,since,1,AgAAB94=,AgAAB98=,7
+   * EOF
+   *
+   * The file is optional, see {@link #encodePropertyValue(PropertyValue)} for the encoding.
+   */
+  public static final String FILE_EDGE_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "edge_property_histograms_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the index of a histogram bucket, its
+   * encoded lower and upper bound and the number of values in that bucket, e.g.
+   *
+   * BOF
+   * Person,age,0,AgAAABQ=,AgAAAB4=,3
+   * Person,age,1,AgAAACM=,AgAAACg=,3
+   * EOF
+   *
+   * The file is optional, see {@link #encodePropertyValue(PropertyValue)} for the encoding.
+   */
+  public static final String FILE_VERTEX_PROPERTY_HISTOGRAMS_BY_LABEL =
+    "vertex_property_histograms_by_label";
+
+  /**
+   * Each line contains the edge label, a property name, an encoded property value and its
+   * frequency, e.g.
+   *
+   * BOF
+   * knows,since,AgAAB94=,4
+   * EOF
+   *
+   * The file is optional, see {@link #encodePropertyValue(PropertyValue)} for the encoding.
+   */
+  public static final String FILE_EDGE_MOST_COMMON_VALUES_BY_LABEL =
+    "edge_most_common_values_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, an encoded property value and its
+   * frequency, e.g.
+   *
+   * BOF
+   * Person,city,BkRyZXNkZW4=,3
+   * EOF
+   *
+   * The file is optional, see {@link #encodePropertyValue(PropertyValue)} for the encoding.
+   */
+  public static final String FILE_VERTEX_MOST_COMMON_VALUES_BY_LABEL =
+    "vertex_most_common_values_by_label";
+
+  /**
+   * Encodes a property value as Base64 string of its raw bytes. The encoding preserves the type
+   * of the value and does not contain the {@link #TOKEN_SEPARATOR}.
+   *
+   * @param value property value
+   * @return encoded property value
+   */
+  public static String encodePropertyValue(PropertyValue value) {
+    return Base64.getEncoder().encodeToString(value.getRawBytes());
+  }
+
+  /**
+   * Decodes a property value encoded by {@link #encodePropertyValue(PropertyValue)}.
+   *
+   * @param encoded encoded property value
+   * @return property value
+   */
+  public static PropertyValue decodePropertyValue(String encoded) {
+    return PropertyValue.fromRawBytes(Base64.getDecoder().decode(encoded));
+  }
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -251,4 +332,62 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads histograms grouped by label and property name from the given file.
+   *
+   * @param lines stream of lines in the file
+   * @return histograms by label and property name
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, EquiDepthHistogram>> readHistograms(Stream<String> lines)
+      throws IOException {
+
+    final Map<String, Map<String, List<String[]>>> buckets = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> buckets
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .computeIfAbsent(tokens[1], property -> new ArrayList<>())
+        .add(tokens));
+
+    final Map<String, Map<String, EquiDepthHistogram>> mapping = new HashMap<>();
+
+    buckets.forEach((label, byProperty) -> byProperty.forEach((property, rows) -> {
+      rows.sort(Comparator.comparingInt(tokens -> Integer.parseInt(tokens[2])));
+      List<EquiDepthHistogram.Bucket> histogram = new ArrayList<>(rows.size());
+      for (String[] tokens : rows) {
+        histogram.add(new EquiDepthHistogram.Bucket(
+          decodePropertyValue(tokens[3]), decodePropertyValue(tokens[4]),
+          Long.parseLong(tokens[5])));
+      }
+      mapping.computeIfAbsent(label, l -> new HashMap<>())
+        .put(property, new EquiDepthHistogram(histogram));
+    }));
+
+    return mapping;
+  }
+
+  /**
+   * Reads the most common property values grouped by label and property name from the given file.
+   *
+   * @param lines stream of lines in the file
+   * @return most common values and their frequency by label and property name
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, Map<PropertyValue, Long>>> readMostCommonValues(
+    Stream<String> lines) throws IOException {
+
+    final Map<String, Map<String, Map<PropertyValue, Long>>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR))
+      .forEach(tokens -> mapping
+        .computeIfAbsent(tokens[0], label -> new HashMap<>())
+        .computeIfAbsent(tokens[1], property -> new HashMap<>())
+        .put(decodePropertyValue(tokens[2]), Long.parseLong(tokens[3])));
+
+    return mapping;
+  }
 }
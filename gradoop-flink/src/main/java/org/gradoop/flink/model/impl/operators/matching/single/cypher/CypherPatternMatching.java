@@ -33,6 +33,8 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.Print
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic.DynamicProgrammingPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
@@ -79,6 +81,10 @@ public class CypherPatternMatching<
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Query planner to use
+   */
+  private final PlannerStrategy plannerStrategy;
 
   /**
    * Instantiates a new operator.
@@ -106,11 +112,30 @@ public class CypherPatternMatching<
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      PlannerStrategy.GREEDY);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerStrategy     query planner to use
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerStrategy plannerStrategy) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.plannerStrategy = plannerStrategy;
   }
 
   @Override
@@ -122,9 +147,12 @@ public class CypherPatternMatching<
   protected GC executeForPattern(LG graph) {
     // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    GreedyPlanner<G, V, E, LG, GC> planner =
+      plannerStrategy == PlannerStrategy.DYNAMIC_PROGRAMMING ?
+        new DynamicProgrammingPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy,
+          edgeStrategy) :
+        new GreedyPlanner<>(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    QueryPlan plan = planner.plan().getQueryPlan();
 
     // Query execution
     DataSet<Embedding> embeddings = plan.execute();
@@ -18,23 +18,35 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.
 import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandMode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ReverseEdgeEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.AdoptEmptyPaths;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateEmptyExpandEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.CreateExpandEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractFrontierKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractKeyedCandidateEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeFrontiers;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.PostProcessExpandEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ReverseEdgeWithTiePoint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.functions.ProjectEmbeddingElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Expands an vertex along the edges. The number of hops can be specified via upper and lower bound
  * The input embedding is appended by 2 Entries, the first one represents the path (edge, vertex,
  * edge, vertex, ..., edge), the second one the end vertex
+ *
+ * If the end vertex is already bound by the input and the upper bound is finite, the paths can be
+ * grown from both vertices and joined in the middle (see {@link ExpandMode#BIDIRECTIONAL}). The
+ * paths grown from the end vertex are shared by all input embeddings with the same end vertex.
  */
 public abstract class ExpandEmbeddings implements PhysicalOperator {
   /**
@@ -81,6 +93,10 @@ public abstract class ExpandEmbeddings implements PhysicalOperator {
    * candidate edges with extracted map key
    */
   protected DataSet<EdgeWithTiePoint> candidateEdgeTuples;
+  /**
+   * Specifies how the paths are grown
+   */
+  protected ExpandMode expandMode = ExpandMode.UNIDIRECTIONAL;
 
   /**
    * Operator name used for Flink operator description
@@ -128,18 +144,96 @@ public abstract class ExpandEmbeddings implements PhysicalOperator {
   public DataSet<Embedding> evaluate() {
     DataSet<ExpandEmbedding> initialWorkingSet = preProcess();
 
-    DataSet<ExpandEmbedding> iterationResults = iterate(initialWorkingSet);
+    DataSet<ExpandEmbedding> iterationResults = isBidirectional() ?
+      iterateBidirectional(initialWorkingSet) :
+      iterate(initialWorkingSet, candidateEdgeTuples, lowerBound, upperBound,
+        new MergeExpandEmbeddings(distinctVertexColumns, distinctEdgeColumns, closingColumn));
 
     return postProcess(iterationResults);
   }
 
+  /**
+   * Sets the mode in which the paths are grown. The bidirectional mode is only applied if the end
+   * vertex is bound by the input and the upper bound is finite, otherwise paths are grown from the
+   * start vertex.
+   *
+   * @param expandMode expand mode
+   */
+  public void setExpandMode(ExpandMode expandMode) {
+    this.expandMode = expandMode;
+  }
+
   /**
    * Runs the iterative traversal
    *
+   * @param initialWorkingSet the initial paths (length 1) which are used as starting points
+   * @param edges edges to grow the paths with, keyed by their source
+   * @param minHops minimum path length, shorter paths may but do not have to be returned
+   * @param maxHops maximum path length
+   * @param mergeFunction function growing a path by an edge
+   * @return set of paths produced by the iteration (length 1..maxHops)
+   */
+  protected abstract DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet,
+    DataSet<EdgeWithTiePoint> edges, int minHops, int maxHops,
+    MergeExpandEmbeddings mergeFunction);
+
+  /**
+   * Checks if the paths can be grown from both of their end points.
+   *
+   * @return true, if the bidirectional expansion is applicable
+   */
+  private boolean isBidirectional() {
+    return expandMode == ExpandMode.BIDIRECTIONAL && closingColumn >= 0 &&
+      upperBound > 1 && upperBound < Integer.MAX_VALUE;
+  }
+
+  /**
+   * Grows paths of up to half the upper bound from the start and the end vertex and joins them at
+   * their last vertex.
+   *
    * @param initialWorkingSet the initial edges which are used as starting points for the traversal
-   * @return set of paths produced by the iteration (length 1..upperBound)
+   * @return set of paths between start and end vertex (length 1..upperBound)
    */
-  protected abstract DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet);
+  private DataSet<ExpandEmbedding> iterateBidirectional(
+    DataSet<ExpandEmbedding> initialWorkingSet) {
+
+    DataSet<ExpandEmbedding> forward = iterate(initialWorkingSet, candidateEdgeTuples, 1,
+      (upperBound + 1) / 2,
+      new MergeExpandEmbeddings(distinctVertexColumns, distinctEdgeColumns, closingColumn));
+
+    // paths are grown backwards once per end vertex, edges are checked after the join
+    DataSet<Embedding> endVertices = input
+      .map(new ProjectEmbeddingElements(Collections.singletonMap(closingColumn, 0)))
+      .name(getName() + " - Extract end vertices")
+      .distinct(new ExtractExpandColumn(0))
+      .name(getName() + " - Distinct end vertices");
+
+    DataSet<EdgeWithTiePoint> reversedEdgeTuples = candidateEdgeTuples
+      .map(new ReverseEdgeWithTiePoint())
+      .name(getName() + " - Reverse edge tuples")
+      .partitionByHash(0)
+      .name(getName() + " - Partition reversed edge tuples");
+
+    List<Integer> backwardDistinctVertices = distinctVertexColumns.isEmpty() ?
+      Collections.emptyList() : Collections.singletonList(0);
+
+    DataSet<ExpandEmbedding> backward = iterate(
+      endVertices.join(reversedEdgeTuples, joinHint)
+        .where(new ExtractExpandColumn(0)).equalTo(0)
+        .with(new CreateExpandEmbedding(backwardDistinctVertices, Collections.emptyList(), -1))
+        .name(getName() + " - Initial backward expansion"),
+      reversedEdgeTuples, 1, upperBound / 2,
+      new MergeExpandEmbeddings(backwardDistinctVertices, Collections.emptyList(), -1))
+      .union(endVertices
+        .map(new CreateEmptyExpandEmbedding(0))
+        .name(getName() + " - Create empty backward paths"));
+
+    return forward
+      .join(backward)
+      .where(new ExtractFrontierKey(closingColumn)).equalTo(new ExtractFrontierKey(0))
+      .with(new MergeFrontiers(distinctVertexColumns, distinctEdgeColumns))
+      .name(getName() + " - Merge frontiers");
+  }
 
   /**
    * creates the initial working set from the edge candidates
@@ -22,7 +22,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.Expan
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.FilterPreviousExpandEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeExpandEmbeddings;
-
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
 
 import java.util.List;
@@ -104,22 +104,24 @@ public class ExpandEmbeddingsBulk extends ExpandEmbeddings {
 
 
   @Override
-  protected DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet) {
+  protected DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet,
+    DataSet<EdgeWithTiePoint> edges, int minHops, int maxHops,
+    MergeExpandEmbeddings mergeFunction) {
+
+    if (maxHops == 1) {
+      return initialWorkingSet;
+    }
 
     IterativeDataSet<ExpandEmbedding> iteration = initialWorkingSet
-      .iterate(upperBound - 1)
+      .iterate(maxHops - 1)
       .name(getName());
 
     DataSet<ExpandEmbedding> nextWorkingSet = iteration
       .filter(new FilterPreviousExpandEmbedding())
       .name(getName() + " - FilterRecent")
-      .join(candidateEdgeTuples, joinHint)
+      .join(edges, joinHint)
         .where(2).equalTo(0)
-        .with(new MergeExpandEmbeddings(
-          distinctVertexColumns,
-          distinctEdgeColumns,
-          closingColumn
-        ))
+        .with(mergeFunction)
       .name(getName() + " - Expansion");
 
     DataSet<ExpandEmbedding> solutionSet = nextWorkingSet.union(iteration);
@@ -127,4 +129,3 @@ public class ExpandEmbeddingsBulk extends ExpandEmbeddings {
     return iteration.closeWith(solutionSet, nextWorkingSet);
   }
 }
-
@@ -21,6 +21,7 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.MergeExpandEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.EdgeWithTiePoint;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
 
 import java.util.List;
@@ -101,29 +102,29 @@ public class ExpandEmbeddingsForLoop extends ExpandEmbeddings {
   }
 
   @Override
-  protected DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet) {
+  protected DataSet<ExpandEmbedding> iterate(DataSet<ExpandEmbedding> initialWorkingSet,
+    DataSet<EdgeWithTiePoint> edges, int minHops, int maxHops,
+    MergeExpandEmbeddings mergeFunction) {
     List<DataSet<ExpandEmbedding>> intermediateResults = Lists.newArrayList(initialWorkingSet);
 
-    for (int i = 1; i < upperBound; i++) {
+    for (int i = 1; i < maxHops; i++) {
       DataSet<ExpandEmbedding> nextResult =
         intermediateResults.get(i - 1)
-          .join(candidateEdgeTuples, joinHint)
+          .join(edges, joinHint)
             .where(2).equalTo(0)
-            .with(new MergeExpandEmbeddings(distinctVertexColumns, distinctEdgeColumns,
-              closingColumn))
+            .with(mergeFunction)
             .name(getName() + " - Expansion " + i);
 
       intermediateResults.add(nextResult);
     }
 
-    int startIndex = Math.max(lowerBound - 1, 0);
+    int startIndex = Math.max(minHops - 1, 0);
     DataSet<ExpandEmbedding> result = intermediateResults.get(startIndex);
 
-    for (int i = startIndex + 1; i < upperBound; i++) {
+    for (int i = startIndex + 1; i < maxHops; i++) {
       result = result.union(intermediateResults.get(i));
     }
 
     return result;
   }
 }
-
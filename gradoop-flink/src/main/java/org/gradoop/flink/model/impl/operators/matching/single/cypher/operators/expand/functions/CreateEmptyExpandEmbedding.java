@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+/**
+ * Creates an expand embedding with an empty path that ends at the vertex stored in the given
+ * column of the input embedding
+ * {@code (a) -> ((a),(),a)}
+ */
+public class CreateEmptyExpandEmbedding implements MapFunction<Embedding, ExpandEmbedding> {
+  /**
+   * Column of the vertex the path ends at
+   */
+  private final int column;
+
+  /**
+   * Creates a new map function
+   *
+   * @param column column of the vertex the path ends at
+   */
+  public CreateEmptyExpandEmbedding(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public ExpandEmbedding map(Embedding embedding) throws Exception {
+    return new ExpandEmbedding(embedding, embedding.getId(column));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+/**
+ * Extracts the path end vertex stored in the base of an expand embedding together with the last
+ * vertex of the expanded path
+ */
+public class ExtractFrontierKey
+  implements KeySelector<ExpandEmbedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Base column holding the vertex the whole path ends at
+   */
+  private final int endColumn;
+
+  /**
+   * Creates a new key selector
+   *
+   * @param endColumn base column holding the vertex the whole path ends at
+   */
+  public ExtractFrontierKey(int endColumn) {
+    this.endColumn = endColumn;
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> getKey(ExpandEmbedding value) throws Exception {
+    return new Tuple2<>(value.getBase().getId(endColumn), value.getEnd());
+  }
+}
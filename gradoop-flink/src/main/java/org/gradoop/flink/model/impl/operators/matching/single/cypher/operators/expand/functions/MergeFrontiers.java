@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.RichFlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Combines a path grown from the start vertex with a path grown backwards from the end vertex
+ * that meet at the same vertex.
+ * {@code (base,(a,b,c),d) x ((g),(f,e),d) -> (base,(a,b,c,d,e,f),g)}
+ *
+ * Every path is assembled from exactly one pair of partial paths: the forward part has the same
+ * length as the backward part or is one hop longer. Distinctiveness conditions are checked on the
+ * whole path, since both parts have only been checked in isolation.
+ */
+public class MergeFrontiers
+  extends RichFlatJoinFunction<ExpandEmbedding, ExpandEmbedding, ExpandEmbedding> {
+
+  /**
+   * Holds the index of all base vertex columns that should be distinct
+   */
+  private final List<Integer> distinctVertices;
+  /**
+   * Holds the index of all base edge columns that should be distinct
+   */
+  private final List<Integer> distinctEdges;
+
+  /**
+   * Create a new join function
+   *
+   * @param distinctVertices indices of distinct base vertex columns
+   * @param distinctEdges indices of distinct base edge columns
+   */
+  public MergeFrontiers(List<Integer> distinctVertices, List<Integer> distinctEdges) {
+    this.distinctVertices = distinctVertices;
+    this.distinctEdges = distinctEdges;
+  }
+
+  @Override
+  public void join(ExpandEmbedding forward, ExpandEmbedding backward,
+    Collector<ExpandEmbedding> out) throws Exception {
+
+    int forwardLength = (forward.pathSize() + 1) / 2;
+    int backwardLength = (backward.pathSize() + 1) / 2;
+    if (forwardLength != backwardLength && forwardLength != backwardLength + 1) {
+      return;
+    }
+
+    GradoopId[] path = ArrayUtils.add(forward.getPath(), forward.getEnd());
+    if (backwardLength > 0) {
+      GradoopId[] backwardPath = backward.getPath().clone();
+      ArrayUtils.reverse(backwardPath);
+      path = ArrayUtils.addAll(path, backwardPath);
+      path = ArrayUtils.add(path, backward.getBase().getId(0));
+    }
+
+    if (checkDistinctiveness(forward.getBase(), path)) {
+      out.collect(new ExpandEmbedding(forward.getBase().copy(), path));
+    }
+  }
+
+  /**
+   * Checks the distinct criteria for the combined path
+   *
+   * @param base the base part of the expansion
+   * @param path combined path including its end vertex
+   * @return true if distinct criteria hold for the combined path
+   */
+  private boolean checkDistinctiveness(Embedding base, GradoopId[] path) {
+    if (!distinctVertices.isEmpty()) {
+      Set<GradoopId> vertices = new HashSet<>(base.getIdsAsList(distinctVertices));
+      for (int i = 1; i < path.length - 1; i += 2) {
+        if (!vertices.add(path[i])) {
+          return false;
+        }
+      }
+    }
+
+    if (!distinctEdges.isEmpty()) {
+      Set<GradoopId> edges = new HashSet<>(base.getIdsAsList(distinctEdges));
+      for (int i = 0; i < path.length - 1; i += 2) {
+        if (!edges.add(path[i])) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+}
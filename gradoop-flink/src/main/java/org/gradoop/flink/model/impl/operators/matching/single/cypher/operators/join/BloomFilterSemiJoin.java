@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.BuildBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.CombineBloomFilters;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.FilterByBloomFilter;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKeyBloomFilter;
+
+import java.util.List;
+
+/**
+ * Reduces the input of a join to the embeddings that may find a join partner on the other side.
+ *
+ * A {@link JoinKeyBloomFilter} over the join keys of the other (build) side is built per
+ * partition, combined into a single filter and broadcast to a filter on the input (probe) side.
+ * Since the filter is applied before the input is shipped to the join, embeddings without a join
+ * partner are removed before the shuffle. Due to false positives, the result may still contain
+ * embeddings without a join partner, the join itself is therefore still required.
+ */
+public class BloomFilterSemiJoin implements PhysicalOperator {
+  /**
+   * Default false positive probability of the filter
+   */
+  public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+  /**
+   * Embeddings to filter
+   */
+  private final DataSet<Embedding> probe;
+  /**
+   * Embeddings to build the filter from
+   */
+  private final DataSet<Embedding> build;
+  /**
+   * Join columns of the probe side
+   */
+  private final List<Integer> probeJoinColumns;
+  /**
+   * Join columns of the build side
+   */
+  private final List<Integer> buildJoinColumns;
+  /**
+   * Number of bits of the filter
+   */
+  private final long numBits;
+  /**
+   * Number of hash functions applied per key
+   */
+  private final int numHashes;
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Creates a new operator using the {@link #DEFAULT_FALSE_POSITIVE_PROBABILITY}.
+   *
+   * @param probe embeddings to filter
+   * @param build embeddings to build the filter from
+   * @param probeJoinColumns join columns of the probe side
+   * @param buildJoinColumns join columns of the build side
+   * @param expectedKeys estimated number of embeddings on the build side
+   */
+  public BloomFilterSemiJoin(DataSet<Embedding> probe, DataSet<Embedding> build,
+    List<Integer> probeJoinColumns, List<Integer> buildJoinColumns, long expectedKeys) {
+    this(probe, build, probeJoinColumns, buildJoinColumns, expectedKeys,
+      DEFAULT_FALSE_POSITIVE_PROBABILITY);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param probe embeddings to filter
+   * @param build embeddings to build the filter from
+   * @param probeJoinColumns join columns of the probe side
+   * @param buildJoinColumns join columns of the build side
+   * @param expectedKeys estimated number of embeddings on the build side
+   * @param falsePositiveProbability false positive probability of the filter
+   */
+  public BloomFilterSemiJoin(DataSet<Embedding> probe, DataSet<Embedding> build,
+    List<Integer> probeJoinColumns, List<Integer> buildJoinColumns, long expectedKeys,
+    double falsePositiveProbability) {
+    this.probe = probe;
+    this.build = build;
+    this.probeJoinColumns = probeJoinColumns;
+    this.buildJoinColumns = buildJoinColumns;
+    this.numBits = JoinKeyBloomFilter.optimalNumBits(expectedKeys, falsePositiveProbability);
+    this.numHashes = JoinKeyBloomFilter.optimalNumHashes(expectedKeys, numBits);
+    this.setName("BloomFilterSemiJoin");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<long[]> filter = build
+      .mapPartition(new BuildBloomFilter(buildJoinColumns, numBits, numHashes))
+      .name(getName() + ".Build")
+      .reduce(new CombineBloomFilters())
+      .name(getName() + ".Combine");
+
+    return probe
+      .filter(new FilterByBloomFilter(probeJoinColumns, numHashes))
+      .withBroadcastSet(filter, FilterByBloomFilter.BLOOM_FILTER)
+      .name(getName());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions.ExtractExpandColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.BuildAdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExpandCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractAdjacency;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractCandidatesColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.InitCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.IntersectCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.EmbeddingWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Joins vertex and edge embeddings of a (cyclic) query graph component using a worst-case optimal
+ * multiway join (generic join).
+ * <p>
+ * Instead of joining one edge at a time, the operator binds one vertex at a time in the given
+ * order. For each partial embedding, the candidates of the next vertex are computed by
+ * intersecting the sorted adjacency lists of all bound vertices that are connected to it. The
+ * adjacency lists are grouped by vertex id, so they are partitioned like the partial embeddings
+ * they are joined with. The intersection is computed by {@link IntersectCandidates}. Afterwards,
+ * the candidates are filtered by joining the vertex embeddings of that vertex. Once all vertices
+ * are bound, the edges are attached by joining on both of their end points.
+ * <p>
+ * The resulting embeddings contain the vertices in the given order, followed by the edges in the
+ * given order. The properties of the vertices are followed by the properties of the edges.
+ * <p>
+ * Each vertex except the first one needs to be connected to at least one of its predecessors.
+ * Loops are not supported.
+ */
+public class MultiwayJoinEmbeddings implements PhysicalOperator {
+  /**
+   * Vertex embeddings in the order they are bound
+   */
+  private final List<DataSet<Embedding>> vertices;
+  /**
+   * Edge embeddings
+   */
+  private final List<DataSet<Embedding>> edges;
+  /**
+   * Position of the source vertex of each edge in {@link #vertices}
+   */
+  private final List<Integer> sourcePositions;
+  /**
+   * Position of the target vertex of each edge in {@link #vertices}
+   */
+  private final List<Integer> targetPositions;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Operator name
+   */
+  private String name;
+
+  /**
+   * Instantiates a new multiway join operator.
+   *
+   * @param vertices vertex embeddings in the order the vertices are bound
+   * @param edges edge embeddings
+   * @param sourcePositions position of the source vertex of each edge in the vertex list
+   * @param targetPositions position of the target vertex of each edge in the vertex list
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public MultiwayJoinEmbeddings(List<DataSet<Embedding>> vertices, List<DataSet<Embedding>> edges,
+    List<Integer> sourcePositions, List<Integer> targetPositions,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    if (vertices.isEmpty()) {
+      throw new IllegalArgumentException("At least one vertex is required");
+    }
+    if (edges.size() != sourcePositions.size() || edges.size() != targetPositions.size()) {
+      throw new IllegalArgumentException("Source and target positions required for each edge");
+    }
+    for (int i = 0; i < edges.size(); i++) {
+      if (sourcePositions.get(i).equals(targetPositions.get(i))) {
+        throw new IllegalArgumentException("Loops are not supported: edge " + i);
+      }
+    }
+    for (int position = 1; position < vertices.size(); position++) {
+      if (getIncidentEdges(position, sourcePositions, targetPositions).isEmpty()) {
+        throw new IllegalArgumentException(
+          "Vertex " + position + " is not connected to any previous vertex");
+      }
+    }
+    this.vertices = vertices;
+    this.edges = edges;
+    this.sourcePositions = sourcePositions;
+    this.targetPositions = targetPositions;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+    this.setName("MultiwayJoinEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    DataSet<Embedding> embeddings = vertices.get(0);
+
+    for (int position = 1; position < vertices.size(); position++) {
+      DataSet<EmbeddingWithCandidates> candidates = null;
+      for (int edge : getIncidentEdges(position, sourcePositions, targetPositions)) {
+        int boundPosition = Math.min(sourcePositions.get(edge), targetPositions.get(edge));
+        DataSet<AdjacencyList> adjacency = getAdjacency(edge);
+        if (candidates == null) {
+          candidates = embeddings
+            .join(adjacency)
+            .where(new ExtractExpandColumn(boundPosition)).equalTo(0)
+            .with(new InitCandidates())
+            .name(getName() + " - Init candidates of vertex " + position);
+        } else {
+          candidates = candidates
+            .join(adjacency)
+            .where(new ExtractCandidatesColumn(boundPosition)).equalTo(0)
+            .with(new IntersectCandidates())
+            .name(getName() + " - Intersect candidates of vertex " + position);
+        }
+      }
+
+      DataSet<Embedding> expanded = candidates
+        .flatMap(new ExpandCandidates(vertexStrategy == MatchStrategy.ISOMORPHISM))
+        .name(getName() + " - Bind vertex " + position);
+
+      JoinEmbeddings vertexJoin = new JoinEmbeddings(expanded, vertices.get(position), 1,
+        position, 0);
+      vertexJoin.setName(getName() + " - Filter vertex " + position);
+      embeddings = vertexJoin.evaluate();
+    }
+
+    List<Integer> distinctEdgeColumnsRight = edgeStrategy == MatchStrategy.ISOMORPHISM ?
+      Collections.singletonList(1) : Collections.emptyList();
+
+    for (int edge = 0; edge < edges.size(); edge++) {
+      int edgeColumns = vertices.size() + edge;
+      List<Integer> distinctEdgeColumnsLeft = edgeStrategy == MatchStrategy.ISOMORPHISM ?
+        IntStream.range(vertices.size(), edgeColumns).boxed().collect(Collectors.toList()) :
+        Collections.emptyList();
+
+      JoinEmbeddings edgeJoin = new JoinEmbeddings(embeddings, edges.get(edge), 3,
+        Arrays.asList(sourcePositions.get(edge), targetPositions.get(edge)),
+        Arrays.asList(0, 2),
+        Collections.emptyList(), Collections.emptyList(),
+        distinctEdgeColumnsLeft, distinctEdgeColumnsRight);
+      edgeJoin.setName(getName() + " - Attach edge " + edge);
+      embeddings = edgeJoin.evaluate();
+    }
+
+    return embeddings;
+  }
+
+  /**
+   * Builds the sorted adjacency lists of the given edge. The lists are keyed by the end point
+   * that is bound first and contain the end points that are bound later.
+   *
+   * @param edge edge index
+   * @return adjacency lists keyed by vertex id
+   */
+  private DataSet<AdjacencyList> getAdjacency(int edge) {
+    boolean forward = sourcePositions.get(edge) < targetPositions.get(edge);
+    return edges.get(edge)
+      .map(new ExtractAdjacency(forward ? 0 : 2, forward ? 2 : 0))
+      .name(getName() + " - Extract adjacency of edge " + edge)
+      .groupBy(0)
+      .sortGroup(1, Order.ASCENDING)
+      .reduceGroup(new BuildAdjacencyList())
+      .name(getName() + " - Build adjacency of edge " + edge);
+  }
+
+  /**
+   * Returns the edges that connect the vertex at the given position with its predecessors.
+   *
+   * @param position vertex position
+   * @param sourcePositions position of the source vertex of each edge
+   * @param targetPositions position of the target vertex of each edge
+   * @return indices of the incident edges
+   */
+  private static List<Integer> getIncidentEdges(int position, List<Integer> sourcePositions,
+    List<Integer> targetPositions) {
+    return IntStream.range(0, sourcePositions.size())
+      .filter(i -> Math.max(sourcePositions.get(i), targetPositions.get(i)) == position)
+      .boxed()
+      .collect(Collectors.toList());
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
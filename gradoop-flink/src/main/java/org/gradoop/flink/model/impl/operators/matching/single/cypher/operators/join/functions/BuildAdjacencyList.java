@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.AdjacencyList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the neighbors of a vertex into an {@link AdjacencyList}.
+ * <p>
+ * The group is expected to be sorted by neighbor id, duplicate neighbors (i.e. parallel edges)
+ * are stored once.
+ */
+public class BuildAdjacencyList
+  implements GroupReduceFunction<Tuple2<GradoopId, GradoopId>, AdjacencyList> {
+
+  @Override
+  public void reduce(Iterable<Tuple2<GradoopId, GradoopId>> values,
+    Collector<AdjacencyList> out) throws Exception {
+    GradoopId vertexId = null;
+    GradoopId previous = null;
+    List<GradoopId> neighbors = new ArrayList<>();
+    for (Tuple2<GradoopId, GradoopId> value : values) {
+      vertexId = value.f0;
+      if (!value.f1.equals(previous)) {
+        neighbors.add(value.f1);
+        previous = value.f1;
+      }
+    }
+    out.collect(new AdjacencyList(vertexId, neighbors.toArray(new GradoopId[0])));
+  }
+}
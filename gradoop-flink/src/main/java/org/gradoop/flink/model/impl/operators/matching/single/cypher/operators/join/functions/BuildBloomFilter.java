@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKeyBloomFilter;
+
+import java.util.List;
+
+/**
+ * Adds the join keys of all embeddings in a partition to a {@link JoinKeyBloomFilter} and emits
+ * the bits of that filter. Empty partitions do not emit a filter.
+ */
+public class BuildBloomFilter implements MapPartitionFunction<Embedding, long[]> {
+  /**
+   * Join columns
+   */
+  private final List<Integer> columns;
+  /**
+   * Number of bits of the filter
+   */
+  private final long numBits;
+  /**
+   * Number of hash functions applied per key
+   */
+  private final int numHashes;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param columns join columns
+   * @param numBits number of bits of the filter
+   * @param numHashes number of hash functions applied per key
+   */
+  public BuildBloomFilter(List<Integer> columns, long numBits, int numHashes) {
+    this.columns = columns;
+    this.numBits = numBits;
+    this.numHashes = numHashes;
+  }
+
+  @Override
+  public void mapPartition(Iterable<Embedding> embeddings, Collector<long[]> out) {
+    JoinKeyBloomFilter filter = null;
+    for (Embedding embedding : embeddings) {
+      if (filter == null) {
+        filter = new JoinKeyBloomFilter(numBits, numHashes);
+      }
+      filter.add(embedding, columns);
+    }
+    if (filter != null) {
+      out.collect(filter.getBits());
+    }
+  }
+}
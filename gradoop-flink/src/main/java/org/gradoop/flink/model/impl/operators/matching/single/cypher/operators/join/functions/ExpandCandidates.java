@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.EmbeddingWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Binds the next vertex of a partial embedding by appending each of its candidates.
+ * <p>
+ * The partial embeddings are expected to contain vertex entries only. Under vertex isomorphism,
+ * candidates that are already bound to another column are skipped.
+ */
+public class ExpandCandidates implements FlatMapFunction<EmbeddingWithCandidates, Embedding> {
+  /**
+   * Flag, if vertex distinctiveness needs to be checked.
+   */
+  private final boolean checkDistinctVertices;
+  /**
+   * Reduce object instantiations.
+   */
+  private final Embedding reuseEmbedding;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param checkDistinctVertices true, if the appended vertex must not be bound already
+   */
+  public ExpandCandidates(boolean checkDistinctVertices) {
+    this.checkDistinctVertices = checkDistinctVertices;
+    this.reuseEmbedding = new Embedding();
+  }
+
+  @Override
+  public void flatMap(EmbeddingWithCandidates value, Collector<Embedding> out) throws Exception {
+    Embedding embedding = value.getEmbedding();
+    for (GradoopId candidate : value.getCandidates()) {
+      if (checkDistinctVertices && isBound(embedding, candidate)) {
+        continue;
+      }
+      reuseEmbedding.setIdData(embedding.getIdData());
+      reuseEmbedding.setPropertyData(embedding.getPropertyData());
+      reuseEmbedding.setIdListData(embedding.getIdListData());
+      reuseEmbedding.add(candidate);
+      out.collect(reuseEmbedding);
+    }
+  }
+
+  /**
+   * Checks if the given vertex id is already contained in the embedding.
+   *
+   * @param embedding partial embedding
+   * @param id vertex id
+   * @return true, if the id is bound to a column of the embedding
+   */
+  private boolean isBound(Embedding embedding, GradoopId id) {
+    for (int column = 0; column < embedding.size(); column++) {
+      if (embedding.getId(column).equals(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
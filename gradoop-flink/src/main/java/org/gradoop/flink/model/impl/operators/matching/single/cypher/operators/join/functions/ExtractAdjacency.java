@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Extracts a pair of adjacent vertex ids from an edge embedding.
+ * <p>
+ * {@code f0 -> id of the vertex that is bound first}<br>
+ * {@code f1 -> id of its neighbor}
+ */
+public class ExtractAdjacency implements MapFunction<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column of the vertex that is bound first
+   */
+  private final int vertexColumn;
+  /**
+   * Column of the neighbor
+   */
+  private final int neighborColumn;
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates a new UDF instance.
+   *
+   * @param vertexColumn column of the vertex that is bound first
+   * @param neighborColumn column of its neighbor
+   */
+  public ExtractAdjacency(int vertexColumn, int neighborColumn) {
+    this.vertexColumn = vertexColumn;
+    this.neighborColumn = neighborColumn;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(Embedding edge) throws Exception {
+    reuseTuple.f0 = edge.getId(vertexColumn);
+    reuseTuple.f1 = edge.getId(neighborColumn);
+    return reuseTuple;
+  }
+}
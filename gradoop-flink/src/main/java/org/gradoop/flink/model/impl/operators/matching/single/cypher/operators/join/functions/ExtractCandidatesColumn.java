@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.EmbeddingWithCandidates;
+
+/**
+ * Extracts a join key from an id stored in the partial embedding of an
+ * {@link EmbeddingWithCandidates}. The id is referenced via its column index.
+ */
+public class ExtractCandidatesColumn implements KeySelector<EmbeddingWithCandidates, GradoopId> {
+  /**
+   * Column that holds the id which will be used as key
+   */
+  private final int column;
+
+  /**
+   * Creates the key selector
+   *
+   * @param column column that holds the id which will be used as key
+   */
+  public ExtractCandidatesColumn(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public GradoopId getKey(EmbeddingWithCandidates value) throws Exception {
+    return value.getEmbedding().getId(column);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.configuration.Configuration;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKeyBloomFilter;
+
+import java.util.List;
+
+/**
+ * Keeps embeddings whose join key might be contained in the broadcast Bloom filter. If no filter
+ * has been broadcast, the other side of the join is empty and all embeddings are removed.
+ */
+public class FilterByBloomFilter extends RichFilterFunction<Embedding> {
+  /**
+   * Name of the broadcast variable containing the bits of the filter
+   */
+  public static final String BLOOM_FILTER = "bloomFilter";
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Join columns
+   */
+  private final List<Integer> columns;
+  /**
+   * Number of hash functions applied per key
+   */
+  private final int numHashes;
+  /**
+   * Broadcast filter, {@code null} if the other side is empty
+   */
+  private JoinKeyBloomFilter filter;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param columns join columns
+   * @param numHashes number of hash functions applied per key
+   */
+  public FilterByBloomFilter(List<Integer> columns, int numHashes) {
+    this.columns = columns;
+    this.numHashes = numHashes;
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<long[]> bits = getRuntimeContext().getBroadcastVariable(BLOOM_FILTER);
+    filter = bits.isEmpty() ? null : new JoinKeyBloomFilter(bits.get(0), numHashes);
+  }
+
+  @Override
+  public boolean filter(Embedding embedding) {
+    return filter != null && filter.mightContain(embedding, columns);
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.EmbeddingWithCandidates;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Uses the neighbors of a bound vertex as initial candidates for the next vertex to bind.
+ */
+public class InitCandidates
+  implements JoinFunction<Embedding, AdjacencyList, EmbeddingWithCandidates> {
+
+  @Override
+  public EmbeddingWithCandidates join(Embedding embedding, AdjacencyList adjacencyList)
+    throws Exception {
+    return new EmbeddingWithCandidates(embedding, adjacencyList.getNeighbors());
+  }
+}
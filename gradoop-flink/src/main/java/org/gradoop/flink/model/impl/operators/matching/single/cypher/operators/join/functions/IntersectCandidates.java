@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.AdjacencyList;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples.EmbeddingWithCandidates;
+
+import java.util.Arrays;
+
+/**
+ * Intersects the candidates of a partial embedding with the neighbors of another bound vertex.
+ * <p>
+ * Both inputs are sorted, the intersection iterates the smaller one and seeks in the larger one
+ * using exponential search (leapfrog intersection). Its costs are therefore bounded by the size
+ * of the smaller input. Partial embeddings without remaining candidates are dropped.
+ */
+public class IntersectCandidates implements
+  FlatJoinFunction<EmbeddingWithCandidates, AdjacencyList, EmbeddingWithCandidates> {
+
+  @Override
+  public void join(EmbeddingWithCandidates embedding, AdjacencyList adjacencyList,
+    Collector<EmbeddingWithCandidates> out) throws Exception {
+    GradoopId[] candidates = intersect(embedding.getCandidates(), adjacencyList.getNeighbors());
+    if (candidates.length > 0) {
+      embedding.f1 = candidates;
+      out.collect(embedding);
+    }
+  }
+
+  /**
+   * Computes the intersection of two sorted arrays of distinct ids.
+   *
+   * @param left sorted ids
+   * @param right sorted ids
+   * @return sorted ids contained in both inputs
+   */
+  static GradoopId[] intersect(GradoopId[] left, GradoopId[] right) {
+    GradoopId[] smaller = left.length <= right.length ? left : right;
+    GradoopId[] larger = smaller == left ? right : left;
+
+    GradoopId[] result = new GradoopId[smaller.length];
+    int count = 0;
+    int position = 0;
+    for (GradoopId id : smaller) {
+      position = seek(larger, position, id);
+      if (position == larger.length) {
+        break;
+      }
+      if (larger[position].equals(id)) {
+        result[count++] = id;
+        position++;
+      }
+    }
+    return count == result.length ? result : Arrays.copyOf(result, count);
+  }
+
+  /**
+   * Returns the position of the first id that is not smaller than the given id, starting at the
+   * given position. The range is narrowed by doubling the step width before it is searched
+   * binary.
+   *
+   * @param ids sorted ids
+   * @param from position to start at
+   * @param id id to seek
+   * @return position of the first id not smaller than the given one or the array length
+   */
+  static int seek(GradoopId[] ids, int from, GradoopId id) {
+    int low = from;
+    int high = from;
+    int step = 1;
+    while (high < ids.length && ids[high].compareTo(id) < 0) {
+      low = high + 1;
+      high = from + step;
+      step <<= 1;
+    }
+    high = Math.min(high, ids.length);
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ids[middle].compareTo(id) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
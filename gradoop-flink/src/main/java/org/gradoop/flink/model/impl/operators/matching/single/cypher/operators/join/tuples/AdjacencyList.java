@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Represents the neighbors of a vertex regarding a single query edge.
+ * <p>
+ * {@code f0 -> vertex id}<br>
+ * {@code f1 -> distinct neighbor ids in ascending order}
+ */
+public class AdjacencyList extends Tuple2<GradoopId, GradoopId[]> {
+
+  /**
+   * Creates an empty Object
+   */
+  public AdjacencyList() {
+  }
+
+  /**
+   * Creates a new adjacency list.
+   *
+   * @param vertexId vertex id
+   * @param neighbors distinct neighbor ids in ascending order
+   */
+  public AdjacencyList(GradoopId vertexId, GradoopId[] neighbors) {
+    super(vertexId, neighbors);
+  }
+
+  /**
+   * Get vertex id
+   * @return vertex id
+   */
+  public GradoopId getVertexId() {
+    return f0;
+  }
+
+  /**
+   * Get neighbor ids in ascending order
+   * @return neighbor ids
+   */
+  public GradoopId[] getNeighbors() {
+    return f1;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Represents a partial embedding together with the candidates for the next vertex to bind.
+ * <p>
+ * {@code f0 -> partial embedding}<br>
+ * {@code f1 -> candidate vertex ids in ascending order}
+ */
+public class EmbeddingWithCandidates extends Tuple2<Embedding, GradoopId[]> {
+
+  /**
+   * Creates an empty Object
+   */
+  public EmbeddingWithCandidates() {
+  }
+
+  /**
+   * Creates a new partial embedding with candidates.
+   *
+   * @param embedding partial embedding
+   * @param candidates candidate vertex ids in ascending order
+   */
+  public EmbeddingWithCandidates(Embedding embedding, GradoopId[] candidates) {
+    super(embedding, candidates);
+  }
+
+  /**
+   * Get partial embedding
+   * @return partial embedding
+   */
+  public Embedding getEmbedding() {
+    return f0;
+  }
+
+  /**
+   * Get candidate vertex ids in ascending order
+   * @return candidate vertex ids
+   */
+  public GradoopId[] getCandidates() {
+    return f1;
+  }
+}
@@ -15,19 +15,41 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Map;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
  */
 class FilterEstimator extends Estimator {
+  /**
+   * Selectivity of an equality predicate if there are no statistics about the property.
+   */
+  static final double DEFAULT_EQUALITY_SELECTIVITY = 0.1;
+  /**
+   * Selectivity of a range predicate if there is no histogram of the property.
+   */
+  static final double DEFAULT_RANGE_SELECTIVITY = 1d / 3;
+  /**
+   * Property key used by the query handler to express label predicates.
+   */
+  private static final String LABEL_KEY = "__label__";
   /**
    * The non-filtered cardinality of the leaf node.
    */
@@ -96,11 +118,211 @@ class FilterEstimator extends Estimator {
   }
 
   /**
-   * Updates the selectivity based on the given predicates.
+   * Updates the selectivity based on the given predicates. The predicates of a CNF element are
+   * assumed to be independent, i.e. the element selectivity is {@code 1 - prod(1 - s_i)} and the
+   * selectivities of all elements are multiplied.
    *
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement element : predicates.getPredicates()) {
+      double notSelected = 1d;
+      for (ComparisonExpression comparison : element.getPredicates()) {
+        notSelected *= 1d - estimateSelectivity(comparison);
+      }
+      selectivity *= 1d - notSelected;
+    }
+  }
+
+  /**
+   * Estimates the selectivity of a single comparison using the property value statistics of the
+   * compared variables. Label predicates are already covered by the cardinality of the variable.
+   *
+   * @param comparison comparison
+   * @return estimated selectivity between 0 and 1
+   */
+  private double estimateSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    Comparator comparator = comparison.getComparator();
+
+    if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      QueryComparable tmp = lhs;
+      lhs = rhs;
+      rhs = tmp;
+      comparator = flip(comparator);
+    }
+    if (!(lhs instanceof PropertySelectorComparable)) {
+      return 1d;
+    }
+    PropertySelectorComparable property = (PropertySelectorComparable) lhs;
+    if (property.getPropertyKey().equals(LABEL_KEY)) {
+      return 1d;
+    }
+
+    if (rhs instanceof LiteralComparable) {
+      PropertyValue literal = PropertyValue.create(((LiteralComparable) rhs).getValue());
+      return estimateLiteralSelectivity(property, comparator, literal);
+    }
+    if (rhs instanceof PropertySelectorComparable &&
+      !((PropertySelectorComparable) rhs).getPropertyKey().equals(LABEL_KEY)) {
+      if (comparator == Comparator.EQ) {
+        long distinctValues = Math.max(getDistinctValues(property),
+          getDistinctValues((PropertySelectorComparable) rhs));
+        return distinctValues > 0 ? 1d / distinctValues : DEFAULT_EQUALITY_SELECTIVITY;
+      }
+      return comparator == Comparator.NEQ ? 1d : DEFAULT_RANGE_SELECTIVITY;
+    }
+    return 1d;
+  }
+
+  /**
+   * Estimates the selectivity of a comparison between a property and a literal.
+   *
+   * @param property property selector
+   * @param comparator comparator with the property on the left side
+   * @param literal literal value
+   * @return estimated selectivity between 0 and 1
+   */
+  private double estimateLiteralSelectivity(PropertySelectorComparable property,
+    Comparator comparator, PropertyValue literal) {
+    switch (comparator) {
+    case EQ:
+      return estimateEquality(property, literal);
+    case NEQ:
+      return 1d - estimateEquality(property, literal);
+    case LT:
+    case LTE:
+    case GT:
+    case GTE:
+      EquiDepthHistogram histogram = getHistogram(property);
+      if (histogram == null || !EquiDepthHistogram.isSupported(literal)) {
+        return DEFAULT_RANGE_SELECTIVITY;
+      }
+      double elements = getVariableCardinality(property.getVariable());
+      double count = comparator == Comparator.LT || comparator == Comparator.LTE ?
+        histogram.estimateLessThan(literal) : histogram.estimateGreaterThan(literal);
+      if (comparator == Comparator.LTE || comparator == Comparator.GTE) {
+        count += estimateEquality(property, literal) * elements;
+      }
+      return clamp(count / elements);
+    default:
+      return 1d;
+    }
+  }
+
+  /**
+   * Estimates the selectivity of an equality comparison between a property and a literal. Most
+   * common values are looked up directly, the remaining values are assumed to be uniformly
+   * distributed.
+   *
+   * @param property property selector
+   * @param literal literal value
+   * @return estimated selectivity between 0 and 1
+   */
+  private double estimateEquality(PropertySelectorComparable property, PropertyValue literal) {
+    String variable = property.getVariable();
+    String key = property.getPropertyKey();
+    boolean isVertex = isVertex(variable);
+    String label = getLabel(variable, isVertex);
+    Map<PropertyValue, Long> mostCommonValues = isVertex ?
+      getGraphStatistics().getVertexMostCommonValues(label, key) :
+      getGraphStatistics().getEdgeMostCommonValues(label, key);
+    long distinctValues = getDistinctValues(property);
+
+    if (mostCommonValues.isEmpty() && distinctValues == 0) {
+      return DEFAULT_EQUALITY_SELECTIVITY;
+    }
+
+    double elements = getVariableCardinality(variable);
+    if (mostCommonValues.containsKey(literal)) {
+      return clamp(mostCommonValues.get(literal) / elements);
+    }
+    double commonFraction = mostCommonValues.values().stream().mapToLong(Long::longValue).sum() /
+      elements;
+    long remainingValues = Math.max(1, distinctValues - mostCommonValues.size());
+    return clamp((1d - commonFraction) / remainingValues);
+  }
+
+  /**
+   * Returns the histogram of the selected property.
+   *
+   * @param property property selector
+   * @return histogram or {@code null} if there is none
+   */
+  private EquiDepthHistogram getHistogram(PropertySelectorComparable property) {
+    String variable = property.getVariable();
+    boolean isVertex = isVertex(variable);
+    String label = getLabel(variable, isVertex);
+    return isVertex ?
+      getGraphStatistics().getVertexPropertyHistogram(label, property.getPropertyKey()) :
+      getGraphStatistics().getEdgePropertyHistogram(label, property.getPropertyKey());
+  }
+
+  /**
+   * Returns the number of distinct values of the selected property.
+   *
+   * @param property property selector
+   * @return number of distinct values, 0 if unknown
+   */
+  private long getDistinctValues(PropertySelectorComparable property) {
+    String variable = property.getVariable();
+    boolean isVertex = isVertex(variable);
+    String label = getLabel(variable, isVertex);
+    return isVertex ?
+      getGraphStatistics().getDistinctVertexProperties(label, property.getPropertyKey()) :
+      getGraphStatistics().getDistinctEdgeProperties(label, property.getPropertyKey());
+  }
+
+  /**
+   * Returns the non-filtered cardinality of the given variable.
+   *
+   * @param variable query variable
+   * @return estimated cardinality, at least 1
+   */
+  private double getVariableCardinality(String variable) {
+    boolean isVertex = isVertex(variable);
+    return Math.max(1L, getCardinality(getLabel(variable, isVertex), isVertex));
+  }
+
+  /**
+   * Checks if the given variable maps to a vertex.
+   *
+   * @param variable query variable
+   * @return true, iff the variable maps to a vertex
+   */
+  private boolean isVertex(String variable) {
+    return getQueryHandler().getVertexByVariable(variable) != null;
+  }
+
+  /**
+   * Returns the comparator resulting from swapping both sides of a comparison.
+   *
+   * @param comparator comparator
+   * @return flipped comparator
+   */
+  private static Comparator flip(Comparator comparator) {
+    switch (comparator) {
+    case LT:
+      return Comparator.GT;
+    case LTE:
+      return Comparator.GTE;
+    case GT:
+      return Comparator.LT;
+    case GTE:
+      return Comparator.LTE;
+    default:
+      return comparator;
+    }
+  }
+
+  /**
+   * Limits the given selectivity to {@code [0, 1]}.
+   *
+   * @param selectivity selectivity
+   * @return limited selectivity
+   */
+  private static double clamp(double selectivity) {
+    return Math.min(1d, Math.max(0d, selectivity));
   }
 }
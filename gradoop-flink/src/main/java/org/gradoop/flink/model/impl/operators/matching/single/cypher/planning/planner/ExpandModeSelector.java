@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandMode;
+
+/**
+ * Decides whether the paths of a variable length expansion between two bound vertices are grown
+ * from both vertices by comparing the estimated number of partial paths.
+ *
+ * <ul>
+ *   <li>Growing from the start vertex keeps one partial path per input embedding and path of
+ *   length {@code 1..upperBound}.</li>
+ *   <li>Growing from both vertices keeps one partial path per input embedding and path of length
+ *   {@code 1..ceil(upperBound / 2)} plus one per distinct end vertex and path of length
+ *   {@code 0..floor(upperBound / 2)}.</li>
+ * </ul>
+ *
+ * The number of paths of length {@code k} starting at a vertex is estimated by {@code d^k}, where
+ * {@code d} is the average number of candidate edges per vertex. Small expansions are always grown
+ * from the start vertex, since the additional operators do not pay off.
+ */
+public class ExpandModeSelector {
+  /**
+   * Default minimum number of partial paths kept when growing from the start vertex.
+   */
+  public static final double DEFAULT_MIN_FRONTIER_SIZE = 10_000d;
+  /**
+   * Minimum number of partial paths kept when growing from the start vertex.
+   */
+  private final double minFrontierSize;
+
+  /**
+   * Creates a new selector using the default threshold.
+   */
+  public ExpandModeSelector() {
+    this(DEFAULT_MIN_FRONTIER_SIZE);
+  }
+
+  /**
+   * Creates a new selector.
+   *
+   * @param minFrontierSize minimum number of partial paths kept when growing from the start vertex
+   */
+  public ExpandModeSelector(double minFrontierSize) {
+    this.minFrontierSize = minFrontierSize;
+  }
+
+  /**
+   * Selects the mode of an expansion whose end vertex is bound by the input embeddings.
+   *
+   * @param inputCardinality estimated number of input embeddings
+   * @param edgeCardinality estimated number of candidate edges
+   * @param vertexCount number of vertices in the graph
+   * @param upperBound maximum path length, {@link Integer#MAX_VALUE} if unbounded
+   * @return expand mode
+   */
+  public ExpandMode select(long inputCardinality, long edgeCardinality, long vertexCount,
+    int upperBound) {
+    if (upperBound < 2 || upperBound == Integer.MAX_VALUE) {
+      return ExpandMode.UNIDIRECTIONAL;
+    }
+    double degree = (double) edgeCardinality / Math.max(vertexCount, 1L);
+    long endVertices = Math.min(inputCardinality, Math.max(vertexCount, 1L));
+
+    double unidirectional = inputCardinality * paths(degree, 1, upperBound);
+    if (unidirectional < minFrontierSize) {
+      return ExpandMode.UNIDIRECTIONAL;
+    }
+    double bidirectional = inputCardinality * paths(degree, 1, (upperBound + 1) / 2) +
+      endVertices * paths(degree, 0, upperBound / 2);
+
+    return bidirectional < unidirectional ? ExpandMode.BIDIRECTIONAL : ExpandMode.UNIDIRECTIONAL;
+  }
+
+  /**
+   * Estimates the number of paths starting at a single vertex.
+   *
+   * @param degree average number of candidate edges per vertex
+   * @param minLength minimum path length
+   * @param maxLength maximum path length
+   * @return estimated number of paths
+   */
+  private static double paths(double degree, int minLength, int maxLength) {
+    double paths = 0d;
+    for (int length = minLength; length <= maxLength; length++) {
+      paths += Math.pow(degree, length);
+    }
+    return paths;
+  }
+}
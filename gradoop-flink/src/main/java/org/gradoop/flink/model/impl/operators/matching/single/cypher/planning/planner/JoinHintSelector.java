@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+
+/**
+ * Selects the physical join strategy of a join between two embedding data sets from their
+ * estimated cardinalities.
+ *
+ * <ul>
+ *   <li>The smaller side is broadcast if it does not exceed the maximum broadcast cardinality
+ *   and is either tiny or sending it to every parallel instance is cheaper than repartitioning
+ *   both sides. If the parallelism is unknown, only tiny sides are broadcast.</li>
+ *   <li>Otherwise both sides are repartitioned and the smaller side is used to build a hash table
+ *   if it is considerably smaller than the other side.</li>
+ *   <li>Sides of similar size are joined using a sort-merge join which does not need to hold one
+ *   of the sides in memory.</li>
+ * </ul>
+ */
+public class JoinHintSelector {
+  /**
+   * Default maximum number of embeddings that are broadcast.
+   */
+  public static final long DEFAULT_MAX_BROADCAST_CARDINALITY = 100_000L;
+  /**
+   * Default minimum ratio between the larger and the smaller side for a hash join.
+   */
+  public static final double DEFAULT_HASH_RATIO = 2.0;
+  /**
+   * Inputs up to this number of embeddings are broadcast regardless of the parallelism.
+   */
+  private static final long TINY_CARDINALITY = 1_000L;
+  /**
+   * Number of parallel instances the smaller side is sent to when broadcasting, values smaller
+   * than one denote an unknown parallelism.
+   */
+  private final int parallelism;
+  /**
+   * Maximum number of embeddings that are broadcast.
+   */
+  private final long maxBroadcastCardinality;
+  /**
+   * Minimum ratio between the larger and the smaller side for a hash join.
+   */
+  private final double hashRatio;
+
+  /**
+   * Creates a new selector using the default thresholds.
+   *
+   * @param parallelism parallelism of the join, values smaller than one denote an unknown parallelism
+   */
+  public JoinHintSelector(int parallelism) {
+    this(parallelism, DEFAULT_MAX_BROADCAST_CARDINALITY, DEFAULT_HASH_RATIO);
+  }
+
+  /**
+   * Creates a new selector.
+   *
+   * @param parallelism parallelism of the join, values smaller than one denote an unknown parallelism
+   * @param maxBroadcastCardinality maximum number of embeddings that are broadcast
+   * @param hashRatio minimum ratio between the larger and the smaller side for a hash join
+   */
+  public JoinHintSelector(int parallelism, long maxBroadcastCardinality, double hashRatio) {
+    this.parallelism = parallelism;
+    this.maxBroadcastCardinality = maxBroadcastCardinality;
+    this.hashRatio = hashRatio;
+  }
+
+  /**
+   * Selects the join hint for joining a left (first) and a right (second) input.
+   *
+   * @param leftCardinality estimated cardinality of the left input
+   * @param rightCardinality estimated cardinality of the right input
+   * @return join hint
+   */
+  public JoinHint select(long leftCardinality, long rightCardinality) {
+    boolean leftSmaller = leftCardinality <= rightCardinality;
+    long small = Math.min(leftCardinality, rightCardinality);
+    long large = Math.max(leftCardinality, rightCardinality);
+
+    // broadcasting ships the small side p times, repartitioning ships both sides once
+    boolean cheaperThanRepartition = parallelism > 0 && small * (parallelism - 1) <= large;
+    if (small <= maxBroadcastCardinality &&
+      (small <= TINY_CARDINALITY || cheaperThanRepartition)) {
+      return leftSmaller ? JoinHint.BROADCAST_HASH_FIRST : JoinHint.BROADCAST_HASH_SECOND;
+    }
+    if (large >= small * hashRatio) {
+      return leftSmaller ? JoinHint.REPARTITION_HASH_FIRST : JoinHint.REPARTITION_HASH_SECOND;
+    }
+    return JoinHint.REPARTITION_SORT_MERGE;
+  }
+}
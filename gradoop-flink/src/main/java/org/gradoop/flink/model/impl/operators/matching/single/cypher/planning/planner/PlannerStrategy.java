@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+/**
+ * Used to select the query planner of the Cypher query engine.
+ */
+public enum PlannerStrategy {
+  /**
+   * Iteratively joins the cheapest partial plans, see
+   * {@link org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner}.
+   */
+  GREEDY,
+  /**
+   * Enumerates connected sub-patterns bottom up and keeps the cheapest plans per sub-pattern, see
+   * {@link org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic.DynamicProgrammingPlanner}.
+   */
+  DYNAMIC_PROGRAMMING
+}
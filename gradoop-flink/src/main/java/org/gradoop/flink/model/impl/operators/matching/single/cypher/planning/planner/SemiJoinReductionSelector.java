@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction;
+
+/**
+ * Decides whether the larger input of a join is reduced by a Bloom filter built from the join keys
+ * of the smaller input before both inputs are shuffled.
+ *
+ * <ul>
+ *   <li>The reduction is skipped if the smaller input is broadcast, because the larger input is
+ *   not shipped at all, or if the larger input is too small to benefit from it.</li>
+ *   <li>The smaller input must not exceed the maximum number of filter keys, so that the filter
+ *   stays compact enough to be broadcast.</li>
+ *   <li>The estimated fraction of the larger input that finds a join partner must not exceed the
+ *   maximum selectivity. It is bounded by the ratio between the estimated join cardinality and
+ *   the cardinality of the larger input.</li>
+ * </ul>
+ */
+public class SemiJoinReductionSelector {
+  /**
+   * Default maximum fraction of the larger input that is expected to pass the filter.
+   */
+  public static final double DEFAULT_MAX_SELECTIVITY = 0.5;
+  /**
+   * Default maximum number of embeddings the filter is built from.
+   */
+  public static final long DEFAULT_MAX_FILTER_KEYS = 10_000_000L;
+  /**
+   * Default minimum number of embeddings in the larger input.
+   */
+  public static final long DEFAULT_MIN_PROBE_CARDINALITY = 10_000L;
+  /**
+   * Maximum fraction of the larger input that is expected to pass the filter.
+   */
+  private final double maxSelectivity;
+  /**
+   * Maximum number of embeddings the filter is built from.
+   */
+  private final long maxFilterKeys;
+  /**
+   * Minimum number of embeddings in the larger input.
+   */
+  private final long minProbeCardinality;
+
+  /**
+   * Creates a new selector using the default thresholds.
+   */
+  public SemiJoinReductionSelector() {
+    this(DEFAULT_MAX_SELECTIVITY, DEFAULT_MAX_FILTER_KEYS, DEFAULT_MIN_PROBE_CARDINALITY);
+  }
+
+  /**
+   * Creates a new selector.
+   *
+   * @param maxSelectivity maximum fraction of the larger input expected to pass the filter
+   * @param maxFilterKeys maximum number of embeddings the filter is built from
+   * @param minProbeCardinality minimum number of embeddings in the larger input
+   */
+  public SemiJoinReductionSelector(double maxSelectivity, long maxFilterKeys,
+    long minProbeCardinality) {
+    this.maxSelectivity = maxSelectivity;
+    this.maxFilterKeys = maxFilterKeys;
+    this.minProbeCardinality = minProbeCardinality;
+  }
+
+  /**
+   * Selects the input of a join between a left and a right input that is reduced.
+   *
+   * @param leftCardinality estimated cardinality of the left input
+   * @param rightCardinality estimated cardinality of the right input
+   * @param joinCardinality estimated cardinality of the join result
+   * @param joinHint physical join strategy
+   * @return input to reduce
+   */
+  public SemiJoinReduction select(long leftCardinality, long rightCardinality,
+    long joinCardinality, JoinHint joinHint) {
+    if (joinHint == JoinHint.BROADCAST_HASH_FIRST || joinHint == JoinHint.BROADCAST_HASH_SECOND) {
+      return SemiJoinReduction.NONE;
+    }
+    boolean leftSmaller = leftCardinality <= rightCardinality;
+    long small = Math.min(leftCardinality, rightCardinality);
+    long large = Math.max(leftCardinality, rightCardinality);
+
+    if (large < minProbeCardinality || small > maxFilterKeys) {
+      return SemiJoinReduction.NONE;
+    }
+    double selectivity = Math.min(1d, (double) joinCardinality / large);
+    if (selectivity > maxSelectivity) {
+      return SemiJoinReduction.NONE;
+    }
+    return leftSmaller ? SemiJoinReduction.RIGHT : SemiJoinReduction.LEFT;
+  }
+}
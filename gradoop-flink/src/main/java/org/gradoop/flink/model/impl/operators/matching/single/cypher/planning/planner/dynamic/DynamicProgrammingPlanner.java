@@ -0,0 +1,371 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic;
+
+import org.apache.log4j.Logger;
+import org.gradoop.common.model.api.entities.GraphHead;
+import org.gradoop.flink.model.api.epgm.BaseGraph;
+import org.gradoop.flink.model.api.epgm.BaseGraphCollection;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.s1ck.gdl.model.Edge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+
+/**
+ * A query planner that enumerates the connected sub-patterns of the query graph bottom up
+ * (dynamic programming over subsets, similar to DPccp) and keeps the cheapest plans per
+ * sub-pattern.
+ * <p>
+ * In contrast to the {@link GreedyPlanner}, plans of two arbitrary sub-patterns are combined, which
+ * includes bushy plans. Each combination considers a join, an expand from either end point of a
+ * variable length path and a value join for sub-patterns connected by join predicates only. Cyclic
+ * components are additionally planned as a multiway join. The cost of a plan is the sum of the
+ * estimated cardinalities of its intermediate results.
+ * <p>
+ * The number of enumerated plans grows exponentially with the size of the query. If the plan or
+ * time budget is exceeded, or if the query graph is not connected, planning falls back to the
+ * {@link GreedyPlanner}.
+ *
+ * @param <G> The graph head type.
+ * @param <V> The vertex type.
+ * @param <E> The edge type.
+ * @param <LG> The graph type.
+ * @param <GC> The graph collection type.
+ */
+public class DynamicProgrammingPlanner<
+  G extends GraphHead,
+  V extends org.gradoop.common.model.api.entities.Vertex,
+  E extends org.gradoop.common.model.api.entities.Edge,
+  LG extends BaseGraph<G, V, E, LG, GC>,
+  GC extends BaseGraphCollection<G, V, E, LG, GC>> extends GreedyPlanner<G, V, E, LG, GC> {
+
+  /**
+   * Default number of plans kept per sub-pattern.
+   */
+  public static final int DEFAULT_TOP_K = 3;
+  /**
+   * Default maximum number of plans to enumerate before falling back to greedy planning.
+   */
+  public static final int DEFAULT_MAX_PLANS = 10000;
+  /**
+   * Default maximum planning time in milliseconds before falling back to greedy planning.
+   */
+  public static final long DEFAULT_TIMEOUT_MILLIS = 1000L;
+
+  /**
+   * Logger
+   */
+  private static final Logger LOG = Logger.getLogger(DynamicProgrammingPlanner.class);
+
+  /**
+   * Number of plans kept per sub-pattern
+   */
+  private final int topK;
+  /**
+   * Maximum number of plans to enumerate
+   */
+  private final int maxPlans;
+  /**
+   * Maximum planning time in milliseconds
+   */
+  private final long timeoutMillis;
+
+  /**
+   * Creates a new planner using the default budget.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DynamicProgrammingPlanner(LG graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_TOP_K, DEFAULT_MAX_PLANS, DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * Creates a new planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param topK number of plans kept per sub-pattern
+   * @param maxPlans maximum number of plans to enumerate
+   * @param timeoutMillis maximum planning time in milliseconds
+   */
+  public DynamicProgrammingPlanner(LG graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int topK, int maxPlans, long timeoutMillis) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    if (topK < 1) {
+      throw new IllegalArgumentException("At least one plan per sub-pattern must be kept");
+    }
+    this.topK = topK;
+    this.maxPlans = maxPlans;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Computes the {@link PlanTableEntry} that wraps the query plan with the minimum costs among all
+   * enumerated plans.
+   *
+   * @return entry with minimum execution costs
+   */
+  @Override
+  public PlanTableEntry plan() {
+    PlanTableEntry entry = enumerate();
+    if (entry == null) {
+      return super.plan();
+    }
+    return entry;
+  }
+
+  /**
+   * Enumerates the plans of all connected sub-patterns by increasing size.
+   *
+   * @return cheapest plan covering the whole query or {@code null} if there is none or the
+   * budget is exceeded
+   */
+  private PlanTableEntry enumerate() {
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    PlanTable leaves = initPlanTable();
+
+    // sub-patterns (processed variables) grouped by size and their cheapest plans
+    Map<Set<String>, List<Plan>> plans = new HashMap<>();
+    List<List<Set<String>>> subsets = new ArrayList<>();
+    subsets.add(Collections.emptyList());
+    Set<String> allVariables = new HashSet<>();
+    for (int size = 1; size <= leaves.size(); size++) {
+      subsets.add(new ArrayList<>());
+    }
+
+    for (PlanTableEntry leaf : leaves) {
+      addPlan(plans, subsets, new Plan(leaf, leaf.getEstimatedCardinality()));
+      allVariables.addAll(leaf.getProcessedVariables());
+    }
+    for (List<Edge> component : getCyclicComponents()) {
+      PlanTableEntry entry = finish(createMultiwayJoinEntry(leaves, component));
+      long cost = entry.getEstimatedCardinality();
+      for (String variable : entry.getProcessedVariables()) {
+        cost += plans.get(Collections.singleton(variable)).get(0).getCost();
+      }
+      addPlan(plans, subsets, new Plan(entry, cost));
+    }
+
+    int planCount = 0;
+    for (int size = 2; size <= leaves.size(); size++) {
+      for (int leftSize = 1; leftSize < size; leftSize++) {
+        for (Set<String> leftSet : new ArrayList<>(subsets.get(leftSize))) {
+          for (Set<String> rightSet : new ArrayList<>(subsets.get(size - leftSize))) {
+            if (!Collections.disjoint(leftSet, rightSet)) {
+              continue;
+            }
+            for (Plan left : new ArrayList<>(plans.get(leftSet))) {
+              for (Plan right : new ArrayList<>(plans.get(rightSet))) {
+                for (PlanTableEntry entry : combine(left.getEntry(), right.getEntry())) {
+                  addPlan(plans, subsets, new Plan(entry,
+                    left.getCost() + right.getCost() + entry.getEstimatedCardinality()));
+                  planCount++;
+                }
+                if (planCount > maxPlans || System.currentTimeMillis() > deadline) {
+                  LOG.info("Planning budget exceeded, falling back to greedy planning");
+                  return null;
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+
+    List<Plan> result = plans.get(allVariables);
+    if (result == null) {
+      LOG.info("Query graph is not connected, falling back to greedy planning");
+      return null;
+    }
+    return result.get(0).getEntry();
+  }
+
+  /**
+   * Computes all plans combining the given plans with the left entry as the extended side.
+   *
+   * @param left left entry
+   * @param right right entry
+   * @return combined entries, empty if the entries cannot be combined
+   */
+  private List<PlanTableEntry> combine(PlanTableEntry left, PlanTableEntry right) {
+    List<PlanTableEntry> entries = new ArrayList<>();
+    if (!mayExtend(left)) {
+      return entries;
+    }
+    List<String> joinVariables = getOverlap(left, right);
+    if (joinVariables.size() > 0) {
+      if (right.getType() == PATH && joinVariables.size() == 2) {
+        // expand from either end point of the variable length path
+        entries.add(finish(joinEntries(left, right, joinVariables.subList(0, 1))));
+        entries.add(finish(joinEntries(left, right, joinVariables.subList(1, 2))));
+      } else {
+        entries.add(finish(joinEntries(left, right, joinVariables)));
+      }
+    } else if (right.getType() != PATH) {
+      CNF joinPredicate = getValueJoinPredicate(left, right);
+      if (joinPredicate.size() > 0) {
+        entries.add(finish(createValueJoinEntry(left, right, joinPredicate)));
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Returns the equality predicates between property values of both entries. In contrast to
+   * {@link #getJoinPredicate(PlanTableEntry, PlanTableEntry)}, only comparisons of two property
+   * selectors spanning both entries are returned.
+   *
+   * @param left left entry
+   * @param right right entry
+   * @return value join predicates
+   */
+  private CNF getValueJoinPredicate(PlanTableEntry left, PlanTableEntry right) {
+    return new CNF(getJoinPredicate(left, right).getPredicates().stream()
+      .filter(element -> {
+        ComparisonExpression comparison = element.getPredicates().get(0);
+        return isJoinProperty(comparison.getLhs(), left, right) &&
+          isJoinProperty(comparison.getRhs(), left, right) &&
+          !left.getAllVariables().containsAll(comparison.getVariables()) &&
+          !right.getAllVariables().containsAll(comparison.getVariables());
+      })
+      .collect(Collectors.toList()));
+  }
+
+  /**
+   * Checks if the comparable selects a property of a variable covered by one of the entries.
+   *
+   * @param comparable query comparable
+   * @param left left entry
+   * @param right right entry
+   * @return true, if the comparable can be used as value join property
+   */
+  private boolean isJoinProperty(QueryComparable comparable, PlanTableEntry left,
+    PlanTableEntry right) {
+    if (!(comparable instanceof PropertySelectorComparable)) {
+      return false;
+    }
+    String variable = ((PropertySelectorComparable) comparable).getVariable();
+    return left.getAllVariables().contains(variable) || right.getAllVariables().contains(variable);
+  }
+
+  /**
+   * Adds filters and projections to the query plan of the given entry if possible.
+   *
+   * @param entry plan table entry
+   * @return entry with filters and projections
+   */
+  private PlanTableEntry finish(PlanTableEntry entry) {
+    PlanTable table = new PlanTable();
+    table.add(entry);
+    return evaluateProjection(evaluateFilter(table)).get(0);
+  }
+
+  /**
+   * Adds the given plan to the plans of its sub-pattern if it is among the {@link #topK}
+   * cheapest ones.
+   *
+   * @param plans cheapest plans per sub-pattern
+   * @param subsets sub-patterns grouped by size
+   * @param plan new plan
+   */
+  private void addPlan(Map<Set<String>, List<Plan>> plans, List<List<Set<String>>> subsets,
+    Plan plan) {
+    Set<String> variables = plan.getEntry().getProcessedVariables();
+    List<Plan> current = plans.get(variables);
+    if (current == null) {
+      current = new ArrayList<>();
+      plans.put(variables, current);
+      subsets.get(variables.size()).add(variables);
+    }
+    current.add(plan);
+    current.sort(Comparator.comparingLong(Plan::getCost));
+    if (current.size() > topK) {
+      current.remove(topK);
+    }
+  }
+
+  /**
+   * A plan table entry and the costs of its query plan.
+   */
+  private static class Plan {
+    /**
+     * Plan table entry
+     */
+    private final PlanTableEntry entry;
+    /**
+     * Sum of the estimated cardinalities of all intermediate results
+     */
+    private final long cost;
+
+    /**
+     * Creates a new plan.
+     *
+     * @param entry plan table entry
+     * @param cost costs of the query plan
+     */
+    Plan(PlanTableEntry entry, long cost) {
+      this.entry = entry;
+      this.cost = cost;
+    }
+
+    /**
+     * Returns the plan table entry.
+     *
+     * @return plan table entry
+     */
+    PlanTableEntry getEntry() {
+      return entry;
+    }
+
+    /**
+     * Returns the costs of the query plan.
+     *
+     * @return costs
+     */
+    long getCost() {
+      return cost;
+    }
+  }
+}
@@ -17,7 +17,10 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.p
 
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.LocalEnvironment;
 import org.gradoop.common.model.api.entities.GraphHead;
 import org.gradoop.common.util.GradoopConstants;
 import org.gradoop.flink.model.api.epgm.BaseGraph;
@@ -31,9 +34,14 @@ import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.c
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation.QueryPlanEstimator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.ExpandModeSelector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.JoinHintSelector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.SemiJoinReductionSelector;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.CartesianProductNode;
@@ -42,6 +50,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.ProjectEmbeddingsNode;
 import org.s1ck.gdl.model.Edge;
@@ -49,10 +58,15 @@ import org.s1ck.gdl.model.Vertex;
 import org.s1ck.gdl.utils.Comparator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.EDGE;
 import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.GRAPH;
@@ -96,6 +110,18 @@ public class GreedyPlanner<
    * The morphism type for edge mappings.
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Selects the physical join strategies from the estimated input cardinalities.
+   */
+  private final JoinHintSelector joinHintSelector;
+  /**
+   * Decides whether a join input is reduced by a Bloom filter over the other input.
+   */
+  private final SemiJoinReductionSelector semiJoinReductionSelector;
+  /**
+   * Decides whether variable length paths are grown from both of their end vertices.
+   */
+  private final ExpandModeSelector expandModeSelector;
 
   /**
    * Creates a new greedy planner.
@@ -113,16 +139,24 @@ public class GreedyPlanner<
     this.graphStatistics = graphStatistics;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
+    this.joinHintSelector = new JoinHintSelector(
+      getParallelism(graph.getConfig().getExecutionEnvironment()));
+    this.semiJoinReductionSelector = new SemiJoinReductionSelector();
+    this.expandModeSelector = new ExpandModeSelector();
   }
 
   /**
    * Computes the {@link PlanTableEntry} that wraps the {@link QueryPlan} with the minimum costs
    * according to the greedy optimization algorithm.
    *
+   * Cyclic components of the query graph are planned as a whole using a multiway join before
+   * the remaining entries are joined greedily.
+   *
    * @return entry with minimum execution costs
    */
   public PlanTableEntry plan() {
     PlanTable planTable = initPlanTable();
+    evaluateCycles(planTable);
 
     while (planTable.size() > 1) {
       PlanTable newPlans = evaluateJoins(planTable);
@@ -153,7 +187,7 @@ public class GreedyPlanner<
    *
    * @return initial plan table
    */
-  private PlanTable initPlanTable() {
+  protected PlanTable initPlanTable() {
     PlanTable planTable = new PlanTable();
     createVertexPlans(planTable);
     createEdgePlans(planTable);
@@ -225,6 +259,169 @@ public class GreedyPlanner<
     }
   }
 
+  //------------------------------------------------------------------------------------------------
+  // Cyclic components (i.e. triangles, cliques, diamonds)
+  //------------------------------------------------------------------------------------------------
+
+  /**
+   * Replaces the entries of each cyclic component of the query graph by a single entry that wraps a
+   * {@link MultiwayJoinNode}. Joining the edges of a cycle pairwise may produce intermediate
+   * results that are much larger than the final result, which is avoided by the worst-case optimal
+   * multiway join.
+   *
+   * @param planTable plan table containing the initial entries
+   */
+  private void evaluateCycles(PlanTable planTable) {
+    for (List<Edge> component : getCyclicComponents()) {
+      PlanTable newPlans = new PlanTable();
+      newPlans.add(createMultiwayJoinEntry(planTable, component));
+      newPlans = evaluateFilter(newPlans);
+      newPlans = evaluateProjection(newPlans);
+
+      PlanTableEntry entry = newPlans.get(0);
+      planTable.removeCoveredBy(entry);
+      planTable.add(entry);
+    }
+  }
+
+  /**
+   * Computes the cyclic components of the query graph. Only edges with a fixed length of one
+   * that are not loops are considered. Vertices that are not part of a cycle are removed
+   * iteratively (2-core), the remaining edges are grouped by connected component.
+   *
+   * @return edges of each cyclic component in query order
+   */
+  protected List<List<Edge>> getCyclicComponents() {
+    List<Edge> edges = queryHandler.getEdges().stream()
+      .filter(edge -> !edge.hasVariableLength() && edge.getUpperBound() == 1)
+      .filter(edge -> !edge.getSourceVertexId().equals(edge.getTargetVertexId()))
+      .collect(Collectors.toList());
+
+    // remove vertices with at most one incident edge until there are none left
+    boolean removed = true;
+    while (removed) {
+      Map<Long, Long> degrees = edges.stream()
+        .flatMap(edge -> Stream.of(edge.getSourceVertexId(), edge.getTargetVertexId()))
+        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+      removed = edges.removeIf(edge ->
+        degrees.get(edge.getSourceVertexId()) < 2 || degrees.get(edge.getTargetVertexId()) < 2);
+    }
+
+    List<List<Edge>> components = new ArrayList<>();
+    while (!edges.isEmpty()) {
+      List<Edge> component = new ArrayList<>();
+      Set<Long> vertexIds = new HashSet<>();
+      vertexIds.add(edges.get(0).getSourceVertexId());
+      boolean added = true;
+      while (added) {
+        added = false;
+        for (Edge edge : edges) {
+          if (!component.contains(edge) && (vertexIds.contains(edge.getSourceVertexId()) ||
+            vertexIds.contains(edge.getTargetVertexId()))) {
+            component.add(edge);
+            vertexIds.add(edge.getSourceVertexId());
+            vertexIds.add(edge.getTargetVertexId());
+            added = true;
+          }
+        }
+      }
+      edges.removeAll(component);
+      components.add(component);
+    }
+    return components;
+  }
+
+  /**
+   * Creates a {@link PlanTableEntry} that wraps a {@link MultiwayJoinNode} joining the vertex and
+   * edge entries of the given cyclic component.
+   *
+   * The vertex order starts with the vertex having the most incident edges. Afterwards, the vertex
+   * connected to most of the already ordered vertices is picked next. Ties are broken by the
+   * estimated cardinality of the vertex entries.
+   *
+   * @param planTable plan table containing the initial entries
+   * @param component edges of the cyclic component
+   * @return an entry that represents the join of the cyclic component
+   */
+  protected PlanTableEntry createMultiwayJoinEntry(PlanTable planTable, List<Edge> component) {
+    List<String> edgeVariables = component.stream()
+      .map(Edge::getVariable)
+      .collect(Collectors.toList());
+    Map<String, PlanTableEntry> vertexEntries = new HashMap<>();
+    for (Edge edge : component) {
+      for (long vertexId : new long[] {edge.getSourceVertexId(), edge.getTargetVertexId()}) {
+        String variable = queryHandler.getVertexById(vertexId).getVariable();
+        vertexEntries.computeIfAbsent(variable, var -> getEntry(planTable, var));
+      }
+    }
+
+    List<String> vertexOrder = new ArrayList<>();
+    while (vertexOrder.size() < vertexEntries.size()) {
+      String next = vertexEntries.keySet().stream()
+        .filter(var -> !vertexOrder.contains(var))
+        .min(java.util.Comparator
+          .comparingLong((String var) -> -countAdjacentEdges(component, var, vertexOrder))
+          .thenComparingLong(var -> vertexEntries.get(var).getEstimatedCardinality())
+          .thenComparing(var -> var))
+        .orElseThrow(IllegalStateException::new);
+      vertexOrder.add(next);
+    }
+
+    MultiwayJoinNode node = new MultiwayJoinNode(
+      vertexOrder.stream()
+        .map(var -> vertexEntries.get(var).getQueryPlan().getRoot())
+        .collect(Collectors.toList()),
+      edgeVariables.stream()
+        .map(var -> getEntry(planTable, var).getQueryPlan().getRoot())
+        .collect(Collectors.toList()),
+      vertexStrategy, edgeStrategy);
+
+    Set<String> processedVariables = Sets.newHashSet(vertexOrder);
+    processedVariables.addAll(edgeVariables);
+    // predicates of single elements are evaluated by the leaf nodes
+    CNF predicates = queryHandler.getPredicates();
+    processedVariables.forEach(predicates::removeSubCNF);
+
+    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+      new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+  }
+
+  /**
+   * Counts the edges of the component that connect the given vertex with any of the ordered
+   * vertices. If no vertex is ordered yet, all incident edges are counted.
+   *
+   * @param component edges of the cyclic component
+   * @param variable vertex variable
+   * @param vertexOrder vertices ordered so far
+   * @return number of edges
+   */
+  private long countAdjacentEdges(List<Edge> component, String variable, List<String> vertexOrder) {
+    return component.stream()
+      .map(edge -> Pair.of(
+        queryHandler.getVertexById(edge.getSourceVertexId()).getVariable(),
+        queryHandler.getVertexById(edge.getTargetVertexId()).getVariable()))
+      .filter(pair -> pair.getLeft().equals(variable) || pair.getRight().equals(variable))
+      .filter(pair -> vertexOrder.isEmpty() ||
+        vertexOrder.contains(pair.getLeft()) || vertexOrder.contains(pair.getRight()))
+      .count();
+  }
+
+  /**
+   * Returns the initial entry that processes the given vertex or edge variable.
+   *
+   * @param planTable plan table containing the initial entries
+   * @param variable vertex or edge variable
+   * @return entry processing solely the given variable
+   */
+  private PlanTableEntry getEntry(PlanTable planTable, String variable) {
+    for (PlanTableEntry entry : planTable) {
+      if (entry.getProcessedVariables().equals(Collections.singleton(variable))) {
+        return entry;
+      }
+    }
+    throw new IllegalStateException("No plan table entry for variable " + variable);
+  }
+
   //------------------------------------------------------------------------------------------------
   // Join and Expand
   //------------------------------------------------------------------------------------------------
@@ -270,7 +467,7 @@ public class GreedyPlanner<
    * @param entry plan table entry
    * @return true, iff the specified entry may be extended
    */
-  private boolean mayExtend(PlanTableEntry entry) {
+  protected boolean mayExtend(PlanTableEntry entry) {
     return entry.getType() == VERTEX || entry.getType() == GRAPH;
   }
 
@@ -281,7 +478,7 @@ public class GreedyPlanner<
    * @param secondEntry second entry
    * @return variables that are available in both input entries
    */
-  private List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
+  protected List<String> getOverlap(PlanTableEntry firstEntry, PlanTableEntry secondEntry) {
     Set<String> overlap = firstEntry.getAllVariables();
     overlap.retainAll(secondEntry.getAllVariables());
     return new ArrayList<>(overlap);
@@ -299,16 +496,20 @@ public class GreedyPlanner<
    * @param joinVariables join variables
    * @return an entry that represents the join of both input entries
    */
-  private PlanTableEntry joinEntries(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
+  protected PlanTableEntry joinEntries(PlanTableEntry leftEntry, PlanTableEntry rightEntry,
     List<String> joinVariables) {
 
     PlanNode node;
+    JoinEmbeddingsNode joinNode = null;
+    JoinOperatorBase.JoinHint joinHint = selectJoinHint(leftEntry, rightEntry);
     if (rightEntry.getType() == PATH) {
       assert joinVariables.size() == 1;
       node = createExpandNode(leftEntry, rightEntry, joinVariables.get(0));
     } else {
-      node = new JoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
-        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy);
+      joinNode = new JoinEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+        rightEntry.getQueryPlan().getRoot(), joinVariables, vertexStrategy, edgeStrategy,
+        joinHint);
+      node = joinNode;
     }
 
     // update processed variables
@@ -318,8 +519,37 @@ public class GreedyPlanner<
     // TODO: this might be moved to the join/expand node in issue #510
     CNF predicates = mergePredicates(leftEntry, rightEntry);
 
-    return new PlanTableEntry(GRAPH, processedVariables, predicates,
+    PlanTableEntry entry = new PlanTableEntry(GRAPH, processedVariables, predicates,
       new QueryPlanEstimator(new QueryPlan(node), queryHandler, graphStatistics));
+
+    if (joinNode != null) {
+      selectSemiJoinReduction(joinNode, leftEntry, rightEntry, entry, joinHint);
+    }
+    return entry;
+  }
+
+  /**
+   * Reduces the larger input of the given join by a Bloom filter over the smaller input if the
+   * larger input is a leaf and the estimated cardinalities make the reduction worthwhile.
+   *
+   * @param node join node
+   * @param leftEntry left input entry
+   * @param rightEntry right input entry
+   * @param joinEntry entry representing the join
+   * @param joinHint physical join strategy
+   */
+  private void selectSemiJoinReduction(JoinEmbeddingsNode node, PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry, PlanTableEntry joinEntry, JoinOperatorBase.JoinHint joinHint) {
+    long leftCardinality = leftEntry.getEstimatedCardinality();
+    long rightCardinality = rightEntry.getEstimatedCardinality();
+    SemiJoinReduction reduction = semiJoinReductionSelector.select(leftCardinality,
+      rightCardinality, joinEntry.getEstimatedCardinality(), joinHint);
+
+    if (reduction == SemiJoinReduction.LEFT && node.getLeftChild() instanceof LeafNode) {
+      node.setSemiJoinReduction(reduction, rightCardinality);
+    } else if (reduction == SemiJoinReduction.RIGHT && node.getRightChild() instanceof LeafNode) {
+      node.setSemiJoinReduction(reduction, leftCardinality);
+    }
   }
 
   /**
@@ -348,10 +578,52 @@ public class GreedyPlanner<
     String endVariable = direction == ExpandDirection.OUT ?
       targetVertex.getVariable() : sourceVertex.getVariable();
 
-    return new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
+    ExpandEmbeddingsNode node = new ExpandEmbeddingsNode(leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
       startVariable, pathVariable, endVariable, lowerBound, upperBound, direction,
       vertexStrategy, edgeStrategy);
+    node.setJoinHint(selectJoinHint(leftEntry, rightEntry));
+
+    if (leftEntry.getProcessedVariables().contains(endVariable)) {
+      node.setExpandMode(expandModeSelector.select(leftEntry.getEstimatedCardinality(),
+        rightEntry.getEstimatedCardinality(), graphStatistics.getVertexCount(),
+        upperBound == 0 ? Integer.MAX_VALUE : upperBound));
+    }
+    return node;
+  }
+
+  /**
+   * Selects the physical strategy for joining the query plans of the specified entries. Without
+   * statistics about the search graph, the estimated cardinalities are meaningless and the
+   * strategy is left to the Flink optimizer.
+   *
+   * @param leftEntry left entry
+   * @param rightEntry right entry
+   * @return join hint for the Flink optimizer
+   */
+  private JoinOperatorBase.JoinHint selectJoinHint(PlanTableEntry leftEntry,
+    PlanTableEntry rightEntry) {
+    if (graphStatistics.isUnknown()) {
+      return JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES;
+    }
+    return joinHintSelector.select(
+      leftEntry.getEstimatedCardinality(), rightEntry.getEstimatedCardinality());
+  }
+
+  /**
+   * Returns the parallelism the joins are executed with. If no parallelism is set, local
+   * environments use their default parallelism while the parallelism of remote environments is
+   * unknown at planning time.
+   *
+   * @param env execution environment of the input graph
+   * @return parallelism or a value smaller than one if it is unknown
+   */
+  private static int getParallelism(ExecutionEnvironment env) {
+    int parallelism = env.getParallelism();
+    if (parallelism <= 0 && env instanceof LocalEnvironment) {
+      parallelism = ExecutionEnvironment.getDefaultLocalParallelism();
+    }
+    return parallelism;
   }
 
   //------------------------------------------------------------------------------------------------
@@ -366,7 +638,7 @@ public class GreedyPlanner<
    * @param currentTable query plan table
    * @return input table with possibly updated entries
    */
-  private PlanTable evaluateFilter(PlanTable currentTable) {
+  protected PlanTable evaluateFilter(PlanTable currentTable) {
     PlanTable newTable = new PlanTable();
 
     for (PlanTableEntry entry : currentTable) {
@@ -398,7 +670,7 @@ public class GreedyPlanner<
    * @param currentTable query plan table
    * @return input table with possibly updated entries
    */
-  private PlanTable evaluateProjection(PlanTable currentTable) {
+  protected PlanTable evaluateProjection(PlanTable currentTable) {
     PlanTable newTable = new PlanTable();
 
     for (PlanTableEntry entry : currentTable) {
@@ -459,7 +731,7 @@ public class GreedyPlanner<
    * @param rightEntry second entry
    * @return variables that are available in both input entries
    */
-  private CNF getJoinPredicate(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
+  protected CNF getJoinPredicate(PlanTableEntry leftEntry, PlanTableEntry rightEntry) {
     Set<String> allVariables = leftEntry.getAllVariables();
     allVariables.addAll(rightEntry.getAllVariables());
 
@@ -486,7 +758,7 @@ public class GreedyPlanner<
    *
    * @return new expand node
    */
-  private PlanTableEntry createCartesianProductEntry(PlanTableEntry leftEntry,
+  protected PlanTableEntry createCartesianProductEntry(PlanTableEntry leftEntry,
     PlanTableEntry rightEntry) {
     CartesianProductNode node = new CartesianProductNode(
       leftEntry.getQueryPlan().getRoot(),
@@ -494,7 +766,7 @@ public class GreedyPlanner<
       vertexStrategy, edgeStrategy
     );
 
-    Set<String> processedVariables = leftEntry.getProcessedVariables();
+    Set<String> processedVariables = Sets.newHashSet(leftEntry.getProcessedVariables());
     processedVariables.addAll(rightEntry.getProcessedVariables());
 
     CNF predicates = mergePredicates(leftEntry, rightEntry);
@@ -516,7 +788,7 @@ public class GreedyPlanner<
    *
    * @return new value join node
    */
-  private PlanTableEntry createValueJoinEntry(PlanTableEntry leftEntry,
+  protected PlanTableEntry createValueJoinEntry(PlanTableEntry leftEntry,
     PlanTableEntry rightEntry, CNF joinPredicate) {
 
     List<Pair<String, String>> leftProperties = new ArrayList<>();
@@ -544,10 +816,11 @@ public class GreedyPlanner<
       leftEntry.getQueryPlan().getRoot(),
       rightEntry.getQueryPlan().getRoot(),
       leftProperties, rightProperties,
-      vertexStrategy, edgeStrategy
+      vertexStrategy, edgeStrategy,
+      selectJoinHint(leftEntry, rightEntry)
     );
 
-    Set<String> processedVariables = leftEntry.getProcessedVariables();
+    Set<String> processedVariables = Sets.newHashSet(leftEntry.getProcessedVariables());
     processedVariables.addAll(rightEntry.getProcessedVariables());
 
     CNF predicates = mergePredicates(leftEntry, rightEntry);
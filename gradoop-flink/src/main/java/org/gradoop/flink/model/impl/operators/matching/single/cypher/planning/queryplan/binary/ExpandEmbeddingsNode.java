@@ -19,6 +19,7 @@ import org.apache.flink.api.common.operators.base.JoinOperatorBase;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandMode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
@@ -77,6 +78,14 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
    * Morphism type for edges
    */
   private final MatchStrategy edgeStrategy;
+  /**
+   * Join hint for Flink optimizer
+   */
+  private JoinOperatorBase.JoinHint joinHint = JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES;
+  /**
+   * Mode in which the paths are grown
+   */
+  private ExpandMode expandMode = ExpandMode.UNIDIRECTIONAL;
 
   /**
    * Creates a new node.
@@ -110,6 +119,43 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
       leftChild.getEmbeddingMetaData().getEntryColumn(endVariable) : -1;
   }
 
+  /**
+   * Sets the join hint used to join the embeddings with the edges to expand with.
+   *
+   * @param joinHint join hint for the Flink optimizer
+   */
+  public void setJoinHint(JoinOperatorBase.JoinHint joinHint) {
+    this.joinHint = joinHint;
+  }
+
+  /**
+   * Returns the join hint for the Flink optimizer.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
+  /**
+   * Sets the mode in which the paths are grown. The bidirectional mode is only applied if the end
+   * vertex is bound by the left child and the upper bound is finite.
+   *
+   * @param expandMode expand mode
+   */
+  public void setExpandMode(ExpandMode expandMode) {
+    this.expandMode = expandMode;
+  }
+
+  /**
+   * Returns the mode in which the paths are grown.
+   *
+   * @return expand mode
+   */
+  public ExpandMode getExpandMode() {
+    return expandMode;
+  }
+
   @Override
   public DataSet<Embedding> execute() {
     ExpandEmbeddings op = new ExpandEmbeddingsBulk(
@@ -117,7 +163,8 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
       expandColumn, lowerBound, upperBound, expandDirection,
       getDistinctVertexColumns(getLeftChild().getEmbeddingMetaData()),
       getDistinctEdgeColumns(getLeftChild().getEmbeddingMetaData()),
-      closingColumn, JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES);
+      closingColumn, joinHint);
+    op.setExpandMode(expandMode);
     op.setName(toString());
     return op.evaluate();
   }
@@ -178,8 +225,10 @@ public class ExpandEmbeddingsNode extends BinaryNode implements JoinNode {
         "upperBound=%d, " +
         "expandDirection=%s, " +
         "vertexMorphismType=%s, " +
-        "edgeMorphismType=%s}",
+        "edgeMorphismType=%s, " +
+        "joinHint=%s, " +
+        "expandMode=%s}",
       startVariable, pathVariable, endVariable, lowerBound, upperBound, expandDirection,
-      vertexStrategy, edgeStrategy);
+      vertexStrategy, edgeStrategy, joinHint, expandMode);
   }
 }
@@ -20,10 +20,12 @@ import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.BloomFilterSemiJoin;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.JoinEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction;
 
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +51,14 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
    * Join hint for Flink optimizer
    */
   private final JoinOperatorBase.JoinHint joinHint;
+  /**
+   * Input that is reduced by a Bloom filter over the join keys of the other input
+   */
+  private SemiJoinReduction semiJoinReduction = SemiJoinReduction.NONE;
+  /**
+   * Estimated number of embeddings the Bloom filter is built from
+   */
+  private long bloomFilterKeys;
 
   /**
    * Creates  a new node.
@@ -87,9 +97,48 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     this.joinHint = joinHint;
   }
 
+  /**
+   * Reduces one input of the join to the embeddings that may find a join partner in the other
+   * input before both inputs are joined.
+   *
+   * @param semiJoinReduction input to reduce
+   * @param bloomFilterKeys estimated number of embeddings in the other input
+   */
+  public void setSemiJoinReduction(SemiJoinReduction semiJoinReduction, long bloomFilterKeys) {
+    this.semiJoinReduction = semiJoinReduction;
+    this.bloomFilterKeys = bloomFilterKeys;
+  }
+
+  /**
+   * Returns the input that is reduced by a Bloom filter over the join keys of the other input.
+   *
+   * @return reduced input
+   */
+  public SemiJoinReduction getSemiJoinReduction() {
+    return semiJoinReduction;
+  }
+
+  /**
+   * Returns the join hint for the Flink optimizer.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
   @Override
   public DataSet<Embedding> execute() {
-    JoinEmbeddings op = new JoinEmbeddings(getLeftChild().execute(), getRightChild().execute(),
+    DataSet<Embedding> left = getLeftChild().execute();
+    DataSet<Embedding> right = getRightChild().execute();
+
+    if (semiJoinReduction == SemiJoinReduction.LEFT) {
+      left = reduce(left, right, getJoinColumnsLeft(), getJoinColumnsRight());
+    } else if (semiJoinReduction == SemiJoinReduction.RIGHT) {
+      right = reduce(right, left, getJoinColumnsRight(), getJoinColumnsLeft());
+    }
+
+    JoinEmbeddings op = new JoinEmbeddings(left, right,
       getRightChild().getEmbeddingMetaData().getEntryCount(),
       getJoinColumnsLeft(), getJoinColumnsRight(),
       getDistinctVertexColumnsLeft(), getDistinctVertexColumnsRight(),
@@ -99,6 +148,24 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return op.evaluate();
   }
 
+  /**
+   * Reduces the probe input to embeddings whose join key might be contained in the build input.
+   *
+   * @param probe input to reduce
+   * @param build input to build the Bloom filter from
+   * @param probeColumns join columns of the probe input
+   * @param buildColumns join columns of the build input
+   * @return reduced probe input
+   */
+  private DataSet<Embedding> reduce(DataSet<Embedding> probe, DataSet<Embedding> build,
+    List<Integer> probeColumns, List<Integer> buildColumns) {
+    BloomFilterSemiJoin op = new BloomFilterSemiJoin(probe, build, probeColumns, buildColumns,
+      bloomFilterKeys);
+    op.setName("BloomFilterSemiJoin{joinVariables=" + joinVariables +
+      ", reduced=" + semiJoinReduction + "}");
+    return op.evaluate();
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     EmbeddingMetaData leftInputMetaData = getLeftChild().getEmbeddingMetaData();
@@ -222,7 +289,9 @@ public class JoinEmbeddingsNode extends BinaryNode implements JoinNode {
     return String.format("JoinEmbeddingsNode{" +
       "joinVariables=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      joinVariables, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s, " +
+      "semiJoinReduction=%s}",
+      joinVariables, vertexStrategy, edgeStrategy, joinHint, semiJoinReduction);
   }
 }
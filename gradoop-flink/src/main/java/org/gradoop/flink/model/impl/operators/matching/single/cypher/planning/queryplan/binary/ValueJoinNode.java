@@ -95,6 +95,15 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
     this.joinHint = joinHint;
   }
 
+  /**
+   * Returns the join hint for the Flink optimizer.
+   *
+   * @return join hint
+   */
+  public JoinOperatorBase.JoinHint getJoinHint() {
+    return joinHint;
+  }
+
   @Override
   public DataSet<Embedding> execute() {
     ValueJoin op = new ValueJoin(getLeftChild().execute(), getRightChild().execute(),
@@ -230,7 +239,8 @@ public class ValueJoinNode extends BinaryNode implements JoinNode {
       "leftJoinProperties=%s, " +
       "rightJoinProperties=%s, " +
       "vertexMorphismType=%s, " +
-      "edgeMorphismType=%s}",
-      leftJoinProperties, rightJoinProperties, vertexStrategy, edgeStrategy);
+      "edgeMorphismType=%s, " +
+      "joinHint=%s}",
+      leftJoinProperties, rightJoinProperties, vertexStrategy, edgeStrategy, joinHint);
   }
 }
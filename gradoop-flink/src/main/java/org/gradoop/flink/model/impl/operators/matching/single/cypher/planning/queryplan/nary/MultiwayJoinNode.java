@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.MultiwayJoinEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that wraps a {@link MultiwayJoinEmbeddings} operator.
+ * <p>
+ * The children are the vertex nodes in the order the vertices are bound, followed by the edge
+ * nodes. Each edge node is expected to produce embeddings with the source vertex, the edge and the
+ * target vertex.
+ */
+public class MultiwayJoinNode extends NaryNode implements JoinNode {
+  /**
+   * Number of vertex nodes
+   */
+  private final int vertexCount;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param vertexNodes vertex input nodes in the order the vertices are bound
+   * @param edgeNodes edge input nodes
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public MultiwayJoinNode(List<PlanNode> vertexNodes, List<PlanNode> edgeNodes,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(concat(vertexNodes, edgeNodes));
+    this.vertexCount = vertexNodes.size();
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    List<String> vertexVariables = getVertexVariables();
+    List<Integer> sourcePositions = new ArrayList<>();
+    List<Integer> targetPositions = new ArrayList<>();
+    for (PlanNode edgeNode : getEdgeNodes()) {
+      List<String> variables = edgeNode.getEmbeddingMetaData().getVariables();
+      sourcePositions.add(vertexVariables.indexOf(variables.get(0)));
+      targetPositions.add(vertexVariables.indexOf(variables.get(2)));
+    }
+
+    MultiwayJoinEmbeddings op = new MultiwayJoinEmbeddings(
+      getVertexNodes().stream().map(PlanNode::execute).collect(Collectors.toList()),
+      getEdgeNodes().stream().map(PlanNode::execute).collect(Collectors.toList()),
+      sourcePositions, targetPositions, vertexStrategy, edgeStrategy);
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData embeddingMetaData = new EmbeddingMetaData();
+
+    int entryCount = 0;
+    for (String var : getVertexVariables()) {
+      embeddingMetaData.setEntryColumn(var, EmbeddingMetaData.EntryType.VERTEX, entryCount++);
+    }
+    for (String var : getEdgeVariables()) {
+      embeddingMetaData.setEntryColumn(var, EmbeddingMetaData.EntryType.EDGE, entryCount++);
+    }
+
+    // properties are appended in the order the inputs are joined
+    int propertyCount = 0;
+    for (PlanNode child : getChildren()) {
+      EmbeddingMetaData childMetaData = child.getEmbeddingMetaData();
+      for (String var : childMetaData.getVariables()) {
+        for (String key : childMetaData.getPropertyKeys(var)) {
+          embeddingMetaData.setPropertyColumn(var, key, propertyCount++);
+        }
+      }
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Returns the vertex input nodes in the order the vertices are bound.
+   *
+   * @return vertex input nodes
+   */
+  public List<PlanNode> getVertexNodes() {
+    return getChildren().subList(0, vertexCount);
+  }
+
+  /**
+   * Returns the edge input nodes.
+   *
+   * @return edge input nodes
+   */
+  public List<PlanNode> getEdgeNodes() {
+    return getChildren().subList(vertexCount, getChildren().size());
+  }
+
+  /**
+   * Returns the vertex variables in the order they are bound.
+   *
+   * @return vertex variables
+   */
+  private List<String> getVertexVariables() {
+    return getVertexNodes().stream()
+      .map(node -> node.getEmbeddingMetaData().getVertexVariables().get(0))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the edge variables in the order the edges are attached.
+   *
+   * @return edge variables
+   */
+  private List<String> getEdgeVariables() {
+    return getEdgeNodes().stream()
+      .map(node -> node.getEmbeddingMetaData().getEdgeVariables().get(0))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Concatenates vertex and edge nodes.
+   *
+   * @param vertexNodes vertex nodes
+   * @param edgeNodes edge nodes
+   * @return all nodes
+   */
+  private static List<PlanNode> concat(List<PlanNode> vertexNodes, List<PlanNode> edgeNodes) {
+    List<PlanNode> children = new ArrayList<>(vertexNodes);
+    children.addAll(edgeNodes);
+    return children;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MultiwayJoinNode{" +
+      "vertexOrder=%s, " +
+      "edgeVariables=%s, " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      getVertexVariables(), getEdgeVariables(), vertexStrategy, edgeStrategy);
+  }
+}
@@ -121,7 +121,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     int offset = idData.length;
     for (GradoopId id : ids) {
       newIds[offset] = ID_ENTRY_FLAG;
-      System.arraycopy(id.toByteArray(), 0, newIds, offset + 1, GradoopId.ID_SIZE);
+      id.toByteArray(newIds, offset + 1);
       offset += ID_ENTRY_SIZE;
     }
 
@@ -202,7 +202,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     byte[] newIds = new byte[idData.length + 1 + GradoopId.ID_SIZE];
     System.arraycopy(idData, 0, newIds, 0, idData.length);
     newIds[idData.length] = isIdList ? ID_LIST_FLAG : ID_ENTRY_FLAG;
-    System.arraycopy(id.toByteArray(), 0, newIds, idData.length + 1, GradoopId.ID_SIZE);
+    id.toByteArray(newIds, idData.length + 1);
 
     idData = newIds;
   }
@@ -385,9 +385,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
     List<GradoopId> idList = new ArrayList<>(listSize);
 
     for (int i = 0; i < listSize; i++) {
-      idList.add(GradoopId.fromByteArray(
-        ArrayUtils.subarray(idListData, offset, offset + GradoopId.ID_SIZE)
-      ));
+      idList.add(GradoopId.fromByteArray(idListData, offset));
       offset += GradoopId.ID_SIZE;
     }
 
@@ -551,7 +549,7 @@ public class Embedding implements Value, CopyableValue<Embedding> {
    * @param offset offset the value will be written to
    */
   private void writeId(GradoopId value, byte[] target, int offset) {
-    System.arraycopy(value.toByteArray(), 0, target, offset, GradoopId.ID_SIZE);
+    value.toByteArray(target, offset);
   }
 
   /**
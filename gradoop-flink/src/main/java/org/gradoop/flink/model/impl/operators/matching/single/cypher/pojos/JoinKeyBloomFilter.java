@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Bloom filter over the identifiers stored in the join columns of embeddings. The filter may
+ * report false positives but never false negatives, i.e. an embedding whose join key has been
+ * added is always accepted.
+ * <p>
+ * The bits are stored in a {@code long[]}, which allows filters built on different partitions to
+ * be combined using {@link #or(long[], long[])}.
+ */
+public class JoinKeyBloomFilter implements Serializable {
+  /**
+   * Maximum number of bits of a filter (8 MiB).
+   */
+  public static final long MAX_BITS = 1L << 26;
+  /**
+   * serial version uid
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Hash function applied to the join key
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+  /**
+   * Bits of the filter
+   */
+  private final long[] bits;
+  /**
+   * Number of hash functions applied per key
+   */
+  private final int numHashes;
+
+  /**
+   * Creates an empty filter.
+   *
+   * @param numBits number of bits, rounded up to a multiple of 64
+   * @param numHashes number of hash functions applied per key
+   */
+  public JoinKeyBloomFilter(long numBits, int numHashes) {
+    this(new long[(int) ((Math.max(numBits, Long.SIZE) + Long.SIZE - 1) / Long.SIZE)], numHashes);
+  }
+
+  /**
+   * Creates a filter from existing bits.
+   *
+   * @param bits bits of the filter
+   * @param numHashes number of hash functions applied per key
+   */
+  public JoinKeyBloomFilter(long[] bits, int numHashes) {
+    this.bits = bits;
+    this.numHashes = numHashes;
+  }
+
+  /**
+   * Computes the number of bits needed to store the given number of keys with the given false
+   * positive probability. The result is limited by {@link #MAX_BITS}.
+   *
+   * @param expectedKeys expected number of keys
+   * @param falsePositiveProbability false positive probability between 0 and 1
+   * @return number of bits
+   */
+  public static long optimalNumBits(long expectedKeys, double falsePositiveProbability) {
+    double bits = -Math.max(expectedKeys, 1L) * Math.log(falsePositiveProbability) /
+      (Math.log(2) * Math.log(2));
+    return Math.min(MAX_BITS, Math.max(Long.SIZE, (long) Math.ceil(bits)));
+  }
+
+  /**
+   * Computes the number of hash functions minimizing the false positive probability.
+   *
+   * @param expectedKeys expected number of keys
+   * @param numBits number of bits
+   * @return number of hash functions
+   */
+  public static int optimalNumHashes(long expectedKeys, long numBits) {
+    return Math.max(1, (int) Math.round((double) numBits / Math.max(expectedKeys, 1L) *
+      Math.log(2)));
+  }
+
+  /**
+   * Adds the join key of the given embedding.
+   *
+   * @param embedding embedding
+   * @param columns join columns
+   */
+  public void add(Embedding embedding, List<Integer> columns) {
+    HashCode hash = hash(embedding, columns);
+    long h1 = hash.asLong();
+    long h2 = hashHigh(hash);
+    long numBits = (long) bits.length * Long.SIZE;
+    for (int i = 0; i < numHashes; i++) {
+      long index = Math.floorMod(h1 + i * h2, numBits);
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+  }
+
+  /**
+   * Checks if the join key of the given embedding might have been added to the filter.
+   *
+   * @param embedding embedding
+   * @param columns join columns
+   * @return false, if the key has definitely not been added
+   */
+  public boolean mightContain(Embedding embedding, List<Integer> columns) {
+    HashCode hash = hash(embedding, columns);
+    long h1 = hash.asLong();
+    long h2 = hashHigh(hash);
+    long numBits = (long) bits.length * Long.SIZE;
+    for (int i = 0; i < numHashes; i++) {
+      long index = Math.floorMod(h1 + i * h2, numBits);
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the bits of the filter.
+   *
+   * @return bits
+   */
+  public long[] getBits() {
+    return bits;
+  }
+
+  /**
+   * Returns the number of hash functions applied per key.
+   *
+   * @return number of hash functions
+   */
+  public int getNumHashes() {
+    return numHashes;
+  }
+
+  /**
+   * Combines the bits of two filters of the same size. The result is stored in the first array.
+   *
+   * @param target bits of the first filter, updated in place
+   * @param other bits of the second filter
+   * @return combined bits
+   */
+  public static long[] or(long[] target, long[] other) {
+    if (target.length != other.length) {
+      throw new IllegalArgumentException("Bloom filters differ in size");
+    }
+    for (int i = 0; i < target.length; i++) {
+      target[i] |= other[i];
+    }
+    return target;
+  }
+
+  /**
+   * Hashes the identifiers stored in the join columns of the given embedding.
+   *
+   * @param embedding embedding
+   * @param columns join columns
+   * @return 128 bit hash code
+   */
+  private static HashCode hash(Embedding embedding, List<Integer> columns) {
+    Hasher hasher = HASH_FUNCTION.newHasher();
+    for (Integer column : columns) {
+      hasher.putBytes(embedding.getRawId(column));
+    }
+    return hasher.hash();
+  }
+
+  /**
+   * Returns the upper 64 bits of a 128 bit hash code. The lowest bit is always set, an odd step
+   * width prevents the probed positions from collapsing onto a few bits of small filters.
+   *
+   * @param hash hash code
+   * @return upper 64 bits with the lowest bit set
+   */
+  private static long hashHigh(HashCode hash) {
+    byte[] bytes = hash.asBytes();
+    long high = 0L;
+    for (int i = bytes.length - 1; i >= Long.BYTES; i--) {
+      high = (high << Byte.SIZE) | (bytes[i] & 0xFF);
+    }
+    return high | 1L;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof JoinKeyBloomFilter &&
+      numHashes == ((JoinKeyBloomFilter) o).numHashes &&
+      Arrays.equals(bits, ((JoinKeyBloomFilter) o).bits);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(bits) + numHashes;
+  }
+}
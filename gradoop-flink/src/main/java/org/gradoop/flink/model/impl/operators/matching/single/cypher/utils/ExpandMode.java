@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+/**
+ * Specifies how the paths of an expand operation are grown
+ */
+public enum ExpandMode {
+  /**
+   * Paths are grown hop by hop from the start vertex
+   */
+  UNIDIRECTIONAL,
+  /**
+   * Paths are grown from the start and the end vertex and joined in the middle, requires a bound
+   * end vertex and a finite upper bound
+   */
+  BIDIRECTIONAL
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.utils;
+
+/**
+ * Specifies which input of a join is reduced by a Bloom filter built from the other input
+ */
+public enum SemiJoinReduction {
+  /**
+   * No input is reduced
+   */
+  NONE,
+  /**
+   * The left input is reduced to embeddings that may have a partner in the right input
+   */
+  LEFT,
+  /**
+   * The right input is reduced to embeddings that may have a partner in the left input
+   */
+  RIGHT
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.tuple.ToIdWithLabel;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.functions.DistinctValueToCount;
+import org.gradoop.flink.model.impl.operators.statistics.functions.EndpointLabelCount;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ToDistinctEndpoints;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ToDistinctPropertyValues;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ToEndpointsWithEdgeLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ToStatisticCounts;
+
+/**
+ * Computes all statistics read by
+ * {@link org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics}
+ * as tuples {@code (statistic, key, subKey, count)}. The name of a statistic is the name of its
+ * file, see {@link GraphStatisticsReader}; keys not used by a statistic are empty.
+ * <p>
+ * In contrast to computing each statistic by its own operator, the vertices and edges are read
+ * once, a single join attaches the vertex labels to the edges and all counts are aggregated by a
+ * single grouping. This keeps the plan small enough to be added to other jobs, e.g. to a
+ * {@link org.gradoop.flink.io.impl.csv.CSVDataSink}.
+ */
+public class GraphStatisticsCounts
+  implements UnaryGraphToValueOperator<DataSet<Tuple4<String, String, String, Long>>> {
+
+  @Override
+  public DataSet<Tuple4<String, String, String, Long>> execute(LogicalGraph graph) {
+    DataSet<EPGMVertex> vertices = graph.getVertices();
+    DataSet<EPGMEdge> edges = graph.getEdges();
+
+    // counts that are present even for empty graphs
+    DataSet<Tuple4<String, String, String, Long>> zeroCounts = graph.getConfig()
+      .getExecutionEnvironment().fromElements(
+        Tuple4.of(GraphStatisticsReader.FILE_VERTEX_COUNT, "", "", 0L),
+        Tuple4.of(GraphStatisticsReader.FILE_EDGE_COUNT, "", "", 0L),
+        Tuple4.of(GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT, "", "", 0L),
+        Tuple4.of(GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT, "", "", 0L));
+
+    DataSet<Tuple4<String, String, String, Long>> elementCounts = vertices
+      .flatMap(new ToStatisticCounts<>(GraphStatisticsReader.FILE_VERTEX_COUNT,
+        GraphStatisticsReader.FILE_VERTEX_COUNT_BY_LABEL))
+      .union(edges.flatMap(new ToStatisticCounts<>(GraphStatisticsReader.FILE_EDGE_COUNT,
+        GraphStatisticsReader.FILE_EDGE_COUNT_BY_LABEL)));
+
+    DataSet<Tuple4<String, String, String, Long>> endpointLabelCounts = edges
+      .flatMap(new ToEndpointsWithEdgeLabel<>())
+      .join(vertices.map(new ToIdWithLabel<>()))
+      .where(0).equalTo(0)
+      .with(new EndpointLabelCount());
+
+    DataSet<Tuple4<String, String, String, Long>> distinctValueCounts = vertices
+      .flatMap(new ToDistinctPropertyValues<EPGMVertex>(
+        GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES_BY_LABEL,
+        GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES))
+      .union(edges.flatMap(new ToDistinctPropertyValues<EPGMEdge>(
+        GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES_BY_LABEL,
+        GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES)))
+      .union(edges.flatMap(new ToDistinctEndpoints<>()))
+      .distinct()
+      .map(new DistinctValueToCount());
+
+    return zeroCounts
+      .union(elementCounts)
+      .union(endpointLabelCounts)
+      .union(distinctValueCounts)
+      .groupBy(0, 1, 2)
+      .sum(3);
+  }
+}
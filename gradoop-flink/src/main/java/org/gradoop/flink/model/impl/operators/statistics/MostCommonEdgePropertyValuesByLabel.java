@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+
+/**
+ * Computes the most common edge property values of label - property name pairs.
+ */
+public class MostCommonEdgePropertyValuesByLabel
+  extends MostCommonPropertyValuesByLabel<EPGMEdge> {
+
+  /**
+   * Creates a new operator keeping at most {@link #DEFAULT_MAX_VALUES} values per pair.
+   */
+  public MostCommonEdgePropertyValuesByLabel() {
+    this(DEFAULT_MAX_VALUES);
+  }
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxValues maximum number of values per label - property name pair
+   */
+  public MostCommonEdgePropertyValuesByLabel(int maxValues) {
+    super(maxValues);
+  }
+
+  @Override
+  protected DataSet<EPGMEdge> getElements(LogicalGraph graph) {
+    return graph.getEdges();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.pojo.EPGMGraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueCountsByLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.SelectMostCommonValues;
+
+/**
+ * Base class for statistic operators computing the most common property values of label -
+ * property name pairs and their frequency {@code (label, propertyName, value, count)}.
+ *
+ * @param <T> element type
+ */
+public abstract class MostCommonPropertyValuesByLabel<T extends EPGMGraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple4<String, String, PropertyValue, Long>>> {
+
+  /**
+   * Default maximum number of values per label - property name pair
+   */
+  public static final int DEFAULT_MAX_VALUES = 10;
+
+  /**
+   * Maximum number of values per label - property name pair
+   */
+  private final int maxValues;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxValues maximum number of values per label - property name pair
+   */
+  protected MostCommonPropertyValuesByLabel(int maxValues) {
+    this.maxValues = maxValues;
+  }
+
+  @Override
+  public DataSet<Tuple4<String, String, PropertyValue, Long>> execute(LogicalGraph graph) {
+    return getElements(graph)
+      .flatMap(new ExtractPropertyValueCountsByLabel<>())
+      .groupBy(0, 1, 2)
+      .sum(3)
+      .groupBy(0, 1)
+      .sortGroup(3, Order.DESCENDING)
+      .reduceGroup(new SelectMostCommonValues(maxValues));
+  }
+
+  /**
+   * Returns the elements to compute the most common values for.
+   *
+   * @param graph input graph
+   * @return graph elements
+   */
+  protected abstract DataSet<T> getElements(LogicalGraph graph);
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.common.operators.Order;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.tuple.Tuple6;
+import org.gradoop.common.model.impl.pojo.EPGMGraphElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.functions.BuildEquiDepthHistogram;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractPropertyValueCountsByLabel;
+import org.gradoop.flink.model.impl.operators.statistics.functions.HasHistogramValue;
+
+/**
+ * Base class for statistic operators computing equi-depth histograms over the numeric property
+ * values of label - property name pairs. Each bucket is represented by a tuple
+ * {@code (label, propertyName, bucket, lower, upper, count)}.
+ * <p>
+ * The values of a pair are sorted by the group sort of Flink, which spills to disk, and the
+ * buckets are cut in a single pass over the sorted values using the precomputed total count of
+ * the pair. Non-numeric values are dropped before the counts are shuffled.
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyValueHistogramsByLabel<T extends EPGMGraphElement>
+  implements UnaryGraphToValueOperator<
+  DataSet<Tuple6<String, String, Integer, PropertyValue, PropertyValue, Long>>> {
+
+  /**
+   * Default maximum number of buckets per histogram
+   */
+  public static final int DEFAULT_MAX_BUCKETS = 10;
+
+  /**
+   * Maximum number of buckets per histogram
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new operator.
+   *
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  protected PropertyValueHistogramsByLabel(int maxBuckets) {
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public DataSet<Tuple6<String, String, Integer, PropertyValue, PropertyValue, Long>> execute(
+    LogicalGraph graph) {
+    DataSet<Tuple4<String, String, PropertyValue, Long>> counts = getElements(graph)
+      .flatMap(new ExtractPropertyValueCountsByLabel<>())
+      .filter(new HasHistogramValue())
+      .groupBy(0, 1, 2)
+      .sum(3);
+
+    DataSet<Tuple3<String, String, Long>> totals = counts
+      .<Tuple3<String, String, Long>>project(0, 1, 3)
+      .groupBy(0, 1)
+      .sum(2);
+
+    return counts
+      .coGroup(totals)
+      .where(0, 1).equalTo(0, 1)
+      .sortFirstGroup(2, Order.ASCENDING)
+      .with(new BuildEquiDepthHistogram(maxBuckets));
+  }
+
+  /**
+   * Returns the elements to compute the histograms for.
+   *
+   * @param graph input graph
+   * @return graph elements
+   */
+  protected abstract DataSet<T> getElements(LogicalGraph graph);
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.api.java.tuple.Tuple6;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
+
+/**
+ * Builds an equi-depth histogram from the value counts of a label - property name pair and the
+ * total count of the pair:
+ * {@code (label, propertyName, value, count)*, (label, propertyName, total)
+ * -> (label, propertyName, bucket, lower, upper, count)*}
+ *
+ * Expects the value counts to be sorted by ascending value and to contain only values supported
+ * by {@link EquiDepthHistogram#isSupported(PropertyValue)}. The buckets are cut while streaming
+ * over the values, i.e. the values of a pair are not kept in memory. The occurrences of a single
+ * value are never split across buckets.
+ */
+public class BuildEquiDepthHistogram implements CoGroupFunction<
+  Tuple4<String, String, PropertyValue, Long>, Tuple3<String, String, Long>,
+  Tuple6<String, String, Integer, PropertyValue, PropertyValue, Long>> {
+
+  /**
+   * Maximum number of buckets per histogram
+   */
+  private final int maxBuckets;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param maxBuckets maximum number of buckets per histogram
+   */
+  public BuildEquiDepthHistogram(int maxBuckets) {
+    if (maxBuckets < 1) {
+      throw new IllegalArgumentException("Histograms need at least one bucket");
+    }
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public void coGroup(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Iterable<Tuple3<String, String, Long>> totals,
+    Collector<Tuple6<String, String, Integer, PropertyValue, PropertyValue, Long>> out) {
+
+    long total = 0L;
+    for (Tuple3<String, String, Long> count : totals) {
+      total += count.f2;
+    }
+    if (total == 0L) {
+      return;
+    }
+    long depth = (total + maxBuckets - 1) / maxBuckets;
+
+    String label = null;
+    String propertyName = null;
+    int bucket = 0;
+    PropertyValue lower = null;
+    PropertyValue upper = null;
+    long bucketCount = 0L;
+    for (Tuple4<String, String, PropertyValue, Long> value : values) {
+      label = value.f0;
+      propertyName = value.f1;
+      if (lower == null) {
+        lower = value.f2.copy();
+      }
+      upper = value.f2;
+      bucketCount += value.f3;
+      if (bucketCount >= depth) {
+        out.collect(Tuple6.of(label, propertyName, bucket++, lower, upper.copy(), bucketCount));
+        lower = null;
+        bucketCount = 0L;
+      }
+    }
+    if (lower != null) {
+      out.collect(Tuple6.of(label, propertyName, bucket, lower, upper.copy(), bucketCount));
+    }
+  }
+}
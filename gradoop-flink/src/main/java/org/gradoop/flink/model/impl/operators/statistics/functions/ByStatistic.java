@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+
+/**
+ * Filters statistic counts {@code (statistic, key, subKey, count)} by the name of the statistic.
+ */
+public class ByStatistic implements FilterFunction<Tuple4<String, String, String, Long>> {
+  /**
+   * Name of the statistic to keep.
+   */
+  private final String statistic;
+
+  /**
+   * Creates a new filter.
+   *
+   * @param statistic name of the statistic to keep
+   */
+  public ByStatistic(String statistic) {
+    this.statistic = statistic;
+  }
+
+  @Override
+  public boolean filter(Tuple4<String, String, String, Long> value) {
+    return statistic.equals(value.f0);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * {@code (statistic, key, subKey, value) -> (statistic, key, subKey, 1)}
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1;f2")
+public class DistinctValueToCount implements
+  MapFunction<Tuple4<String, String, String, PropertyValue>, Tuple4<String, String, String, Long>> {
+  /**
+   * Reuse tuple
+   */
+  private final Tuple4<String, String, String, Long> reuseTuple = Tuple4.of("", "", "", 1L);
+
+  @Override
+  public Tuple4<String, String, String, Long> map(
+    Tuple4<String, String, String, PropertyValue> value) {
+    reuseTuple.f0 = value.f0;
+    reuseTuple.f1 = value.f1;
+    reuseTuple.f2 = value.f2;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.tuples.IdWithLabel;
+
+/**
+ * {@code (vertexId, statistic, edgeLabel) |><| (vertexId, vertexLabel) ->
+ * (statistic, vertexLabel, edgeLabel, 1)}
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f1->f0;f2->f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f1")
+public class EndpointLabelCount implements
+  JoinFunction<Tuple3<GradoopId, String, String>, IdWithLabel, Tuple4<String, String, String, Long>> {
+  /**
+   * Reuse tuple
+   */
+  private final Tuple4<String, String, String, Long> reuseTuple = Tuple4.of("", "", "", 1L);
+
+  @Override
+  public Tuple4<String, String, String, Long> join(Tuple3<GradoopId, String, String> endpoint,
+    IdWithLabel vertex) {
+    reuseTuple.f0 = endpoint.f1;
+    reuseTuple.f1 = vertex.getLabel();
+    reuseTuple.f2 = endpoint.f2;
+    return reuseTuple;
+  }
+}
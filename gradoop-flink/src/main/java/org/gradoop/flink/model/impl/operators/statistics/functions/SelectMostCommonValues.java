@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Emits the most frequent values of a label - property name pair. Expects the group to be sorted
+ * by descending count. Values occurring only once are not considered common.
+ * {@code (label, propertyName, value, count)* -> (label, propertyName, value, count)*}
+ */
+public class SelectMostCommonValues implements GroupReduceFunction<
+  Tuple4<String, String, PropertyValue, Long>, Tuple4<String, String, PropertyValue, Long>> {
+
+  /**
+   * Maximum number of values per label - property name pair
+   */
+  private final int maxValues;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param maxValues maximum number of values per label - property name pair
+   */
+  public SelectMostCommonValues(int maxValues) {
+    this.maxValues = maxValues;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple4<String, String, PropertyValue, Long>> values,
+    Collector<Tuple4<String, String, PropertyValue, Long>> out) {
+    int selected = 0;
+    for (Tuple4<String, String, PropertyValue, Long> value : values) {
+      if (selected == maxValues || value.f3 < 2) {
+        return;
+      }
+      out.collect(value);
+      selected++;
+    }
+  }
+}
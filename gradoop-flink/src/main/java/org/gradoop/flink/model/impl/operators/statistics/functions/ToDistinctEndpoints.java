@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+
+/**
+ * Emits the source and target vertex ids of an edge once overall and once per edge label, e.g.
+ * {@code (edge) -> (distinct_source_vertex_count_by_edge_label, label, "", sourceId)}.
+ *
+ * @param <E> EPGM edge type
+ */
+public class ToDistinctEndpoints<E extends EPGMEdge>
+  implements FlatMapFunction<E, Tuple4<String, String, String, PropertyValue>> {
+  /**
+   * Reuse tuple for the source ids.
+   */
+  private final Tuple4<String, String, String, PropertyValue> sourceTuple = Tuple4.of(
+    GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT, "", "", PropertyValue.NULL_VALUE);
+  /**
+   * Reuse tuple for the target ids.
+   */
+  private final Tuple4<String, String, String, PropertyValue> targetTuple = Tuple4.of(
+    GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT, "", "", PropertyValue.NULL_VALUE);
+  /**
+   * Reuse tuple for the source ids by edge label.
+   */
+  private final Tuple4<String, String, String, PropertyValue> sourceByLabelTuple = Tuple4.of(
+    GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT_BY_EDGE_LABEL, "", "",
+    PropertyValue.NULL_VALUE);
+  /**
+   * Reuse tuple for the target ids by edge label.
+   */
+  private final Tuple4<String, String, String, PropertyValue> targetByLabelTuple = Tuple4.of(
+    GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT_BY_EDGE_LABEL, "", "",
+    PropertyValue.NULL_VALUE);
+
+  @Override
+  public void flatMap(E edge, Collector<Tuple4<String, String, String, PropertyValue>> out) {
+    PropertyValue sourceId = PropertyValue.create(edge.getSourceId());
+    PropertyValue targetId = PropertyValue.create(edge.getTargetId());
+
+    sourceTuple.f3 = sourceId;
+    out.collect(sourceTuple);
+    targetTuple.f3 = targetId;
+    out.collect(targetTuple);
+
+    sourceByLabelTuple.f1 = edge.getLabel();
+    sourceByLabelTuple.f3 = sourceId;
+    out.collect(sourceByLabelTuple);
+    targetByLabelTuple.f1 = edge.getLabel();
+    targetByLabelTuple.f3 = targetId;
+    out.collect(targetByLabelTuple);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Emits the property values of an element once per label and property name and once per
+ * property name:
+ * {@code (element) -> (labelStatistic, label, propertyName, value), (statistic, propertyName, "", value)}
+ *
+ * @param <EL> EPGM element type
+ */
+public class ToDistinctPropertyValues<EL extends EPGMElement>
+  implements FlatMapFunction<EL, Tuple4<String, String, String, PropertyValue>> {
+  /**
+   * Reuse tuple for the values by label and property name.
+   */
+  private final Tuple4<String, String, String, PropertyValue> labelTuple;
+  /**
+   * Reuse tuple for the values by property name.
+   */
+  private final Tuple4<String, String, String, PropertyValue> propertyTuple;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param labelStatistic name of the distinct property values by label statistic
+   * @param statistic      name of the distinct property values statistic
+   */
+  public ToDistinctPropertyValues(String labelStatistic, String statistic) {
+    this.labelTuple = Tuple4.of(labelStatistic, "", "", PropertyValue.NULL_VALUE);
+    this.propertyTuple = Tuple4.of(statistic, "", "", PropertyValue.NULL_VALUE);
+  }
+
+  @Override
+  public void flatMap(EL element, Collector<Tuple4<String, String, String, PropertyValue>> out) {
+    if (element.getProperties() != null) {
+      for (Property property : element.getProperties()) {
+        labelTuple.f1 = element.getLabel();
+        labelTuple.f2 = property.getKey();
+        labelTuple.f3 = property.getValue();
+        out.collect(labelTuple);
+
+        propertyTuple.f1 = property.getKey();
+        propertyTuple.f3 = property.getValue();
+        out.collect(propertyTuple);
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+
+/**
+ * {@code (edge) -> (sourceId, edge_count_by_source_vertex_and_edge_label, label),
+ * (targetId, edge_count_by_target_vertex_and_edge_label, label)}
+ *
+ * @param <E> EPGM edge type
+ */
+public class ToEndpointsWithEdgeLabel<E extends EPGMEdge>
+  implements FlatMapFunction<E, Tuple3<GradoopId, String, String>> {
+  /**
+   * Reuse tuple for the source vertex.
+   */
+  private final Tuple3<GradoopId, String, String> sourceTuple = Tuple3.of(GradoopId.NULL_VALUE,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_SOURCE_VERTEX_AND_EDGE_LABEL, "");
+  /**
+   * Reuse tuple for the target vertex.
+   */
+  private final Tuple3<GradoopId, String, String> targetTuple = Tuple3.of(GradoopId.NULL_VALUE,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_TARGET_VERTEX_AND_EDGE_LABEL, "");
+
+  @Override
+  public void flatMap(E edge, Collector<Tuple3<GradoopId, String, String>> out) {
+    sourceTuple.f0 = edge.getSourceId();
+    sourceTuple.f2 = edge.getLabel();
+    out.collect(sourceTuple);
+    targetTuple.f0 = edge.getTargetId();
+    targetTuple.f2 = edge.getLabel();
+    out.collect(targetTuple);
+  }
+}
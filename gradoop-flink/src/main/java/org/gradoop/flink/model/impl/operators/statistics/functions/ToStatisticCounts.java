@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.EPGMElement;
+
+/**
+ * {@code (element) -> (countStatistic, "", "", 1), (labelStatistic, label, "", 1)}
+ *
+ * @param <EL> EPGM element type
+ */
+public class ToStatisticCounts<EL extends EPGMElement>
+  implements FlatMapFunction<EL, Tuple4<String, String, String, Long>> {
+  /**
+   * Reuse tuple for the element count.
+   */
+  private final Tuple4<String, String, String, Long> countTuple;
+  /**
+   * Reuse tuple for the element count by label.
+   */
+  private final Tuple4<String, String, String, Long> labelTuple;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param countStatistic name of the element count statistic
+   * @param labelStatistic name of the element count by label statistic
+   */
+  public ToStatisticCounts(String countStatistic, String labelStatistic) {
+    this.countTuple = Tuple4.of(countStatistic, "", "", 1L);
+    this.labelTuple = Tuple4.of(labelStatistic, "", "", 1L);
+  }
+
+  @Override
+  public void flatMap(EL element, Collector<Tuple4<String, String, String, Long>> out) {
+    out.collect(countTuple);
+    labelTuple.f1 = element.getLabel();
+    out.collect(labelTuple);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.writer;
+
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple4;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.MostCommonPropertyValuesByLabel;
+
+/**
+ * Computes a {@link MostCommonPropertyValuesByLabel} statistic for a given logical graph and
+ * encodes the values using {@link GraphStatisticsReader#encodePropertyValue}.
+ */
+public class MostCommonPropertyValuesByLabelPreparer implements
+UnaryGraphToValueOperator<MapOperator<Tuple4<String, String, PropertyValue, Long>,
+Tuple4<String, String, String, Long>>> {
+
+  /**
+   * Most common values operator
+   */
+  private final MostCommonPropertyValuesByLabel<?> mostCommonValues;
+
+  /**
+   * Creates a new preparer.
+   *
+   * @param mostCommonValues most common values operator
+   */
+  public MostCommonPropertyValuesByLabelPreparer(
+    MostCommonPropertyValuesByLabel<?> mostCommonValues) {
+    this.mostCommonValues = mostCommonValues;
+  }
+
+  @Override
+  public MapOperator<Tuple4<String, String, PropertyValue, Long>,
+  Tuple4<String, String, String, Long>> execute(final LogicalGraph graph) {
+    return mostCommonValues
+        .execute(graph)
+        .map(value -> Tuple4.of(value.f0, value.f1,
+          GraphStatisticsReader.encodePropertyValue(value.f2), value.f3))
+        .returns(new TypeHint<Tuple4<String, String, String, Long>>() { });
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.writer;
+
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple6;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.PropertyValueHistogramsByLabel;
+
+/**
+ * Computes a {@link PropertyValueHistogramsByLabel} statistic for a given logical graph and
+ * encodes the bucket bounds using {@link GraphStatisticsReader#encodePropertyValue}.
+ */
+public class PropertyValueHistogramsByLabelPreparer implements
+UnaryGraphToValueOperator<MapOperator<Tuple6<String, String, Integer, PropertyValue, PropertyValue,
+Long>, Tuple6<String, String, Integer, String, String, Long>>> {
+
+  /**
+   * Histogram operator
+   */
+  private final PropertyValueHistogramsByLabel<?> histograms;
+
+  /**
+   * Creates a new preparer.
+   *
+   * @param histograms histogram operator
+   */
+  public PropertyValueHistogramsByLabelPreparer(PropertyValueHistogramsByLabel<?> histograms) {
+    this.histograms = histograms;
+  }
+
+  @Override
+  public MapOperator<Tuple6<String, String, Integer, PropertyValue, PropertyValue, Long>,
+  Tuple6<String, String, Integer, String, String, Long>> execute(final LogicalGraph graph) {
+    return histograms
+        .execute(graph)
+        .map(value -> Tuple6.of(value.f0, value.f1, value.f2,
+          GraphStatisticsReader.encodePropertyValue(value.f3),
+          GraphStatisticsReader.encodePropertyValue(value.f4), value.f5))
+        .returns(new TypeHint<Tuple6<String, String, Integer, String, String, Long>>() { });
+  }
+}
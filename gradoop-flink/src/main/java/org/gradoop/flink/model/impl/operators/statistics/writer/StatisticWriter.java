@@ -17,14 +17,53 @@ package org.gradoop.flink.model.impl.operators.statistics.writer;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
 import org.apache.flink.core.fs.FileSystem.WriteMode;
+import org.apache.flink.core.fs.Path;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.statistics.GraphStatisticsCounts;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ByStatistic;
 
 /**
  * Class to write the statistic of a graph in a file.
  */
 public class StatisticWriter {
 
+  /**
+   * Files of {@link #writeGraphStatistics} containing a single value.
+   */
+  private static final String[] SINGLE_VALUE_FILES = {
+    GraphStatisticsReader.FILE_VERTEX_COUNT,
+    GraphStatisticsReader.FILE_EDGE_COUNT,
+    GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT,
+    GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT
+  };
+
+  /**
+   * Files of {@link #writeGraphStatistics} containing a value per key.
+   */
+  private static final String[] KEY_VALUE_FILES = {
+    GraphStatisticsReader.FILE_VERTEX_COUNT_BY_LABEL,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_SOURCE_VERTEX_COUNT_BY_EDGE_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_TARGET_VERTEX_COUNT_BY_EDGE_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES,
+    GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES
+  };
+
+  /**
+   * Files of {@link #writeGraphStatistics} containing a value per key and sub key.
+   */
+  private static final String[] NESTED_KEY_VALUE_FILES = {
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_SOURCE_VERTEX_AND_EDGE_LABEL,
+    GraphStatisticsReader.FILE_EDGE_COUNT_BY_TARGET_VERTEX_AND_EDGE_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_EDGE_PROPERTIES_BY_LABEL,
+    GraphStatisticsReader.FILE_DISTINCT_VERTEX_PROPERTIES_BY_LABEL
+  };
+
   /**
    * Write the statistic for a given logical graph in a CSV file.
    * @param tuples tuples the tuples to write (one row per tuple, tuple fields separated by
@@ -53,4 +92,28 @@ public class StatisticWriter {
         overWrite ? WriteMode.OVERWRITE : WriteMode.NO_OVERWRITE)
        .setParallelism(1);
   }
+
+  /**
+   * Writes the statistics computed by {@link GraphStatisticsCounts} to the files read by
+   * {@link org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsHDFSReader}.
+   *
+   * @param counts statistic counts {@code (statistic, key, subKey, count)}
+   * @param directory the directory to write the files in
+   * @param overWrite should the target files be overwritten if they already exist?
+   */
+  public static void writeGraphStatistics(final DataSet<Tuple4<String, String, String, Long>> counts,
+      final String directory, final boolean overWrite) {
+    for (String file : SINGLE_VALUE_FILES) {
+      writeCSV(counts.filter(new ByStatistic(file)).<Tuple1<Long>>project(3),
+        new Path(directory, file).toString(), overWrite);
+    }
+    for (String file : KEY_VALUE_FILES) {
+      writeCSV(counts.filter(new ByStatistic(file)).<Tuple2<String, Long>>project(1, 3),
+        new Path(directory, file).toString(), overWrite);
+    }
+    for (String file : NESTED_KEY_VALUE_FILES) {
+      writeCSV(counts.filter(new ByStatistic(file)).<Tuple3<String, String, Long>>project(1, 2, 3),
+        new Path(directory, file).toString(), overWrite);
+    }
+  }
 }
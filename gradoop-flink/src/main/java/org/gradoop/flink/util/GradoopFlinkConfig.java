@@ -20,6 +20,8 @@ import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
 import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyKeyDictionary;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
@@ -160,4 +162,25 @@ public class GradoopFlinkConfig extends GradoopConfig<EPGMGraphHead, EPGMVertex,
     factory.setGradoopFlinkConfig(this);
     graphCollectionFactory.setLayoutFactory(factory);
   }
+
+  /**
+   * Enables the dictionary encoding of property keys. All EPGM elements serialized by jobs of
+   * the execution environment write the keys contained in the dictionary as ids instead of
+   * strings, e.g. when data is shuffled or spilled to disk.
+   *
+   * @param dictionary property key dictionary, e.g. created from the keys of the input meta data
+   */
+  public void setPropertyKeyDictionary(PropertyKeyDictionary dictionary) {
+    Objects.requireNonNull(dictionary);
+    dictionary.register(executionEnvironment.getConfig());
+  }
+
+  /**
+   * Enables the lazy deserialization of properties. EPGM elements deserialized by jobs of the
+   * execution environment keep their properties in serialized form until a property is accessed,
+   * e.g. when elements are only shuffled or filtered by label.
+   */
+  public void enableLazyPropertyDeserialization() {
+    Properties.enableLazyDeserialization(executionEnvironment.getConfig());
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.columnar.encoding.ColumnBlock;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.GraphCollectionFactory;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ColumnarDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testWrite() throws Exception {
+    checkColumnarWrite(getSocialNetworkLoader().getGraphCollection());
+  }
+
+  @Test
+  public void testWriteLogicalGraph() throws Exception {
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+
+    String path = temporaryFolder.getRoot().getPath();
+    new ColumnarDataSink(path, getConfig()).write(input, true);
+    getExecutionEnvironment().execute();
+
+    collectAndAssertTrue(input.equalsByElementData(
+      new ColumnarDataSource(path, getConfig()).getLogicalGraph()));
+  }
+
+  @Test
+  public void testWriteWithDifferentPropertyTypes() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "vertices[" +
+        "(v1:A {keya:1, keyb:2, keyc:\"Foo\"})," +
+        "(v2:A {keya:1.2f, keyb:\"Bar\", keyc:2.3f})," +
+        "(v3:A {keya:\"Bar\", keyb:true})" +
+        "]" +
+        "edges[" +
+        "(v1)-[e1:a {keya:14, keyb:3, keyc:\"Foo\"}]->(v1)," +
+        "(v1)-[e2:a {keya:1.1f, keyb:\"Bar\", keyc:2.5f}]->(v1)," +
+        "(v1)-[e3:a {keya:true, keyb:3.13f}]->(v1)" +
+        "]");
+
+    checkColumnarWrite(loader.getGraphCollectionByVariables("vertices", "edges"));
+  }
+
+  @Test
+  public void testWriteSupportedProperties() throws Exception {
+    GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
+    Properties properties = Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES);
+    EPGMGraphHead graphHead = factory.getGraphHeadFactory().createGraphHead("G", properties);
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(graphHead.getId());
+    EPGMVertex vertex = factory.getVertexFactory().createVertex("V", properties, graphIds);
+    EPGMEdge edge = factory.getEdgeFactory()
+      .createEdge("E", vertex.getId(), vertex.getId(), properties, graphIds);
+
+    checkColumnarWrite(factory.fromCollections(
+      Collections.singletonList(graphHead), Collections.singletonList(vertex),
+      Collections.singletonList(edge)));
+  }
+
+  @Test
+  public void testWriteMultipleBlocks() throws Exception {
+    GraphCollectionFactory factory = getConfig().getGraphCollectionFactory();
+    EPGMGraphHead graphHead = factory.getGraphHeadFactory().createGraphHead("G");
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(graphHead.getId());
+    List<EPGMVertex> vertices = new ArrayList<>();
+    List<EPGMEdge> edges = new ArrayList<>();
+    for (int i = 0; i < ColumnBlock.MAX_ROWS * 2 + 1; i++) {
+      Properties properties = Properties.create();
+      properties.set("id", i);
+      properties.set("parity", i % 2 == 0 ? "even" : "odd");
+      if (i % 3 == 0) {
+        properties.set("name", "v" + i);
+      }
+      vertices.add(factory.getVertexFactory()
+        .createVertex(i % 5 == 0 ? "A" : "B", properties, graphIds));
+      if (i > 0) {
+        edges.add(factory.getEdgeFactory().createEdge("e", vertices.get(i - 1).getId(),
+          vertices.get(i).getId(), graphIds));
+      }
+    }
+
+    checkColumnarWrite(factory.fromCollections(
+      Collections.singletonList(graphHead), vertices, edges));
+  }
+
+  /**
+   * Writes and reads the given graph collection and compares the result with the input.
+   *
+   * @param input graph collection
+   * @throws Exception if the execution or IO fails.
+   */
+  private void checkColumnarWrite(GraphCollection input) throws Exception {
+    String path = temporaryFolder.getRoot().getPath();
+    DataSink dataSink = new ColumnarDataSink(path, getConfig());
+    dataSink.write(input, true);
+    getExecutionEnvironment().execute();
+
+    DataSource dataSource = new ColumnarDataSource(path, getConfig());
+    collectAndAssertTrue(input.equalsByGraphElementData(dataSource.getGraphCollection()));
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.encoding;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.api.entities.Element;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.metadata.MetaData;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.common.model.impl.pojo.EPGMVertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnBlockTest {
+
+  @Test
+  public void testVertices() throws IOException {
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+    List<EPGMVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Properties properties = Properties.create();
+      properties.set("id", i);
+      if (i % 2 == 0) {
+        properties.set("name", "v" + i);
+      }
+      vertices.add(new EPGMVertexFactory().createVertex("A", properties,
+        i % 3 == 0 ? graphIds : new GradoopIdSet()));
+    }
+    List<PropertyMetaData> schema = new ArrayList<>();
+    schema.add(new PropertyMetaData("id", "int", null));
+    schema.add(new PropertyMetaData("name", "string", null));
+
+    ColumnBlockReader reader = read(vertices, schema);
+
+    assertEquals("A", reader.getLabel());
+    assertEquals(vertices.size(), reader.getRowCount());
+    for (int i = 0; i < vertices.size(); i++) {
+      EPGMVertex vertex = vertices.get(i);
+      assertEquals(vertex.getId(), reader.getId(i));
+      assertEquals(vertex.getGraphIds(), reader.getGraphIds(i));
+      assertEquals(vertex.getProperties(), reader.getProperties(i));
+    }
+  }
+
+  @Test
+  public void testEdges() throws IOException {
+    EPGMEdge edge = new EPGMEdgeFactory().createEdge("e", GradoopId.get(), GradoopId.get(),
+      GradoopIdSet.fromExisting(GradoopId.get()));
+
+    ColumnBlockReader reader = read(Collections.singletonList(edge), Collections.emptyList());
+
+    assertEquals(edge.getId(), reader.getId(0));
+    assertEquals(edge.getSourceId(), reader.getSourceId(0));
+    assertEquals(edge.getTargetId(), reader.getTargetId(0));
+    assertEquals(edge.getGraphIds(), reader.getGraphIds(0));
+    assertTrue(reader.getProperties(0).isEmpty());
+  }
+
+  @Test
+  public void testSupportedProperties() throws IOException {
+    Properties properties = Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES);
+    EPGMGraphHead graphHead = new EPGMGraphHeadFactory().createGraphHead("G", properties);
+    List<PropertyMetaData> schema = new ArrayList<>();
+    for (Property property : properties) {
+      schema.add(new PropertyMetaData(property.getKey(),
+        MetaData.getTypeString(property.getValue()), null));
+    }
+
+    ColumnBlockReader reader = read(Collections.singletonList(graphHead), schema);
+
+    assertEquals(properties, reader.getProperties(0));
+  }
+
+  @Test
+  public void testValuesNotMatchingMetaData() throws IOException {
+    EPGMVertexFactory factory = new EPGMVertexFactory();
+    List<EPGMVertex> vertices = new ArrayList<>();
+    vertices.add(factory.createVertex("A", Properties.createFromMap(
+      Collections.singletonMap("a", 1))));
+    vertices.add(factory.createVertex("A", Properties.createFromMap(
+      Collections.singletonMap("a", 1L))));
+    vertices.add(factory.createVertex("A", Properties.createFromMap(
+      Collections.singletonMap("b", "b"))));
+    List<PropertyMetaData> schema =
+      Collections.singletonList(new PropertyMetaData("a", "int", null));
+
+    ColumnBlockReader reader = read(vertices, schema);
+
+    for (int i = 0; i < vertices.size(); i++) {
+      assertEquals(vertices.get(i).getProperties(), reader.getProperties(i));
+    }
+  }
+
+  @Test
+  public void testDictionaryEncoding() throws IOException {
+    List<EPGMVertex> repeated = new ArrayList<>();
+    List<EPGMVertex> distinct = new ArrayList<>();
+    EPGMVertexFactory factory = new EPGMVertexFactory();
+    for (int i = 0; i < 1000; i++) {
+      repeated.add(factory.createVertex("A",
+        Properties.createFromMap(Collections.singletonMap("city", i % 2 == 0 ? "a" : "b"))));
+      distinct.add(factory.createVertex("A",
+        Properties.createFromMap(Collections.singletonMap("city", Integer.toString(i)))));
+    }
+    List<PropertyMetaData> schema =
+      Collections.singletonList(new PropertyMetaData("city", "string", null));
+
+    try (ColumnBlockWriter writer = new ColumnBlockWriter()) {
+      byte[] repeatedBlock = writer.write("A", repeated, schema);
+      byte[] distinctBlock = writer.write("A", distinct, schema);
+      assertTrue(repeatedBlock.length < distinctBlock.length);
+
+      try (ColumnBlockReader reader = new ColumnBlockReader()) {
+        reader.read(repeatedBlock);
+        assertEquals("b", reader.getProperties(999).get("city").getString());
+        reader.read(distinctBlock);
+        assertEquals("999", reader.getProperties(999).get("city").getString());
+        assertFalse(reader.getProperties(0).containsKey("name"));
+        assertNull(reader.getProperties(0).get("name"));
+      }
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testInvalidBlock() throws IOException {
+    try (ColumnBlockReader reader = new ColumnBlockReader()) {
+      reader.read(new byte[] {0, 1, 0, 1, 'A', 5});
+    }
+  }
+
+  private ColumnBlockReader read(List<? extends Element> elements,
+    List<PropertyMetaData> schema) throws IOException {
+    ColumnBlockReader reader = new ColumnBlockReader();
+    try (ColumnBlockWriter writer = new ColumnBlockWriter()) {
+      reader.read(writer.write(elements.get(0).getLabel(), elements, schema));
+    }
+    return reader;
+  }
+}
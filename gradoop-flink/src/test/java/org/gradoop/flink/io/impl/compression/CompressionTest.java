@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.compression;
+
+import org.apache.flink.core.fs.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompressionTest {
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testOfFile() {
+    assertThat(Compression.ofFile("1.bz2"), is(Compression.BZIP2));
+    assertThat(Compression.ofFile("1.gz"), is(Compression.GZIP));
+    assertThat(Compression.ofFile("1.deflate"), is(Compression.DEFLATE));
+    assertThat(Compression.ofFile("vertices.csv"), is(Compression.NONE));
+  }
+
+  @Test
+  public void testContainsCompressedFiles() throws IOException {
+    File plain = temporaryFolder.newFolder("plain");
+    new File(plain, "1").createNewFile();
+    File compressed = temporaryFolder.newFolder("compressed");
+    new File(compressed, "1.bz2").createNewFile();
+
+    assertThat(Compression.containsCompressedFiles(new Path(plain.toURI())), is(false));
+    assertThat(Compression.containsCompressedFiles(new Path(compressed.toURI())), is(true));
+    assertThat(Compression.containsCompressedFiles(
+      new Path(new File(compressed, "1.bz2").toURI())), is(true));
+  }
+}
@@ -30,18 +30,21 @@ import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.Compression;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaData;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -50,6 +53,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Tests CSVDataSink
  */
@@ -67,6 +73,59 @@ public class CSVDataSinkTest extends CSVTestBase {
     checkCSVWrite(tmpPath, graphCollection);
   }
 
+  /**
+   * Test writing and reading compressed CSV files.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteCompressed() throws Exception {
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    for (Compression compression : new Compression[] {Compression.BZIP2, Compression.GZIP}) {
+      String tmpPath = temporaryFolder.newFolder().getPath();
+
+      new CSVDataSink(tmpPath, getConfig()).setCompression(compression).write(input, true);
+      getExecutionEnvironment().execute();
+
+      File[] files = new File(tmpPath, "vertices.csv").listFiles();
+      assertTrue(files != null && files.length > 0);
+      for (File file : files) {
+        assertTrue(file.getName(), file.getName().endsWith(compression.getExtension()));
+      }
+
+      GraphCollection output = new CSVDataSource(tmpPath, getConfig()).getGraphCollection();
+      collectAndAssertTrue(input.equalsByGraphElementData(output));
+    }
+  }
+
+  /**
+   * Test writing the graph statistics together with the graph and reading them from the source.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteWithStatistics() throws Exception {
+    String tmpPath = temporaryFolder.newFolder().getPath();
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+
+    new CSVDataSink(tmpPath, getConfig()).setWriteStatistics(true).write(input, true);
+    getExecutionEnvironment().execute();
+
+    CSVDataSource source = new CSVDataSource(tmpPath, getConfig());
+    assertTrue(source.hasStatistics());
+    GraphStatistics statistics = source.getStatistics();
+    assertEquals(11L, statistics.getVertexCount());
+    assertEquals(24L, statistics.getEdgeCount());
+    assertEquals(6L, statistics.getVertexCount("Person"));
+    assertEquals(10L, statistics.getEdgeCountBySource("Person", "knows"));
+    assertEquals(6L, statistics.getDistinctSourceVertexCount("knows"));
+    assertEquals(3L, statistics.getDistinctVertexProperties("Person", "city"));
+
+    collectAndAssertTrue(input.getCollectionFactory().fromGraph(input)
+      .equalsByGraphElementData(source.getGraphCollection()));
+  }
+
   /**
    * Test CSVDataSink to write a graph with different property types
    * using the same label on different elements with the same label.
@@ -15,11 +15,25 @@
  */
 package org.gradoop.flink.io.impl.csv;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.predicate.filter.impl.CSVLabelIn;
+import org.gradoop.flink.io.impl.csv.predicate.filter.impl.CSVPropLargerThan;
+import org.gradoop.flink.io.impl.csv.predicate.filter.impl.CSVPropReg;
+import org.gradoop.flink.io.impl.csv.predicate.query.CSVElementQuery;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class CSVDataSourceTest extends CSVTestBase {
 
   @Test
@@ -36,6 +50,25 @@ public class CSVDataSourceTest extends CSVTestBase {
     collectAndAssertTrue(input.equalsByGraphElementData(expected));
   }
 
+  /**
+   * Test reading a graph collection through memory mapped buffers.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadMemoryMapped() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_graph_collection");
+
+    String gdlPath = getFilePath("/data/csv/expected/expected_graph_collection.gdl");
+
+    DataSource dataSource = new CSVDataSource(csvPath, getConfig()).setMemoryMapped(true);
+    GraphCollection input = dataSource.getGraphCollection();
+    GraphCollection expected = getLoaderFromFile(gdlPath)
+      .getGraphCollectionByVariables("expected1", "expected2");
+
+    collectAndAssertTrue(input.equalsByGraphElementData(expected));
+  }
+
   /**
    * Test reading a logical graph from csv files with properties
    * that are supported by csv source and sink
@@ -58,4 +91,74 @@ public class CSVDataSourceTest extends CSVTestBase {
     dataSource.getLogicalGraph().getVertices().collect()
       .forEach(this::checkProperties);
   }
+
+  /**
+   * Test reading a graph collection with a label filter pushed down into the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithLabelPredicate() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_graph_collection");
+
+    CSVDataSource dataSource = new CSVDataSource(csvPath, getConfig())
+      .applyVertexPredicate(CSVElementQuery.create().where(new CSVLabelIn("A").negate()));
+    assertTrue(dataSource.isFilterPushedDown());
+
+    List<EPGMVertex> vertices = dataSource.getGraphCollection().getVertices().collect();
+
+    assertEquals(3, vertices.size());
+    vertices.forEach(vertex -> assertEquals("B", vertex.getLabel()));
+  }
+
+  /**
+   * Test reading a graph collection with property predicates and a projection pushed down into
+   * the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPropertyPredicateAndProjection() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_graph_collection");
+
+    CSVDataSource dataSource = new CSVDataSource(csvPath, getConfig())
+      .applyVertexPredicate(CSVElementQuery.create()
+        .where(new CSVLabelIn("A"))
+        .where(new CSVPropLargerThan("b", 30, true))
+        .project("a"))
+      .applyEdgePredicate(CSVElementQuery.create()
+        .where(new CSVPropLargerThan("b", 20f, false).or(new CSVPropLargerThan("a", 3000L, true)))
+        .project());
+
+    GraphCollection collection = dataSource.getGraphCollection();
+    List<EPGMVertex> vertices = collection.getVertices().collect();
+    List<EPGMEdge> edges = collection.getEdges().collect();
+
+    assertEquals(1, vertices.size());
+    assertEquals("foo", vertices.get(0).getPropertyValue("a").getString());
+    assertEquals(1, vertices.get(0).getPropertyCount());
+
+    assertEquals(2, edges.size());
+    edges.forEach(edge -> assertEquals(0, edge.getPropertyCount()));
+  }
+
+  /**
+   * Test that graph heads not matching a regular expression are skipped.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPropertyRegex() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_graph_collection");
+
+    CSVDataSource dataSource = new CSVDataSource(csvPath, getConfig())
+      .applyGraphPredicate(CSVElementQuery.create()
+        .where(new CSVPropReg("a", Pattern.compile(".*2"))));
+
+    List<EPGMGraphHead> graphHeads = dataSource.getGraphCollection().getGraphHeads().collect();
+
+    assertEquals(1, graphHeads.size());
+    assertEquals("g2", graphHeads.get(0).getLabel());
+    assertFalse(new CSVDataSource(csvPath, getConfig()).isFilterPushedDown());
+  }
 }
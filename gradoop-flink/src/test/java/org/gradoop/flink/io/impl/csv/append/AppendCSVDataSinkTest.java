@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.append;
+
+import org.apache.hadoop.conf.Configuration;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AppendCSVDataSink} and {@link AppendCSVDataSource}.
+ */
+public class AppendCSVDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Appends a delta updating, adding and removing elements, reads the merged graph and compacts
+   * the deltas.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testAppendAndCompact() throws Exception {
+    String root = temporaryFolder.newFolder().getPath();
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g[(a:A {v : 1})-[e1:e]->(b:B {v : 1}), (b)-[e2:e]->(a)]");
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g");
+
+    AppendCSVDataSource source = new AppendCSVDataSource(root, getConfig());
+    assertEquals(0, source.getDeltaCount());
+    assertTrue(source.getGraphCollection().getVertices().collect().isEmpty());
+
+    new AppendCSVDataSink(root, getConfig()).write(graph);
+    getExecutionEnvironment().execute();
+    assertEquals(1, source.getDeltaCount());
+
+    // update a, add c and remove e2
+    EPGMVertex a = loader.getVertexByVariable("a");
+    a.setProperty("v", 2);
+    EPGMVertex c = getConfig().getLogicalGraphFactory().getVertexFactory().createVertex("C");
+    c.setGraphIds(a.getGraphIds());
+    GradoopId e2 = loader.getEdgeByVariable("e2").getId();
+    GraphCollection delta = getConfig().getGraphCollectionFactory().fromCollections(
+      Collections.emptyList(), Arrays.asList(a, c), Collections.emptyList());
+    new AppendCSVDataSink(root, getConfig())
+      .append(delta, getExecutionEnvironment().fromElements(e2));
+    getExecutionEnvironment().execute();
+    assertEquals(2, source.getDeltaCount());
+
+    checkMerged(source.getGraphCollection(), loader);
+
+    new AppendCSVDataSink(root, getConfig()).compact();
+    getExecutionEnvironment().execute();
+    assertEquals(1, source.getDeltaCount());
+    List<String> deltaDirectories = Arrays.stream(new File(root).list())
+      .filter(name -> name.startsWith(CSVManifest.DELTA_PREFIX))
+      .collect(Collectors.toList());
+    assertEquals(CSVManifest.read(root, new Configuration()),
+      deltaDirectories);
+
+    checkMerged(source.getGraphCollection(), loader);
+  }
+
+  /**
+   * Checks that a delta is not visible before its job was executed.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testUncommittedDelta() throws Exception {
+    String root = temporaryFolder.newFolder().getPath();
+    LogicalGraph graph = getLoaderFromString("g[(a:A)-[e:e]->(b:B)]").getLogicalGraphByVariable("g");
+
+    new AppendCSVDataSink(root, getConfig()).write(graph);
+    assertFalse(Arrays.stream(new File(root).list())
+      .anyMatch(name -> name.startsWith(CSVManifest.MANIFEST_PREFIX)));
+    assertEquals(0, new AppendCSVDataSource(root, getConfig()).getDeltaCount());
+  }
+
+  /**
+   * Checks that multiple deltas written by the same job are committed to different directories.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testMultipleDeltasPerJob() throws Exception {
+    String root = temporaryFolder.newFolder().getPath();
+    FlinkAsciiGraphLoader loader = getLoaderFromString("g[(a:A)-[e:e]->(b:B)] h[(c:C)]");
+
+    AppendCSVDataSink sink = new AppendCSVDataSink(root, getConfig());
+    sink.write(loader.getLogicalGraphByVariable("g"));
+    sink.write(loader.getLogicalGraphByVariable("h"));
+    getExecutionEnvironment().execute();
+
+    AppendCSVDataSource source = new AppendCSVDataSource(root, getConfig());
+    assertEquals(2, source.getDeltaCount());
+    assertEquals(3, source.getGraphCollection().getVertices().count());
+  }
+
+  /**
+   * Checks that a manifest version can only be committed once and that a writer based on an
+   * outdated version is rejected.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testConcurrentManifestCommit() throws Exception {
+    String root = temporaryFolder.newFolder().getPath();
+    Configuration hdfsConfig = new Configuration();
+
+    assertEquals(-1, CSVManifest.version(root, hdfsConfig));
+    assertTrue(CSVManifest.write(root, -1, Collections.singletonList("delta-000000"), hdfsConfig));
+    assertFalse(CSVManifest.write(root, -1, Collections.singletonList("delta-000001"), hdfsConfig));
+    assertTrue(CSVManifest.write(root, 0, Arrays.asList("delta-000000", "delta-000002"),
+      hdfsConfig));
+
+    assertEquals(1, CSVManifest.version(root, hdfsConfig));
+    assertEquals(Arrays.asList("delta-000000", "delta-000002"),
+      CSVManifest.read(root, hdfsConfig));
+    assertFalse(Arrays.stream(new File(root).list()).anyMatch(name -> name.endsWith(".tmp")));
+  }
+
+  /**
+   * Checks that a compaction keeps the directories of unlisted deltas, which may belong to
+   * running jobs, and that they are deleted explicitly once they are stale.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testDeleteStaleDeltas() throws Exception {
+    String root = temporaryFolder.newFolder().getPath();
+    LogicalGraph graph = getLoaderFromString("g[(a:A)-[e:e]->(b:B)]").getLogicalGraphByVariable("g");
+
+    AppendCSVDataSink sink = new AppendCSVDataSink(root, getConfig());
+    sink.write(graph);
+    getExecutionEnvironment().execute();
+
+    // a delta reserved by a job which is not executed yet
+    String reserved = CSVManifest.reserveDelta(root, new Configuration());
+
+    sink.compact();
+    getExecutionEnvironment().execute();
+
+    List<String> deltaDirectories = deltaDirectories(root);
+    assertEquals(2, deltaDirectories.size());
+    assertTrue(deltaDirectories.contains(reserved));
+    assertTrue(CSVManifest.isReserved(root, reserved, new Configuration()));
+
+    assertTrue(sink.deleteStaleDeltas(TimeUnit.HOURS.toMillis(1)).isEmpty());
+    assertEquals(deltaDirectories, deltaDirectories(root));
+
+    assertEquals(Collections.singletonList(reserved), sink.deleteStaleDeltas(0));
+    assertEquals(CSVManifest.read(root, new Configuration()), deltaDirectories(root));
+    assertEquals(2, new AppendCSVDataSource(root, getConfig()).getGraphCollection()
+      .getVertices().count());
+  }
+
+  /**
+   * Returns the sorted names of the delta directories.
+   *
+   * @param root root directory
+   * @return delta directory names
+   */
+  private List<String> deltaDirectories(String root) {
+    return Arrays.stream(new File(root).list())
+      .filter(name -> name.startsWith(CSVManifest.DELTA_PREFIX))
+      .sorted()
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Checks the merged graph of the test.
+   *
+   * @param collection merged graph collection
+   * @param loader loader of the initial graph
+   * @throws Exception on failure
+   */
+  private void checkMerged(GraphCollection collection, FlinkAsciiGraphLoader loader)
+    throws Exception {
+    Map<String, EPGMVertex> vertices = collection.getVertices().collect().stream()
+      .collect(Collectors.toMap(EPGMVertex::getLabel, v -> v));
+    List<EPGMEdge> edges = collection.getEdges().collect();
+
+    assertEquals(3, vertices.size());
+    assertEquals(loader.getVertexByVariable("a").getId(), vertices.get("A").getId());
+    assertEquals(2, vertices.get("A").getPropertyValue("v").getInt());
+    assertEquals(1, vertices.get("B").getPropertyValue("v").getInt());
+    assertTrue(vertices.containsKey("C"));
+    assertEquals(1, edges.size());
+    assertEquals(loader.getEdgeByVariable("e1").getId(), edges.get(0).getId());
+    assertEquals(1, collection.getGraphHeads().count());
+  }
+}
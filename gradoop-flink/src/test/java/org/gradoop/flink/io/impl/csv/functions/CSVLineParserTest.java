@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.csv.functions;
+
+import com.google.common.collect.ImmutableSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.metadata.PropertyMetaData;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the CSV line parser.
+ */
+public class CSVLineParserTest {
+  /**
+   * Property meta data of the test lines.
+   */
+  private static final List<PropertyMetaData> META_DATA = Arrays.asList(
+    new PropertyMetaData("int", "int", Integer::parseInt),
+    new PropertyMetaData("long", "long", Long::parseLong),
+    new PropertyMetaData("short", "short", Short::parseShort),
+    new PropertyMetaData("bool", "boolean", Boolean::parseBoolean),
+    new PropertyMetaData("string", "string", StringEscaper::unescape),
+    new PropertyMetaData("double", "double", Double::parseDouble),
+    new PropertyMetaData("id", "gradoopid", GradoopId::fromString));
+
+  /**
+   * Test parsing ids, labels and property values of a line.
+   */
+  @Test
+  public void testParseLine() {
+    GradoopId id = GradoopId.get();
+    GradoopId graphId1 = GradoopId.get();
+    GradoopId graphId2 = GradoopId.get();
+    String line = id + ";[" + graphId1 + ", " + graphId2 + "];La\\;bel;" +
+      "-42|9000000000|-7|TRUE|a\\|b\\nc|1.5|" + id;
+
+    CSVLineParser parser = new CSVLineParser().reset(line);
+    assertEquals(id, parser.nextId());
+    GradoopIdSet graphIds = parser.nextIdSet();
+    assertEquals(2, graphIds.size());
+    assertTrue(graphIds.contains(graphId1));
+    assertTrue(graphIds.contains(graphId2));
+    assertEquals("La;bel", parser.nextLabel());
+
+    Properties properties = Properties.create();
+    parser.nextProperties(META_DATA, null, properties);
+    assertEquals(7, properties.size());
+    assertEquals(PropertyValue.create(-42), properties.get("int"));
+    assertEquals(PropertyValue.create(9000000000L), properties.get("long"));
+    assertEquals(PropertyValue.create((short) -7), properties.get("short"));
+    assertEquals(PropertyValue.create(true), properties.get("bool"));
+    assertEquals(PropertyValue.create("a|b\nc"), properties.get("string"));
+    assertEquals(PropertyValue.create(1.5d), properties.get("double"));
+    assertEquals(PropertyValue.create(id), properties.get("id"));
+  }
+
+  /**
+   * Test parsing a line from its UTF-8 encoded bytes.
+   */
+  @Test
+  public void testParseBytes() {
+    GradoopId id = GradoopId.get();
+    GradoopId graphId = GradoopId.get();
+    String line = id + ";[" + graphId + "];L\u00e4\\;bel;" +
+      "-42|9000000000|-7|true|\u00fc\\|\u20ac|1.5|" + id + "\n";
+    byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+
+    CSVLineParser parser = new CSVLineParser().reset(bytes, bytes.length - 1);
+    assertEquals(id, parser.nextId());
+    GradoopIdSet graphIds = parser.nextIdSet();
+    assertEquals(1, graphIds.size());
+    assertTrue(graphIds.contains(graphId));
+    assertEquals("L\u00e4;bel", parser.nextLabel());
+
+    Properties properties = Properties.create();
+    parser.nextProperties(META_DATA, null, properties);
+    assertEquals(7, properties.size());
+    assertEquals(PropertyValue.create(-42), properties.get("int"));
+    assertEquals(PropertyValue.create(9000000000L), properties.get("long"));
+    assertEquals(PropertyValue.create((short) -7), properties.get("short"));
+    assertEquals(PropertyValue.create(true), properties.get("bool"));
+    assertEquals(PropertyValue.create("\u00fc|\u20ac"), properties.get("string"));
+    assertEquals(PropertyValue.create(1.5d), properties.get("double"));
+    assertEquals(PropertyValue.create(id), properties.get("id"));
+  }
+
+  /**
+   * Test that empty and not required property values are skipped.
+   */
+  @Test
+  public void testParseRequiredProperties() {
+    Properties properties = Properties.create();
+    new CSVLineParser().reset("1||3|false||x|").nextProperties(META_DATA,
+      ImmutableSet.of("int", "short", "bool", "long"), properties);
+
+    assertEquals(3, properties.size());
+    assertEquals(PropertyValue.create(1), properties.get("int"));
+    assertEquals(PropertyValue.create((short) 3), properties.get("short"));
+    assertEquals(PropertyValue.create(false), properties.get("bool"));
+    assertNull(properties.get("long"));
+    assertFalse(properties.containsKey("string"));
+  }
+
+  /**
+   * Test that the label of the previous line is reused.
+   */
+  @Test
+  public void testReuseLabel() {
+    CSVLineParser parser = new CSVLineParser();
+    String label = parser.reset("Person;").nextLabel();
+    assertEquals("Person", label);
+    assertSame(label, parser.reset("Person;").nextLabel());
+    assertEquals("City", parser.reset("City").nextLabel());
+  }
+
+  /**
+   * Test parsing the values of a token consisting of tuples.
+   */
+  @Test
+  public void testParseTuples() {
+    CSVLineParser parser = new CSVLineParser().reset("(1,-2),(+3,4);5");
+    parser.skip('(');
+    assertEquals(1L, parser.nextLong(','));
+    assertEquals(-2L, parser.nextLong(')'));
+    parser.skip(',');
+    parser.skip('(');
+    assertEquals(3L, parser.nextLong(','));
+    assertEquals(4L, parser.nextLong(')'));
+    parser.endToken();
+    assertEquals(5L, parser.nextLong());
+  }
+
+  /**
+   * Test parsing values exceeding the range of their type.
+   */
+  @Test(expected = NumberFormatException.class)
+  public void testParseIntOverflow() {
+    new CSVLineParser().reset("2147483648").nextProperties(META_DATA, null, Properties.create());
+  }
+
+  /**
+   * Test parsing invalid integral values.
+   */
+  @Test(expected = NumberFormatException.class)
+  public void testParseInvalidLong() {
+    new CSVLineParser().reset("|12a").nextProperties(META_DATA, null, Properties.create());
+  }
+
+  /**
+   * Test parsing invalid ids.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseInvalidId() {
+    new CSVLineParser().reset("12345678910111211314151G;").nextId();
+  }
+}
@@ -28,15 +28,19 @@ import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.Compression;
+import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.graphcontainment.AddToGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -44,6 +48,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Test class for an indexed csv data sink
  */
@@ -66,6 +74,136 @@ public class IndexedCSVDataSinkTest extends GradoopFlinkTestBase {
     checkIndexedCSVWrite(tmpPath, input);
   }
 
+  /**
+   * Test writing and reading a compressed indexed csv graph collection.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).setCompression(Compression.BZIP2)
+      .write(input, true);
+    getExecutionEnvironment().execute();
+
+    GraphCollection output = new IndexedCSVDataSource(tmpPath, getConfig()).getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+
+  /**
+   * Test writing the graph statistics together with an indexed csv graph.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteWithStatistics() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph();
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).setWriteStatistics(true).write(input, true);
+    getExecutionEnvironment().execute();
+
+    IndexedCSVDataSource source = new IndexedCSVDataSource(tmpPath, getConfig());
+    assertTrue(source.hasStatistics());
+    GraphStatistics statistics = source.getStatistics();
+    assertEquals(11L, statistics.getVertexCount());
+    assertEquals(24L, statistics.getEdgeCount());
+    assertEquals(6L, statistics.getVertexCount("Person"));
+
+    collectAndAssertTrue(input.getCollectionFactory().fromGraph(input)
+      .equalsByGraphElementData(source.getGraphCollection()));
+  }
+
+  /**
+   * Test writing an indexed csv graph partitioned by label, which writes one file per label.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWritePartitionedByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).setPartitionByLabel(true).write(input, true);
+    getExecutionEnvironment().execute();
+
+    for (String elements : new String[] {"graphs", "vertices", "edges"}) {
+      File[] labelDirectories = new File(tmpPath, elements).listFiles();
+      assertNotNull(labelDirectories);
+      for (File labelDirectory : labelDirectories) {
+        File file = new File(labelDirectory, CSVConstants.SIMPLE_FILE);
+        String[] parts = file.list();
+        assertTrue(file.getPath(), file.isFile() || (parts != null && parts.length == 1));
+      }
+    }
+
+    GraphCollection output = new IndexedCSVDataSource(tmpPath, getConfig()).getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+
+  /**
+   * Test writing an indexed csv graph without grouping the elements of each task by label.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testWriteUngroupedByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    GraphCollection input = getSocialNetworkLoader().getGraphCollection();
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).setGroupByLabel(false).write(input, true);
+    getExecutionEnvironment().execute();
+
+    GraphCollection output = new IndexedCSVDataSource(tmpPath, getConfig()).getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphElementData(output));
+  }
+
+  /**
+   * Test that each task of the default write path writes the files of one label after another,
+   * i.e. keeps at most one file open, independent of the number of labels. The format closes the
+   * file of a label before it opens the next one and fails if a label reappears.
+   *
+   * @throws Exception if the execution or IO fails.
+   */
+  @Test
+  public void testDefaultWriteKeepsOneFileOpen() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    int labelCount = 64;
+    StringBuilder gdl = new StringBuilder("g[");
+    for (int i = 0; i < labelCount; i++) {
+      gdl.append(String.format("(v%d:V%d)-[:e%d]->(w%d:W%d)", i, i, i, i, i % 2));
+    }
+    gdl.append("]");
+    LogicalGraph input = getLoaderFromString(gdl.toString()).getLogicalGraphByVariable("g");
+
+    new IndexedCSVDataSink(tmpPath, getConfig()).write(input, true);
+    getExecutionEnvironment().execute();
+
+    int parallelism = getExecutionEnvironment().getParallelism();
+    File[] labelDirectories = new File(tmpPath, "vertices").listFiles();
+    assertNotNull(labelDirectories);
+    assertEquals(labelCount + 2, labelDirectories.length);
+    for (File labelDirectory : labelDirectories) {
+      File file = new File(labelDirectory, CSVConstants.SIMPLE_FILE);
+      String[] parts = file.list();
+      assertTrue(file.getPath(), file.isFile() || (parts != null && parts.length <= parallelism));
+    }
+
+    LogicalGraph output = new IndexedCSVDataSource(tmpPath, getConfig()).getLogicalGraph();
+
+    collectAndAssertTrue(input.equalsByElementData(output));
+  }
+
   /**
    * Test writing a logical csv graph.
    *
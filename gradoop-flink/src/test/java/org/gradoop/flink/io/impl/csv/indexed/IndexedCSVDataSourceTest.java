@@ -15,12 +15,21 @@
  */
 package org.gradoop.flink.io.impl.csv.indexed;
 
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.csv.predicate.filter.impl.CSVLabelIn;
+import org.gradoop.flink.io.impl.csv.predicate.filter.impl.CSVPropEquals;
+import org.gradoop.flink.io.impl.csv.predicate.query.CSVElementQuery;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
 import org.junit.Test;
 
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
 /**
  * Test class for indexed csv data source
  */
@@ -46,6 +55,26 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
     collectAndAssertTrue(input.equalsByGraphData(expected));
   }
 
+  /**
+   * Test reading an indexed graph collection through memory mapped buffers.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadMemoryMapped() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed_graph_collection");
+
+    String gdlPath = getFilePath("/data/csv/expected/expected_graph_collection.gdl");
+
+    DataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig()).setMemoryMapped(true);
+    GraphCollection input = dataSource.getGraphCollection();
+
+    GraphCollection expected = getLoaderFromFile(gdlPath)
+      .getGraphCollectionByVariables("expected1", "expected2");
+
+    collectAndAssertTrue(input.equalsByGraphData(expected));
+  }
+
   /**
    * Test reading a single logical indexed csv graph.
    *
@@ -84,4 +113,51 @@ public class IndexedCSVDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(input.equalsByGraphData(expected));
   }
+
+  /**
+   * Test reading an indexed csv graph collection with queries pushed down into the source.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithPredicates() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed_graph_collection");
+
+    IndexedCSVDataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig())
+      .applyVertexPredicate(CSVElementQuery.create().where(new CSVLabelIn("B")).project("a"))
+      .applyEdgePredicate(CSVElementQuery.create()
+        .where(new CSVLabelIn("a").and(new CSVPropEquals("a", 5678))));
+
+    GraphCollection collection = dataSource.getGraphCollection();
+    List<EPGMVertex> vertices = collection.getVertices().collect();
+    List<EPGMEdge> edges = collection.getEdges().collect();
+
+    assertEquals(3, vertices.size());
+    for (EPGMVertex vertex : vertices) {
+      assertEquals("B", vertex.getLabel());
+      assertEquals(1, vertex.getPropertyCount());
+    }
+    assertEquals(1, edges.size());
+    assertEquals(5678, edges.get(0).getPropertyValue("a").getInt());
+  }
+
+  /**
+   * Test reading an indexed csv graph collection if a query excludes all labels.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadWithoutMatchingLabels() throws Exception {
+    String csvPath = getFilePath("/data/csv/input_indexed_graph_collection");
+
+    IndexedCSVDataSource dataSource = new IndexedCSVDataSource(csvPath, getConfig())
+      .applyGraphPredicate(CSVElementQuery.create().where(new CSVLabelIn("unknown")))
+      .applyVertexPredicate(CSVElementQuery.create().where(new CSVLabelIn("unknown")));
+
+    GraphCollection collection = dataSource.getGraphCollection();
+
+    assertEquals(0, collection.getGraphHeads().count());
+    assertEquals(0, collection.getVertices().count());
+    assertEquals(6, collection.getEdges().count());
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.gdl;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Id;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GDLDataSourceTest extends GradoopFlinkTestBase {
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReadGraphCollection() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    DataSource dataSource = new GDLDataSource(writeSocialNetwork(), getConfig());
+
+    collectAndAssertTrue(dataSource.getGraphCollection()
+      .equalsByGraphElementData(loader.getGraphCollection()));
+  }
+
+  @Test
+  public void testReadElements() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph expected = getConfig().getLogicalGraphFactory()
+      .fromCollections(loader.getVertices(), loader.getEdges());
+
+    GraphCollection collection =
+      new GDLDataSource(writeSocialNetwork(), getConfig()).getGraphCollection();
+    LogicalGraph result = getConfig().getLogicalGraphFactory()
+      .fromDataSets(collection.getVertices(), collection.getEdges());
+
+    collectAndAssertTrue(result.equalsByElementData(expected));
+  }
+
+  @Test
+  public void testWriteAndRead() throws Exception {
+    GraphCollection expected = getSocialNetworkLoader()
+      .getGraphCollectionByVariables("g0", "g1", "g2", "g3");
+
+    String path = temporaryFolder.getRoot().getPath() + "/graph.gdl";
+    new GDLDataSink(path).write(expected, true);
+    getExecutionEnvironment().execute();
+
+    collectAndAssertTrue(new GDLDataSource(path, getConfig()).getGraphCollection()
+      .equalsByGraphElementData(expected));
+  }
+
+  @Test
+  public void testStableIds() throws Exception {
+    String path = writeSocialNetwork();
+
+    List<GradoopId> first = new GDLDataSource(path, getConfig()).getGraphCollection()
+      .getVertices().map(new Id<EPGMVertex>()).collect();
+    List<GradoopId> second = new GDLDataSource(path, getConfig()).getGraphCollection()
+      .getVertices().map(new Id<EPGMVertex>()).collect();
+
+    assertEquals(11, first.size());
+    assertEquals(new HashSet<>(first), new HashSet<>(second));
+  }
+
+  @Test
+  public void testConflictingDefinitionsAcrossFiles() throws Exception {
+    File directory = temporaryFolder.newFolder();
+    // v is defined by the second definition of a.gdl and the first definition of b.gdl
+    FileUtils.writeStringToFile(new File(directory, "a.gdl"), "(w:W)\n(v:A)",
+      StandardCharsets.UTF_8);
+    FileUtils.writeStringToFile(new File(directory, "b.gdl"), "(v:B)", StandardCharsets.UTF_8);
+
+    List<EPGMVertex> vertices = new GDLDataSource(directory.getPath(), getConfig())
+      .getGraphCollection().getVertices().collect();
+
+    assertEquals(2, vertices.size());
+    assertTrue(vertices.stream().anyMatch(v -> v.getLabel().equals("A")));
+    assertTrue(vertices.stream().noneMatch(v -> v.getLabel().equals("B")));
+  }
+
+  @Test
+  public void testStableIdsOfMovedFiles() throws Exception {
+    File directory = temporaryFolder.newFolder();
+    FileUtils.writeStringToFile(new File(directory, "graph.gdl"), "(:A)-->(:B)\n(:C)",
+      StandardCharsets.UTF_8);
+    File moved = new File(temporaryFolder.newFolder(), "moved");
+    FileUtils.copyDirectory(directory, moved);
+
+    List<GradoopId> first = new GDLDataSource(directory.getPath(), getConfig())
+      .getGraphCollection().getVertices().map(new Id<EPGMVertex>()).collect();
+    List<GradoopId> second = new GDLDataSource(moved.toURI().toString(), getConfig())
+      .getGraphCollection().getVertices().map(new Id<EPGMVertex>()).collect();
+
+    assertEquals(3, first.size());
+    assertEquals(new HashSet<>(first), new HashSet<>(second));
+  }
+
+  private String writeSocialNetwork() throws Exception {
+    File file = temporaryFolder.newFile();
+    try (InputStream inputStream =
+      getClass().getResourceAsStream(GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE)) {
+      FileUtils.writeStringToFile(file, IOUtils.toString(inputStream, StandardCharsets.UTF_8),
+        StandardCharsets.UTF_8);
+    }
+    return file.getPath();
+  }
+}
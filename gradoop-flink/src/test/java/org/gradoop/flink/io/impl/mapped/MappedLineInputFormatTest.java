@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MappedLineInputFormat}.
+ */
+public class MappedLineInputFormatTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Reads the encoded lines of a file with lines spanning several small windows.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadLines() throws Exception {
+    List<String> lines = new ArrayList<>();
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      String line = "line " + i + " €" + String.join("", Collections.nCopies(i % 11 * 7, "x"));
+      lines.add(line);
+      content.append(line).append(i % 2 == 0 ? "\r\n" : "\n");
+    }
+    File file = temporaryFolder.newFile("lines.csv");
+    Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+    MappedLineInputFormat format = new MappedLineInputFormat(new Path(file.getPath()), 16);
+    format.configure(new Configuration());
+    List<String> read = new ArrayList<>();
+    for (FileInputSplit split : format.createInputSplits(5)) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        byte[] line = format.nextRecord(null);
+        if (line != null) {
+          read.add(new String(line, StandardCharsets.UTF_8));
+        }
+      }
+      format.close();
+    }
+    assertEquals(lines, read);
+  }
+}
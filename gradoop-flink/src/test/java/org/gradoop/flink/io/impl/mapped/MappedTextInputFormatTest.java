@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mapped;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link MappedTextInputFormat}.
+ */
+public class MappedTextInputFormatTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Reads a file with empty, long and CRLF terminated lines using many splits and small windows.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadSplits() throws Exception {
+    List<String> lines = new ArrayList<>();
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      String line = i % 10 == 0 ? "" :
+        "line " + i + " \u00e4" + String.join("", Collections.nCopies(i % 7 * 9, "x"));
+      lines.add(line);
+      content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+    }
+    // last line without line break
+    lines.add("last");
+    content.append("last");
+    File file = temporaryFolder.newFile("lines.csv");
+    Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+    for (int splitCount : new int[] {1, 3, 17, 100}) {
+      MappedTextInputFormat format = new MappedTextInputFormat(new Path(file.getPath()), 32);
+      format.configure(new Configuration());
+      FileInputSplit[] splits = format.createInputSplits(splitCount);
+      assertTrue(splits.length >= splitCount);
+      List<String> read = new ArrayList<>();
+      for (FileInputSplit split : splits) {
+        format.open(split);
+        while (!format.reachedEnd()) {
+          String line = format.nextRecord(null);
+          if (line != null) {
+            read.add(line);
+          }
+        }
+        format.close();
+      }
+      assertEquals(lines, read);
+    }
+  }
+
+  /**
+   * Reads a text file through a Flink job.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadInJob() throws Exception {
+    File file = temporaryFolder.newFile("lines.csv");
+    Files.write(file.toPath(), "a\nb\n\nc\n".getBytes(StandardCharsets.UTF_8));
+
+    List<String> lines = getExecutionEnvironment()
+      .createInput(new MappedTextInputFormat(new Path(file.getPath())))
+      .collect();
+    Collections.sort(lines);
+
+    assertEquals(Arrays.asList("", "a", "b", "c"), lines);
+  }
+
+  /**
+   * Checks that compressed files are rejected.
+   *
+   * @throws Exception on failure
+   */
+  @Test(expected = IOException.class)
+  public void testCompressedFile() throws Exception {
+    File file = temporaryFolder.newFile("lines.csv.gz");
+    MappedTextInputFormat format = new MappedTextInputFormat(new Path(file.getPath()));
+    format.configure(new Configuration());
+    format.open(new FileInputSplit(0, new Path(file.getPath()), 0, -1, null));
+  }
+}
@@ -18,15 +18,21 @@ package org.gradoop.flink.io.impl.statistics;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.EquiDepthHistogram;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 public class GraphStatisticsDataSinkTest extends GradoopFlinkTestBase {
 
   @Rule
@@ -293,4 +299,59 @@ public class GraphStatisticsDataSinkTest extends GradoopFlinkTestBase {
     assertThat(statistics.getDistinctVertexProperties("title"),   is(2L));
   }
 
+  @Test
+  public void testWritePropertyValueHistogramsByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    assertThat(statistics.getVertexPropertyHistogram("Person", "age"),
+      is(new EquiDepthHistogram(Arrays.asList(
+        bucket(20, 20, 1L), bucket(30, 30, 2L), bucket(35, 35, 2L), bucket(40, 40, 1L)))));
+    assertThat(statistics.getEdgePropertyHistogram("knows", "since"),
+      is(new EquiDepthHistogram(Arrays.asList(
+        bucket(2013, 2013, 3L), bucket(2014, 2014, 4L), bucket(2015, 2015, 3L)))));
+    // non-numeric properties are not covered by histograms
+    assertThat(statistics.getVertexPropertyHistogram("Person", "city") == null, is(true));
+  }
+
+  @Test
+  public void testWriteMostCommonPropertyValuesByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader().getLogicalGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    Map<PropertyValue, Long> expectedCities = new HashMap<>();
+    expectedCities.put(PropertyValue.create("Dresden"), 3L);
+    expectedCities.put(PropertyValue.create("Leipzig"), 2L);
+    assertThat(statistics.getVertexMostCommonValues("Person", "city"), is(expectedCities));
+
+    Map<PropertyValue, Long> expectedSince = new HashMap<>();
+    expectedSince.put(PropertyValue.create(2013), 3L);
+    expectedSince.put(PropertyValue.create(2014), 4L);
+    expectedSince.put(PropertyValue.create(2015), 3L);
+    assertThat(statistics.getEdgeMostCommonValues("knows", "since"), is(expectedSince));
+
+    // unique values are not common
+    assertThat(statistics.getVertexMostCommonValues("Person", "name").isEmpty(), is(true));
+  }
+
+  private static EquiDepthHistogram.Bucket bucket(int lower, int upper, long count) {
+    return new EquiDepthHistogram.Bucket(
+      PropertyValue.create(lower), PropertyValue.create(upper), count);
+  }
 }
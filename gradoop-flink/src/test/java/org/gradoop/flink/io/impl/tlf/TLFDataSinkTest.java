@@ -20,6 +20,7 @@ import org.gradoop.common.model.api.entities.Labeled;
 import org.gradoop.common.model.api.entities.Vertex;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.compression.Compression;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.GraphCollection;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
@@ -38,6 +39,31 @@ public class TLFDataSinkTest extends GradoopFlinkTestBase {
   @Rule
   public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+  @Test
+  public void testWriteCompressed() throws Exception {
+    String tlfFileImport = getFilePath("/data/tlf/io_test.tlf");
+    String vertexDictionaryImport = getFilePath("/data/tlf/io_test_vertex_dictionary.tlf");
+    String edgeDictionaryImport = getFilePath("/data/tlf/io_test_edge_dictionary.tlf");
+    String tmpPath = temporaryFolder.getRoot().getPath();
+    String tlfFileExport = tmpPath + "/graphs.tlf";
+    String vertexDictionaryExport = tmpPath + "/vertex_dictionary.tlf";
+    String edgeDictionaryExport = tmpPath + "/edge_dictionary.tlf";
+
+    DataSource dataSource = new TLFDataSource(tlfFileImport, vertexDictionaryImport,
+      edgeDictionaryImport, getConfig());
+    new TLFDataSink(tlfFileExport, vertexDictionaryExport, edgeDictionaryExport, getConfig())
+      .setCompression(Compression.BZIP2)
+      .write(dataSource.getGraphCollection(), true);
+
+    getExecutionEnvironment().execute();
+
+    DataSource dataSource2 = new TLFDataSource(tlfFileExport, vertexDictionaryExport,
+      edgeDictionaryExport, getConfig());
+
+    collectAndAssertTrue(dataSource.getGraphCollection()
+      .equalsByGraphElementData(dataSource2.getGraphCollection()));
+  }
+
   @Test
   public void testWrite() throws Exception {
     String tlfFileImport = getFilePath("/data/tlf/io_test.tlf");
@@ -45,6 +45,22 @@ public class TLFDataSourceTest extends GradoopFlinkTestBase {
     );
   }
 
+  @Test
+  public void testReadMemoryMapped() throws Exception {
+    String tlfFile = getFilePath("/data/tlf/io_test_string.tlf");
+
+    DataSource dataSource = new TLFDataSource(tlfFile, getConfig()).setMemoryMapped(true);
+
+    String asciiGraphs = "" +
+      "g1[(v1:A)-[:a]->(v2:B)-[:b]->(v1)]" +
+      "g2[(v1:A)-[:a]->(v2:B)<-[:b]-(v1)]";
+
+    FlinkAsciiGraphLoader loader = getLoaderFromString(asciiGraphs);
+
+    collectAndAssertTrue(loader.getGraphCollectionByVariables("g1", "g2")
+      .equalsByGraphData(dataSource.getGraphCollection()));
+  }
+
   @Test
   public void testReadWithoutEdges() throws Exception {
     String tlfFile = getFilePath("/data/tlf/io_test_string_without_edges.tlf");
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.binary;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.core.fs.Path;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.algorithms.fsm.dimspan.functions.conversion.EPGMGraphTransactionToLabeledGraph;
+import org.gradoop.flink.algorithms.fsm.dimspan.tuples.LabeledGraphStringString;
+import org.gradoop.flink.io.impl.tlf.TLFDataSource;
+import org.gradoop.flink.io.impl.tlf.binary.inputformats.BinaryTLFTransactionInputFormat;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link BinaryTLFDataSink} and {@link BinaryTLFDataSource}.
+ */
+public class BinaryTLFDataSinkTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Writes and reads the graphs of a TLF file.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testWriteAndRead() throws Exception {
+    String path = temporaryFolder.newFolder().getPath() + "/graphs.btlf";
+    GraphCollection input = new TLFDataSource(getFilePath("/data/tlf/io_test_string.tlf"),
+      getConfig()).getGraphCollection();
+
+    new BinaryTLFDataSink(path).write(input);
+    getExecutionEnvironment().execute();
+
+    collectAndAssertTrue(input.equalsByGraphData(
+      new BinaryTLFDataSource(path, getConfig()).getGraphCollection()));
+  }
+
+  /**
+   * Reads the graphs of a TLF file as input of DIMSpan.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadLabeledGraphs() throws Exception {
+    String path = temporaryFolder.newFolder().getPath() + "/graphs.btlf";
+    GraphCollection input = new TLFDataSource(getFilePath("/data/tlf/io_test_string.tlf"),
+      getConfig()).getGraphCollection();
+
+    new BinaryTLFDataSink(path).write(input);
+    getExecutionEnvironment().execute();
+
+    List<String> expected = toStrings(input.getGraphTransactions()
+      .map(new EPGMGraphTransactionToLabeledGraph()).collect());
+    List<String> actual = toStrings(
+      new BinaryTLFDataSource(path, getConfig()).getLabeledGraphs().collect());
+
+    assertEquals(2, actual.size());
+    assertEquals(expected, actual);
+  }
+
+  /**
+   * Reads many graphs using small input splits and a small block index interval and checks that
+   * each graph is read exactly once.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testReadSplits() throws Exception {
+    int graphCount = 5000;
+    List<GraphTransaction> transactions = new ArrayList<>();
+    for (int i = 0; i < graphCount; i++) {
+      EPGMGraphHead graphHead = getConfig().getLogicalGraphFactory().getGraphHeadFactory()
+        .createGraphHead("g" + i);
+      GradoopIdSet graphIds = GradoopIdSet.fromExisting(graphHead.getId());
+      EPGMVertex source = getConfig().getLogicalGraphFactory().getVertexFactory()
+        .createVertex("v" + i % 7, graphIds);
+      EPGMVertex target = getConfig().getLogicalGraphFactory().getVertexFactory()
+        .createVertex("v" + i % 11, graphIds);
+      EPGMEdge edge = getConfig().getLogicalGraphFactory().getEdgeFactory()
+        .createEdge("e" + i % 3, source.getId(), target.getId(), graphIds);
+      Set<EPGMVertex> vertices = new HashSet<>();
+      vertices.add(source);
+      vertices.add(target);
+      transactions.add(new GraphTransaction(graphHead, vertices, Collections.singleton(edge)));
+    }
+    String path = temporaryFolder.newFolder().getPath() + "/graphs.btlf";
+    new BinaryTLFDataSink(path).setIndexInterval(1024).write(getConfig().getGraphCollectionFactory()
+      .fromTransactions(getExecutionEnvironment().fromCollection(transactions)));
+    getExecutionEnvironment().execute();
+
+    BinaryTLFTransactionInputFormat format =
+      new BinaryTLFTransactionInputFormat(new Path(path), getConfig());
+    format.configure(new Configuration());
+    FileInputSplit[] splits = format.createInputSplits(64);
+    assertTrue(splits.length >= 64);
+
+    Set<String> graphLabels = new HashSet<>();
+    for (FileInputSplit split : splits) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        GraphTransaction transaction = format.nextRecord(null);
+        int id = Integer.parseInt(transaction.getGraphHead().getLabel().substring(1));
+        assertTrue(graphLabels.add(transaction.getGraphHead().getLabel()));
+        EPGMEdge edge = transaction.getEdges().iterator().next();
+        assertEquals("e" + id % 3, edge.getLabel());
+        for (EPGMVertex vertex : transaction.getVertices()) {
+          String expected = vertex.getId().equals(edge.getSourceId()) ? "v" + id % 7 : "v" + id % 11;
+          assertEquals(expected, vertex.getLabel());
+        }
+      }
+      format.close();
+    }
+    assertEquals(graphCount, graphLabels.size());
+  }
+
+  /**
+   * Converts labeled graphs to sorted strings of their edges.
+   *
+   * @param graphs labeled graphs
+   * @return sorted graph strings
+   */
+  private List<String> toStrings(List<LabeledGraphStringString> graphs) {
+    List<String> strings = new ArrayList<>();
+    for (LabeledGraphStringString graph : graphs) {
+      List<String> elements = new ArrayList<>();
+      for (String vertexLabel : graph.getVertexLabels()) {
+        elements.add(vertexLabel);
+      }
+      for (int i = 0; i < graph.getEdgeLabels().length; i++) {
+        elements.add(graph.getVertexLabels()[graph.getSourceId(i)] + "-" +
+          graph.getEdgeLabel(i) + "->" + graph.getVertexLabels()[graph.getTargetId(i)]);
+      }
+      Collections.sort(elements);
+      strings.add(elements.toString());
+    }
+    Collections.sort(strings);
+    return strings;
+  }
+}
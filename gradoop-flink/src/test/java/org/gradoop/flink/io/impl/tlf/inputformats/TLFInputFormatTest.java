@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.tlf.inputformats;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.core.fs.FileInputSplit;
+import org.apache.flink.hadoopcompatibility.HadoopInputs;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.gradoop.flink.io.impl.compression.Compression;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests reading TLF files split into multiple input splits.
+ */
+public class TLFInputFormatTest extends GradoopFlinkTestBase {
+
+  /**
+   * Number of graphs in the test file, large enough to span multiple bzip2 blocks.
+   */
+  private static final int GRAPH_COUNT = 50000;
+
+  /**
+   * Maximum size of an input split.
+   */
+  private static final long MAX_SPLIT_SIZE = 64 * 1024;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testReadSplitUncompressed() throws Exception {
+    checkRead(writeGraphs(Compression.NONE));
+  }
+
+  @Test
+  public void testReadSplitBzip2() throws Exception {
+    checkRead(writeGraphs(Compression.BZIP2));
+  }
+
+  @Test
+  public void testReadGzip() throws Exception {
+    checkRead(writeGraphs(Compression.GZIP));
+  }
+
+  @Test
+  public void testReadSplitMemoryMapped() throws Exception {
+    String path = writeGraphs(Compression.NONE);
+    MappedTLFInputFormat format = new MappedTLFInputFormat(
+      new org.apache.flink.core.fs.Path(path), (int) MAX_SPLIT_SIZE / 3);
+    format.configure(new org.apache.flink.configuration.Configuration());
+
+    List<Tuple2<LongWritable, Text>> records = new ArrayList<>();
+    FileInputSplit[] splits = format.createInputSplits(16);
+    assertTrue(splits.length >= 16);
+    for (FileInputSplit split : splits) {
+      format.open(split);
+      while (!format.reachedEnd()) {
+        Tuple2<LongWritable, Text> record = format.nextRecord(null);
+        if (record != null) {
+          records.add(record);
+        }
+      }
+      format.close();
+    }
+    checkRecords(records);
+  }
+
+  /**
+   * Reads the given file using small input splits and checks that each graph is read exactly
+   * once and completely.
+   *
+   * @param path path of the TLF file
+   * @throws Exception on failure
+   */
+  private void checkRead(String path) throws Exception {
+    Job job = Job.getInstance(Compression.configure(new Configuration()));
+    FileInputFormat.setMaxInputSplitSize(job, MAX_SPLIT_SIZE);
+
+    checkRecords(getExecutionEnvironment()
+      .createInput(HadoopInputs.readHadoopFile(
+        new TLFInputFormat(), LongWritable.class, Text.class, path, job))
+      .collect());
+  }
+
+  /**
+   * Checks that each graph is contained exactly once and completely in the given records.
+   *
+   * @param records records read from the TLF file
+   */
+  private void checkRecords(List<Tuple2<LongWritable, Text>> records) {
+    assertEquals(GRAPH_COUNT, records.size());
+    List<Integer> graphIds = new ArrayList<>();
+    for (Tuple2<LongWritable, Text> record : records) {
+      String[] lines = record.f1.toString().split("\n");
+      int graphId = Integer.parseInt(lines[0].substring(4));
+      assertEquals(record.f1.toString(), createGraph(graphId), record.f1.toString());
+      graphIds.add(graphId);
+    }
+    Collections.sort(graphIds);
+    for (int i = 0; i < GRAPH_COUNT; i++) {
+      assertEquals(i, (int) graphIds.get(i));
+    }
+  }
+
+  /**
+   * Writes a TLF file containing {@link #GRAPH_COUNT} graphs.
+   *
+   * @param compression compression of the file
+   * @return path of the file
+   * @throws Exception on failure
+   */
+  private String writeGraphs(Compression compression) throws Exception {
+    File file = new File(temporaryFolder.getRoot(), "graphs.tlf" + compression.getExtension());
+    CompressionCodec codec = compression.createCodec();
+    OutputStream out = new FileOutputStream(file);
+    if (codec != null) {
+      out = codec.createOutputStream(out);
+    }
+    try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < GRAPH_COUNT; i++) {
+        writer.write(createGraph(i));
+      }
+    }
+    assertTrue(file.length() > 4 * MAX_SPLIT_SIZE);
+    return file.getPath();
+  }
+
+  /**
+   * Creates the TLF representation of a graph. Labels are pseudo random to prevent a high
+   * compression ratio.
+   *
+   * @param graphId graph id
+   * @return TLF string
+   */
+  private String createGraph(int graphId) {
+    Random random = new Random(graphId);
+    return "t # " + graphId + "\n" +
+      "v 0 " + Long.toHexString(random.nextLong()) + "\n" +
+      "v 1 " + Long.toHexString(random.nextLong()) + "\n" +
+      "e 0 1 " + Long.toHexString(random.nextLong()) + "\n";
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class EquiDepthHistogramTest {
+
+  /**
+   * Buckets [0, 10] x 10, [20, 20] x 5, [30, 40] x 10
+   */
+  private static final EquiDepthHistogram HISTOGRAM = new EquiDepthHistogram(Arrays.asList(
+    new EquiDepthHistogram.Bucket(PropertyValue.create(0), PropertyValue.create(10), 10L),
+    new EquiDepthHistogram.Bucket(PropertyValue.create(20), PropertyValue.create(20), 5L),
+    new EquiDepthHistogram.Bucket(PropertyValue.create(30L), PropertyValue.create(40L), 10L)));
+
+  @Test
+  public void testGetCount() {
+    assertThat(HISTOGRAM.getCount(), is(25L));
+  }
+
+  @Test
+  public void testIsSupported() {
+    assertThat(EquiDepthHistogram.isSupported(PropertyValue.create(1)), is(true));
+    assertThat(EquiDepthHistogram.isSupported(PropertyValue.create(1.5d)), is(true));
+    assertThat(EquiDepthHistogram.isSupported(PropertyValue.create("1")), is(false));
+    assertThat(EquiDepthHistogram.isSupported(PropertyValue.NULL_VALUE), is(false));
+    assertThat(EquiDepthHistogram.isSupported(null), is(false));
+  }
+
+  @Test
+  public void testEstimateLessThan() {
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(-1)), is(0d));
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(0)), is(0d));
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(5)), is(5d));
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(20)), is(10d));
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(25.0d)), is(15d));
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(35L)), is(20d));
+    assertThat(HISTOGRAM.estimateLessThan(PropertyValue.create(100)), is(25d));
+  }
+
+  @Test
+  public void testEstimateGreaterThan() {
+    assertThat(HISTOGRAM.estimateGreaterThan(PropertyValue.create(100)), is(0d));
+    assertThat(HISTOGRAM.estimateGreaterThan(PropertyValue.create(40)), is(0d));
+    assertThat(HISTOGRAM.estimateGreaterThan(PropertyValue.create(35)), is(5d));
+    assertThat(HISTOGRAM.estimateGreaterThan(PropertyValue.create(20)), is(10d));
+    assertThat(HISTOGRAM.estimateGreaterThan(PropertyValue.create(5.0f)), is(20d));
+    assertThat(HISTOGRAM.estimateGreaterThan(PropertyValue.create(-1)), is(25d));
+  }
+}
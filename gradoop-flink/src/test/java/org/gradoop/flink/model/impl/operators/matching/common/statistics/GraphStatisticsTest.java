@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.junit.Test;
 
 import static org.hamcrest.core.Is.is;
@@ -199,4 +200,33 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+  @Test
+  public void testGetPropertyHistogramsByLabel() throws Exception {
+    EquiDepthHistogram age = TEST_STATISTICS.getVertexPropertyHistogram("Person", "age");
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getBuckets().size(), is(4));
+    assertThat(age.getBuckets().get(0).getLower(), is(PropertyValue.create(20)));
+    assertThat(age.getBuckets().get(3).getUpper(), is(PropertyValue.create(40)));
+
+    EquiDepthHistogram since = TEST_STATISTICS.getEdgePropertyHistogram("knows", "since");
+    assertThat(since.getCount(), is(10L));
+    assertThat(since.getBuckets().get(1).getCount(), is(4L));
+    // non-numeric property
+    assertThat(TEST_STATISTICS.getVertexPropertyHistogram("Person", "name") == null, is(true));
+    // nonexistent label
+    assertThat(TEST_STATISTICS.getEdgePropertyHistogram("foo", "since") == null, is(true));
+  }
+
+  @Test
+  public void testGetMostCommonValuesByLabel() throws Exception {
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Person", "city")
+      .get(PropertyValue.create("Dresden")), is(3L));
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Person", "city").size(), is(2));
+    assertThat(TEST_STATISTICS.getEdgeMostCommonValues("knows", "since")
+      .get(PropertyValue.create(2014)), is(4L));
+    // nonexistent property
+    assertThat(TEST_STATISTICS.getVertexMostCommonValues("Person", "bar").isEmpty(), is(true));
+    // nonexistent label
+    assertThat(TEST_STATISTICS.getEdgeMostCommonValues("foo", "since").isEmpty(), is(true));
+  }
 }
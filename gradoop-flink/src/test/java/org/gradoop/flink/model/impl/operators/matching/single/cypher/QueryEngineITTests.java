@@ -72,7 +72,7 @@ public class QueryEngineITTests extends GradoopFlinkTestBase {
 
   @Test
   public void testMatchWithValueJoin() throws Exception {
-    assertCardinalities("MATCH (a:Person), (b:Person) WHERE a.city = b.city", 36, 8);
+    assertCardinalities("MATCH (a:Person), (b:Person) WHERE a.city = b.city", 12, 8);
   }
 
   /**
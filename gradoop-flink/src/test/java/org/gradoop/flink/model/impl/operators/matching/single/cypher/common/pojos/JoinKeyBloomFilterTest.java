@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKeyBloomFilter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JoinKeyBloomFilterTest {
+
+  private static final List<Integer> FIRST_COLUMN = Collections.singletonList(0);
+
+  @Test
+  public void testNoFalseNegatives() {
+    long numBits = JoinKeyBloomFilter.optimalNumBits(1000, 0.01);
+    JoinKeyBloomFilter filter =
+      new JoinKeyBloomFilter(numBits, JoinKeyBloomFilter.optimalNumHashes(1000, numBits));
+
+    List<Embedding> added = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Embedding embedding = createEmbedding(GradoopId.get());
+      filter.add(embedding, FIRST_COLUMN);
+      added.add(embedding);
+    }
+
+    for (Embedding embedding : added) {
+      assertTrue(filter.mightContain(embedding, FIRST_COLUMN));
+    }
+  }
+
+  @Test
+  public void testFalsePositiveRate() {
+    long numBits = JoinKeyBloomFilter.optimalNumBits(1000, 0.01);
+    JoinKeyBloomFilter filter =
+      new JoinKeyBloomFilter(numBits, JoinKeyBloomFilter.optimalNumHashes(1000, numBits));
+    for (int i = 0; i < 1000; i++) {
+      filter.add(createEmbedding(GradoopId.get()), FIRST_COLUMN);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (filter.mightContain(createEmbedding(GradoopId.get()), FIRST_COLUMN)) {
+        falsePositives++;
+      }
+    }
+    // expected rate is 1%
+    assertTrue(falsePositives < 500);
+  }
+
+  @Test
+  public void testMultipleJoinColumns() {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    List<Integer> columns = Arrays.asList(0, 2);
+    JoinKeyBloomFilter filter = new JoinKeyBloomFilter(1024, 3);
+
+    filter.add(createEmbedding(a, GradoopId.get(), b), columns);
+
+    assertTrue(filter.mightContain(createEmbedding(a, GradoopId.get(), b), columns));
+    assertTrue(filter.mightContain(createEmbedding(b, a), Arrays.asList(1, 0)));
+  }
+
+  @Test
+  public void testOr() {
+    Embedding first = createEmbedding(GradoopId.get());
+    Embedding second = createEmbedding(GradoopId.get());
+    JoinKeyBloomFilter firstFilter = new JoinKeyBloomFilter(1024, 3);
+    JoinKeyBloomFilter secondFilter = new JoinKeyBloomFilter(1024, 3);
+    firstFilter.add(first, FIRST_COLUMN);
+    secondFilter.add(second, FIRST_COLUMN);
+
+    JoinKeyBloomFilter combined = new JoinKeyBloomFilter(
+      JoinKeyBloomFilter.or(firstFilter.getBits(), secondFilter.getBits()), 3);
+
+    assertTrue(combined.mightContain(first, FIRST_COLUMN));
+    assertTrue(combined.mightContain(second, FIRST_COLUMN));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOrWithDifferentSizes() {
+    JoinKeyBloomFilter.or(new long[1], new long[2]);
+  }
+
+  @Test
+  public void testEmptyFilter() {
+    JoinKeyBloomFilter filter = new JoinKeyBloomFilter(1, 1);
+
+    assertEquals(1, filter.getBits().length);
+    assertFalse(filter.mightContain(createEmbedding(GradoopId.get()), FIRST_COLUMN));
+  }
+
+  @Test
+  public void testSizing() {
+    assertEquals(9586, JoinKeyBloomFilter.optimalNumBits(1000, 0.01));
+    assertEquals(7, JoinKeyBloomFilter.optimalNumHashes(1000, 9586));
+    assertEquals(JoinKeyBloomFilter.MAX_BITS,
+      JoinKeyBloomFilter.optimalNumBits(Long.MAX_VALUE / 1024, 0.01));
+  }
+}
@@ -15,16 +15,19 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand;
 
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Lists;
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandMode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
 import static org.junit.Assert.assertEquals;
@@ -43,6 +46,10 @@ public abstract class ExpandEmbeddingsTest extends PhysicalOperatorTest {
   private final GradoopId e1 = GradoopId.get();
   private final GradoopId e2 = GradoopId.get();
   private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+  private final GradoopId e5 = GradoopId.get();
+  private final GradoopId e6 = GradoopId.get();
+  private final GradoopId e7 = GradoopId.get();
 
   @Test
   public void testOutputFormat() throws Exception {
@@ -258,6 +265,101 @@ public abstract class ExpandEmbeddingsTest extends PhysicalOperatorTest {
     assertEmbeddingExists(result, a, e0, b, e2, a);
   }
 
+  @Test
+  public void testBidirectionalOutExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, d),
+      createEmbedding(a, e4, c),
+      createEmbedding(b, e5, d)
+    );
+
+    List<Embedding> result = evaluateBidirectional(input, candidateEdges, 0, 1, 3,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 1);
+
+    assertEquals(3, result.size());
+    DataSet<Embedding> resultSet = getExecutionEnvironment().fromCollection(result);
+    assertEmbeddingExists(resultSet, a, d, e1, b, e2, c, e3, d);
+    assertEmbeddingExists(resultSet, a, d, e4, c, e3, d);
+    assertEmbeddingExists(resultSet, a, d, e1, b, e5, d);
+  }
+
+  @Test
+  public void testBidirectionalInExpansion() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, d)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(b, e1, a),
+      createEmbedding(c, e2, b),
+      createEmbedding(d, e3, c),
+      createEmbedding(c, e4, a)
+    );
+
+    List<Embedding> result = evaluateBidirectional(input, candidateEdges, 0, 2, 4,
+      ExpandDirection.IN, new ArrayList<>(), new ArrayList<>(), 1);
+
+    assertEquals(2, result.size());
+  }
+
+  @Test
+  public void testBidirectionalExpansionWithCycles() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e0, d),
+      createEmbedding(b, e0, d),
+      createEmbedding(a, e0, c)
+    );
+
+    DataSet<Embedding> candidateEdges = getExecutionEnvironment().fromElements(
+      createEmbedding(a, e1, b),
+      createEmbedding(b, e2, c),
+      createEmbedding(c, e3, d),
+      createEmbedding(a, e4, c),
+      createEmbedding(b, e5, d),
+      createEmbedding(d, e6, b),
+      createEmbedding(c, e7, a)
+    );
+
+    evaluateBidirectional(input, candidateEdges, 0, 0, 5,
+      ExpandDirection.OUT, new ArrayList<>(), new ArrayList<>(), 2);
+    evaluateBidirectional(input, candidateEdges, 0, 2, 4,
+      ExpandDirection.OUT, Lists.newArrayList(0, 2), new ArrayList<>(), 2);
+    evaluateBidirectional(input, candidateEdges, 2, 1, 4,
+      ExpandDirection.IN, Lists.newArrayList(0, 2), Lists.newArrayList(1), 0);
+  }
+
+  /**
+   * Evaluates the operator in bidirectional mode and checks that the result equals the result of
+   * the unidirectional mode.
+   */
+  private List<Embedding> evaluateBidirectional(
+    DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
+    int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns, int closingColumn)
+    throws Exception {
+
+    List<Embedding> expected = getOperator(input, candidateEdges, expandColumn, lowerBound,
+      upperBound, direction, distinctVertexColumns, distinctEdgeColumns, closingColumn)
+      .evaluate().collect();
+
+    ExpandEmbeddings op = getOperator(input, candidateEdges, expandColumn, lowerBound,
+      upperBound, direction, distinctVertexColumns, distinctEdgeColumns, closingColumn);
+    op.setExpandMode(ExpandMode.BIDIRECTIONAL);
+    List<Embedding> result = op.evaluate().collect();
+
+    // path entries are referenced by random ids, hence the embeddings are compared by content
+    assertEquals(
+      HashMultiset.create(expected.stream().map(Embedding::toString).collect(Collectors.toList())),
+      HashMultiset.create(result.stream().map(Embedding::toString).collect(Collectors.toList())));
+    return result;
+  }
+
   protected abstract ExpandEmbeddings getOperator(
     DataSet<Embedding> input, DataSet<Embedding> candidateEdges,
     int expandColumn, int lowerBound, int upperBound, ExpandDirection direction,
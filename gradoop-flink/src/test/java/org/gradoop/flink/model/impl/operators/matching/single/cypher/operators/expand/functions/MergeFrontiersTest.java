@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.functions;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.expand.tuples.ExpandEmbedding;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MergeFrontiersTest {
+  private final GradoopId s = GradoopId.get();
+  private final GradoopId t = GradoopId.get();
+  private final GradoopId a = GradoopId.get();
+  private final GradoopId b = GradoopId.get();
+  private final GradoopId c = GradoopId.get();
+
+  private final GradoopId e0 = GradoopId.get();
+  private final GradoopId e1 = GradoopId.get();
+  private final GradoopId e2 = GradoopId.get();
+  private final GradoopId e3 = GradoopId.get();
+  private final GradoopId e4 = GradoopId.get();
+
+  @Test
+  public void testMergeEvenSplit() throws Exception {
+    List<ExpandEmbedding> result = merge(
+      forward(e1, a, e2, b), backward(e4, c, e3, b), new ArrayList<>(), new ArrayList<>());
+
+    assertEquals(1, result.size());
+    assertArrayEquals(new GradoopId[] {e1, a, e2, b, e3, c, e4}, result.get(0).getPath());
+    assertEquals(t, result.get(0).getEnd());
+    assertEquals(createEmbedding(s, e0, t), result.get(0).getBase());
+  }
+
+  @Test
+  public void testMergeUnevenSplit() throws Exception {
+    List<ExpandEmbedding> result = merge(
+      forward(e1, a, e2, b), backward(e3, b), new ArrayList<>(), new ArrayList<>());
+
+    assertEquals(1, result.size());
+    assertArrayEquals(new GradoopId[] {e1, a, e2, b, e3}, result.get(0).getPath());
+    assertEquals(t, result.get(0).getEnd());
+  }
+
+  @Test
+  public void testMergeEmptyBackwardPath() throws Exception {
+    List<ExpandEmbedding> result = merge(
+      forward(e1, t), backward(t), new ArrayList<>(), new ArrayList<>());
+
+    assertEquals(1, result.size());
+    assertArrayEquals(new GradoopId[] {e1}, result.get(0).getPath());
+    assertEquals(t, result.get(0).getEnd());
+  }
+
+  @Test
+  public void testSkipOtherSplits() throws Exception {
+    assertEquals(0, merge(forward(e1, a), backward(e4, c, e3, a),
+      new ArrayList<>(), new ArrayList<>()).size());
+    assertEquals(0, merge(forward(e1, a, e2, t), backward(t),
+      new ArrayList<>(), new ArrayList<>()).size());
+  }
+
+  @Test
+  public void testVertexIsomorphism() throws Exception {
+    assertEquals(1, merge(forward(e1, a, e2, b), backward(e4, a, e3, b),
+      new ArrayList<>(), new ArrayList<>()).size());
+    assertEquals(0, merge(forward(e1, a, e2, b), backward(e4, a, e3, b),
+      Lists.newArrayList(0, 2), new ArrayList<>()).size());
+    assertEquals(0, merge(forward(e1, a, e2, b), backward(e4, s, e3, b),
+      Lists.newArrayList(0, 2), new ArrayList<>()).size());
+  }
+
+  @Test
+  public void testEdgeIsomorphism() throws Exception {
+    assertEquals(1, merge(forward(e1, a, e2, b), backward(e1, c, e0, b),
+      Lists.newArrayList(0, 2), new ArrayList<>()).size());
+    assertEquals(0, merge(forward(e1, a, e2, b), backward(e1, c, e3, b),
+      new ArrayList<>(), Lists.newArrayList(1)).size());
+    assertEquals(0, merge(forward(e1, a, e2, b), backward(e4, c, e0, b),
+      new ArrayList<>(), Lists.newArrayList(1)).size());
+  }
+
+  private ExpandEmbedding forward(GradoopId... path) {
+    return new ExpandEmbedding(createEmbedding(s, e0, t), path);
+  }
+
+  private ExpandEmbedding backward(GradoopId... path) {
+    return new ExpandEmbedding(createEmbedding(t), path);
+  }
+
+  private List<ExpandEmbedding> merge(ExpandEmbedding forward, ExpandEmbedding backward,
+    List<Integer> distinctVertices, List<Integer> distinctEdges) throws Exception {
+    List<ExpandEmbedding> result = new ArrayList<>();
+    new MergeFrontiers(distinctVertices, distinctEdges)
+      .join(forward, backward, new ListCollector<>(result));
+    return result;
+  }
+}
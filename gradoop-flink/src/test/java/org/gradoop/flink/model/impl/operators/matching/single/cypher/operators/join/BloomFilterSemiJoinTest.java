@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class BloomFilterSemiJoinTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+
+  @Test
+  public void testReduce() throws Exception {
+    DataSet<Embedding> probe = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v2, e2, v0)
+    );
+    DataSet<Embedding> build = getExecutionEnvironment().fromElements(
+      createEmbedding(v1),
+      createEmbedding(v1)
+    );
+
+    PhysicalOperator semiJoin = new BloomFilterSemiJoin(probe, build,
+      Collections.singletonList(2), Collections.singletonList(0), 2);
+
+    // the filter is small enough to not produce false positives for three keys
+    DataSet<Embedding> result = semiJoin.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1);
+  }
+
+  @Test
+  public void testReduceOnMultipleColumns() throws Exception {
+    DataSet<Embedding> probe = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v0)
+    );
+    DataSet<Embedding> build = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e2, v0)
+    );
+
+    PhysicalOperator semiJoin = new BloomFilterSemiJoin(probe, build,
+      Lists.newArrayList(0, 2), Lists.newArrayList(2, 0), 1);
+
+    DataSet<Embedding> result = semiJoin.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1);
+  }
+
+  @Test
+  public void testEmptyBuildSide() throws Exception {
+    DataSet<Embedding> probe = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> build = getExecutionEnvironment().fromElements(createEmbedding(v2))
+      .filter(embedding -> false);
+
+    PhysicalOperator semiJoin = new BloomFilterSemiJoin(probe, build,
+      Collections.singletonList(0), Collections.singletonList(0), 1);
+
+    assertEquals(0, semiJoin.evaluate().count());
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+
+public class MultiwayJoinEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+
+  @Test
+  public void testTriangle() throws Exception {
+    // (a)-->(b)-->(c)-->(a)
+    PhysicalOperator join = new MultiwayJoinEmbeddings(
+      Lists.newArrayList(getVertices(), getVertices(), getVertices()),
+      Lists.newArrayList(getEdges(), getEdges(), getEdges()),
+      Arrays.asList(0, 1, 2), Arrays.asList(1, 2, 0),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(3, result.count());
+    assertEmbeddingExists(result, v0, v1, v2, e0, e1, e2);
+    assertEmbeddingExists(result, v1, v2, v0, e1, e2, e0);
+    assertEmbeddingExists(result, v2, v0, v1, e2, e0, e1);
+  }
+
+  @Test
+  public void testTriangleWithReversedEdge() throws Exception {
+    // (a)-->(b)-->(c)<--(a)
+    PhysicalOperator join = new MultiwayJoinEmbeddings(
+      Lists.newArrayList(getVertices(), getVertices(), getVertices()),
+      Lists.newArrayList(getEdges(), getEdges(), getEdges()),
+      Arrays.asList(0, 1, 0), Arrays.asList(1, 2, 2),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v1, v2, v3, e1, e4, e3);
+  }
+
+  @Test
+  public void testVertexInputFiltersCandidates() throws Exception {
+    PhysicalOperator join = new MultiwayJoinEmbeddings(
+      Lists.newArrayList(getVertices(), getVertices(),
+        getExecutionEnvironment().fromElements(createEmbedding(v2))),
+      Lists.newArrayList(getEdges(), getEdges(), getEdges()),
+      Arrays.asList(0, 1, 2), Arrays.asList(1, 2, 0),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, v1, v2, e0, e1, e2);
+  }
+
+  @Test
+  public void testMorphism() throws Exception {
+    // (a)-[x]->(b), (a)-[y]->(b), (b)-[z]->(a)
+    DataSet<Embedding> vertices = getExecutionEnvironment().fromElements(
+      createEmbedding(v0), createEmbedding(v1));
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1), createEmbedding(v1, e1, v0));
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(
+      Lists.newArrayList(vertices, vertices),
+      Lists.newArrayList(edges, edges, edges),
+      Arrays.asList(0, 0, 1), Arrays.asList(1, 1, 0),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    assertEquals(0, join.evaluate().count());
+
+    join = new MultiwayJoinEmbeddings(
+      Lists.newArrayList(vertices, vertices),
+      Lists.newArrayList(edges, edges, edges),
+      Arrays.asList(0, 0, 1), Arrays.asList(1, 1, 0),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.HOMOMORPHISM);
+
+    DataSet<Embedding> result = join.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, v1, e0, e0, e1);
+    assertEmbeddingExists(result, v1, v0, e1, e1, e0);
+  }
+
+  @Test
+  public void testProperties() throws Exception {
+    DataSet<Embedding> vertices = getExecutionEnvironment().fromElements(
+      createEmbedding(Collections.singletonList(Pair.of(v0, Collections.singletonList("A")))),
+      createEmbedding(Collections.singletonList(Pair.of(v1, Collections.singletonList("B")))));
+    List<Object> since = Collections.singletonList(2020);
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(Lists.newArrayList(Pair.of(v0, Collections.emptyList()),
+        Pair.of(e0, since), Pair.of(v1, Collections.emptyList()))),
+      createEmbedding(Lists.newArrayList(Pair.of(v1, Collections.emptyList()),
+        Pair.of(e1, Collections.emptyList()), Pair.of(v0, Collections.emptyList()))));
+
+    PhysicalOperator join = new MultiwayJoinEmbeddings(
+      Lists.newArrayList(vertices, vertices),
+      Lists.newArrayList(edges, edges),
+      Arrays.asList(0, 1), Arrays.asList(1, 0),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = join.evaluate().collect();
+    assertEquals(2, result.size());
+    Embedding embedding = result.get(0).getId(0).equals(v0) ? result.get(0) : result.get(1);
+    assertEquals(Lists.newArrayList(PropertyValue.create("A"), PropertyValue.create("B"),
+      PropertyValue.create(2020)), embedding.getProperties());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnconnectedVertexOrder() {
+    new MultiwayJoinEmbeddings(
+      Lists.newArrayList(getVertices(), getVertices(), getVertices()),
+      Lists.newArrayList(getEdges(), getEdges()),
+      Arrays.asList(0, 1), Arrays.asList(2, 2),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+  }
+
+  /**
+   * Creates vertex embeddings of the graph {@code (v0)->(v1)->(v2)->(v0), (v1)->(v3), (v2)->(v3)}.
+   *
+   * @return vertex embeddings
+   */
+  private DataSet<Embedding> getVertices() {
+    return getExecutionEnvironment().fromElements(
+      createEmbedding(v0), createEmbedding(v1), createEmbedding(v2), createEmbedding(v3));
+  }
+
+  /**
+   * Creates edge embeddings of the graph {@code (v0)->(v1)->(v2)->(v0), (v1)->(v3), (v2)->(v3)}.
+   *
+   * @return edge embeddings
+   */
+  private DataSet<Embedding> getEdges() {
+    return getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v2, e2, v0),
+      createEmbedding(v1, e3, v3),
+      createEmbedding(v2, e4, v3));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class IntersectCandidatesTest {
+
+  private final GradoopId[] ids = IntStream.range(0, 20)
+    .mapToObj(i -> GradoopId.get())
+    .sorted()
+    .toArray(GradoopId[]::new);
+
+  @Test
+  public void testIntersect() {
+    GradoopId[] left = {ids[0], ids[2], ids[3], ids[7], ids[15], ids[19]};
+    GradoopId[] right = {ids[1], ids[2], ids[4], ids[5], ids[6], ids[7], ids[8], ids[9], ids[10],
+      ids[11], ids[12], ids[13], ids[19]};
+
+    GradoopId[] expected = {ids[2], ids[7], ids[19]};
+    assertArrayEquals(expected, IntersectCandidates.intersect(left, right));
+    assertArrayEquals(expected, IntersectCandidates.intersect(right, left));
+  }
+
+  @Test
+  public void testIntersectEmpty() {
+    GradoopId[] left = {ids[0], ids[2]};
+    GradoopId[] right = {ids[1], ids[3], ids[4]};
+
+    assertEquals(0, IntersectCandidates.intersect(left, right).length);
+    assertEquals(0, IntersectCandidates.intersect(left, new GradoopId[0]).length);
+  }
+
+  @Test
+  public void testIntersectEqual() {
+    assertArrayEquals(ids, IntersectCandidates.intersect(ids, Arrays.copyOf(ids, ids.length)));
+  }
+
+  @Test
+  public void testSeek() {
+    for (int from = 0; from < ids.length; from++) {
+      for (int target = from; target < ids.length; target++) {
+        assertEquals(target, IntersectCandidates.seek(ids, from, ids[target]));
+      }
+    }
+    GradoopId[] odd = IntStream.range(0, ids.length)
+      .filter(i -> i % 2 == 1)
+      .mapToObj(i -> ids[i])
+      .toArray(GradoopId[]::new);
+    assertEquals(0, IntersectCandidates.seek(odd, 0, ids[0]));
+    assertEquals(3, IntersectCandidates.seek(odd, 1, ids[6]));
+    assertEquals(odd.length - 1, IntersectCandidates.seek(odd, 2, ids[ids.length - 1]));
+  }
+}
@@ -23,6 +23,7 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -87,4 +88,66 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
+
+  @Test
+  public void testVertexWithRangePredicate() throws Exception {
+    // ages are 20, 30, 30, 35, 35, 40
+    assertThat(estimateVertexSelectivity("MATCH (n:Person) WHERE n.age > 30"), is(0.5));
+    assertThat(estimateVertexSelectivity("MATCH (n:Person) WHERE 30 < n.age"), is(0.5));
+    assertEquals(5d / 6,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age >= 30"), 1e-9);
+    assertEquals(1d / 6,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age < 30"), 1e-9);
+  }
+
+  @Test
+  public void testVertexWithEqualityPredicate() throws Exception {
+    // cities are Dresden x 3, Leipzig x 2 and Berlin x 1, the latter is not a common value
+    assertThat(estimateVertexSelectivity("MATCH (n:Person) WHERE n.city = \"Dresden\""), is(0.5));
+    assertEquals(1d / 6,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.city = \"Berlin\""), 1e-9);
+    assertThat(estimateVertexSelectivity("MATCH (n:Person) WHERE n.city <> \"Dresden\""),
+      is(0.5));
+    // no statistics about the property
+    assertEquals(FilterEstimator.DEFAULT_EQUALITY_SELECTIVITY,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.foo = 42"), 1e-9);
+  }
+
+  @Test
+  public void testVertexWithCombinedPredicates() throws Exception {
+    assertThat(
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age > 30 AND n.city = \"Dresden\""),
+      is(0.25));
+    assertEquals(1d - (5d / 6) * (5d / 6),
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age < 30 OR n.city = \"Berlin\""),
+      1e-9);
+  }
+
+  @Test
+  public void testEdgeWithEqualityPredicate() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(m) WHERE e.since = 2014";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(10L));
+    assertThat(elementEstimator.getSelectivity(), is(0.4));
+  }
+
+  private double estimateVertexSelectivity(String query) {
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    return elementEstimator.getSelectivity();
+  }
 }
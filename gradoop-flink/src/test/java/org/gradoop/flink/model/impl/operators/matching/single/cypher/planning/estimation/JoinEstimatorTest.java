@@ -25,6 +25,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary.MultiwayJoinNode;
 
 import org.junit.Test;
 
@@ -251,4 +252,53 @@ public class JoinEstimatorTest extends EstimatorTestBase {
 
     assertThat(estimator.getCardinality(), is(30L));
   }
+
+  @Test
+  public void testMultiwayJoin() throws Exception {
+    String query = "MATCH (n)-[e1:knows]->(m)-[e2:knows]->(o)-[e3:knows]->(n)";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    LeafNode nNode = new FilterAndProjectVerticesNode(null, "n",
+      queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+    LeafNode mNode = new FilterAndProjectVerticesNode(null, "m",
+      queryHandler.getPredicates().getSubCNF("m"), Sets.newHashSet());
+    LeafNode oNode = new FilterAndProjectVerticesNode(null, "o",
+      queryHandler.getPredicates().getSubCNF("o"), Sets.newHashSet());
+    LeafNode e1Node = new FilterAndProjectEdgesNode(null,
+      "n", "e1", "m",
+      queryHandler.getPredicates().getSubCNF("e1"), Sets.newHashSet(), false);
+    LeafNode e2Node = new FilterAndProjectEdgesNode(null,
+      "m", "e2", "o",
+      queryHandler.getPredicates().getSubCNF("e2"), Sets.newHashSet(), false);
+    LeafNode e3Node = new FilterAndProjectEdgesNode(null,
+      "o", "e3", "n",
+      queryHandler.getPredicates().getSubCNF("e3"), Sets.newHashSet(), false);
+
+    MultiwayJoinNode multiwayJoin = new MultiwayJoinNode(
+      Lists.newArrayList(nNode, mNode, oNode), Lists.newArrayList(e1Node, e2Node, e3Node),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    JoinEstimator multiwayEstimator = new JoinEstimator(queryHandler, STATS);
+    multiwayEstimator.visit(multiwayJoin);
+
+    JoinEmbeddingsNode ne1Join = new JoinEmbeddingsNode(nNode, e1Node, Lists.newArrayList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode ne1mJoin = new JoinEmbeddingsNode(ne1Join, mNode, Lists.newArrayList("m"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode ne1me2Join = new JoinEmbeddingsNode(ne1mJoin, e2Node,
+      Lists.newArrayList("m"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode ne1me2oJoin = new JoinEmbeddingsNode(ne1me2Join, oNode,
+      Lists.newArrayList("o"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    JoinEmbeddingsNode cycleJoin = new JoinEmbeddingsNode(ne1me2oJoin, e3Node,
+      Lists.newArrayList("o", "n"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    JoinEstimator binaryEstimator = new JoinEstimator(queryHandler, STATS);
+    binaryEstimator.visit(cycleJoin);
+    binaryEstimator.visit(ne1me2oJoin);
+    binaryEstimator.visit(ne1me2Join);
+    binaryEstimator.visit(ne1mJoin);
+    binaryEstimator.visit(ne1Join);
+
+    assertThat(multiwayEstimator.getCardinality(), is(binaryEstimator.getCardinality()));
+  }
 }
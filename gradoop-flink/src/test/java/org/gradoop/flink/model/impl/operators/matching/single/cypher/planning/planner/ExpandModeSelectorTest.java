@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.junit.Test;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandMode.BIDIRECTIONAL;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandMode.UNIDIRECTIONAL;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ExpandModeSelectorTest {
+
+  private final ExpandModeSelector selector = new ExpandModeSelector();
+
+  @Test
+  public void testBidirectionalForDenseGraphs() {
+    assertThat(selector.select(1_000, 100_000, 10_000, 4), is(BIDIRECTIONAL));
+    assertThat(selector.select(1_000, 100_000, 10_000, 2), is(BIDIRECTIONAL));
+  }
+
+  @Test
+  public void testUnidirectionalForSparseGraphs() {
+    assertThat(selector.select(1_000, 5_000, 10_000, 4), is(UNIDIRECTIONAL));
+  }
+
+  @Test
+  public void testUnidirectionalForShortOrUnboundedPaths() {
+    assertThat(selector.select(1_000, 100_000, 10_000, 1), is(UNIDIRECTIONAL));
+    assertThat(selector.select(1_000, 100_000, 10_000, Integer.MAX_VALUE), is(UNIDIRECTIONAL));
+  }
+
+  @Test
+  public void testUnidirectionalForSmallFrontiers() {
+    assertThat(selector.select(10, 500, 100, 3), is(UNIDIRECTIONAL));
+    assertThat(new ExpandModeSelector(0d).select(10, 500, 100, 3), is(BIDIRECTIONAL));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.BROADCAST_HASH_FIRST;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.BROADCAST_HASH_SECOND;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.REPARTITION_HASH_FIRST;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.REPARTITION_HASH_SECOND;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.REPARTITION_SORT_MERGE;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class JoinHintSelectorTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testBroadcastSmallSide() {
+    JoinHintSelector selector = new JoinHintSelector(4);
+
+    assertThat(selector.select(10, 1000), is(BROADCAST_HASH_FIRST));
+    assertThat(selector.select(1000, 10), is(BROADCAST_HASH_SECOND));
+  }
+
+  @Test
+  public void testBroadcastLimit() {
+    JoinHintSelector selector = new JoinHintSelector(4, 100, JoinHintSelector.DEFAULT_HASH_RATIO);
+
+    assertThat(selector.select(101, 100_000), is(REPARTITION_HASH_FIRST));
+    assertThat(selector.select(100_000, 101), is(REPARTITION_HASH_SECOND));
+  }
+
+  @Test
+  public void testBroadcastCostsDependOnParallelism() {
+    assertThat(new JoinHintSelector(4).select(3000, 10_000), is(BROADCAST_HASH_FIRST));
+    assertThat(new JoinHintSelector(16).select(3000, 10_000), is(REPARTITION_HASH_FIRST));
+  }
+
+  @Test
+  public void testBroadcastTinySide() {
+    assertThat(new JoinHintSelector(64).select(500, 600), is(BROADCAST_HASH_FIRST));
+  }
+
+  @Test
+  public void testSortMergeForSimilarSides() {
+    JoinHintSelector selector = new JoinHintSelector(4, 100, JoinHintSelector.DEFAULT_HASH_RATIO);
+
+    assertThat(selector.select(1000, 1500), is(REPARTITION_SORT_MERGE));
+    assertThat(selector.select(1500, 1000), is(REPARTITION_SORT_MERGE));
+  }
+
+  @Test
+  public void testUnknownParallelism() {
+    assertThat(new JoinHintSelector(-1).select(50_000, 50_000), is(REPARTITION_SORT_MERGE));
+    assertThat(new JoinHintSelector(-1).select(5000, 50_000), is(REPARTITION_HASH_FIRST));
+    assertThat(new JoinHintSelector(-1).select(500, 50_000), is(BROADCAST_HASH_FIRST));
+  }
+
+  @Test
+  public void testHintInQueryPlan() throws Exception {
+    String path = URLDecoder.decode(
+      JoinHintSelectorTest.class.getResource("/data/json/sna/statistics").getFile(),
+      StandardCharsets.UTF_8.name());
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(path);
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (p:Person {name : \"Alice\"})-[k:knows]->(q:Person)");
+
+    String plan = new GreedyPlanner<>(getSocialNetworkLoader().getLogicalGraph(), queryHandler,
+      statistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan()
+      .getQueryPlan().toString();
+
+    assertThat(plan, containsString("joinHint=BROADCAST_HASH_"));
+  }
+}
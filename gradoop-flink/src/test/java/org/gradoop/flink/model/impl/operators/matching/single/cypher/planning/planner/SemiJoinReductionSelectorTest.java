@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+import org.junit.Test;
+
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.BROADCAST_HASH_FIRST;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.BROADCAST_HASH_SECOND;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.REPARTITION_HASH_FIRST;
+import static org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint.REPARTITION_SORT_MERGE;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction.LEFT;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction.NONE;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction.RIGHT;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SemiJoinReductionSelectorTest {
+
+  private final SemiJoinReductionSelector selector = new SemiJoinReductionSelector();
+
+  @Test
+  public void testReduceLargerSide() {
+    assertThat(selector.select(200_000, 1_000_000, 200_000, REPARTITION_HASH_FIRST), is(RIGHT));
+    assertThat(selector.select(1_000_000, 200_000, 200_000, REPARTITION_HASH_FIRST), is(LEFT));
+  }
+
+  @Test
+  public void testNoReductionForUnselectiveJoin() {
+    assertThat(selector.select(200_000, 1_000_000, 600_000, REPARTITION_HASH_FIRST), is(NONE));
+    // fan-out of the join is bounded by one
+    assertThat(selector.select(200_000, 1_000_000, 5_000_000, REPARTITION_SORT_MERGE), is(NONE));
+  }
+
+  @Test
+  public void testNoReductionForBroadcastJoin() {
+    assertThat(selector.select(1_000, 1_000_000, 1_000, BROADCAST_HASH_FIRST), is(NONE));
+    assertThat(selector.select(1_000_000, 1_000, 1_000, BROADCAST_HASH_SECOND), is(NONE));
+  }
+
+  @Test
+  public void testNoReductionForSmallInputs() {
+    assertThat(selector.select(1_000, 5_000, 100, REPARTITION_HASH_FIRST), is(NONE));
+  }
+
+  @Test
+  public void testNoReductionForLargeFilters() {
+    SemiJoinReductionSelector boundedSelector = new SemiJoinReductionSelector(
+      SemiJoinReductionSelector.DEFAULT_MAX_SELECTIVITY, 100_000L,
+      SemiJoinReductionSelector.DEFAULT_MIN_PROBE_CARDINALITY);
+
+    assertThat(boundedSelector.select(100_000, 1_000_000, 10_000, REPARTITION_HASH_FIRST), is(RIGHT));
+    assertThat(boundedSelector.select(100_001, 1_000_000, 10_000, REPARTITION_HASH_FIRST), is(NONE));
+  }
+}
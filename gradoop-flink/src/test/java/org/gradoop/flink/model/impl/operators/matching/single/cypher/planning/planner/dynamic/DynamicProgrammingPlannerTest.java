@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dynamic;
+
+import org.gradoop.common.model.impl.pojo.EPGMEdge;
+import org.gradoop.common.model.impl.pojo.EPGMGraphHead;
+import org.gradoop.common.model.impl.pojo.EPGMVertex;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DynamicProgrammingPlannerTest extends GradoopFlinkTestBase {
+
+  private static GraphStatistics STATS;
+
+  @BeforeClass
+  public static void setUpStatistics() throws Exception {
+    String path = URLDecoder.decode(
+      DynamicProgrammingPlannerTest.class.getResource("/data/json/sna/statistics").getFile(),
+      StandardCharsets.UTF_8.name());
+    STATS = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testPlanCoversQuery() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (p1:Person)-[k:knows]->(p2:Person)-[s:studyAt]->(u:University), " +
+        "(p1)-[h:hasInterest]->(t:Tag), (f:Forum)-[m:hasMember]->(p1) " +
+        "WHERE p1.age > 20 AND p2.name = t.name");
+
+    PlanTableEntry entry = createPlanner(queryHandler, 3, 10000).plan();
+
+    assertThat(entry.getType(), is(PlanTableEntry.Type.GRAPH));
+    assertThat(entry.getProcessedVariables().size(), is(9));
+    assertThat(entry.getPredicates().size(), is(0));
+    assertThat(entry.getQueryPlan().getRoot().getEmbeddingMetaData().getEntryCount(), is(9));
+  }
+
+  @Test
+  public void testSameResultCardinalityAsGreedy() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (p1:Person)-[k:knows]->(p2:Person)-[s:studyAt]->(u:University), " +
+        "(p1)-[h:hasInterest]->(t:Tag), (f:Forum)-[m:hasMember]->(p1)");
+
+    PlanTableEntry dynamic = createPlanner(queryHandler, 1, 10000).plan();
+    PlanTableEntry greedy = new GreedyPlanner<>(getSocialNetworkLoader().getLogicalGraph(),
+      queryHandler, STATS, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertThat(dynamic.getEstimatedCardinality(), is(greedy.getEstimatedCardinality()));
+  }
+
+  @Test
+  public void testCyclicQuery() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a:Person)-[e1:knows]->(b:Person)-[e2:knows]->(c:Person)-[e3:knows]->(a)");
+
+    PlanTableEntry entry = createPlanner(queryHandler, 3, 10000).plan();
+
+    assertThat(entry.getProcessedVariables().size(), is(6));
+    assertThat(entry.getQueryPlan().toString(), containsString("MultiwayJoinNode"));
+  }
+
+  @Test
+  public void testClosedVariableLengthPath() throws Exception {
+    QueryHandler queryHandler = new QueryHandler("MATCH (p:Person)-[:knows*1..2]->(p)");
+
+    PlanTableEntry entry = createPlanner(queryHandler, 3, 10000).plan();
+
+    assertThat(entry.getQueryPlan().toString(), containsString("ExpandEmbeddingsNode"));
+  }
+
+  @Test
+  public void testFallbackOnBudget() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (p1:Person)-[k:knows]->(p2:Person)-[s:studyAt]->(u:University)");
+
+    PlanTableEntry dynamic = createPlanner(queryHandler, 3, 0).plan();
+    PlanTableEntry greedy = new GreedyPlanner<>(getSocialNetworkLoader().getLogicalGraph(),
+      queryHandler, STATS, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertThat(dynamic.getQueryPlan().toString(), is(greedy.getQueryPlan().toString()));
+  }
+
+  @Test
+  public void testFallbackOnDisconnectedQuery() throws Exception {
+    QueryHandler queryHandler = new QueryHandler("MATCH (p:Person), (t:Tag)");
+
+    PlanTableEntry entry = createPlanner(queryHandler, 3, 10000).plan();
+
+    assertThat(entry.getQueryPlan().toString(), containsString("CartesianProductNode"));
+  }
+
+  private DynamicProgrammingPlanner<EPGMGraphHead, EPGMVertex, EPGMEdge, LogicalGraph,
+    GraphCollection> createPlanner(QueryHandler queryHandler, int topK, int maxPlans)
+    throws Exception {
+    return new DynamicProgrammingPlanner<>(getSocialNetworkLoader().getLogicalGraph(),
+      queryHandler, STATS, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM,
+      topK, maxPlans, DynamicProgrammingPlanner.DEFAULT_TIMEOUT_MILLIS);
+  }
+}
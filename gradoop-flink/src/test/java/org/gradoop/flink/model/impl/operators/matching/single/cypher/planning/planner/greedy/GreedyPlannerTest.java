@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy;
+
+import org.apache.flink.api.common.operators.base.JoinOperatorBase;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ExpandEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.JoinEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.binary.ValueJoinNode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class GreedyPlannerTest extends GradoopFlinkTestBase {
+
+  /**
+   * Planning without statistics, as {@code query(String)} does, must not force broadcast joins
+   * based on the placeholder counts.
+   */
+  @Test
+  public void testOptimizerChoosesJoinStrategyWithoutStatistics() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (p1:Person)-[:knows*1..2]->(p2:Person)-[s:studyAt]->(u:University), (t:Tag) " +
+        "WHERE p2.name = t.name");
+
+    PlanNode root = new GreedyPlanner<>(getSocialNetworkLoader().getLogicalGraph(),
+      queryHandler, GraphStatistics.unknown(), MatchStrategy.ISOMORPHISM,
+      MatchStrategy.ISOMORPHISM).plan().getQueryPlan().getRoot();
+
+    List<PlanNode> nodes = new ArrayList<>();
+    collectNodes(root, nodes);
+
+    int joinNodes = 0;
+    int expandNodes = 0;
+    int valueJoinNodes = 0;
+    for (PlanNode node : nodes) {
+      if (node instanceof JoinEmbeddingsNode) {
+        joinNodes++;
+        assertThat(((JoinEmbeddingsNode) node).getJoinHint(),
+          is(JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES));
+      } else if (node instanceof ExpandEmbeddingsNode) {
+        expandNodes++;
+        assertThat(((ExpandEmbeddingsNode) node).getJoinHint(),
+          is(JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES));
+      } else if (node instanceof ValueJoinNode) {
+        valueJoinNodes++;
+        assertThat(((ValueJoinNode) node).getJoinHint(),
+          is(JoinOperatorBase.JoinHint.OPTIMIZER_CHOOSES));
+      }
+    }
+
+    assertThat(joinNodes > 0, is(true));
+    assertThat(expandNodes, is(1));
+    assertThat(valueJoinNodes, is(1));
+  }
+
+  @Test
+  public void testUnknownStatistics() {
+    assertThat(GraphStatistics.unknown().isUnknown(), is(true));
+    assertThat(new GraphStatistics(1, 1, 1, 1).isUnknown(), is(false));
+  }
+
+  private void collectNodes(PlanNode node, List<PlanNode> nodes) {
+    nodes.add(node);
+    if (node instanceof BinaryNode) {
+      collectNodes(((BinaryNode) node).getLeftChild(), nodes);
+      collectNodes(((BinaryNode) node).getRightChild(), nodes);
+    } else if (node instanceof UnaryNode) {
+      collectNodes(((UnaryNode) node).getChildNode(), nodes);
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        collectNodes(child, nodes);
+      }
+    }
+  }
+}
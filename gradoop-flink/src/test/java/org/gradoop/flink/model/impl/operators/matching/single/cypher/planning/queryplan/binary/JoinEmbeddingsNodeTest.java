@@ -26,6 +26,7 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.SemiJoinReduction;
 import org.junit.Test;
 
 import java.util.Comparator;
@@ -228,4 +229,43 @@ public class JoinEmbeddingsNodeTest extends GradoopFlinkTestBase {
     assertEmbedding(result.get(0), asList(b, d, f), asList(PropertyValue.create(23), PropertyValue.create(77)));
     assertEmbedding(result.get(1), asList(a, c, e), asList(PropertyValue.create(42), PropertyValue.create(84)));
   }
+
+  @Test
+  public void testExecuteWithSemiJoinReduction() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+
+    EmbeddingMetaData leftInputMetaData = new EmbeddingMetaData();
+    leftInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+
+    EmbeddingMetaData rightInputMetaData = new EmbeddingMetaData();
+    rightInputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    rightInputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    rightInputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+
+    for (SemiJoinReduction reduction : SemiJoinReduction.values()) {
+      DataSet<Embedding> leftEmbeddings = getExecutionEnvironment().fromElements(
+        createEmbedding(singletonList(Pair.of(a, emptyList()))),
+        createEmbedding(singletonList(Pair.of(d, emptyList()))));
+      DataSet<Embedding> rightEmbeddings = getExecutionEnvironment().fromElements(
+        createEmbedding(asList(
+          Pair.of(a, emptyList()), Pair.of(b, emptyList()), Pair.of(c, emptyList()))),
+        createEmbedding(asList(
+          Pair.of(c, emptyList()), Pair.of(b, emptyList()), Pair.of(a, emptyList()))));
+
+      JoinEmbeddingsNode node = new JoinEmbeddingsNode(
+        new MockPlanNode(leftEmbeddings, leftInputMetaData),
+        new MockPlanNode(rightEmbeddings, rightInputMetaData),
+        singletonList("v1"), MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+      node.setSemiJoinReduction(reduction, 2);
+
+      List<Embedding> result = node.execute().collect();
+
+      assertThat(node.getSemiJoinReduction(), is(reduction));
+      assertThat(result.size(), is(1));
+      assertEmbedding(result.get(0), asList(a, b, c), emptyList());
+    }
+  }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2014 - 2020 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbeddingExists;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MultiwayJoinNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    MultiwayJoinNode node = new MultiwayJoinNode(
+      Lists.newArrayList(vertexNode(null, "b", "age"), vertexNode(null, "a", "age"),
+        vertexNode(null, "c")),
+      Lists.newArrayList(edgeNode(null, "a", "e1", "b", "since"), edgeNode(null, "b", "e2", "c"),
+        edgeNode(null, "c", "e3", "a", "since")),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("b"), is(0));
+    assertThat(outputMetaData.getEntryColumn("a"), is(1));
+    assertThat(outputMetaData.getEntryColumn("c"), is(2));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(3));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(4));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(5));
+    assertThat(outputMetaData.getEntryType("c"), is(EntryType.VERTEX));
+    assertThat(outputMetaData.getEntryType("e3"), is(EntryType.EDGE));
+
+    assertThat(outputMetaData.getPropertyCount(), is(4));
+    assertThat(outputMetaData.getPropertyColumn("b", "age"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("a", "age"), is(1));
+    assertThat(outputMetaData.getPropertyColumn("e1", "since"), is(2));
+    assertThat(outputMetaData.getPropertyColumn("e3", "since"), is(3));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    GradoopId v2 = GradoopId.get();
+    GradoopId e0 = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+
+    DataSet<Embedding> vertices = getExecutionEnvironment().fromElements(
+      createEmbedding(v0), createEmbedding(v1), createEmbedding(v2));
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1), createEmbedding(v1, e1, v2), createEmbedding(v2, e2, v0),
+      createEmbedding(v0, e3, v2));
+
+    // (a)-[e1]->(b)-[e2]->(c)-[e3]->(a) with c bound first
+    MultiwayJoinNode node = new MultiwayJoinNode(
+      Lists.newArrayList(vertexNode(vertices, "c"), vertexNode(vertices, "a"),
+        vertexNode(vertices, "b")),
+      Lists.newArrayList(edgeNode(edges, "a", "e1", "b"), edgeNode(edges, "b", "e2", "c"),
+        edgeNode(edges, "c", "e3", "a")),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = node.execute().collect();
+    assertThat(result.size(), is(3));
+    assertEmbeddingExists(result, embedding -> embedding.getId(0).equals(v2) &&
+      embedding.getId(1).equals(v0) && embedding.getId(2).equals(v1) &&
+      embedding.getId(3).equals(e0) && embedding.getId(4).equals(e1) &&
+      embedding.getId(5).equals(e2));
+  }
+
+  /**
+   * Creates a vertex input node.
+   *
+   * @param embeddings embeddings produced by the node
+   * @param variable vertex variable
+   * @param keys property keys
+   * @return vertex input node
+   */
+  private static PlanNode vertexNode(DataSet<Embedding> embeddings, String variable,
+    String... keys) {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn(variable, EntryType.VERTEX, 0);
+    for (int i = 0; i < keys.length; i++) {
+      metaData.setPropertyColumn(variable, keys[i], i);
+    }
+    return new MockPlanNode(embeddings, metaData);
+  }
+
+  /**
+   * Creates an edge input node.
+   *
+   * @param embeddings embeddings produced by the node
+   * @param source source vertex variable
+   * @param variable edge variable
+   * @param target target vertex variable
+   * @param keys property keys
+   * @return edge input node
+   */
+  private static PlanNode edgeNode(DataSet<Embedding> embeddings, String source, String variable,
+    String target, String... keys) {
+    EmbeddingMetaData metaData = new EmbeddingMetaData();
+    metaData.setEntryColumn(source, EntryType.VERTEX, 0);
+    metaData.setEntryColumn(variable, EntryType.EDGE, 1);
+    metaData.setEntryColumn(target, EntryType.VERTEX, 2);
+    for (int i = 0; i < keys.length; i++) {
+      metaData.setPropertyColumn(variable, keys[i], i);
+    }
+    return new MockPlanNode(embeddings, metaData);
+  }
+}
@@ -18,21 +18,35 @@ package org.gradoop.flink.model.impl.operators.statistics;
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.io.impl.statistics.GraphStatisticsDataSink;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.impl.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.statistics.writer.StatisticWriter;
 import org.gradoop.flink.model.impl.tuples.WithCount;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
 public class StatisticsTest extends GradoopFlinkTestBase {
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void testVertexCount() throws Exception {
     LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
@@ -408,4 +422,35 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testGraphStatisticsCounts() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getLogicalGraph();
+    File expected = temporaryFolder.newFolder();
+    File actual = temporaryFolder.newFolder();
+
+    new GraphStatisticsDataSink(expected.getPath()).write(db, true);
+    getExecutionEnvironment().execute();
+    StatisticWriter.writeGraphStatistics(new GraphStatisticsCounts().execute(db),
+      actual.getPath(), true);
+    getExecutionEnvironment().execute();
+
+    String[] files = actual.list();
+    assertNotNull(files);
+    assertThat(files.length, is(14));
+    for (String file : files) {
+      assertEquals(file, readLines(new File(expected, file)), readLines(new File(actual, file)));
+    }
+  }
+
+  /**
+   * Reads the lines of a statistics file.
+   *
+   * @param file statistics file
+   * @return lines of the file
+   * @throws IOException on failure
+   */
+  private static Set<String> readLines(File file) throws IOException {
+    return new HashSet<>(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+  }
 }
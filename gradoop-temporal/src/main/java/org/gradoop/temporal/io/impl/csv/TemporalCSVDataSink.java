@@ -18,7 +18,6 @@ package org.gradoop.temporal.io.impl.csv;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.core.fs.FileSystem;
-import org.gradoop.flink.io.impl.csv.CSVConstants;
 import org.gradoop.flink.io.impl.csv.CSVDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSink;
 import org.gradoop.flink.io.impl.csv.metadata.CSVMetaDataSource;
@@ -104,13 +103,14 @@ public class TemporalCSVDataSink extends CSVDataSink implements TemporalDataSink
       new CSVMetaDataSink().writeDistributed(getMetaDataPath(), metaData, writeMode);
     }
 
-    csvGraphHeads.writeAsCsv(getGraphHeadCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvGraphHeads, getGraphHeadCSVPath(), writeMode);
 
-    csvVertices.writeAsCsv(getVertexCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvVertices, getVertexCSVPath(), writeMode);
 
-    csvEdges.writeAsCsv(getEdgeCSVPath(), CSVConstants.ROW_DELIMITER,
-      CSVConstants.TOKEN_DELIMITER, writeMode);
+    writeCSV(csvEdges, getEdgeCSVPath(), writeMode);
+
+    if (isWriteStatistics()) {
+      writeStatistics(temporalGraphCollection.toGraphCollection(), overwrite);
+    }
   }
 }
@@ -17,13 +17,12 @@ package org.gradoop.temporal.io.impl.csv.functions;
 
 import org.gradoop.common.model.api.entities.EdgeFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
-import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineParser;
 import org.gradoop.temporal.model.impl.pojo.TemporalEdge;
 
-import java.util.regex.Matcher;
-
 /**
  * Creates an {@link TemporalEdge} from a CSV string. The function uses a {@link MetaData}
  * object to correctly parse the property values.
@@ -50,21 +49,23 @@ public class CSVLineToTemporalEdge extends CSVLineToTemporalElement<TemporalEdge
   }
 
   @Override
-  public TemporalEdge map(String csvLine) throws Exception {
-    String[] tokens = split(csvLine, 7);
-    String label = StringEscaper.unescape(tokens[4]);
-    TemporalEdge edge = edgeFactory.initEdge(GradoopId.fromString(tokens[0]),
+  protected TemporalEdge parseLine(CSVLineParser parser) throws Exception {
+    GradoopId id = parser.nextId();
+    GradoopIdSet graphIds = parser.nextIdSet();
+    GradoopId sourceId = parser.nextId();
+    GradoopId targetId = parser.nextId();
+    String label = parser.nextLabel();
+    if (isSkipped(label)) {
+      return null;
+    }
+    TemporalEdge edge = edgeFactory.initEdge(id,
       label,
-      GradoopId.fromString(tokens[2]),
-      GradoopId.fromString(tokens[3]),
-      parseProperties(MetaDataSource.EDGE_TYPE, label, tokens[5]),
-      parseGradoopIds(tokens[1]));
-
-    Matcher matcher = TEMPORAL_PATTERN.matcher(tokens[6]);
+      sourceId,
+      targetId,
+      parseProperties(MetaDataSource.EDGE_TYPE, label, parser),
+      graphIds);
 
-    validateTemporalData(matcher);
-    edge.setTransactionTime(parseTransactionTime(matcher));
-    edge.setValidTime(parseValidTime(matcher));
+    parseTemporalData(parser, edge);
 
     return edge;
   }
@@ -17,12 +17,11 @@ package org.gradoop.temporal.io.impl.csv.functions;
 
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.metadata.MetaData;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineParser;
 import org.gradoop.flink.io.impl.csv.functions.CSVLineToElement;
 import org.gradoop.temporal.model.impl.pojo.TemporalElement;
 
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Base class for reading a {@link TemporalElement} from CSV. Handles the {@link MetaData} which is
@@ -32,42 +31,29 @@ import java.util.regex.Pattern;
  */
 abstract class CSVLineToTemporalElement<E extends TemporalElement> extends CSVLineToElement<E> {
   /**
-   * Data pattern to parse a temporal string representation of transaction and valid time.
-   * The pattern contains four groups that capsule numeric values in format
-   * {@code (tx-from,tx-to),(val-from,val-to)} where group 1 contains tx-from value, group 2 tx-to value, etc.
-   */
-  static final Pattern TEMPORAL_PATTERN =
-    Pattern.compile("\\((-?\\d+),(-?\\d+)\\),\\((-?\\d+),(-?\\d+)\\)");
-
-  /**
-   * Validates the temporal data matched by the given matcher instance.
+   * Parses the temporal data of an element, i.e. the next token of the parser in format
+   * {@code (tx-from,tx-to),(val-from,val-to)}.
    *
-   * @param matcher the matcher instance containing the temporal data
+   * @param parser  parser positioned at the temporal data
+   * @param element element the transaction and valid time is set for
    * @throws IOException if the temporal attributes can not be found inside the string
    */
-  void validateTemporalData(Matcher matcher) throws IOException {
-    if (!matcher.matches() || matcher.groupCount() != 4) {
-      throw new IOException("Can not read temporal data from csv line of edge file.");
+  void parseTemporalData(CSVLineParser parser, E element) throws IOException {
+    Tuple2<Long, Long> transactionTime = new Tuple2<>();
+    Tuple2<Long, Long> validTime = new Tuple2<>();
+    try {
+      parser.skip('(');
+      transactionTime.f0 = parser.nextLong(',');
+      transactionTime.f1 = parser.nextLong(')');
+      parser.skip(',');
+      parser.skip('(');
+      validTime.f0 = parser.nextLong(',');
+      validTime.f1 = parser.nextLong(')');
+      parser.endToken();
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Can not read temporal data from csv line of edge file.", e);
     }
-  }
-
-  /**
-   * Parses the transaction time from the temporal data matched by the given matcher instance.
-   *
-   * @param matcher the matcher instance containing the temporal data
-   * @return a tuple containing the transaction time
-   */
-  Tuple2<Long, Long> parseTransactionTime(Matcher matcher) {
-    return new Tuple2<>(Long.valueOf(matcher.group(1)), Long.valueOf(matcher.group(2)));
-  }
-
-  /**
-   * Parses the valid time from the temporal data matched by the given matcher instance.
-   *
-   * @param matcher the matcher instance containing the temporal data
-   * @return a tuple containing the valid time
-   */
-  Tuple2<Long, Long> parseValidTime(Matcher matcher) {
-    return new Tuple2<>(Long.valueOf(matcher.group(3)), Long.valueOf(matcher.group(4)));
+    element.setTransactionTime(transactionTime);
+    element.setValidTime(validTime);
   }
 }
@@ -19,11 +19,9 @@ import org.gradoop.common.model.api.entities.GraphHeadFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
-import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineParser;
 import org.gradoop.temporal.model.impl.pojo.TemporalGraphHead;
 
-import java.util.regex.Matcher;
-
 /**
  * Creates an {@link TemporalGraphHead} from a CSV string. The function uses a {@link MetaData}
  * object to correctly parse the property values.
@@ -49,20 +47,19 @@ public class CSVLineToTemporalGraphHead extends CSVLineToTemporalElement<Tempora
   }
 
   @Override
-  public TemporalGraphHead map(String csvLine) throws Exception {
-    String[] tokens = split(csvLine, 4);
-    String label = StringEscaper.unescape(tokens[1]);
+  protected TemporalGraphHead parseLine(CSVLineParser parser) throws Exception {
+    GradoopId id = parser.nextId();
+    String label = parser.nextLabel();
+    if (isSkipped(label)) {
+      return null;
+    }
     TemporalGraphHead graphHead = graphHeadFactory.initGraphHead(
-      GradoopId.fromString(tokens[0]),
+      id,
       label,
-      parseProperties(MetaDataSource.GRAPH_TYPE, label, tokens[2])
+      parseProperties(MetaDataSource.GRAPH_TYPE, label, parser)
     );
 
-    Matcher matcher = TEMPORAL_PATTERN.matcher(tokens[3]);
-
-    validateTemporalData(matcher);
-    graphHead.setTransactionTime(parseTransactionTime(matcher));
-    graphHead.setValidTime(parseValidTime(matcher));
+    parseTemporalData(parser, graphHead);
 
     return graphHead;
   }
@@ -17,13 +17,12 @@ package org.gradoop.temporal.io.impl.csv.functions;
 
 import org.gradoop.common.model.api.entities.VertexFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.metadata.MetaData;
 import org.gradoop.flink.io.api.metadata.MetaDataSource;
-import org.gradoop.flink.io.impl.csv.functions.StringEscaper;
+import org.gradoop.flink.io.impl.csv.functions.CSVLineParser;
 import org.gradoop.temporal.model.impl.pojo.TemporalVertex;
 
-import java.util.regex.Matcher;
-
 /**
  * Creates an {@link TemporalVertex} from a CSV string. The function uses a {@link MetaData}
  * object to correctly parse the property values.
@@ -48,21 +47,21 @@ public class CSVLineToTemporalVertex extends CSVLineToTemporalElement<TemporalVe
   }
 
   @Override
-  public TemporalVertex map(String csvLine) throws Exception {
-    String[] tokens = split(csvLine, 5);
-    String label = StringEscaper.unescape(tokens[2]);
+  protected TemporalVertex parseLine(CSVLineParser parser) throws Exception {
+    GradoopId id = parser.nextId();
+    GradoopIdSet graphIds = parser.nextIdSet();
+    String label = parser.nextLabel();
+    if (isSkipped(label)) {
+      return null;
+    }
     TemporalVertex vertex = vertexFactory.initVertex(
-      GradoopId.fromString(tokens[0]),
+      id,
       label,
-      parseProperties(MetaDataSource.VERTEX_TYPE, label, tokens[3]),
-      parseGradoopIds(tokens[1])
+      parseProperties(MetaDataSource.VERTEX_TYPE, label, parser),
+      graphIds
     );
 
-    Matcher matcher = TEMPORAL_PATTERN.matcher(tokens[4]);
-
-    validateTemporalData(matcher);
-    vertex.setTransactionTime(parseTransactionTime(matcher));
-    vertex.setValidTime(parseValidTime(matcher));
+    parseTemporalData(parser, vertex);
 
     return vertex;
   }